@@ -0,0 +1,149 @@
+package raisetech.student.admission;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 応答時間に応じて同時実行数の上限を調整するリミッター（AIMD方式）。
+ * - 応答時間がしきい値以内の場合、上限を1ずつ増やします（加算的増加）。
+ * - 応答時間がしきい値を超えた場合、上限を一定の割合で減らします（乗算的減少）。
+ * 上限は最小値と最大値の範囲内で変化します。
+ * 実行中の数は {@code shards} 個の枠（シャード）に分けて数え、上限もシャードに振り分けます。
+ * 実行枠はスレッドごとに異なるシャードから確保し、自分のシャードが上限に達している場合は他のシャードから確保するため、
+ * 全体の上限は分割しない場合と同じです。上限自体は変化する場合のみCASで更新します（読み取りが中心）。
+ * ロックは使用しません。
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    // 上限を減らす際の倍率
+    private static final double BACKOFF_RATIO = 0.9;
+
+    // シャード同士が同じキャッシュラインに載らないよう、シャードの間隔を空ける（int 16個 = 64バイト）
+    private static final int SHARD_SPACING = 16;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long latencyThresholdNanos;
+
+    private final int shards;
+
+    private final AtomicInteger limit;
+
+    // シャードごとの実行中の数
+    private final AtomicIntegerArray inFlight;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+        this(initialLimit, minLimit, maxLimit, latencyThreshold, 1);
+    }
+
+    /**
+     * @param initialLimit     上限の初期値
+     * @param minLimit         上限の最小値
+     * @param maxLimit         上限の最大値
+     * @param latencyThreshold 上限を減らす応答時間のしきい値
+     * @param shards           実行中の数を分けて数えるシャード数（上限の最小値を上限とします）
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                      int shards) {
+        if (minLimit < 1 || minLimit > maxLimit || shards < 1) {
+            throw new IllegalArgumentException("同時実行数の上限の範囲が正しくありません: min="
+                    + minLimit + ", max=" + maxLimit + ", shards=" + shards);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        // 各シャードに1つ以上の枠を割り当てられるよう、シャード数は上限の最小値以下にする
+        this.shards = Math.min(shards, minLimit);
+        this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+        this.inFlight = new AtomicIntegerArray(this.shards * SHARD_SPACING);
+    }
+
+    /**
+     * 実行枠を1つ確保します。
+     *
+     * @return 確保した枠のシャード番号（{@link #release} に渡す）。上限に達している場合は-1
+     */
+    public int tryAcquire() {
+        int currentLimit = limit.get();
+        int home = shards == 1 ? 0 : (int) (Thread.currentThread().threadId() % shards);
+        for (int n = 0; n < shards; n++) {
+            int shard = (home + n) % shards;
+            if (tryAcquire(shard, shardLimit(currentLimit, shard))) {
+                return shard;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 実行枠を解放し、応答時間を上限の調整に反映します。
+     *
+     * @param shard        {@link #tryAcquire} で確保した枠のシャード番号
+     * @param latencyNanos 処理にかかった時間（ナノ秒）
+     */
+    public void release(int shard, long latencyNanos) {
+        inFlight.decrementAndGet(shard * SHARD_SPACING);
+        int current = limit.get();
+        if (latencyNanos > latencyThresholdNanos) {
+            update(current, Math.max(minLimit, (int) (current * BACKOFF_RATIO)));
+        } else if (inFlight() * 2 >= current) {
+            // 枠を十分に使っている場合のみ増やす（負荷が低いときに上限だけが際限なく増えないようにする）
+            update(current, Math.min(maxLimit, current + 1));
+        }
+    }
+
+    /**
+     * 実行枠を解放します。応答時間は上限の調整に反映しません（応答時間が処理の負荷を表さないストリーミング応答など）。
+     *
+     * @param shard {@link #tryAcquire} で確保した枠のシャード番号
+     */
+    public void releaseWithoutSample(int shard) {
+        inFlight.decrementAndGet(shard * SHARD_SPACING);
+    }
+
+    /**
+     * 現在の同時実行数の上限を返します。
+     */
+    public int currentLimit() {
+        return limit.get();
+    }
+
+    /**
+     * 現在実行中の数を返します（全シャードの合計）。
+     */
+    public int inFlight() {
+        int total = 0;
+        for (int i = 0; i < shards; i++) {
+            total += inFlight.get(i * SHARD_SPACING);
+        }
+        return total;
+    }
+
+    private boolean tryAcquire(int shard, int shardLimit) {
+        int slot = shard * SHARD_SPACING;
+        while (true) {
+            int current = inFlight.get(slot);
+            if (current >= shardLimit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(slot, current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 上限をシャードに振り分ける（割り切れない分は先頭のシャードから1つずつ）
+    private int shardLimit(int totalLimit, int shard) {
+        return totalLimit / shards + (shard < totalLimit % shards ? 1 : 0);
+    }
+
+    // 他のスレッドが先に変更した場合は、その変更を優先する（同時に遅延を検知しても上限を重ねて減らさない）
+    private void update(int expected, int next) {
+        if (next != expected) {
+            limit.compareAndSet(expected, next);
+        }
+    }
+}
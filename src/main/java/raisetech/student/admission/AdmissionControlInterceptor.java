@@ -0,0 +1,207 @@
+package raisetech.student.admission;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import raisetech.student.exception.TooManyRequestsException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * APIリクエストの受付可否を判定するインターセプター。
+ * 以下の順に判定し、いずれかを超えた場合は {@link TooManyRequestsException} をスローします（429として返却）。
+ * 1. クライアントごとのトークンバケット（接続元アドレスで識別。クライアントが任意に変更できるヘッダは使用しません）
+ *    リバースプロキシの背後で動作させる場合は {@code server.forward-headers-strategy} を設定し、接続元アドレスをクライアントのアドレスにしてください。
+ * 2. エンドポイントごとのトークンバケット（参照系・更新系で別のレート）
+ * 3. 応答時間に応じて調整される同時実行数の上限（エンドポイントごと）
+ * 自分の制限を超えたクライアントのリクエストはエンドポイントのトークンを消費しないため、他のクライアントの受付を妨げません。
+ * 後の判定で拒否した場合は、先の判定で取得したトークンを返却します。
+ * 判定はコントローラーの処理前に行うため、拒否されたリクエストはDBへアクセスしません。
+ * 同時実行数の上限はエンドポイントごとに調整するため、応答に時間のかかるエンドポイント（全件取得など）の遅延で、
+ * 他のエンドポイント（ID指定の取得など）の上限は減りません。
+ * 非同期処理のリクエストは、確保した枠を非同期処理の完了（再ディスパッチの完了）まで保持します。
+ * 非同期処理の応答時間はクライアントの受信速度に左右され処理の負荷を表さないため、上限の調整には使用しません。
+ */
+@Slf4j
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    // 実行枠を確保した時刻・確保した枠・非同期処理の有無を保持するリクエスト属性
+    private static final String ACQUIRED_AT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".acquiredAt";
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    private static final String ASYNC_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".async";
+
+    // クライアントごとのバケットを保持するLRUの分割数（分割ごとにロックするため、同時アクセスで待ちが発生しにくい）
+    private static final int CLIENT_SEGMENTS = 16;
+
+    // 同時アクセスの多いバケット・リミッターの分割数
+    private static final int STRIPES = Runtime.getRuntime().availableProcessors();
+
+    private final Limits clientLimits;
+
+    private final Limits readLimits;
+
+    private final Limits writeLimits;
+
+    // エンドポイントごとの同時実行数のリミッターの生成
+    private final Supplier<AdaptiveConcurrencyLimiter> concurrencyLimiterFactory;
+
+    // クライアントごとのバケット（管理するクライアント数の上限を超えた場合は、最も長く利用されていないものから破棄する）
+    private final ClientBuckets clientBuckets;
+
+    private final ConcurrentHashMap<String, TokenBucket> endpointBuckets = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, AdaptiveConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param clientLimits              クライアントごとのレート
+     * @param readLimits                参照系のエンドポイントごとのレート
+     * @param writeLimits               更新系のエンドポイントごとのレート
+     * @param maxTrackedClients         管理するクライアント数の上限
+     * @param concurrencyLimiterFactory エンドポイントごとの同時実行数のリミッターの生成
+     */
+    public AdmissionControlInterceptor(Limits clientLimits, Limits readLimits, Limits writeLimits,
+                                       int maxTrackedClients,
+                                       Supplier<AdaptiveConcurrencyLimiter> concurrencyLimiterFactory) {
+        this.clientLimits = clientLimits;
+        this.readLimits = readLimits;
+        this.writeLimits = writeLimits;
+        this.concurrencyLimiterFactory = concurrencyLimiterFactory;
+        this.clientBuckets = new ClientBuckets(maxTrackedClients);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            // 非同期処理（ストリーミング応答など）の完了時の再ディスパッチは、最初の受付時に確保した枠を引き継ぐ
+            request.setAttribute(ASYNC_ATTRIBUTE, Boolean.TRUE);
+            return true;
+        }
+        String clientId = request.getRemoteAddr();
+        TokenBucket clientBucket = clientBuckets.get(clientId);
+        long clientWait = clientBucket.tryAcquire();
+        if (clientWait > 0) {
+            throw reject("クライアントの流量制限を超えました: " + clientId, clientWait);
+        }
+
+        String endpoint = endpointKey(request);
+        Limits endpointLimits = isRead(request) ? readLimits : writeLimits;
+        TokenBucket endpointBucket = endpointBuckets.computeIfAbsent(endpoint, key -> endpointLimits.newBucket(STRIPES));
+        long endpointWait = endpointBucket.tryAcquire();
+        if (endpointWait > 0) {
+            clientBucket.refund();
+            throw reject("エンドポイントの流量制限を超えました: " + endpoint, endpointWait);
+        }
+
+        AdaptiveConcurrencyLimiter limiter =
+                concurrencyLimiters.computeIfAbsent(endpoint, key -> concurrencyLimiterFactory.get());
+        int permit = limiter.tryAcquire();
+        if (permit < 0) {
+            clientBucket.refund();
+            endpointBucket.refund();
+            throw reject("同時実行数の上限に達しました: " + endpoint + ", limit=" + limiter.currentLimit(),
+                    TimeUnit.SECONDS.toNanos(1));
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, permit));
+        request.setAttribute(ACQUIRED_AT_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object acquiredAt = request.getAttribute(ACQUIRED_AT_ATTRIBUTE);
+        if (acquiredAt instanceof Long startedAt && request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(ACQUIRED_AT_ATTRIBUTE);
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            if (request.getAttribute(ASYNC_ATTRIBUTE) != null) {
+                permit.limiter().releaseWithoutSample(permit.shard());
+            } else {
+                permit.limiter().release(permit.shard(), System.nanoTime() - startedAt);
+            }
+        }
+    }
+
+    /**
+     * エンドポイントの同時実行数のリミッターを返します（監視用）。
+     *
+     * @param endpoint エンドポイント（例: "GET /api/students/{id}"）
+     * @return リミッター（まだリクエストを受け付けていない場合はnull）
+     */
+    public AdaptiveConcurrencyLimiter concurrencyLimiter(String endpoint) {
+        return concurrencyLimiters.get(endpoint);
+    }
+
+    private static TooManyRequestsException reject(String reason, long waitNanos) {
+        log.debug("リクエストを拒否しました: {}", reason);
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new TooManyRequestsException(reason, retryAfterSeconds);
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    private static String endpointKey(HttpServletRequest request) {
+        // パス変数を含むURL（/api/students/1 など）をパターン単位（/api/students/{id}）でまとめる
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern != null ? pattern.toString() : request.getRequestURI();
+        return request.getMethod() + " " + path;
+    }
+
+    /**
+     * トークンバケットのレートとバースト数。
+     *
+     * @param ratePerSecond 1秒あたりに補充されるトークン数
+     * @param burst         連続で取得できる最大トークン数
+     */
+    public record Limits(double ratePerSecond, int burst) {
+
+        TokenBucket newBucket(int stripes) {
+            return new TokenBucket(ratePerSecond, burst, stripes);
+        }
+    }
+
+    // 確保した実行枠（リミッターとシャード番号）
+    private record Permit(AdaptiveConcurrencyLimiter limiter, int shard) {
+    }
+
+    /**
+     * クライアントごとのバケットを保持する件数上限付きのLRU。
+     * クライアントのアドレスのハッシュで分割し、分割ごとに参照順のLinkedHashMapをロックして操作します（いずれもO(1)）。
+     */
+    private final class ClientBuckets {
+
+        private final List<LinkedHashMap<String, TokenBucket>> segments = new ArrayList<>(CLIENT_SEGMENTS);
+
+        private ClientBuckets(int maxTrackedClients) {
+            int perSegment = Math.max(1, maxTrackedClients / CLIENT_SEGMENTS);
+            for (int i = 0; i < CLIENT_SEGMENTS; i++) {
+                segments.add(new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                        return size() > perSegment;
+                    }
+                });
+            }
+        }
+
+        private TokenBucket get(String clientId) {
+            LinkedHashMap<String, TokenBucket> segment = segments.get(Math.floorMod(clientId.hashCode(), CLIENT_SEGMENTS));
+            synchronized (segment) {
+                return segment.computeIfAbsent(clientId, key -> clientLimits.newBucket(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package raisetech.student.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * ロックを使用しないトークンバケット。
+ * 状態を「次のトークンが補充される理論上の時刻」（GCRA方式）に集約し、CASのみで取得処理を行います。
+ * 1秒あたり {@code ratePerSecond} 個のトークンが補充され、最大 {@code burst} 個まで連続で取得できます。
+ * 多数のスレッドから同時に取得されるバケット（エンドポイントごとのバケットなど）は、レートとバースト数を
+ * {@code stripes} 個のセルに分割し、スレッドごとに異なるセルから取得します（LongAdderと同様のストライプ化）。
+ * 自分のセルが空の場合は他のセルから取得するため、全体のレートとバースト数は分割しない場合と同じです。
+ */
+public final class TokenBucket {
+
+    // セル同士が同じキャッシュラインに載らないよう、セルの間隔を空ける（long 8個 = 64バイト）
+    private static final int CELL_SPACING = 8;
+
+    // 各セルでトークン1個が補充されるまでの時間（ナノ秒）
+    private final long emissionIntervalNanos;
+
+    // 各セルが満杯の状態から連続で取得できる時間幅（ナノ秒）
+    private final long[] capacityNanos;
+
+    // セルごとの次のトークンが利用可能になる理論上の時刻
+    private final AtomicLongArray theoreticalArrival;
+
+    private final LongSupplier clock;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        this(ratePerSecond, burst, 1);
+    }
+
+    /**
+     * @param ratePerSecond 1秒あたりに補充されるトークン数
+     * @param burst         連続で取得できる最大トークン数
+     * @param stripes       分割するセル数（バースト数を上限とします）
+     */
+    public TokenBucket(double ratePerSecond, int burst, int stripes) {
+        this(ratePerSecond, burst, stripes, System::nanoTime);
+    }
+
+    TokenBucket(double ratePerSecond, int burst, LongSupplier clock) {
+        this(ratePerSecond, burst, 1, clock);
+    }
+
+    TokenBucket(double ratePerSecond, int burst, int stripes, LongSupplier clock) {
+        if (ratePerSecond <= 0 || burst < 1 || stripes < 1) {
+            throw new IllegalArgumentException("レート・バースト数・セル数は正の値である必要があります: rate="
+                    + ratePerSecond + ", burst=" + burst + ", stripes=" + stripes);
+        }
+        int cells = Math.min(stripes, burst);
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) * cells / ratePerSecond);
+        this.capacityNanos = new long[cells];
+        for (int i = 0; i < cells; i++) {
+            // バースト数をセルに振り分ける（割り切れない分は先頭のセルから1個ずつ）
+            capacityNanos[i] = emissionIntervalNanos * (burst / cells + (i < burst % cells ? 1 : 0));
+        }
+        this.clock = clock;
+        this.theoreticalArrival = new AtomicLongArray(cells * CELL_SPACING);
+        long now = clock.getAsLong();
+        for (int i = 0; i < cells; i++) {
+            theoreticalArrival.set(i * CELL_SPACING, now);
+        }
+    }
+
+    /**
+     * トークンを1個取得します。
+     *
+     * @return 取得できた場合は0、取得できない場合は次のトークンが利用可能になるまでの時間（ナノ秒）
+     */
+    public long tryAcquire() {
+        long now = clock.getAsLong();
+        int cells = capacityNanos.length;
+        int home = cells == 1 ? 0 : (int) (Thread.currentThread().threadId() % cells);
+        long minWait = Long.MAX_VALUE;
+        for (int n = 0; n < cells; n++) {
+            int cell = (home + n) % cells;
+            long wait = tryAcquire(cell, now);
+            if (wait == 0) {
+                return 0;
+            }
+            minWait = Math.min(minWait, wait);
+        }
+        return minWait;
+    }
+
+    /**
+     * 取得したトークンを1個返却します（取得後に別の判定で拒否され、トークンを消費しなかった場合）。
+     * 満杯のセルには返却しないため、返却によってバースト数を超えることはありません。
+     */
+    public void refund() {
+        long now = clock.getAsLong();
+        int cells = capacityNanos.length;
+        int home = cells == 1 ? 0 : (int) (Thread.currentThread().threadId() % cells);
+        for (int n = 0; n < cells; n++) {
+            int slot = ((home + n) % cells) * CELL_SPACING;
+            while (true) {
+                long tat = theoreticalArrival.get(slot);
+                if (tat <= now) {
+                    break;
+                }
+                if (theoreticalArrival.compareAndSet(slot, tat, Math.max(tat - emissionIntervalNanos, now))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * バケットが満杯（しばらく利用されていない）かを返します。
+     *
+     * @return 満杯の場合はtrue
+     */
+    public boolean isIdle() {
+        long now = clock.getAsLong();
+        for (int i = 0; i < capacityNanos.length; i++) {
+            if (theoreticalArrival.get(i * CELL_SPACING) > now) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long tryAcquire(int cell, long now) {
+        int slot = cell * CELL_SPACING;
+        while (true) {
+            long tat = theoreticalArrival.get(slot);
+            long next = Math.max(tat, now) + emissionIntervalNanos;
+            long overflow = next - now - capacityNanos[cell];
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (theoreticalArrival.compareAndSet(slot, tat, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package raisetech.student.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import raisetech.student.service.StudentArchiveService;
+
+import java.time.Duration;
+
+/**
+ * 論理削除された学生を定期的にアーカイブテーブルへ移動するジョブ。
+ * オンラインの処理への影響を抑えるため、1バッチごとにトランザクションを分け、バッチの間に待機時間を入れます。
+ * 1回の実行で移動する件数は batch-size × max-batches-per-run までとし、残りは次回の実行で移動します。
+ * {@code student.archive.enabled=true} を指定した場合に有効になります（アーカイブテーブルの作成が必要です）。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "student.archive.enabled", havingValue = "true")
+public class StudentArchiveJob {
+
+    private final StudentArchiveService studentArchiveService;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerRun;
+
+    private final Duration pause;
+
+    public StudentArchiveJob(StudentArchiveService studentArchiveService,
+                             @Value("${student.archive.batch-size:500}") int batchSize,
+                             @Value("${student.archive.max-batches-per-run:100}") int maxBatchesPerRun,
+                             @Value("${student.archive.pause:PT0.2S}") Duration pause) {
+        this.studentArchiveService = studentArchiveService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pause = pause;
+    }
+
+    /**
+     * 論理削除された学生をバッチ単位でアーカイブします。
+     *
+     * @return 移動した学生の件数
+     */
+    @Scheduled(initialDelayString = "${student.archive.initial-delay:PT5M}",
+            fixedDelayString = "${student.archive.interval:PT1H}")
+    public int archiveDeletedStudents() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int archived = studentArchiveService.archiveDeletedStudents(batchSize);
+            total += archived;
+            if (archived < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("論理削除された学生をアーカイブしました。件数={}", total);
+        }
+        return total;
+    }
+}
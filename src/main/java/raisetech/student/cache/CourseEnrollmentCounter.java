@@ -0,0 +1,205 @@
+package raisetech.student.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.student.domain.stats.CourseEnrollmentCount;
+import raisetech.student.event.CourseEnrollmentChangedEvent;
+import raisetech.student.repository.StudentCourseRepository;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * コースごとの受講者数（student_courses の件数）をメモリ上に保持するカウンター。
+ * - 初回参照時に1回の集計クエリ（GROUP BY course_id）で初期化し、以降はコース情報の登録・更新・削除の
+ *   {@link CourseEnrollmentChangedEvent} をコミット後に反映します（コース一覧表示のたびに全件を集計しない）。
+ * - コースごとのカウンターは {@link LongAdder}（内部でストライプ化されたカウンター）のため、同じコースへの
+ *   同時更新でも競合しません。
+ * - 初期化の集計中に届いたイベントは、集計結果に含まれたか判断できないため反映せず、初期化の直後に
+ *   DBの集計結果と突き合わせて補正します。
+ * - コミット前にイベントを受け取った時点から、コミット後に反映するまでの間は「反映待ち」として数え、
+ *   反映待ちの変更がある間は突き合わせの補正を見送ります（コミット済みの行を集計した後にイベントが反映され、
+ *   同じ増減を二重に数えることを防ぐため）。
+ * - イベントの取りこぼし（コミット後のイベント処理前の停止など）や他インスタンスからの更新によるずれは、
+ *   定期的にDBの集計結果と突き合わせて補正します。
+ * 論理削除された学生のコース情報も件数に含まれます（アーカイブ後は含まれません）。
+ */
+@Slf4j
+@Component
+public class CourseEnrollmentCounter implements MeterBinder {
+
+    private final StudentCourseRepository studentCourseRepository;
+
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    // 増減イベントを受け取るたびに進む番号（初期化・突き合わせの集計中に変更があったかの判定に使用）
+    private final AtomicLong modifications = new AtomicLong();
+
+    // コミット前に受け取り、コミット後の反映がまだ終わっていない増減イベントの数
+    private final AtomicInteger pendingChanges = new AtomicInteger();
+
+    // 突き合わせで補正したコースの延べ数
+    private final LongAdder driftCorrections = new LongAdder();
+
+    private volatile boolean loaded;
+
+    public CourseEnrollmentCounter(StudentCourseRepository studentCourseRepository) {
+        this.studentCourseRepository = studentCourseRepository;
+    }
+
+    /**
+     * コースごとの受講者数を、受講者数の多い順（同数の場合はコース名の順）に返します。
+     * 受講者数が0のコースは含まれません。
+     *
+     * @return コースごとの受講者数
+     */
+    public List<CourseEnrollmentCount> snapshot() {
+        ensureLoaded();
+        return counters.entrySet().stream()
+                .map(entry -> new CourseEnrollmentCount(entry.getKey(), entry.getValue().sum()))
+                .filter(count -> count.count() > 0)
+                .sorted(Comparator.comparingLong(CourseEnrollmentCount::count).reversed()
+                        .thenComparing(CourseEnrollmentCount::courseName))
+                .toList();
+    }
+
+    /**
+     * コース情報の変更をトランザクションのコミット前に受け取り、コミット後に受講者数へ反映します
+     * （ロールバックされた場合は反映しません。トランザクション外で発行された場合はすぐに反映します）。
+     * コミット前の時点で初期化前だった変更は反映しません（初期化の集計前にコミットされた変更は集計結果に含まれ、
+     * 集計中にコミットされた変更は初期化直後または次回の突き合わせで補正します）。
+     *
+     * @param event 受講者数の増減イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCourseEnrollmentChanged(CourseEnrollmentChangedEvent event) {
+        boolean loadedBeforeCommit = loaded;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(event, loadedBeforeCommit);
+            return;
+        }
+        pendingChanges.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(event, loadedBeforeCommit);
+                    }
+                } finally {
+                    // 反映（modifications の更新）の後に反映待ちを減らし、突き合わせが間の状態を見ないようにする
+                    pendingChanges.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void apply(CourseEnrollmentChangedEvent event, boolean countable) {
+        if (countable) {
+            event.deltas().forEach((courseName, delta) ->
+                    counters.computeIfAbsent(courseName, key -> new LongAdder()).add(delta));
+        }
+        modifications.incrementAndGet();
+    }
+
+    /**
+     * DBの集計結果と突き合わせ、ずれているコースの受講者数を補正します（未初期化の場合は初期化します）。
+     * 集計中に変更が反映された場合や、コミット後の反映を待っている変更がある場合は、どちらが新しいか
+     * 判断できないため補正を見送り、次回に持ち越します。
+     *
+     * @return 補正したコースの数
+     */
+    @Scheduled(initialDelayString = "${student.enrollment-counter.reconcile-interval:PT10M}",
+            fixedDelayString = "${student.enrollment-counter.reconcile-interval:PT10M}")
+    public int reconcile() {
+        if (!loaded) {
+            ensureLoaded();
+            return 0;
+        }
+        long observed = modifications.get();
+        if (pendingChanges.get() > 0) {
+            log.debug("コミット後の反映を待っている更新があるため、受講者数の補正を見送りました。");
+            return 0;
+        }
+        Map<String, Long> actual = queryCounts();
+        // 集計がコミット済みの行を含んでいても、そのイベントは反映待ち（pendingChanges）か反映済み（modifications の変化）のどちらかに現れる
+        if (modifications.get() != observed || pendingChanges.get() > 0) {
+            log.debug("受講者数の突き合わせ中に更新があったため、補正を見送りました。");
+            return 0;
+        }
+
+        int corrected = 0;
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            long drift = actual.getOrDefault(entry.getKey(), 0L) - entry.getValue().sum();
+            if (drift != 0) {
+                entry.getValue().add(drift);
+                corrected++;
+                log.warn("受講者数のずれを補正しました。コース={}, 差分={}", entry.getKey(), drift);
+            }
+        }
+        for (Map.Entry<String, Long> entry : actual.entrySet()) {
+            if (!counters.containsKey(entry.getKey())) {
+                counters.computeIfAbsent(entry.getKey(), key -> new LongAdder()).add(entry.getValue());
+                corrected++;
+                log.warn("受講者数のずれを補正しました。コース={}, 差分={}", entry.getKey(), entry.getValue());
+            }
+        }
+        driftCorrections.add(corrected);
+        return corrected;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        boolean modifiedWhileLoading;
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            long observed = modifications.get();
+            queryCounts().forEach((courseName, count) ->
+                    counters.computeIfAbsent(courseName, key -> new LongAdder()).add(count));
+            loaded = true;
+            modifiedWhileLoading = modifications.get() != observed;
+            log.info("受講者数カウンターを初期化しました。コース数={}", counters.size());
+        }
+        if (modifiedWhileLoading) {
+            // 集計中に届いた変更は反映していないため、次回の定期実行を待たずに突き合わせる
+            reconcile();
+        }
+    }
+
+    private Map<String, Long> queryCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (CourseEnrollmentCount count : studentCourseRepository.countByCourseName()) {
+            counts.put(count.courseName(), count.count());
+        }
+        return counts;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("student.enrollment-counter.drift-corrections", driftCorrections, LongAdder::sum)
+                .description("DBとの突き合わせで受講者数を補正したコースの延べ数")
+                .register(registry);
+        Gauge.builder("student.enrollment-counter.courses", counters, ConcurrentHashMap::size)
+                .description("受講者数を保持しているコースの数")
+                .register(registry);
+    }
+}
@@ -0,0 +1,360 @@
+package raisetech.student.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 学生IDごとのシリアライズ済みレコードを、ヒープ外（ダイレクトバッファ）のセグメントに保持するストア。
+ * 大量のエントリをヒープに保持するとGCの対象が増えて停止時間が長くなるため、レコードはヒープ外に置き、
+ * ヒープには学生IDとレコードの位置の索引（プリミティブ配列）のみを保持します。
+ * - 容量（{@code maxBytes}）を {@code segmentCount} 個のセグメントに分割し、レコードは書き込み中のセグメントに追記します。
+ * - 書き込み中のセグメントがいっぱいになると、最も長く参照されていないセグメントをまとめて破棄し、次の書き込み先にします（セグメント単位のLRU）。
+ * - 破棄・上書きしたレコードの領域は、そのセグメントが破棄されるまで再利用しません。
+ * - セグメントは最初に書き込む時点で確保します。
+ * スレッドセーフです（すべての操作をこのインスタンスのロックで直列化します）。
+ */
+public class OffHeapStudentDetailStore {
+
+    // レコードのヘッダー（学生ID・本体の長さ）
+    private static final int HEADER_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final int segmentBytes;
+
+    private final ByteBuffer[] segments;
+
+    // セグメントごとの書き込み位置・有効なレコードのバイト数・最終参照時点
+    private final int[] writePositions;
+
+    private final long[] liveBytes;
+
+    private final long[] lastAccess;
+
+    private final LongLongIndex index = new LongLongIndex();
+
+    private int current;
+
+    private long tick;
+
+    private long evictedSegments;
+
+    private long evictedEntries;
+
+    /**
+     * @param maxBytes     ヒープ外に確保する最大バイト数
+     * @param segmentCount セグメント数（2以上）
+     */
+    public OffHeapStudentDetailStore(long maxBytes, int segmentCount) {
+        if (segmentCount < 2) {
+            throw new IllegalArgumentException("セグメント数は2以上である必要があります: " + segmentCount);
+        }
+        long perSegment = maxBytes / segmentCount;
+        if (perSegment <= HEADER_BYTES || perSegment > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("セグメントの大きさが範囲外です: " + perSegment);
+        }
+        this.segmentBytes = (int) perSegment;
+        this.segments = new ByteBuffer[segmentCount];
+        this.writePositions = new int[segmentCount];
+        this.liveBytes = new long[segmentCount];
+        this.lastAccess = new long[segmentCount];
+    }
+
+    /**
+     * レコードを保存します（同じ学生IDのレコードは置き換えます）。
+     *
+     * @param studentId 学生ID
+     * @param record    シリアライズ済みのレコード
+     * @return 保存した場合はtrue、セグメントに収まらない大きさの場合はfalse
+     */
+    public synchronized boolean put(long studentId, byte[] record) {
+        remove(studentId);
+        int size = HEADER_BYTES + record.length;
+        if (size > segmentBytes) {
+            return false;
+        }
+        if (segments[current] == null) {
+            segments[current] = ByteBuffer.allocateDirect(segmentBytes);
+        } else if (writePositions[current] + size > segmentBytes) {
+            advance();
+        }
+        ByteBuffer segment = segments[current];
+        int offset = writePositions[current];
+        segment.putLong(offset, studentId);
+        segment.putInt(offset + Long.BYTES, record.length);
+        segment.put(offset + HEADER_BYTES, record);
+        writePositions[current] = offset + size;
+        liveBytes[current] += size;
+        lastAccess[current] = ++tick;
+        index.put(studentId, location(current, offset));
+        return true;
+    }
+
+    /**
+     * レコードを取得します。
+     *
+     * @param studentId 学生ID
+     * @return レコードのコピー（存在しない場合はnull）
+     */
+    public synchronized byte[] get(long studentId) {
+        long location = index.get(studentId);
+        if (location < 0) {
+            return null;
+        }
+        int segmentIndex = segmentOf(location);
+        int offset = offsetOf(location);
+        ByteBuffer segment = segments[segmentIndex];
+        byte[] record = new byte[segment.getInt(offset + Long.BYTES)];
+        segment.get(offset + HEADER_BYTES, record);
+        lastAccess[segmentIndex] = ++tick;
+        return record;
+    }
+
+    /**
+     * レコードを破棄します（領域はセグメントの破棄時に再利用します）。
+     *
+     * @param studentId 学生ID
+     */
+    public synchronized void remove(long studentId) {
+        long location = index.remove(studentId);
+        if (location >= 0) {
+            int segmentIndex = segmentOf(location);
+            liveBytes[segmentIndex] -= HEADER_BYTES + segments[segmentIndex].getInt(offsetOf(location) + Long.BYTES);
+        }
+    }
+
+    /**
+     * すべてのレコードを破棄します（確保済みのセグメントは解放せず再利用します）。
+     */
+    public synchronized void clear() {
+        index.clear();
+        for (int i = 0; i < segments.length; i++) {
+            writePositions[i] = 0;
+            liveBytes[i] = 0;
+            lastAccess[i] = 0;
+        }
+        current = 0;
+    }
+
+    /**
+     * 保持しているレコード数を返します。
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * 確保済みのヒープ外メモリのバイト数を返します。
+     */
+    public synchronized long allocatedBytes() {
+        long allocated = 0;
+        for (ByteBuffer segment : segments) {
+            if (segment != null) {
+                allocated += segment.capacity();
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * 書き込み済みのバイト数を返します（破棄・上書きされ、まだ再利用されていない領域を含む）。
+     */
+    public synchronized long usedBytes() {
+        long used = 0;
+        for (int position : writePositions) {
+            used += position;
+        }
+        return used;
+    }
+
+    /**
+     * 有効なレコードのバイト数を返します。
+     */
+    public synchronized long liveBytes() {
+        long live = 0;
+        for (long bytes : liveBytes) {
+            live += bytes;
+        }
+        return live;
+    }
+
+    /**
+     * ヒープに保持している索引のおおよそのバイト数を返します。
+     */
+    public synchronized long indexBytes() {
+        return index.capacity() * 2L * Long.BYTES;
+    }
+
+    /**
+     * 容量不足で破棄したセグメント数を返します。
+     */
+    public synchronized long evictedSegmentCount() {
+        return evictedSegments;
+    }
+
+    /**
+     * 容量不足で破棄したレコード数を返します。
+     */
+    public synchronized long evictedEntryCount() {
+        return evictedEntries;
+    }
+
+    // 次の書き込み先を決める。未使用のセグメントがなければ、最も長く参照されていないセグメントを破棄して使う
+    private void advance() {
+        int next = -1;
+        for (int i = 0; i < segments.length; i++) {
+            if (i != current && segments[i] == null) {
+                next = i;
+                break;
+            }
+        }
+        if (next < 0) {
+            for (int i = 0; i < segments.length; i++) {
+                if (i != current && (next < 0 || lastAccess[i] < lastAccess[next])) {
+                    next = i;
+                }
+            }
+            evict(next);
+        } else {
+            segments[next] = ByteBuffer.allocateDirect(segmentBytes);
+        }
+        current = next;
+    }
+
+    // セグメント内のレコードを先頭から辿り、索引がこのセグメントを指しているものを索引から外す
+    private void evict(int segmentIndex) {
+        ByteBuffer segment = segments[segmentIndex];
+        int position = 0;
+        while (position < writePositions[segmentIndex]) {
+            long studentId = segment.getLong(position);
+            int length = segment.getInt(position + Long.BYTES);
+            if (index.get(studentId) == location(segmentIndex, position)) {
+                index.remove(studentId);
+                evictedEntries++;
+            }
+            position += HEADER_BYTES + length;
+        }
+        writePositions[segmentIndex] = 0;
+        liveBytes[segmentIndex] = 0;
+        evictedSegments++;
+    }
+
+    private static long location(int segmentIndex, int offset) {
+        return ((long) segmentIndex << 32) | offset;
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+
+    /**
+     * 学生IDからレコードの位置（0以上）への索引。
+     * エントリごとのオブジェクトを生成しないよう、キーと値をプリミティブ配列に保持するオープンアドレス法（線形探索）のハッシュ表です。
+     */
+    static final class LongLongIndex {
+
+        private static final long EMPTY = -1;
+
+        private long[] keys = new long[1024];
+
+        private long[] values = newValues(1024);
+
+        private int size;
+
+        long get(long key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                if (values[i] == EMPTY) {
+                    return EMPTY;
+                }
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+        }
+
+        void put(long key, long value) {
+            if ((size + 1) * 4L > keys.length * 3L) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                if (values[i] == EMPTY) {
+                    keys[i] = key;
+                    values[i] = value;
+                    size++;
+                    return;
+                }
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+            }
+        }
+
+        long remove(long key) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (values[i] != EMPTY && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            long removed = values[i];
+            if (removed == EMPTY) {
+                return EMPTY;
+            }
+            // 後続のエントリを詰めて、探索の連続性を保つ（削除済みの印を使わない）
+            int gap = i;
+            for (int j = (gap + 1) & mask; values[j] != EMPTY; j = (j + 1) & mask) {
+                int home = hash(keys[j]) & mask;
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    keys[gap] = keys[j];
+                    values[gap] = values[j];
+                    gap = j;
+                }
+            }
+            values[gap] = EMPTY;
+            size--;
+            return removed;
+        }
+
+        void clear() {
+            keys = new long[1024];
+            values = newValues(1024);
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return keys.length;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = new long[capacity];
+            values = newValues(capacity);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static long[] newValues(int capacity) {
+            long[] values = new long[capacity];
+            Arrays.fill(values, EMPTY);
+            return values;
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
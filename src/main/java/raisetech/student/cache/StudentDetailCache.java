@@ -0,0 +1,248 @@
+package raisetech.student.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import raisetech.student.domain.StudentDetail;
+import raisetech.student.event.StudentChangedEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 学生IDごとの学生詳細情報（学生情報＋コース情報）のキャッシュ。
+ * ヒープ上の小さなホット層と、ヒープ外（{@link OffHeapStudentDetailStore}）の大きな層の2層で構成します。
+ * - ホット層は最大件数（{@code max-entries}）を超えた場合、最も長く参照されていないエントリから破棄します（LRU）。
+ * - 保存時は両方の層に書き込みます（ヒープ外の層にはシリアライズしたバイト列を保持）。ホット層にない場合はヒープ外の層から復元し、ホット層に戻します。
+ * - ヒープ外の層は容量（{@code off-heap.max-bytes}）を超えるとセグメント単位で破棄します。0を指定するとヒープ外の層を使用しません。
+ * {@link StudentChangedEvent} を受けると（コミット後）、両方の層から対象の学生IDのエントリのみを破棄します。
+ */
+@Slf4j
+@Component
+public class StudentDetailCache implements MeterBinder {
+
+    private final int maxEntries;
+
+    // ヒープ外の層（使用しない場合はnull）
+    private final OffHeapStudentDetailStore offHeap;
+
+    // アクセス順のLinkedHashMap（アクセスのたびに順序が変わるため、参照・更新ともにロックで保護する）
+    private final LinkedHashMap<Long, StudentDetail> entries;
+
+    // 無効化のたびに進む世代番号。読み込み中に無効化が入った場合は保存しない
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder offHeapHits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public StudentDetailCache(@Value("${student.detail-cache.max-entries:10000}") int maxEntries,
+                              @Value("${student.detail-cache.off-heap.max-bytes:67108864}") long offHeapMaxBytes,
+                              @Value("${student.detail-cache.off-heap.segments:16}") int offHeapSegments) {
+        this.maxEntries = maxEntries;
+        this.offHeap = offHeapMaxBytes > 0 ? new OffHeapStudentDetailStore(offHeapMaxBytes, offHeapSegments) : null;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, StudentDetail> eldest) {
+                return size() > StudentDetailCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * キャッシュから学生詳細情報を取得します。
+     * ホット層にない場合はヒープ外の層から復元し、ホット層に戻します（復元中に無効化が入った場合は戻しません）。
+     *
+     * @param studentId 学生ID
+     * @return キャッシュされた学生詳細情報（存在しない場合はnull）
+     */
+    public StudentDetail get(Long studentId) {
+        StudentDetail detail;
+        long observedGeneration;
+        synchronized (entries) {
+            detail = entries.get(studentId);
+            observedGeneration = generation.get();
+        }
+        if (detail != null) {
+            hits.increment();
+            return detail;
+        }
+        byte[] record = offHeap != null ? offHeap.get(studentId) : null;
+        if (record == null) {
+            misses.increment();
+            return null;
+        }
+        detail = StudentDetailCodec.decode(record);
+        synchronized (entries) {
+            if (generation.get() == observedGeneration) {
+                entries.put(studentId, detail);
+            }
+        }
+        offHeapHits.increment();
+        return detail;
+    }
+
+    /**
+     * 読み込み開始時点の世代番号を返します。{@link #put} に渡して使用します。
+     *
+     * @return 現在の世代番号
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 学生詳細情報をキャッシュに保存します。
+     * 読み込み開始後に無効化が行われていた場合は、古い内容の可能性があるため保存しません。
+     *
+     * @param studentId          学生ID
+     * @param detail             学生詳細情報
+     * @param observedGeneration 読み込み開始時点の世代番号
+     */
+    public void put(Long studentId, StudentDetail detail, long observedGeneration) {
+        byte[] record = offHeap != null ? StudentDetailCodec.encode(detail) : null;
+        synchronized (entries) {
+            if (generation.get() == observedGeneration) {
+                entries.put(studentId, detail);
+                if (offHeap != null) {
+                    offHeap.put(studentId, record);
+                }
+            }
+        }
+    }
+
+    /**
+     * 学生データ更新時（トランザクションのコミット後）に対象の学生のエントリを破棄します。
+     *
+     * @param event 学生データ変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            for (Long studentId : event.studentIds()) {
+                entries.remove(studentId);
+                if (offHeap != null) {
+                    offHeap.remove(studentId);
+                }
+            }
+        }
+        log.debug("学生詳細キャッシュを破棄しました。studentIds={}", event.studentIds());
+    }
+
+    /**
+     * 保持しているすべてのエントリを破棄します。
+     */
+    public void clear() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+            if (offHeap != null) {
+                offHeap.clear();
+            }
+        }
+    }
+
+    /**
+     * ホット層の現在のエントリ数を返します。
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * ヒープ外の層の現在のエントリ数を返します（使用しない場合は0）。
+     */
+    public int offHeapSize() {
+        return offHeap != null ? offHeap.size() : 0;
+    }
+
+    /**
+     * キャッシュヒット数（両方の層の合計）を返します。
+     */
+    public long hitCount() {
+        return hits.sum() + offHeapHits.sum();
+    }
+
+    /**
+     * ヒープ外の層でのキャッシュヒット数を返します。
+     */
+    public long offHeapHitCount() {
+        return offHeapHits.sum();
+    }
+
+    /**
+     * キャッシュミス数を返します。
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("student.detail-cache.requests", hits, LongAdder::sum)
+                .tags("result", "hit", "tier", "heap")
+                .description("ホット層から学生詳細情報を返した回数")
+                .register(registry);
+        FunctionCounter.builder("student.detail-cache.requests", offHeapHits, LongAdder::sum)
+                .tags("result", "hit", "tier", "off-heap")
+                .description("ヒープ外の層から学生詳細情報を復元した回数")
+                .register(registry);
+        FunctionCounter.builder("student.detail-cache.requests", misses, LongAdder::sum)
+                .tags("result", "miss", "tier", "none")
+                .description("どちらの層にも存在しなかった回数")
+                .register(registry);
+        Gauge.builder("student.detail-cache.size", this, StudentDetailCache::size)
+                .tag("tier", "heap")
+                .description("保持しているエントリ数")
+                .register(registry);
+        if (offHeap == null) {
+            return;
+        }
+        Gauge.builder("student.detail-cache.size", offHeap, OffHeapStudentDetailStore::size)
+                .tag("tier", "off-heap")
+                .description("保持しているエントリ数")
+                .register(registry);
+        Gauge.builder("student.detail-cache.off-heap.memory", offHeap, OffHeapStudentDetailStore::allocatedBytes)
+                .tag("state", "allocated")
+                .description("確保済みのヒープ外メモリ")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("student.detail-cache.off-heap.memory", offHeap, OffHeapStudentDetailStore::usedBytes)
+                .tag("state", "used")
+                .description("書き込み済みのヒープ外メモリ（再利用待ちの領域を含む）")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("student.detail-cache.off-heap.memory", offHeap, OffHeapStudentDetailStore::liveBytes)
+                .tag("state", "live")
+                .description("有効なレコードが使用しているヒープ外メモリ")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("student.detail-cache.off-heap.index", offHeap, OffHeapStudentDetailStore::indexBytes)
+                .description("ヒープ外の層の索引が使用しているヒープ")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        FunctionCounter.builder("student.detail-cache.off-heap.evictions", offHeap,
+                        OffHeapStudentDetailStore::evictedSegmentCount)
+                .tag("unit", "segment")
+                .description("容量不足で破棄したセグメント数")
+                .register(registry);
+        FunctionCounter.builder("student.detail-cache.off-heap.evictions", offHeap,
+                        OffHeapStudentDetailStore::evictedEntryCount)
+                .tag("unit", "entry")
+                .description("容量不足で破棄したエントリ数")
+                .register(registry);
+    }
+}
@@ -0,0 +1,195 @@
+package raisetech.student.cache;
+
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.domain.StudentDetail;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 学生詳細情報（学生情報＋コース情報）を、ヒープ外のキャッシュに保持するためのバイト列に変換するクラス。
+ * フィールドを定義順に書き込み、数値は可変長（7ビットずつ）、文字列はUTF-8で長さを前置して書き込みます（フィールド名は含めません）。
+ * フィールドを追加・変更した場合は、書き込みと読み込みの両方を同じ順序で変更してください（永続化はしないため、互換性は不要です）。
+ */
+final class StudentDetailCodec {
+
+    private StudentDetailCodec() {
+    }
+
+    /**
+     * 学生詳細情報をバイト列に変換します。
+     *
+     * @param detail 学生詳細情報
+     * @return バイト列
+     */
+    static byte[] encode(StudentDetail detail) {
+        Writer out = new Writer();
+        Student student = detail.getStudent();
+        out.writeNullableLong(student.getId());
+        out.writeString(student.getName());
+        out.writeString(student.getKanaName());
+        out.writeString(student.getNickname());
+        out.writeString(student.getEmail());
+        out.writeString(student.getArea());
+        out.writeNullableLong(student.getAge() == null ? null : student.getAge().longValue());
+        out.writeString(student.getSex());
+        out.writeString(student.getRemark());
+        out.writeByte(student.getDeleted() == null ? 0 : student.getDeleted() ? 2 : 1);
+        // 学生情報のコース情報は学生詳細情報のコース情報と同じリストを共有しているため、有無のみを書き込む
+        out.writeByte(student.getStudentCourses() == null ? 0 : 1);
+
+        List<StudentCourse> courses = detail.getStudentCourses() == null ? List.of() : detail.getStudentCourses();
+        out.writeVarLong(courses.size());
+        for (StudentCourse course : courses) {
+            out.writeNullableLong(course.getId());
+            out.writeNullableLong(course.getStudentId());
+            out.writeString(course.getCourseName());
+            out.writeNullableLong(course.getCourseStartAt() == null ? null : course.getCourseStartAt().toEpochDay());
+            out.writeNullableLong(course.getCourseEndAt() == null ? null : course.getCourseEndAt().toEpochDay());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * バイト列から学生詳細情報を生成します。
+     *
+     * @param bytes {@link #encode} で変換したバイト列
+     * @return 学生詳細情報（新しいインスタンス）
+     */
+    static StudentDetail decode(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        Student student = new Student();
+        student.setId(in.readNullableLong());
+        student.setName(in.readString());
+        student.setKanaName(in.readString());
+        student.setNickname(in.readString());
+        student.setEmail(in.readString());
+        student.setArea(in.readString());
+        Long age = in.readNullableLong();
+        student.setAge(age == null ? null : age.intValue());
+        student.setSex(in.readString());
+        student.setRemark(in.readString());
+        int deleted = in.readByte();
+        student.setDeleted(deleted == 0 ? null : deleted == 2);
+        boolean studentHasCourses = in.readByte() != 0;
+
+        int courseCount = (int) in.readVarLong();
+        List<StudentCourse> courses = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            Long id = in.readNullableLong();
+            Long studentId = in.readNullableLong();
+            String courseName = in.readString();
+            Long startAt = in.readNullableLong();
+            Long endAt = in.readNullableLong();
+            courses.add(new StudentCourse(id, studentId, courseName,
+                    startAt == null ? null : LocalDate.ofEpochDay(startAt),
+                    endAt == null ? null : LocalDate.ofEpochDay(endAt)));
+        }
+        if (studentHasCourses) {
+            student.setStudentCourses(courses);
+        }
+
+        StudentDetail detail = new StudentDetail();
+        detail.setStudent(student);
+        detail.setStudentCourses(courses);
+        return detail;
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[256];
+
+        private int position;
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        // 符号なしの可変長整数（7ビットずつ、下位から）
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        // nullは0、それ以外はジグザグ符号化（負の値も短く書き込む）した値＋1
+        void writeNullableLong(Long value) {
+            writeVarLong(value == null ? 0 : ((value << 1) ^ (value >> 63)) + 1);
+        }
+
+        // nullは0、それ以外はUTF-8のバイト数＋1を前置
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readByte() {
+            return buffer[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        Long readNullableLong() {
+            long encoded = readVarLong();
+            if (encoded == 0) {
+                return null;
+            }
+            long zigzag = encoded - 1;
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        String readString() {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(buffer, position, (int) (length - 1), StandardCharsets.UTF_8);
+            position += (int) (length - 1);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package raisetech.student.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import raisetech.student.event.StudentChangedEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 全学生一覧レスポンスのシリアライズ済みキャッシュ。
+ * 全件取得およびフィールド指定（?fields=）の組み合わせごとに、JSONへの変換結果と、一定サイズ以上の場合はそのgzip圧縮結果を保持し、
+ * 同一データバージョンに対する2回目以降のリクエストをバイト列のコピーのみで応答できるようにします。
+ * データバージョンは {@link StudentChangedEvent} を受けるたび（コミット後）に進み、古い内容は破棄されます。
+ */
+@Slf4j
+@Component
+public class StudentListResponseCache {
+
+    // 全件取得（フィールド指定なし）のキャッシュキー
+    private static final String FULL_LIST_KEY = "";
+
+    private final ObjectMapper objectMapper;
+
+    // gzip圧縮版を作成する最小サイズ（バイト）
+    private final int gzipMinSize;
+
+    // キャッシュに保持するJSONの最大サイズ（バイト）。超える場合は毎回生成する
+    private final int maxBytes;
+
+    // 保持するレスポンスの種類（フィールド指定の組み合わせ）の上限
+    private final int maxEntries;
+
+    private final AtomicLong version = new AtomicLong();
+
+    // インスタンスの識別子（ストリーミングで送信した応答のETagに含め、再起動後や他のインスタンスのバージョン番号と区別する）
+    private final String instanceId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    // キー: 全件取得の場合は空文字、フィールド指定の場合は正規化した指定内容
+    private final ConcurrentHashMap<String, EncodedBody> entries = new ConcurrentHashMap<>();
+
+    public StudentListResponseCache(ObjectMapper objectMapper,
+                                    @Value("${student.list-cache.gzip-min-size:2048}") int gzipMinSize,
+                                    @Value("${student.list-cache.max-bytes:33554432}") int maxBytes,
+                                    @Value("${student.list-cache.max-entries:32}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 全件取得用のエンコード済みレスポンスを取得します。
+     *
+     * @param responseSupplier レスポンスオブジェクトを生成する処理（キャッシュミス時のみ呼ばれる）
+     * @return エンコード済みレスポンス
+     */
+    public EncodedBody getOrEncode(Supplier<?> responseSupplier) {
+        return getOrEncode(FULL_LIST_KEY, responseSupplier);
+    }
+
+    /**
+     * 現在のデータバージョンとキーに対応するエンコード済みレスポンスを取得します。
+     * キャッシュが存在しない場合は {@code responseSupplier} から生成してキャッシュします。
+     *
+     * @param key              レスポンスの種類を表すキー
+     * @param responseSupplier レスポンスオブジェクトを生成する処理（キャッシュミス時のみ呼ばれる）
+     * @return エンコード済みレスポンス
+     */
+    public EncodedBody getOrEncode(String key, Supplier<?> responseSupplier) {
+        // データ取得前にバージョンを確定させ、取得中に更新が入った場合は古い内容を保存しない
+        long observedVersion = version.get();
+        EncodedBody cached = entries.get(key);
+        if (cached != null && cached.version() == observedVersion) {
+            return cached;
+        }
+
+        EncodedBody encoded;
+        try {
+            encoded = encode(observedVersion, objectMapper.writeValueAsBytes(responseSupplier.get()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("学生一覧のJSON変換に失敗しました", e);
+        }
+        storeIfCurrent(key, encoded);
+        return encoded;
+    }
+
+    /**
+     * 現在のデータバージョンの全件取得用のエンコード済みレスポンスを、存在する場合のみ返します。
+     *
+     * @return エンコード済みレスポンス（キャッシュが存在しない、または古い場合はnull）
+     */
+    public EncodedBody getCached() {
+        EncodedBody cached = entries.get(FULL_LIST_KEY);
+        return cached != null && cached.version() == version.get() ? cached : null;
+    }
+
+    /**
+     * 別の経路で生成した全件取得用のJSON（ストリーミングで送信した内容の写しなど）をキャッシュに保存します。
+     * 生成開始後にデータが更新された場合（{@code observedVersion} が古い場合）は保存しません。
+     *
+     * @param observedVersion 生成開始前に取得したデータバージョン（{@link #currentVersion()}）
+     * @param json            JSON（UTF-8）のバイト列
+     * @return 保存したエンコード済みレスポンス（保存しなかった場合はnull）
+     */
+    public EncodedBody store(long observedVersion, byte[] json) {
+        if (version.get() != observedVersion) {
+            return null;
+        }
+        EncodedBody encoded = encode(observedVersion, json);
+        return storeIfCurrent(FULL_LIST_KEY, encoded) ? encoded : null;
+    }
+
+    /**
+     * ストリーミングで送信する全件取得の応答に付与するETag（弱いETag）を返します。
+     * 内容から算出するETagは送信を終えるまで確定しないため、インスタンスとデータバージョンから生成します。
+     * 同じデータバージョンのキャッシュの内容とは同一とみなし、条件付きリクエストではどちらのETagも一致と判定してください。
+     *
+     * @param dataVersion 送信する一覧のデータバージョン
+     * @return ETag値
+     */
+    public String streamingEtag(long dataVersion) {
+        return "W/\"" + instanceId + "-" + dataVersion + "\"";
+    }
+
+    /**
+     * キャッシュに保持するJSONの最大サイズ（バイト）を返します。
+     */
+    public int maxBytes() {
+        return maxBytes;
+    }
+
+    private boolean storeIfCurrent(String key, EncodedBody encoded) {
+        long observedVersion = encoded.version();
+        boolean storable = encoded.json().length <= maxBytes
+                && (entries.size() < maxEntries || entries.containsKey(key));
+        if (!storable || version.get() != observedVersion) {
+            return false;
+        }
+        entries.put(key, encoded);
+        // put直後に更新が入った場合は自分で取り消す
+        if (version.get() != observedVersion) {
+            entries.remove(key, encoded);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 学生データ更新時（トランザクションのコミット後）にバージョンを進め、キャッシュを破棄します。
+     *
+     * @param event 学生データ変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        invalidate();
+        log.debug("学生一覧キャッシュを破棄しました。version={}, studentIds={}", version.get(), event.studentIds());
+    }
+
+    /**
+     * データバージョンを進め、保持しているレスポンスを破棄します。
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * 現在のデータバージョンを返します。
+     *
+     * @return データバージョン
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    private EncodedBody encode(long dataVersion, byte[] json) {
+        byte[] gzip = json.length >= gzipMinSize ? gzip(json) : null;
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        return new EncodedBody(dataVersion, json, gzip, "\"" + Long.toHexString(crc.getValue()) + "\"");
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, source.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * エンコード済みレスポンス。
+     *
+     * @param version データバージョン
+     * @param json    JSON（UTF-8）のバイト列
+     * @param gzip    JSONのgzip圧縮結果（サイズが小さい場合はnull）
+     * @param etag    JSONの内容から算出したETag値（複数インスタンス間でも同一内容なら一致する）
+     */
+    public record EncodedBody(long version, byte[] json, byte[] gzip, String etag) {
+
+        /**
+         * gzip圧縮版を保持しているかを返します。
+         */
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package raisetech.student.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.event.StudentChangedEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MyBatisのマッパーのステートメント（学生ID指定の学生情報・コース情報の取得）の結果を保持する2次キャッシュ。
+ * StudentRepository・StudentCourseRepository のマッパーXMLから {@code <cache-ref namespace="studentStatements"/>} で参照します。
+ * - 最大件数を超えた場合は最も長く参照されていないエントリから破棄し（LRU）、保存から {@code ttl} を過ぎたエントリも破棄します。
+ * - 結果に含まれる学生IDごとにエントリを索引し、{@link StudentChangedEvent} を受けると（コミット後）対象の学生IDのエントリのみを破棄します。
+ *   そのため、更新系のステートメントは {@code flushCache="false"} とし、名前空間全体の破棄は行いません。
+ * - 結果が空の場合（学生が存在しない等）は保存しません（後から登録された学生の取得で古い結果を返さないため）。
+ * - 取得から保存までの間に対象の学生IDが無効化された場合は、古い内容の可能性があるため保存しません。
+ * - 更新を伴うトランザクションの中では使用しません（書き込み後の読み取りで古い内容を返さず、未コミットの内容も保存しないため）。
+ * - 呼び出し元が結果を変更してもキャッシュに影響しないよう、保存時・取得時に結果をコピーします（学生情報・コース情報以外を含む結果は保存しません）。
+ */
+@Slf4j
+@Component
+public class StudentStatementCache implements Cache, MeterBinder {
+
+    /**
+     * マッパーXMLの {@code <cache-ref>} で指定するキャッシュID。
+     */
+    public static final String ID = "studentStatements";
+
+    // 無効化を記録する学生IDのスロット数（学生IDごとではなくスロットごとに記録するため、まれに不要な保存の見送りが発生する）
+    private static final int INVALIDATION_SLOTS = 1024;
+
+    private final int maxEntries;
+
+    private final long ttlNanos;
+
+    // アクセス順のLinkedHashMap（参照・更新ともに entries のロックで保護する）
+    private final LinkedHashMap<Object, Entry> entries;
+
+    // 学生IDごとのキャッシュキー
+    private final Map<Long, Set<Object>> keysByStudentId = new HashMap<>();
+
+    // キャッシュミスしたキーと、その時点の無効化の通番（保存時に、その後の無効化の有無を確認する）
+    private final Map<Object, Long> missedAt = new HashMap<>();
+
+    // 学生IDのスロットごとの最後の無効化の通番
+    private final long[] invalidatedAt = new long[INVALIDATION_SLOTS];
+
+    private long invalidationSequence;
+
+    private long clearedAt;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder bypasses = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder skippedPuts = new LongAdder();
+
+    public StudentStatementCache(@Value("${student.statement-cache.max-entries:5000}") int maxEntries,
+                                 @Value("${student.statement-cache.ttl:PT10M}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() <= StudentStatementCache.this.maxEntries) {
+                    return false;
+                }
+                unindex(eldest.getKey(), eldest.getValue());
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    /**
+     * キャッシュから結果を取得します。
+     * 更新を伴うトランザクションの中ではキャッシュを使用せず、常にnull（キャッシュミス）を返します。
+     *
+     * @param key MyBatisのキャッシュキー
+     * @return 結果のコピー（存在しない場合はnull）
+     */
+    @Override
+    public Object getObject(Object key) {
+        if (inWriteTransaction()) {
+            bypasses.increment();
+            return null;
+        }
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                entries.remove(key);
+                unindex(key, entry);
+                evictions.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                missedAt.putIfAbsent(key, invalidationSequence);
+                if (missedAt.size() > Math.max(maxEntries, INVALIDATION_SLOTS) * 2) {
+                    // 保存・取り消しが呼ばれなかったキーが溜まった場合の上限（以降の保存は見送られる）
+                    missedAt.clear();
+                }
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copy(entry.value());
+    }
+
+    /**
+     * 結果をキャッシュに保存します（MyBatisがトランザクションのコミット時に呼び出します）。
+     * キャッシュミスの記録がない場合、結果が空の場合、キャッシュミス後に対象の学生IDが無効化された場合は保存しません。
+     *
+     * @param key   MyBatisのキャッシュキー
+     * @param value 結果（キャッシュミス後に結果が得られなかった場合はnull）
+     */
+    @Override
+    public void putObject(Object key, Object value) {
+        Set<Long> studentIds = studentIds(value);
+        Object copied = studentIds.isEmpty() ? null : copy(value);
+        synchronized (entries) {
+            Long observed = missedAt.remove(key);
+            if (copied == null || observed == null || maxEntries <= 0) {
+                return;
+            }
+            if (clearedAt > observed || studentIds.stream().anyMatch(id -> invalidatedAt[slot(id)] > observed)) {
+                skippedPuts.increment();
+                return;
+            }
+            Entry previous = entries.put(key, new Entry(copied, studentIds, System.nanoTime() + ttlNanos));
+            if (previous != null) {
+                unindex(key, previous);
+            }
+            for (Long studentId : studentIds) {
+                keysByStudentId.computeIfAbsent(studentId, id -> new HashSet<>()).add(key);
+            }
+        }
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        synchronized (entries) {
+            missedAt.remove(key);
+            Entry removed = entries.remove(key);
+            if (removed == null) {
+                return null;
+            }
+            unindex(key, removed);
+            return removed.value();
+        }
+    }
+
+    /**
+     * すべてのエントリを破棄します。
+     * 更新系のステートメントは {@code flushCache="false"} のため、通常は呼ばれません。
+     */
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            clearedAt = ++invalidationSequence;
+            entries.clear();
+            keysByStudentId.clear();
+        }
+    }
+
+    @Override
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 学生データ更新時（トランザクションのコミット後）に、対象の学生IDを含むエントリのみを破棄します。
+     *
+     * @param event 学生データ変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        int removed = 0;
+        synchronized (entries) {
+            long sequence = ++invalidationSequence;
+            for (Long studentId : event.studentIds()) {
+                invalidatedAt[slot(studentId)] = sequence;
+                Set<Object> keys = keysByStudentId.get(studentId);
+                if (keys == null) {
+                    continue;
+                }
+                for (Object key : List.copyOf(keys)) {
+                    Entry entry = entries.remove(key);
+                    if (entry != null) {
+                        unindex(key, entry);
+                        removed++;
+                    }
+                }
+            }
+        }
+        invalidations.add(removed);
+        log.debug("ステートメントキャッシュを破棄しました。studentIds={}, entries={}", event.studentIds(), removed);
+    }
+
+    /**
+     * キャッシュヒット数を返します。
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * キャッシュミス数を返します（更新を伴うトランザクションの中での呼び出しを除く）。
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * キャッシュのヒット率（0〜1）を返します。
+     */
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("student.statement-cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("キャッシュから結果を返した回数")
+                .register(registry);
+        FunctionCounter.builder("student.statement-cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("DBへ問い合わせた回数")
+                .register(registry);
+        FunctionCounter.builder("student.statement-cache.requests", bypasses, LongAdder::sum)
+                .tag("result", "bypass")
+                .description("更新を伴うトランザクションのためキャッシュを使用しなかった回数")
+                .register(registry);
+        FunctionCounter.builder("student.statement-cache.removals", invalidations, LongAdder::sum)
+                .tag("cause", "invalidated")
+                .description("学生データの更新により破棄したエントリ数")
+                .register(registry);
+        FunctionCounter.builder("student.statement-cache.removals", evictions, LongAdder::sum)
+                .tag("cause", "evicted")
+                .description("最大件数・有効期限により破棄したエントリ数")
+                .register(registry);
+        FunctionCounter.builder("student.statement-cache.skipped-puts", skippedPuts, LongAdder::sum)
+                .description("取得中に無効化されたため保存を見送った回数")
+                .register(registry);
+        Gauge.builder("student.statement-cache.hit-ratio", this, StudentStatementCache::hitRatio)
+                .description("キャッシュのヒット率")
+                .register(registry);
+        Gauge.builder("student.statement-cache.size", this, StudentStatementCache::getSize)
+                .description("保持しているエントリ数")
+                .register(registry);
+    }
+
+    private void unindex(Object key, Entry entry) {
+        for (Long studentId : entry.studentIds()) {
+            Set<Object> keys = keysByStudentId.get(studentId);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByStudentId.remove(studentId);
+                }
+            }
+        }
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static int slot(Long studentId) {
+        return (int) Math.floorMod(studentId, (long) INVALIDATION_SLOTS);
+    }
+
+    // 結果（学生情報・コース情報のリスト）に含まれる学生ID。保存できない結果の場合は空
+    private static Set<Long> studentIds(Object value) {
+        if (!(value instanceof List<?> list)) {
+            return Set.of();
+        }
+        Set<Long> studentIds = new HashSet<>();
+        for (Object element : list) {
+            if (element instanceof Student student && student.getId() != null) {
+                studentIds.add(student.getId());
+            } else if (element instanceof StudentCourse course && course.getStudentId() != null) {
+                studentIds.add(course.getStudentId());
+            } else {
+                return Set.of();
+            }
+        }
+        return studentIds;
+    }
+
+    private static List<Object> copy(Object value) {
+        List<?> list = (List<?>) value;
+        List<Object> copied = new ArrayList<>(list.size());
+        for (Object element : list) {
+            copied.add(element instanceof Student student ? copyStudent(student) : copyCourse((StudentCourse) element));
+        }
+        return copied;
+    }
+
+    private static Student copyStudent(Student student) {
+        List<StudentCourse> courses = null;
+        if (student.getStudentCourses() != null) {
+            courses = new ArrayList<>(student.getStudentCourses().size());
+            for (StudentCourse course : student.getStudentCourses()) {
+                courses.add(copyCourse(course));
+            }
+        }
+        return new Student(student.getId(), student.getName(), student.getKanaName(), student.getNickname(),
+                student.getEmail(), student.getArea(), student.getAge(), student.getSex(), student.getRemark(),
+                student.getDeleted(), courses);
+    }
+
+    private static StudentCourse copyCourse(StudentCourse course) {
+        return new StudentCourse(course.getId(), course.getStudentId(), course.getCourseName(),
+                course.getCourseStartAt(), course.getCourseEndAt());
+    }
+
+    /**
+     * キャッシュのエントリ。
+     *
+     * @param value          結果（保存時にコピーしたもの）
+     * @param studentIds     結果に含まれる学生ID
+     * @param expiresAtNanos 有効期限（System.nanoTime()基準）
+     */
+    private record Entry(Object value, Set<Long> studentIds, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package raisetech.student.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.student.deadline.RequestDeadline;
+import raisetech.student.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 同一キーに対する同時実行中の読み取り処理を1回にまとめる（single-flight）コンポーネント。
+ * 最初の呼び出し（リーダー）のみが実際に処理を実行し、その間に到着した同一キーの呼び出しは
+ * リーダーの結果（または例外）を共有します。
+ * 待機は最大待機時間とリクエストの処理期限の残り時間の短い方までとし、最大待機時間を超えた場合は待機をやめて自ら処理を実行します
+ * （処理期限を過ぎた場合は {@link DeadlineExceededException} をスローします）。
+ * リーダーが自身の処理期限切れで失敗した場合も、後続の呼び出しは期限が残っていれば自ら処理を実行します。
+ * トランザクション内の呼び出しは未コミットのデータを他のリクエストへ共有しないよう、まとめずにそのまま実行します。
+ */
+@Slf4j
+@Component
+public class RequestCoalescer implements MeterBinder {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // 後続の呼び出しがリーダーの結果を待つ最大時間
+    private final Duration maxWait;
+
+    // 実際に処理を実行した回数
+    private final LongAdder executions = new LongAdder();
+
+    // リーダーの結果を共有した（まとめられた）回数（待機の結果、結果を受け取れた場合のみ）
+    private final LongAdder coalesced = new LongAdder();
+
+    // リーダーの結果を待機している呼び出しの数
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    // 最大待機時間を超えて自ら処理を実行した回数
+    private final LongAdder waitTimeouts = new LongAdder();
+
+    public RequestCoalescer(@Value("${student.single-flight.max-wait:PT2S}") Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * 指定されたキーで処理を実行します。同一キーの処理が実行中の場合はその結果を共有します。
+     *
+     * @param key    処理を識別するキー（例: "student:1001"）
+     * @param loader 実際の処理
+     * @param <T>    結果の型
+     * @return 処理結果
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            executions.increment();
+            return loader.get();
+        }
+
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, own);
+        if (existing == null) {
+            return lead(key, own, loader);
+        }
+
+        long waitNanos = maxWait.toNanos();
+        RequestDeadline deadline = RequestDeadline.current().orElse(null);
+        boolean boundedByDeadline = deadline != null && deadline.remainingNanos() < waitNanos;
+        if (boundedByDeadline) {
+            waitNanos = deadline.remainingNanos();
+        }
+        waiting.incrementAndGet();
+        try {
+            T result = (T) existing.get(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return result;
+        } catch (TimeoutException e) {
+            if (boundedByDeadline) {
+                // 期限を過ぎてから自ら実行しても間に合わないため、打ち切る
+                throw new DeadlineExceededException("同時実行中の処理の待機中に処理期限を過ぎました: key=" + key);
+            }
+            waitTimeouts.increment();
+            log.warn("同時実行中の処理の待機が上限を超えたため、個別に実行します。key={}, maxWait={}", key, maxWait);
+            executions.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (isDeadlineFailure(cause) && RequestDeadline.current().map(d -> !d.isExpired()).orElse(true)) {
+                // リーダー自身の処理期限切れは後続の呼び出しの失敗理由にならないため、期限が残っていれば自ら実行する
+                log.debug("同時実行中の処理が期限切れで失敗したため、個別に実行します。key={}", key);
+                executions.increment();
+                return loader.get();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("同時実行中の処理が失敗しました: key=" + key, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("同時実行中の処理の待機中に割り込まれました: key=" + key, e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private <T> T lead(String key, CompletableFuture<Object> own, Supplier<T> loader) {
+        executions.increment();
+        try {
+            T result = loader.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static boolean isDeadlineFailure(Throwable cause) {
+        return cause instanceof DeadlineExceededException || cause instanceof QueryTimeoutException;
+    }
+
+    /**
+     * 実際に処理を実行した回数を返します。
+     */
+    public long executionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * 他の呼び出しの結果を共有した回数を返します。
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * リーダーの結果を待機している呼び出しの数を返します。
+     */
+    public int waitingCount() {
+        return waiting.get();
+    }
+
+    /**
+     * 最大待機時間を超えて個別に実行した回数を返します。
+     */
+    public long waitTimeoutCount() {
+        return waitTimeouts.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("student.single-flight.calls", executions, LongAdder::sum)
+                .tag("result", "executed")
+                .description("実際にDBへ問い合わせた回数")
+                .register(registry);
+        FunctionCounter.builder("student.single-flight.calls", coalesced, LongAdder::sum)
+                .tag("result", "coalesced")
+                .description("同時実行中の処理の結果を共有した回数")
+                .register(registry);
+        FunctionCounter.builder("student.single-flight.wait-timeouts", waitTimeouts, LongAdder::sum)
+                .description("待機上限を超えて個別に実行した回数")
+                .register(registry);
+        Gauge.builder("student.single-flight.in-flight", inFlight, ConcurrentHashMap::size)
+                .description("実行中のキー数")
+                .register(registry);
+        Gauge.builder("student.single-flight.waiting", waiting, AtomicInteger::get)
+                .description("実行中の処理の結果を待機している呼び出しの数")
+                .register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package raisetech.student.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 遅延初期化（{@code spring.main.lazy-initialization=true}、faststartプロファイルで有効）の対象を絞り込む設定クラス。
+ * 以下のBeanは起動時に初期化し、設定やDB接続の誤りが起動時に検出されるようにします。
+ * - アプリケーションのBean（raisetech.student パッケージ）と、その依存先（マッパー、SqlSessionFactoryなど）
+ * - データソース
+ * それ以外のBean（Swagger UI・OpenAPIドキュメント、Thymeleaf、Actuatorのエンドポイントなど）は、最初に使用される時に初期化されます。
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+    private static final String APPLICATION_PACKAGE = "raisetech.student.";
+
+    @Bean
+    static LazyInitializationExcludeFilter applicationBeansLazyInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType.getName().startsWith(APPLICATION_PACKAGE)
+                || DataSource.class.isAssignableFrom(beanType);
+    }
+}
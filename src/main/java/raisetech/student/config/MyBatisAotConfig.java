@@ -0,0 +1,44 @@
+package raisetech.student.config;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Spring AOT（ビルド時のBean定義の事前生成）でMyBatisのマッパーを使用するための設定クラス。
+ * マッパーのBean定義（{@link MapperFactoryBean}）はマッパーのインターフェースを型引数に持たないため、
+ * そのままでは事前生成したBean定義からマッパーの型を判別できず、型による注入ができません。
+ * ビルド時にマッパーのインターフェースをBean定義の型として設定し、起動時のクラスパスのスキャンを不要にします。
+ */
+@Configuration(proxyBeanMethods = false)
+public class MyBatisAotConfig {
+
+    @Bean
+    static MergedBeanDefinitionPostProcessor mapperFactoryBeanTypeResolver() {
+        return new MapperFactoryBeanTypeResolver();
+    }
+
+    static class MapperFactoryBeanTypeResolver implements MergedBeanDefinitionPostProcessor {
+
+        @Override
+        public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+            if (!beanDefinition.hasBeanClass() || !MapperFactoryBean.class.isAssignableFrom(beanDefinition.getBeanClass())) {
+                return;
+            }
+            if (!beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+                return;
+            }
+            Object mapperInterface = beanDefinition.getPropertyValues().get("mapperInterface");
+            if (mapperInterface instanceof Class<?> mapperType) {
+                ConstructorArgumentValues arguments = new ConstructorArgumentValues();
+                arguments.addGenericArgumentValue(mapperType);
+                beanDefinition.setConstructorArgumentValues(arguments);
+                beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanDefinition.getBeanClass(), mapperType));
+            }
+        }
+    }
+}
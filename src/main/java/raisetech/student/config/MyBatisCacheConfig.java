@@ -0,0 +1,21 @@
+package raisetech.student.config;
+
+import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import raisetech.student.cache.StudentStatementCache;
+
+/**
+ * MyBatisの2次キャッシュの設定クラス。
+ * マッパーXMLの {@code <cache-ref>} から参照できるよう、{@link StudentStatementCache}（Springのコンポーネント）を
+ * マッパーXMLの読み込み前にMyBatisの設定へ登録します。
+ * MyBatisが生成したキャッシュではなくSpringのコンポーネントを使用するため、学生データ変更イベントによる無効化とメトリクスの登録をそのまま行えます。
+ */
+@Configuration(proxyBeanMethods = false)
+public class MyBatisCacheConfig {
+
+    @Bean
+    ConfigurationCustomizer studentStatementCacheCustomizer(StudentStatementCache studentStatementCache) {
+        return configuration -> configuration.addCache(studentStatementCache);
+    }
+}
@@ -0,0 +1,13 @@
+package raisetech.student.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * ネイティブイメージ（./gradlew nativeCompile）用のヒント（{@link NativeImageRuntimeHints}）を登録する設定クラス。
+ * ヒントはビルド時（Spring AOT）にのみ使用され、JVMでの実行には影響しません。
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageRuntimeHints.class)
+public class NativeImageConfig {
+}
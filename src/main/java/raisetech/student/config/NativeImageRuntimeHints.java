@@ -0,0 +1,136 @@
+package raisetech.student.config;
+
+import org.apache.ibatis.cache.decorators.FifoCache;
+import org.apache.ibatis.cache.decorators.LruCache;
+import org.apache.ibatis.cache.decorators.SoftCache;
+import org.apache.ibatis.cache.decorators.WeakCache;
+import org.apache.ibatis.cache.impl.PerpetualCache;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.javassist.util.proxy.ProxyFactory;
+import org.apache.ibatis.javassist.util.proxy.RuntimeSupport;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.nologging.NoLoggingImpl;
+import org.apache.ibatis.logging.slf4j.Slf4jImpl;
+import org.apache.ibatis.logging.stdout.StdOutImpl;
+import org.apache.ibatis.scripting.defaults.RawLanguageDriver;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.deadline.DeadlineQueryTimeoutInterceptor;
+import raisetech.student.domain.StudentDetail;
+import raisetech.student.domain.columnar.StudentColumnsSerializer;
+import raisetech.student.domain.columnar.StudentListRow;
+import raisetech.student.domain.stats.AgeBucketCount;
+import raisetech.student.domain.stats.AreaCount;
+import raisetech.student.domain.stats.CourseEnrollmentCount;
+import raisetech.student.domain.stats.CourseMonthlyEnrollment;
+import raisetech.student.dto.ErrorResponse;
+import raisetech.student.dto.ExportJobResponse;
+import raisetech.student.dto.StudentAddResponse;
+import raisetech.student.dto.StudentBatchGetRequest;
+import raisetech.student.dto.StudentBatchGetResponse;
+import raisetech.student.dto.StudentBulkUpdateRequest;
+import raisetech.student.dto.StudentBulkUpdateResponse;
+import raisetech.student.dto.StudentColumnsResponse;
+import raisetech.student.dto.StudentDeleteResponse;
+import raisetech.student.dto.StudentDetailResponse;
+import raisetech.student.dto.StudentFieldsResponse;
+import raisetech.student.dto.StudentResponse;
+import raisetech.student.dto.StudentStatsResponse;
+import raisetech.student.dto.StudentsResponse;
+import raisetech.student.export.ExportFormat;
+import raisetech.student.export.ExportJob;
+import raisetech.student.export.ExportJobStatus;
+import raisetech.student.idempotency.IdempotencyRecord;
+import raisetech.student.repository.CourseNameTypeHandler;
+import raisetech.student.repository.CourseRepository;
+import raisetech.student.repository.ExportJobRepository;
+import raisetech.student.repository.IdempotencyRecordRepository;
+import raisetech.student.repository.StudentArchiveRepository;
+import raisetech.student.repository.StudentCourseRepository;
+import raisetech.student.repository.StudentRepository;
+import raisetech.student.repository.StudentStatsRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.TreeSet;
+
+/**
+ * ネイティブイメージ（GraalVM）で実行するために必要な、リフレクション・リソース・プロキシのヒントを登録するクラス。
+ * Spring AOTが自動で検出できない以下のものを登録します。
+ * - MyBatis: マッパーXML・DTD、マッパーインターフェースのプロキシ、結果マッピングの型、プラグイン、MyBatis内部で生成されるクラス
+ * - Jackson: 一覧取得（シリアライズ済みのキャッシュ経由）などで、コントローラーの戻り値の型から検出できないDTO
+ * - Lombokで生成されたgetter/setterを使用するエンティティ（Thymeleafのテンプレートからも参照されます）
+ * - Thymeleafのテンプレート、Flywayのマイグレーション
+ * マッパー、DTO、テンプレートを追加した場合は、このクラスにも追加してください。
+ */
+public class NativeImageRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] MAPPERS = {
+            StudentRepository.class, StudentCourseRepository.class, CourseRepository.class,
+            StudentArchiveRepository.class, IdempotencyRecordRepository.class, StudentStatsRepository.class,
+            ExportJobRepository.class
+    };
+
+    private static final Class<?>[] BINDING_TYPES = {
+            Student.class, StudentCourse.class, StudentDetail.class,
+            StudentsResponse.class, StudentFieldsResponse.class, StudentDetailResponse.class,
+            StudentAddResponse.class, StudentResponse.class, StudentDeleteResponse.class,
+            StudentBatchGetRequest.class, StudentBatchGetResponse.class, ErrorResponse.class,
+            StudentBulkUpdateRequest.class, StudentBulkUpdateResponse.class,
+            StudentStatsResponse.class, AreaCount.class, AgeBucketCount.class, CourseMonthlyEnrollment.class,
+            CourseEnrollmentCount.class, StudentColumnsResponse.class, ExportJobResponse.class
+    };
+
+    // MyBatisが設定の読み込み時・実行時にリフレクションで生成するクラス
+    private static final Class<?>[] MYBATIS_INTERNAL_TYPES = {
+            RawLanguageDriver.class, XMLLanguageDriver.class, RuntimeSupport.class, ProxyFactory.class,
+            Log.class, Slf4jImpl.class, StdOutImpl.class, NoLoggingImpl.class,
+            PerpetualCache.class, FifoCache.class, LruCache.class, SoftCache.class, WeakCache.class,
+            ArrayList.class, HashMap.class, LinkedHashMap.class, HashSet.class, TreeSet.class,
+            CourseNameTypeHandler.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources()
+                .registerPattern("mappers/*.xml")
+                .registerPattern("org/apache/ibatis/builder/xml/*.dtd")
+                .registerPattern("templates/*.html")
+                .registerPattern("db/migration/*.sql");
+
+        for (Class<?> mapper : MAPPERS) {
+            hints.proxies().registerJdkProxy(mapper);
+            hints.reflection().registerType(mapper, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // 結果マッピング（resultType・resultMap）の型は、MyBatisがコンストラクター・setterをリフレクションで呼び出す
+        for (Class<?> type : new Class<?>[]{Student.class, StudentCourse.class, IdempotencyRecord.class,
+                AreaCount.class, AgeBucketCount.class, CourseMonthlyEnrollment.class, CourseEnrollmentCount.class,
+                StudentListRow.class, ExportJob.class, ExportFormat.class, ExportJobStatus.class}) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+        }
+
+        for (Class<?> type : MYBATIS_INTERNAL_TYPES) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // プラグイン（@Intercepts）はStatementHandlerのプロキシとして適用される
+        hints.proxies().registerJdkProxy(StatementHandler.class);
+        hints.reflection().registerType(DeadlineQueryTimeoutInterceptor.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(StatementHandler.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // @JsonSerialize(using = ...) で指定したシリアライザーはJacksonがリフレクションで生成する
+        hints.reflection().registerType(StudentColumnsSerializer.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), BINDING_TYPES);
+    }
+}
@@ -0,0 +1,12 @@
+package raisetech.student.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定期実行処理（期限切れデータの削除など）を有効にする設定クラス。
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,69 @@
+package raisetech.student.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import raisetech.student.admission.AdaptiveConcurrencyLimiter;
+import raisetech.student.admission.AdmissionControlInterceptor;
+import raisetech.student.admission.AdmissionControlInterceptor.Limits;
+import raisetech.student.deadline.RequestDeadlineInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Spring MVCの設定クラス。
+ * 学生APIへの以下のインターセプターを登録します。
+ * - リクエストの処理期限の設定（期限切れのリクエストは処理せずに打ち切る）
+ * - リクエスト受付制御（流量制限・同時実行数制限）
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final boolean admissionEnabled;
+
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
+    private final RequestDeadlineInterceptor requestDeadlineInterceptor;
+
+    public WebMvcConfig(
+            @Value("${student.admission.enabled:true}") boolean admissionEnabled,
+            @Value("${student.admission.client.rate-per-second:50}") double clientRate,
+            @Value("${student.admission.client.burst:100}") int clientBurst,
+            @Value("${student.admission.client.max-tracked:10000}") int maxTrackedClients,
+            @Value("${student.admission.endpoint.read-rate-per-second:1000}") double readRate,
+            @Value("${student.admission.endpoint.read-burst:2000}") int readBurst,
+            @Value("${student.admission.endpoint.write-rate-per-second:100}") double writeRate,
+            @Value("${student.admission.endpoint.write-burst:200}") int writeBurst,
+            @Value("${student.admission.concurrency.initial-limit:64}") int initialLimit,
+            @Value("${student.admission.concurrency.min-limit:8}") int minLimit,
+            @Value("${student.admission.concurrency.max-limit:256}") int maxLimit,
+            @Value("${student.admission.concurrency.latency-threshold:PT0.5S}") Duration latencyThreshold,
+            @Value("${student.deadline.read-timeout:PT3S}") Duration readTimeout,
+            @Value("${student.deadline.write-timeout:PT10S}") Duration writeTimeout,
+            @Value("${student.deadline.max-timeout:PT30S}") Duration maxTimeout
+    ) {
+        this.admissionEnabled = admissionEnabled;
+        this.admissionControlInterceptor = new AdmissionControlInterceptor(
+                new Limits(clientRate, clientBurst),
+                new Limits(readRate, readBurst),
+                new Limits(writeRate, writeBurst),
+                maxTrackedClients,
+                () -> new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThreshold,
+                        Runtime.getRuntime().availableProcessors()));
+        this.requestDeadlineInterceptor = new RequestDeadlineInterceptor(readTimeout, writeTimeout, maxTimeout);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 期限切れのリクエストは受付制御の枠を消費する前に打ち切る
+        registry.addInterceptor(requestDeadlineInterceptor)
+                .addPathPatterns("/api/students", "/api/students/**");
+        if (admissionEnabled) {
+            // エクスポートは応答時間が件数に比例するため同時実行数の調整から除外し、専用の上限（student.export.max-concurrent）で制限する
+            registry.addInterceptor(admissionControlInterceptor)
+                    .addPathPatterns("/api/students", "/api/students/**")
+                    .excludePathPatterns("/api/students/export.*");
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package raisetech.student.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import raisetech.student.dto.ErrorResponse;
+import raisetech.student.dto.ExportJobResponse;
+import raisetech.student.exception.ExportJobNotFoundException;
+import raisetech.student.export.ExportFormat;
+import raisetech.student.export.ExportJob;
+import raisetech.student.export.ExportJobStatus;
+import raisetech.student.export.ExportJobWorker;
+import raisetech.student.service.ExportJobService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 学生一覧の非同期エクスポート（ジョブ）APIのRESTコントローラー。
+ * 件数が多い場合でもHTTPの接続を保持し続けないよう、ジョブを登録してすぐに応答し、出力はバックグラウンドで行います。
+ * - POST でジョブを登録し、GET でジョブの進捗を確認します。完了後の GET は出力ファイルを返します。
+ * - CSVはgzipで圧縮して保存しており、Accept-Encoding に gzip を含む場合はそのまま（Content-Encoding: gzip）返します。
+ *   圧縮したまま返す場合と展開して返す場合は内容（バイト列）が異なるため、ETagも別の値（圧縮したままの場合は "-gzip" を付加）にします。
+ */
+@RestController
+@Tag(name = "非同期エクスポートAPI", description = "学生データのエクスポートをバックグラウンドで実行するAPI")
+@RequestMapping("/api/exports")
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+
+    public ExportJobController(ExportJobService exportJobService) {
+        this.exportJobService = exportJobService;
+    }
+
+    /**
+     * エクスポートのジョブを登録するエンドポイント。
+     *
+     * @param format 出力形式（CSV・XLSX）
+     * @return 登録したジョブ（Location ヘッダーにジョブのURL）
+     */
+    @PostMapping
+    @Operation(summary = "エクスポートジョブを登録",
+            description = """
+                          論理削除されていない全学生とコース情報を出力するジョブを登録し、202 とジョブIDを返します。
+                          - 進捗の確認・ファイルの取得は Location ヘッダーのURL（GET /api/exports/{id}）で行います。
+                          - ワーカーの待ち行列がいっぱいの場合は 429 を返します。
+                          """)
+    @ApiResponse(responseCode = "202", description = "ジョブを受け付けました")
+    @ApiResponse(responseCode = "429", description = "ワーカーの待ち行列がいっぱい",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<ExportJobResponse> submit(
+            @Parameter(description = "出力形式", example = "CSV")
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        ExportJob job = exportJobService.submit(format);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/exports/" + job.id()))
+                .body(ExportJobResponse.of("エクスポートジョブを受け付けました", job));
+    }
+
+    /**
+     * ジョブの進捗を返すエンドポイント。ジョブが完了している場合は出力ファイルを返します。
+     *
+     * @param id             ジョブID
+     * @param acceptEncoding Accept-Encodingヘッダー
+     * @param request        HTTPリクエスト（If-None-Match の判定に使用）
+     * @param response       HTTPレスポンス（If-None-Match の判定に使用）
+     * @return ジョブの状態（完了している場合は出力ファイル。出力ファイルが変更されていない場合はnull（304を返却済み））
+     * @throws IOException 出力ファイルを開けない場合
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "エクスポートジョブの進捗・ファイルを取得",
+            description = """
+                          実行待ち・実行中・失敗したジョブは状態と進捗（JSON）を返し、完了したジョブは出力ファイルを返します。
+                          - 完了したファイルは Range ヘッダーによる範囲指定に対応します（gzipで返す場合は圧縮後のバイト位置。展開して返す場合は範囲指定に対応しません）。
+                          - If-None-Match ヘッダーのETagと一致する場合は 304 を返します。
+                          """)
+    @ApiResponse(responseCode = "200", description = "ジョブの状態、または出力ファイル")
+    @ApiResponse(responseCode = "404", description = "ジョブが存在しない（保存期間を過ぎて削除された場合を含む）",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<?> get(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ExportJob job = exportJobService.find(id);
+        if (job.status() != ExportJobStatus.COMPLETED) {
+            return ResponseEntity.ok(ExportJobResponse.of(message(job.status()), job));
+        }
+
+        Path file = exportJobService.resolveFile(job);
+        if (!Files.exists(file)) {
+            throw new ExportJobNotFoundException("エクスポートファイルが見つかりません: " + id);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(job.format().mediaType());
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("students." + job.format().extension())
+                .build());
+        boolean gzipped = ExportJobWorker.isGzipped(job.format());
+        boolean sendGzipped = gzipped && acceptsGzip(acceptEncoding);
+        String etag = "\"" + job.fileName() + (sendGzipped ? "-gzip" : "") + "\"";
+        if (gzipped) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        // 展開して返す場合はファイルを開く前に判定する（304の場合にファイルを開いたままにしない）
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            if (gzipped) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            return null;
+        }
+        headers.setETag(etag);
+        if (!gzipped) {
+            return ResponseEntity.ok().headers(headers).body(new FileSystemResource(file));
+        }
+        if (sendGzipped) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return ResponseEntity.ok().headers(headers).body(new FileSystemResource(file));
+        }
+        // gzipに対応していないクライアントには展開しながら返す（展開後の長さは不明のため、範囲指定には対応しない）
+        return ResponseEntity.ok().headers(headers)
+                .body(new InputStreamResource(new GZIPInputStream(Files.newInputStream(file), 64 * 1024)));
+    }
+
+    private static String message(ExportJobStatus status) {
+        return switch (status) {
+            case QUEUED -> "エクスポートジョブは実行待ちです";
+            case RUNNING -> "エクスポートジョブを実行中です";
+            case FAILED -> "エクスポートジョブが失敗しました";
+            case COMPLETED -> "エクスポートジョブが完了しました";
+        };
+    }
+
+    // Accept-Encoding に gzip（または *）が q=0 以外で含まれるか
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return !(parts.length > 1 && parts[1].trim().matches("q=0(\\.0{0,3})?"));
+            }
+        }
+        return false;
+    }
+}
@@ -1,39 +1,70 @@
 package raisetech.student.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import raisetech.student.cache.StudentListResponseCache;
+import raisetech.student.cache.StudentListResponseCache.EncodedBody;
 import raisetech.student.data.Student;
+import raisetech.student.deadline.RequestTimeout;
+import raisetech.student.domain.BulkUpdateOutcome;
 import raisetech.student.domain.StudentDetail;
+import raisetech.student.domain.StudentFieldSet;
 import raisetech.student.dto.ErrorResponse;
 import raisetech.student.dto.StudentAddResponse;
+import raisetech.student.dto.StudentBatchGetRequest;
+import raisetech.student.dto.StudentBatchGetResponse;
+import raisetech.student.dto.StudentBulkUpdateRequest;
+import raisetech.student.dto.StudentBulkUpdateResponse;
+import raisetech.student.dto.StudentColumnsResponse;
 import raisetech.student.dto.StudentDeleteResponse;
+import raisetech.student.dto.StudentDetailResponse;
+import raisetech.student.dto.StudentFieldsResponse;
 import raisetech.student.dto.StudentResponse;
 import raisetech.student.dto.StudentsResponse;
 import raisetech.student.exception.StudentNotFoundException;
+import raisetech.student.idempotency.IdempotencyService;
+import raisetech.student.service.StudentArchiveService;
 import raisetech.student.service.StudentCourseService;
 import raisetech.student.service.StudentDetailService;
 import raisetech.student.service.StudentService;
+import raisetech.student.streaming.StudentListStreamWriter;
+import raisetech.student.validation.StudentValidator;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 学生管理APIのRESTコントローラー。
@@ -60,26 +91,77 @@ public class StudentController {
     // 学生情報に関するサービスクラス
     private final StudentService studentService;
 
+    // 全学生一覧のシリアライズ済みレスポンスキャッシュ
+    private final StudentListResponseCache studentListResponseCache;
+
+    // 冪等キーによる重複登録の防止
+    private final IdempotencyService idempotencyService;
+
+    // 学生登録・更新リクエストの入力チェック
+    private final StudentValidator studentValidator;
+
+    // 論理削除された学生のアーカイブ・復元
+    private final StudentArchiveService studentArchiveService;
+
+    // 全学生一覧のストリーミング出力
+    private final StudentListStreamWriter studentListStreamWriter;
+
+    // 冪等キーの待機後にトランザクションを開始するためのテンプレート
+    private final TransactionOperations transactionOperations;
+
     /**
      * コンストラクターインジェクションを通じてサービスを注入。
      *
-     * @param studentCourseService 学生コース管理サービス
-     * @param studentDetailService 学生詳細情報管理サービス
-     * @param studentService       学生管理サービス
+     * @param studentCourseService     学生コース管理サービス
+     * @param studentDetailService     学生詳細情報管理サービス
+     * @param studentService           学生管理サービス
+     * @param studentListResponseCache 全学生一覧のレスポンスキャッシュ
+     * @param idempotencyService       冪等キー管理サービス
+     * @param studentValidator         学生登録・更新リクエストのバリデーター
+     * @param studentArchiveService    学生アーカイブ管理サービス
+     * @param studentListStreamWriter  全学生一覧のストリーミング出力
+     * @param transactionOperations    トランザクションテンプレート
      */
     public StudentController(StudentCourseService studentCourseService,
                              StudentDetailService studentDetailService,
-                             StudentService studentService) {
+                             StudentService studentService,
+                             StudentListResponseCache studentListResponseCache,
+                             IdempotencyService idempotencyService,
+                             StudentValidator studentValidator,
+                             StudentArchiveService studentArchiveService,
+                             StudentListStreamWriter studentListStreamWriter,
+                             TransactionOperations transactionOperations) {
         this.studentCourseService = studentCourseService;
         this.studentDetailService = studentDetailService;
         this.studentService = studentService;
+        this.studentListResponseCache = studentListResponseCache;
+        this.idempotencyService = idempotencyService;
+        this.studentValidator = studentValidator;
+        this.studentArchiveService = studentArchiveService;
+        this.studentListStreamWriter = studentListStreamWriter;
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * 学生登録・更新リクエスト（Student、StudentDetail）の入力チェックに {@link StudentValidator} を使用します。
+     * Bean Validationと同じ制約を直接チェックするため、リフレクションによる検証を行いません。
+     * 引数には {@code @Valid} ではなく {@code @Validated} を付与しています。
+     * （{@code @Valid} はクラスの {@code @Validated} によるメソッド検証でも再度検証されるため）
+     *
+     * @param binder リクエストボディのバインダー
+     */
+    @InitBinder({"student", "studentDetail"})
+    public void initStudentBinder(WebDataBinder binder) {
+        binder.setValidator(studentValidator);
     }
 
     /**
      * 指定されたIDの学生情報を取得するエンドポイント。
      *
+     * 学生情報と登録されているコース情報を1回のクエリで取得して返します（学生IDごとにキャッシュされます）。
+     *
      * @param id 学生ID (1以上の値である必要あり)
-     * @return 成功時に学生情報を返す
+     * @return 成功時に学生詳細情報（学生情報およびコース情報）を返す
      * @throws StudentNotFoundException 学生IDが存在しない場合にスローされる
      */
     @GetMapping("/{id}")
@@ -88,7 +170,7 @@ public class StudentController {
             description = """
                           指定された学生IDに基づき、学生情報を取得します。
                           - 入力: 学生ID (例: 1001)
-                          - 成功時、学生の詳細情報を返却します。
+                          - 成功時、学生の詳細情報（登録されているコース情報を含む）を返却します。
                           - 未登録のIDを指定した場合は404エラーとなります。
                           """,
             tags = {"学生管理API"},
@@ -100,13 +182,35 @@ public class StudentController {
                     description = "学生情報の取得に成功",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = StudentResponse.class),
+                            schema = @Schema(implementation = StudentDetailResponse.class),
                             examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
                                     name = "正常取得例",
                                     value = """
                                             {
                                                 "message": "指定されたIDの学生を取得しました",
-                                                "studentId": 1001
+                                                "data": {
+                                                    "student": {
+                                                        "id": 1001,
+                                                        "name": "田中太郎",
+                                                        "kanaName": "タナカタロウ",
+                                                        "nickname": "taro123",
+                                                        "email": "tanaka.taro@example.com",
+                                                        "area": "東京都",
+                                                        "age": 30,
+                                                        "sex": "男性",
+                                                        "remark": "特記事項なし",
+                                                        "deleted": false,
+                                                        "studentCourses": [
+                                                            {
+                                                                "id": 1,
+                                                                "studentId": 1001,
+                                                                "courseName": "Javaプログラミング入門",
+                                                                "courseStartAt": "2023-01-10",
+                                                                "courseEndAt": "2023-03-20"
+                                                            }
+                                                        ]
+                                                    }
+                                                }
                                             }
                                             """
                             )
@@ -151,27 +255,29 @@ public class StudentController {
                     )
             )
     })
-    public ResponseEntity<StudentResponse> getStudent(@PathVariable @Min(1) Long id) {
-        // IDで学生情報を取得
-        Student student = studentService.getStudentById(id);
-        return ResponseEntity.ok(new StudentResponse("指定されたIDの学生を取得しました", student.getId()));
+    public ResponseEntity<StudentDetailResponse> getStudent(@PathVariable @Min(1) Long id) {
+        // IDで学生情報とコース情報を取得
+        StudentDetail studentDetail = studentDetailService.findStudentDetailById(id);
+        return ResponseEntity.ok(new StudentDetailResponse("指定されたIDの学生を取得しました", studentDetail));
     }
 
     /**
      * 新しい学生情報を登録し、関連するコース情報も保存します。
      * <p>
-     * このメソッドはトランザクション管理下で動作し、以下の操作を実行します：
+     * 以下の操作を1つのトランザクションで実行します：
      * 1. `Student`オブジェクトをデータベースに保存します。
      * 2. 学生に紐づく`StudentCourse`リストをデータベースに保存します。
      * 3. 正常に保存できた場合は201 Createdのレスポンスを返します。
      * 保存中にエラーが発生した場合は、500 Internal Server Errorのレスポンスを返します。
+     * Idempotency-Key ヘッダが指定された場合、同じキーでの再送信では登録を行わず最初のレスポンスを返します
+     * （処理中の場合は完了を待ちます）。待機中にDB接続を保持しないよう、トランザクションは冪等キーの確認後に開始します。
      *
+     * @param idempotencyKey 冪等キー（任意）
      * @param student 新しい学生情報を含むリクエストボディ（JSON形式）。
      *                このオブジェクトは{@code @Valid}でバリデーションされます。
      * @return 保存に成功した場合、作成された学生情報を含むレスポンス（201 Created）。
      * 失敗した場合、エラーメッセージを含むレスポンス（500 Internal Server Error）。
      */
-    @Transactional
     @PostMapping
     @Operation(
             summary = "新しい学生を登録",
@@ -236,14 +342,20 @@ public class StudentController {
                     )
             )
     )
-    public ResponseEntity<StudentAddResponse> createStudent(@RequestBody @Valid Student student) {
-        // 学生情報の登録フロー
-        Student savedStudent = studentService.save(null, student); // IDをnullにしてDBで自動生成
-        studentCourseService.saveCourses(savedStudent, student.getStudentCourses());
-
-        // 成功時のレスポンス
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new StudentAddResponse("学生情報および関連コースが正常に保存されました", savedStudent));
+    public ResponseEntity<StudentAddResponse> createStudent(
+            @Parameter(description = "冪等キー。同じキーでの再送信時は登録を行わず、最初のレスポンスを返します")
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) @Size(max = 255) String idempotencyKey,
+            @RequestBody @Validated Student student) {
+        return idempotencyService.execute(idempotencyKey, "POST /api/students", student, StudentAddResponse.class,
+                () -> transactionOperations.execute(status -> {
+                    // 学生情報の登録フロー
+                    Student savedStudent = studentService.save(null, student); // IDをnullにしてDBで自動生成
+                    studentCourseService.saveCourses(savedStudent, student.getStudentCourses());
+
+                    // 成功時のレスポンス
+                    return ResponseEntity.status(HttpStatus.CREATED)
+                            .body(new StudentAddResponse("学生情報および関連コースが正常に保存されました", savedStudent));
+                }));
     }
 
     /**
@@ -325,7 +437,7 @@ public class StudentController {
     })
     public ResponseEntity<StudentResponse> updateStudent(
             @PathVariable @Min(1) Long id,
-            @RequestBody @Valid StudentDetail studentDetail) {
+            @RequestBody @Validated StudentDetail studentDetail) {
         // studentServiceで更新ロジックを実行し、更新結果を取得
         Student updatedStudent = studentService.save(id, studentDetail.getStudent());
 
@@ -339,7 +451,8 @@ public class StudentController {
     /**
      * 全学生情報を取得するエンドポイント。
      *
-     * @return 学生のリストを含むレスポンス
+     * @return キャッシュがない場合は学生のリストを順次書き込むレスポンス。
+     *         キャッシュから応答した場合・304の場合はレスポンスへ直接書き込み、null
      * @throws Exception サーバー内でエラーが発生した場合
      */
     @GetMapping
@@ -349,6 +462,11 @@ public class StudentController {
                           登録されているすべての学生情報を取得します。
                           - ※全件取得のため、ページング対象外です。
                           - データが存在しない場合は応答を返します。
+                          - Accept-Encoding に gzip を含む場合、一定サイズ以上のレスポンスは圧縮して返します。
+                          - If-None-Match のいずれかの ETag が一致する場合（弱い ETag を含む）は 304 を返します。
+                          - キャッシュがない場合は、取得しながら順次送信します（送信した内容が次回以降のキャッシュになります）。
+                            この場合の ETag は弱い ETag で、同じデータの再取得時は If-None-Match に指定すると 304 を返します。
+                          - fields を指定すると、指定した項目のみを取得・返却します（studentCourses を含めない場合はコースを取得しません）。
                           """,
             tags = {"学生管理API"},
             security = @SecurityRequirement(name = "bearerAuth")
@@ -451,9 +569,177 @@ public class StudentController {
                     )
             )
     })
-    public ResponseEntity<StudentsResponse> getAllStudents() {
-        List<StudentDetail> students = studentDetailService.findAllStudentDetails();
-        return ResponseEntity.ok(new StudentsResponse("学生一覧を取得しました", students));
+    @RequestTimeout("PT10S") // 全件取得は件数に比例して時間がかかるため、参照系の既定値より長くする
+    public ResponseEntity<StreamingResponseBody> getAllStudents(
+            @Parameter(description = "取得するフィールド（例: id,name,studentCourses.courseName）。省略時は全項目")
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        // シリアライズ済みのキャッシュがあれば再利用し、なければ一覧を取得してエンコード
+        EncodedBody body;
+        boolean fullList = fields == null || fields.isBlank();
+        if (fullList) {
+            body = studentListResponseCache.getCached();
+            if (body == null && studentListStreamWriter.isEnabled()) {
+                // キャッシュがない場合は一覧全体を組み立てず、取得しながら送信する（送信した内容でキャッシュを作成）
+                long version = studentListResponseCache.currentVersion();
+                String etag = studentListResponseCache.streamingEtag(version);
+                if (webRequest.checkNotModified(etag)) {
+                    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                    return null;
+                }
+                // ETagヘッダーはcheckNotModifiedで設定済み（ResponseEntityにも指定すると重複して出力される）
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                        .body(studentListStreamWriter.stream(version, "学生一覧を取得しました"));
+            }
+            if (body == null) {
+                // 学生ごとのオブジェクトを生成せず、列指向の一覧から直接JSONへ変換する
+                body = studentListResponseCache.getOrEncode(() ->
+                        new StudentColumnsResponse("学生一覧を取得しました", studentDetailService.findAllStudentColumns()));
+            }
+        } else {
+            // フィールド指定時は取得カラムと出力項目を絞り込む
+            StudentFieldSet fieldSet = StudentFieldSet.parse(fields);
+            body = studentListResponseCache.getOrEncode(fieldSet.cacheKey(), () ->
+                    new StudentFieldsResponse("学生一覧を取得しました", studentDetailService.findStudentViews(fieldSet)));
+        }
+
+        // 内容が変わっていなければ本文を返さない（複数のETag・弱いETag（W/）の指定もSpringの判定に任せる）
+        // 全件取得はストリーミングで送信した同じデータバージョンの応答のETagも一致とみなす
+        if (webRequest.checkNotModified(body.etag())
+                || fullList && webRequest.checkNotModified(studentListResponseCache.streamingEtag(body.version()))) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            return null;
+        }
+
+        writeEncoded(response, body, acceptsGzip(acceptEncoding));
+        return null;
+    }
+
+    /**
+     * シリアライズ済みのバイト列を、リクエストを処理しているスレッドでそのままレスポンスへ書き込みます。
+     * キャッシュからの応答は非同期処理（{@link StreamingResponseBody}）を経由せず、バイト列のコピーのみで応答します。
+     *
+     * @param response     レスポンス
+     * @param body         エンコード済みレスポンス
+     * @param acceptsGzip  クライアントがgzipを許容しているか
+     * @throws IOException 書き込みに失敗した場合
+     */
+    private static void writeEncoded(HttpServletResponse response, EncodedBody body, boolean acceptsGzip)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, body.etag());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        byte[] bytes = body.json();
+        if (body.hasGzip() && acceptsGzip) {
+            // 圧縮済みのバイト列をそのまま返す（Tomcat側の圧縮はContent-Encoding指定済みのためスキップされる）
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            bytes = body.gzip();
+        }
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    /**
+     * Accept-Encodingヘッダーがgzipを許容しているかを判定します。
+     *
+     * @param acceptEncoding Accept-Encodingヘッダーの値
+     * @return gzipを許容している場合はtrue
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // gzip;q=0 は明示的な拒否
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 複数の学生IDを指定して学生詳細情報を一括取得するエンドポイント。
+     * 学生・コースそれぞれ1回のクエリで取得し、リクエストで指定された順序で結果を返します。
+     * 存在しない学生IDは found=false として結果に含めます。
+     *
+     * @param request 取得する学生IDのリスト（最大{@value StudentBatchGetRequest#MAX_IDS}件）
+     * @return 指定順の取得結果
+     */
+    @PostMapping("/batch-get")
+    @Operation(
+            summary = "複数の学生情報を一括取得",
+            description = """
+                          学生IDのリストを指定し、学生情報とコース情報を一括で取得します。
+                          - 結果はリクエストで指定された順序で返却します。
+                          - 存在しない学生IDは "found": false として返却します（404にはなりません）。
+                          - 一度に指定できる学生IDは500件までです。
+                          """,
+            tags = {"学生管理API"},
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "取得成功",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StudentBatchGetResponse.class),
+                            examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                    name = "一括取得例",
+                                    value = """
+                                            {
+                                                "message": "指定されたIDの学生を取得しました",
+                                                "data": [
+                                                    {
+                                                        "id": 1001,
+                                                        "found": true,
+                                                        "data": {
+                                                            "student": {
+                                                                "id": 1001,
+                                                                "name": "田中太郎",
+                                                                "studentCourses": []
+                                                            }
+                                                        }
+                                                    },
+                                                    {
+                                                        "id": 9999,
+                                                        "found": false,
+                                                        "data": null
+                                                    }
+                                                ]
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "学生IDが未指定または上限件数を超えている",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StudentBatchGetResponse> batchGetStudents(@RequestBody @Valid StudentBatchGetRequest request) {
+        Map<Long, StudentDetail> details = studentDetailService.findStudentDetailsByIds(request.ids());
+
+        // リクエストの順序どおりに結果を組み立てる（存在しないIDは found=false）
+        List<StudentBatchGetResponse.Item> items = request.ids().stream()
+                .map(id -> {
+                    StudentDetail detail = details.get(id);
+                    return new StudentBatchGetResponse.Item(id, detail != null, detail);
+                })
+                .toList();
+        return ResponseEntity.ok(new StudentBatchGetResponse("指定されたIDの学生を取得しました", items));
     }
 
     /**
@@ -533,4 +819,182 @@ public class StudentController {
         studentService.deleteStudentById(id);
         return ResponseEntity.ok(new StudentDeleteResponse("学生が削除されました"));
     }
+
+    /**
+     * 削除された学生情報を復元するエンドポイント。
+     *
+     * @param id 復元対象の学生ID (1以上の値である必要あり)
+     * @return 復元成功時にメッセージと学生IDを返す
+     * @throws StudentNotFoundException 学生IDが存在しない場合
+     */
+    @PostMapping("/{id}/restore")
+    @Operation(
+            summary = "削除された学生情報を復元",
+            description = """
+                          学生IDを指定し、論理削除された学生情報を復元します。
+                          - アーカイブテーブルへ移動済みの場合は、コース情報とあわせて復元します。
+                          - 削除されていない学生を指定した場合は何も変更しません。
+                          """,
+            tags = {"学生管理API"},
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "復元成功",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StudentResponse.class),
+                            examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                    name = "復元成功例",
+                                    value = """
+                                            {
+                                                "message": "学生情報を復元しました",
+                                                "student": 1001
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "学生が存在しない",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StudentResponse> restoreStudent(@PathVariable @Min(1) Long id) {
+        studentArchiveService.restoreStudentById(id);
+        return ResponseEntity.ok(new StudentResponse("学生情報を復元しました", id));
+    }
+
+    /**
+     * 複数の学生情報をまとめて論理削除するエンドポイント。
+     * 学生IDのリストまたは絞り込み条件で対象を指定し、学生ごとの処理結果を返します。
+     * Idempotency-Key ヘッダが指定された場合、同じキーでの再送信では処理を行わず最初のレスポンスを返します。
+     *
+     * @param idempotencyKey 冪等キー（任意）
+     * @param request        対象の学生IDのリスト、または絞り込み条件
+     * @return 学生ごとの処理結果
+     */
+    @PostMapping("/bulk-delete")
+    @Operation(
+            summary = "複数の学生情報を一括削除",
+            description = """
+                          学生IDのリスト（ids）または絞り込み条件（filter）を指定し、学生情報をまとめて論理削除します。
+                          - 学生ごとの処理結果（UPDATED・UNCHANGED・NOT_FOUND）を返します。存在しない学生が含まれていても404にはなりません。
+                          - 一度に処理する学生は5000件までです。絞り込み条件に一致する学生が残っている場合は "hasMore": true を返すため、同じリクエストを再送してください。
+                          - Idempotency-Key ヘッダを指定すると、同じキーでの再送信では処理を行わず最初のレスポンスを返します（続きを処理する再送信には新しいキーを指定してください）。
+                          """,
+            tags = {"学生管理API"},
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "一括削除成功",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StudentBulkUpdateResponse.class),
+                            examples = @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                    name = "一括削除例",
+                                    value = """
+                                            {
+                                                "message": "学生を一括削除しました",
+                                                "updated": 1,
+                                                "unchanged": 0,
+                                                "notFound": 1,
+                                                "hasMore": false,
+                                                "results": [
+                                                    { "id": 1001, "outcome": "UPDATED" },
+                                                    { "id": 9999, "outcome": "NOT_FOUND" }
+                                                ]
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "対象が未指定、または上限件数を超えている",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StudentBulkUpdateResponse> bulkDeleteStudents(
+            @Parameter(description = "冪等キー。同じキーでの再送信時は処理を行わず、最初のレスポンスを返します")
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) @Size(max = 255) String idempotencyKey,
+            @RequestBody @Valid StudentBulkUpdateRequest request) {
+        return idempotencyService.execute(idempotencyKey, "POST /api/students/bulk-delete", request,
+                StudentBulkUpdateResponse.class, () -> bulkUpdateDeleted(request, true, "学生を一括削除しました"));
+    }
+
+    /**
+     * 論理削除された複数の学生情報をまとめて復元するエンドポイント。
+     * アーカイブテーブルへ移動済みの学生は対象外です（NOT_FOUND となるため、個別の復元APIを使用します）。
+     * Idempotency-Key ヘッダが指定された場合、同じキーでの再送信では処理を行わず最初のレスポンスを返します。
+     *
+     * @param idempotencyKey 冪等キー（任意）
+     * @param request        対象の学生IDのリスト、または絞り込み条件
+     * @return 学生ごとの処理結果
+     */
+    @PostMapping("/bulk-restore")
+    @Operation(
+            summary = "削除された複数の学生情報を一括復元",
+            description = """
+                          学生IDのリスト（ids）または絞り込み条件（filter）を指定し、論理削除された学生情報をまとめて復元します。
+                          - 学生ごとの処理結果（UPDATED・UNCHANGED・NOT_FOUND）を返します。
+                          - アーカイブテーブルへ移動済みの学生は NOT_FOUND となります（POST /api/students/{id}/restore で復元してください）。
+                          - 一度に処理する学生は5000件までです。絞り込み条件に一致する学生が残っている場合は "hasMore": true を返します。
+                          - Idempotency-Key ヘッダを指定すると、同じキーでの再送信では処理を行わず最初のレスポンスを返します（続きを処理する再送信には新しいキーを指定してください）。
+                          """,
+            tags = {"学生管理API"},
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "一括復元成功",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StudentBulkUpdateResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "対象が未指定、または上限件数を超えている",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StudentBulkUpdateResponse> bulkRestoreStudents(
+            @Parameter(description = "冪等キー。同じキーでの再送信時は処理を行わず、最初のレスポンスを返します")
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) @Size(max = 255) String idempotencyKey,
+            @RequestBody @Valid StudentBulkUpdateRequest request) {
+        return idempotencyService.execute(idempotencyKey, "POST /api/students/bulk-restore", request,
+                StudentBulkUpdateResponse.class, () -> bulkUpdateDeleted(request, false, "学生を一括復元しました"));
+    }
+
+    // 一括削除・一括復元の共通処理（絞り込み条件の場合は、削除フラグが変更前の状態の学生を上限件数まで対象とする）
+    private ResponseEntity<StudentBulkUpdateResponse> bulkUpdateDeleted(StudentBulkUpdateRequest request,
+                                                                        boolean deleted, String message) {
+        List<Long> ids = request.ids();
+        boolean hasMore = false;
+        StudentBulkUpdateRequest.Filter filter = request.filter();
+        if (filter != null) {
+            int limit = StudentBulkUpdateRequest.MAX_TARGETS;
+            List<Long> matched = studentService.findStudentIdsByCriteria(!deleted, filter.area(), filter.courseName(),
+                    filter.courseEndedBefore(), limit + 1);
+            hasMore = matched.size() > limit;
+            ids = hasMore ? matched.subList(0, limit) : matched;
+        }
+        Map<Long, BulkUpdateOutcome> outcomes = studentService.updateDeletedByIds(ids, deleted);
+        return ResponseEntity.ok(StudentBulkUpdateResponse.of(message, outcomes, hasMore));
+    }
 }
@@ -0,0 +1,196 @@
+package raisetech.student.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import raisetech.student.deadline.RequestTimeout;
+import raisetech.student.dto.ErrorResponse;
+import raisetech.student.export.ExportFile;
+import raisetech.student.export.ExportFormat;
+import raisetech.student.export.StudentExportFileStore;
+import raisetech.student.export.StudentExportFileStore.ExportStream;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * 学生一覧（学生とコース情報）をCSV・Excel形式でダウンロードするAPIのRESTコントローラー。
+ * - 最初のダウンロードは生成しながら送信し（件数によらず一定のメモリ）、同じ内容をファイルとして保存します。
+ * - 保存済みのファイルは Range（範囲指定）・If-Range に対応し、途中で切断されたダウンロードを再開できます。
+ * - データが更新されるとファイルは作り直されます（ETagが変わるため、古い内容の続きは返しません）。
+ */
+@RestController
+@Tag(name = "学生エクスポートAPI", description = "学生データをCSV・Excel形式で出力するAPI")
+@RequestMapping("/api/students")
+public class StudentExportController {
+
+    // エクスポートファイルの生成・保存
+    private final StudentExportFileStore studentExportFileStore;
+
+    public StudentExportController(StudentExportFileStore studentExportFileStore) {
+        this.studentExportFileStore = studentExportFileStore;
+    }
+
+    /**
+     * 全学生とコース情報をCSV形式で取得するエンドポイント。
+     *
+     * @param request  HTTPリクエスト
+     * @param response HTTPレスポンス
+     * @return CSVファイル
+     * @throws IOException ファイルの生成に失敗した場合
+     */
+    @GetMapping(value = "/export.csv", headers = "!" + HttpHeaders.RANGE)
+    @Operation(summary = "全学生情報をCSV形式で取得",
+            description = """
+                          論理削除されていない全学生とコース情報を、コース1件につき1行のCSV（UTF-8・BOM付き）で返します。
+                          - Range ヘッダーで範囲を指定すると 206 を返します（If-Range が ETag と一致しない場合は全体を返します）。
+                          """)
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "206", description = "指定された範囲を返却")
+    @ApiResponse(responseCode = "429", description = "エクスポートの同時実行数の上限に到達",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @RequestTimeout("PT30S") // 他のリクエストが生成中の場合は完了を待つため、参照系の既定値より長くする
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return export(ExportFormat.CSV, request, response);
+    }
+
+    /**
+     * 全学生とコース情報のCSVを範囲指定で取得するエンドポイント（Range ヘッダーがある場合）。
+     *
+     * @param ifRange If-Rangeヘッダー
+     * @return CSVファイル（指定範囲）
+     * @throws IOException ファイルの生成に失敗した場合
+     */
+    @GetMapping(value = "/export.csv", headers = HttpHeaders.RANGE)
+    @Operation(hidden = true)
+    @RequestTimeout("PT30S") // 範囲指定時にファイルを生成する場合があるため、参照系の既定値より長くする
+    public ResponseEntity<Resource> exportCsvRange(
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) throws IOException {
+        return exportRange(ExportFormat.CSV, ifRange);
+    }
+
+    /**
+     * 全学生とコース情報をExcel（xlsx）形式で取得するエンドポイント。
+     *
+     * @param request  HTTPリクエスト
+     * @param response HTTPレスポンス
+     * @return Excelファイル
+     * @throws IOException ファイルの生成に失敗した場合
+     */
+    @GetMapping(value = "/export.xlsx", headers = "!" + HttpHeaders.RANGE)
+    @Operation(summary = "全学生情報をExcel形式で取得",
+            description = """
+                          論理削除されていない全学生とコース情報を、コース1件につき1行のExcel（xlsx）で返します。
+                          - 1シートの最大行数を超える場合は、複数のシートに分けて出力します。
+                          - Range ヘッダーで範囲を指定すると 206 を返します（If-Range が ETag と一致しない場合は全体を返します）。
+                          """)
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "206", description = "指定された範囲を返却")
+    @ApiResponse(responseCode = "429", description = "エクスポートの同時実行数の上限に到達",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @RequestTimeout("PT30S")
+    public ResponseEntity<StreamingResponseBody> exportXlsx(
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return export(ExportFormat.XLSX, request, response);
+    }
+
+    /**
+     * 全学生とコース情報のExcelを範囲指定で取得するエンドポイント（Range ヘッダーがある場合）。
+     *
+     * @param ifRange If-Rangeヘッダー
+     * @return Excelファイル（指定範囲）
+     * @throws IOException ファイルの生成に失敗した場合
+     */
+    @GetMapping(value = "/export.xlsx", headers = HttpHeaders.RANGE)
+    @Operation(hidden = true)
+    @RequestTimeout("PT30S")
+    public ResponseEntity<Resource> exportXlsxRange(
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) throws IOException {
+        return exportRange(ExportFormat.XLSX, ifRange);
+    }
+
+    // 範囲指定なし: 未生成の場合は生成しながら送信し、生成済みの場合はファイル全体を送信する
+    private ResponseEntity<StreamingResponseBody> export(ExportFormat format, HttpServletRequest request,
+                                                         HttpServletResponse response) throws IOException {
+        Optional<ExportFile> current = studentExportFileStore.current(format);
+        if (current.isEmpty()) {
+            // 未生成の場合は生成しながら送信する（他のリクエストが生成中の場合はその完了を待つ）
+            Optional<ExportStream> stream = studentExportFileStore.tryStream(format);
+            if (stream.isPresent()) {
+                // 本文の送信が実行されないまま非同期処理が終了した場合（タイムアウト・エラー）に、生成の枠を解放する
+                WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(stream.get().etag(),
+                        new CallableProcessingInterceptor() {
+                            @Override
+                            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                                stream.get().abandon().run();
+                            }
+                        });
+                return ResponseEntity.ok()
+                        .headers(headers(format))
+                        .eTag(stream.get().etag())
+                        .body(stream.get().body());
+            }
+        }
+        ExportFile file = current.isPresent() ? current.get() : studentExportFileStore.getOrGenerate(format);
+        if (new ServletWebRequest(request, response).checkNotModified(file.etag())) {
+            // If-None-Match が一致する場合は304（ステータス・ETagは checkNotModified が設定する）
+            return null;
+        }
+        StreamingResponseBody body = out -> Files.copy(file.path(), out);
+        return ResponseEntity.ok()
+                .headers(headers(format))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag(file.etag())
+                .contentLength(file.size())
+                .body(body);
+    }
+
+    // 範囲指定あり: 保存済みのファイルを返す（Spring MVCが指定範囲のみを206で返す）
+    private ResponseEntity<Resource> exportRange(ExportFormat format, String ifRange) throws IOException {
+        ExportFile file = studentExportFileStore.getOrGenerate(format);
+        if (ifRange != null && !ifRange.equals(file.etag())) {
+            // 途中まで受信した内容とファイルが異なるため、範囲指定を無視して全体を返す
+            // （InputStreamResourceはSpring MVCの範囲指定の処理の対象外のため、全体が200で返る）
+            return ResponseEntity.ok()
+                    .headers(headers(format))
+                    .eTag(file.etag())
+                    .contentLength(file.size())
+                    .body(new InputStreamResource(Files.newInputStream(file.path())));
+        }
+        return ResponseEntity.ok()
+                .headers(headers(format))
+                .eTag(file.etag())
+                .body(new FileSystemResource(file.path()));
+    }
+
+    private static HttpHeaders headers(ExportFormat format) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(format.mediaType());
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("students." + format.extension())
+                .build());
+        return headers;
+    }
+}
@@ -0,0 +1,120 @@
+package raisetech.student.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import raisetech.student.cache.CourseEnrollmentCounter;
+import raisetech.student.domain.stats.AgeBucketCount;
+import raisetech.student.domain.stats.AreaCount;
+import raisetech.student.domain.stats.CourseEnrollmentCount;
+import raisetech.student.domain.stats.CourseMonthlyEnrollment;
+import raisetech.student.dto.ErrorResponse;
+import raisetech.student.dto.StudentStatsResponse;
+import raisetech.student.service.StudentStatsService;
+
+import java.time.YearMonth;
+
+/**
+ * 学生情報の集計（管理レポート）APIのRESTコントローラー。
+ * 集計はDB側で行うため、全学生一覧を取得して集計する必要はありません。
+ * 集計結果は短時間キャッシュされるため、直前の登録・更新が反映されない場合があります
+ * （コースごとの受講者数は、メモリ上のカウンターから返すため即時に反映されます）。
+ */
+@Validated
+@RestController
+@Tag(name = "学生集計API", description = "学生データの集計結果を取得するAPI")
+@RequestMapping("/api/students/stats")
+public class StudentStatsController {
+
+    // 学生情報の集計に関するサービスクラス
+    private final StudentStatsService studentStatsService;
+
+    // コースごとの受講者数のカウンター
+    private final CourseEnrollmentCounter courseEnrollmentCounter;
+
+    public StudentStatsController(StudentStatsService studentStatsService,
+                                  CourseEnrollmentCounter courseEnrollmentCounter) {
+        this.studentStatsService = studentStatsService;
+        this.courseEnrollmentCounter = courseEnrollmentCounter;
+    }
+
+    /**
+     * 住所（エリア）ごとの学生数を取得するエンドポイント。
+     *
+     * @return 住所（エリア）ごとの学生数（学生数の多い順）
+     */
+    @GetMapping("/areas")
+    @Operation(summary = "住所（エリア）ごとの学生数を取得", description = "論理削除された学生は集計対象外です。")
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    public ResponseEntity<StudentStatsResponse<AreaCount>> countByArea() {
+        return ResponseEntity.ok(new StudentStatsResponse<>(
+                "住所（エリア）ごとの学生数を集計しました", studentStatsService.countByArea()));
+    }
+
+    /**
+     * 年齢の階級ごとの学生数（年齢ヒストグラム）を取得するエンドポイント。
+     *
+     * @param bucketSize 階級の幅（歳）
+     * @return 階級ごとの学生数（年齢の低い順。学生がいない階級は含まれません）
+     */
+    @GetMapping("/ages")
+    @Operation(summary = "年齢の階級ごとの学生数を取得",
+            description = "年齢を指定された幅で区切った階級ごとの学生数を返します。年齢が未登録の学生、論理削除された学生は集計対象外です。")
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "400", description = "階級の幅が範囲外",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<StudentStatsResponse<AgeBucketCount>> countByAgeBucket(
+            @Parameter(description = "階級の幅（歳）", example = "10")
+            @RequestParam(value = "bucketSize", defaultValue = "10") @Min(1) @Max(150) int bucketSize) {
+        return ResponseEntity.ok(new StudentStatsResponse<>(
+                "年齢の階級ごとの学生数を集計しました", studentStatsService.countByAgeBucket(bucketSize)));
+    }
+
+    /**
+     * コース・受講開始月ごとの受講者数を取得するエンドポイント。
+     *
+     * @param from 集計期間の開始月（この月を含む）
+     * @param to   集計期間の終了月（この月を含む）
+     * @return コース・開始月ごとの受講者数（開始月・コース名の順）
+     */
+    @GetMapping("/course-enrollments")
+    @Operation(summary = "コース・受講開始月ごとの受講者数を取得",
+            description = "受講開始日の月ごとに、コースごとの受講者数を返します。論理削除された学生のコースは集計対象外です。")
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "400", description = "集計期間の形式が正しくない",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<StudentStatsResponse<CourseMonthlyEnrollment>> countEnrollmentsByCourseAndMonth(
+            @Parameter(description = "集計期間の開始月（yyyy-MM）。省略時は制限なし", example = "2025-04")
+            @RequestParam(value = "from", required = false) YearMonth from,
+            @Parameter(description = "集計期間の終了月（yyyy-MM）。省略時は制限なし", example = "2026-03")
+            @RequestParam(value = "to", required = false) YearMonth to) {
+        return ResponseEntity.ok(new StudentStatsResponse<>(
+                "コース・開始月ごとの受講者数を集計しました", studentStatsService.countEnrollmentsByCourseAndMonth(from, to)));
+    }
+
+    /**
+     * コースごとの受講者数を取得するエンドポイント。
+     * DBを集計せず、コース情報の登録・更新・削除を反映済みのカウンターから返します。
+     *
+     * @return コースごとの受講者数（受講者数の多い順）
+     */
+    @GetMapping("/course-counts")
+    @Operation(summary = "コースごとの受講者数を取得",
+            description = "コースごとのコース情報の件数を返します。論理削除された学生のコースも含みます（アーカイブ済みのものは含みません）。")
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    public ResponseEntity<StudentStatsResponse<CourseEnrollmentCount>> countEnrollmentsByCourse() {
+        return ResponseEntity.ok(new StudentStatsResponse<>(
+                "コースごとの受講者数を取得しました", courseEnrollmentCounter.snapshot()));
+    }
+}
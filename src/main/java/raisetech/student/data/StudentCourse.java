@@ -1,6 +1,7 @@
 package raisetech.student.data;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,11 +23,15 @@ import java.time.LocalDate;
 
 public class StudentCourse {
 
+    // コース名の最大文字数（course.name の列長）
+    public static final int COURSE_NAME_MAX_LENGTH = 255;
+
     private Long id; // 自動生成されることを想定しているためバリデーション不要
 
     private Long studentId; // 学生ID、他の関連情報に依存するためここではバリデーションを省略
 
     @NotBlank(message = "コース名は必須です")
+    @Size(max = COURSE_NAME_MAX_LENGTH, message = "コース名は255文字以内で入力してください")
     private String courseName; // 登録内容に必須とする
 
     private LocalDate courseStartAt; // 開始日
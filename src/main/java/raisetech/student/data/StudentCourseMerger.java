@@ -0,0 +1,44 @@
+package raisetech.student.data;
+
+import java.util.Objects;
+
+/**
+ * {@link StudentCourse} の更新内容を既存データへ反映するクラス。
+ * - リフレクションを使用せず、フィールドごとにgetter/setterを直接呼び出します。
+ * - 更新内容がnullのフィールドは反映しません（未指定の項目は既存の値を維持）。
+ * - ID、学生IDは反映対象外です。
+ * 戻り値は変更されたフィールドのビットの組み合わせです。0の場合は変更がないため、DBへの書き込みを省略できます。
+ */
+public final class StudentCourseMerger {
+
+    public static final int COURSE_NAME = 1;
+    public static final int COURSE_START_AT = 1 << 1;
+    public static final int COURSE_END_AT = 1 << 2;
+
+    private StudentCourseMerger() {
+    }
+
+    /**
+     * 更新内容のうちnullでないフィールドを既存データへ反映します。
+     *
+     * @param source 更新内容
+     * @param target 反映先の既存データ
+     * @return 変更されたフィールドのビットの組み合わせ（変更がない場合は0）
+     */
+    public static int merge(StudentCourse source, StudentCourse target) {
+        int changed = 0;
+        if (source.getCourseName() != null && !Objects.equals(source.getCourseName(), target.getCourseName())) {
+            target.setCourseName(source.getCourseName());
+            changed |= COURSE_NAME;
+        }
+        if (source.getCourseStartAt() != null && !Objects.equals(source.getCourseStartAt(), target.getCourseStartAt())) {
+            target.setCourseStartAt(source.getCourseStartAt());
+            changed |= COURSE_START_AT;
+        }
+        if (source.getCourseEndAt() != null && !Objects.equals(source.getCourseEndAt(), target.getCourseEndAt())) {
+            target.setCourseEndAt(source.getCourseEndAt());
+            changed |= COURSE_END_AT;
+        }
+        return changed;
+    }
+}
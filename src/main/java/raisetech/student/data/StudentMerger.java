@@ -0,0 +1,75 @@
+package raisetech.student.data;
+
+import java.util.Objects;
+
+/**
+ * {@link Student} の更新内容を既存データへ反映するクラス。
+ * - リフレクションを使用せず、フィールドごとにgetter/setterを直接呼び出します。
+ * - 更新内容がnullのフィールドは反映しません（未指定の項目は既存の値を維持）。
+ * - ID、コース情報（studentCourses）は反映対象外です（コース情報は {@link StudentCourseMerger} で個別に反映）。
+ * 戻り値は変更されたフィールドのビットの組み合わせです。0の場合は変更がないため、DBへの書き込みを省略できます。
+ * フィールドを追加した場合は、ビットの定義と {@link #merge} の両方に追加してください。
+ */
+public final class StudentMerger {
+
+    public static final int NAME = 1;
+    public static final int KANA_NAME = 1 << 1;
+    public static final int NICKNAME = 1 << 2;
+    public static final int EMAIL = 1 << 3;
+    public static final int AREA = 1 << 4;
+    public static final int AGE = 1 << 5;
+    public static final int SEX = 1 << 6;
+    public static final int REMARK = 1 << 7;
+    public static final int DELETED = 1 << 8;
+
+    private StudentMerger() {
+    }
+
+    /**
+     * 更新内容のうちnullでないフィールドを既存データへ反映します。
+     *
+     * @param source 更新内容
+     * @param target 反映先の既存データ
+     * @return 変更されたフィールドのビットの組み合わせ（変更がない場合は0）
+     */
+    public static int merge(Student source, Student target) {
+        int changed = 0;
+        if (source.getName() != null && !Objects.equals(source.getName(), target.getName())) {
+            target.setName(source.getName());
+            changed |= NAME;
+        }
+        if (source.getKanaName() != null && !Objects.equals(source.getKanaName(), target.getKanaName())) {
+            target.setKanaName(source.getKanaName());
+            changed |= KANA_NAME;
+        }
+        if (source.getNickname() != null && !Objects.equals(source.getNickname(), target.getNickname())) {
+            target.setNickname(source.getNickname());
+            changed |= NICKNAME;
+        }
+        if (source.getEmail() != null && !Objects.equals(source.getEmail(), target.getEmail())) {
+            target.setEmail(source.getEmail());
+            changed |= EMAIL;
+        }
+        if (source.getArea() != null && !Objects.equals(source.getArea(), target.getArea())) {
+            target.setArea(source.getArea());
+            changed |= AREA;
+        }
+        if (source.getAge() != null && !Objects.equals(source.getAge(), target.getAge())) {
+            target.setAge(source.getAge());
+            changed |= AGE;
+        }
+        if (source.getSex() != null && !Objects.equals(source.getSex(), target.getSex())) {
+            target.setSex(source.getSex());
+            changed |= SEX;
+        }
+        if (source.getRemark() != null && !Objects.equals(source.getRemark(), target.getRemark())) {
+            target.setRemark(source.getRemark());
+            changed |= REMARK;
+        }
+        if (source.getDeleted() != null && !Objects.equals(source.getDeleted(), target.getDeleted())) {
+            target.setDeleted(source.getDeleted());
+            changed |= DELETED;
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,48 @@
+package raisetech.student.deadline;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * リクエストの処理期限をMyBatisの各SQL文のクエリタイムアウトに反映するプラグイン。
+ * - 期限を過ぎている場合は、DBへ問い合わせずに {@link SQLTimeoutException} をスローします。
+ * - 期限までの残り時間（秒単位に切り上げ）を、Mapperで指定されたタイムアウトより短い場合にのみ設定します。
+ * SQLTimeoutExceptionはSpringにより {@link org.springframework.dao.QueryTimeoutException} に変換されます。
+ * 処理期限が設定されていない処理（バッチなど）には影響しません。
+ */
+@Component
+@Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}))
+public class DeadlineQueryTimeoutInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+        if (deadline.isEmpty()) {
+            return invocation.proceed();
+        }
+
+        long remainingNanos = deadline.get().remainingNanos();
+        if (remainingNanos <= 0) {
+            throw new SQLTimeoutException("リクエストの処理期限を過ぎているためクエリを実行しません: timeout="
+                    + deadline.get().timeout());
+        }
+
+        Statement statement = (Statement) invocation.proceed();
+        int remainingSeconds = (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        int configured = statement.getQueryTimeout();
+        if (configured == 0 || remainingSeconds < configured) {
+            statement.setQueryTimeout(remainingSeconds);
+        }
+        return statement;
+    }
+}
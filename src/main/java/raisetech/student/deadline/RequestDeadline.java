@@ -0,0 +1,83 @@
+package raisetech.student.deadline;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * リクエストの処理期限。
+ * リクエストを処理するスレッドに紐付けて保持し（ThreadLocal）、サービス層・リポジトリ層から参照します。
+ * 期限はインターセプターで設定し、リクエストの完了時に破棄します。
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    // 期限（System.nanoTime() 基準）
+    private final long deadlineNanos;
+
+    private final Duration timeout;
+
+    private RequestDeadline(long deadlineNanos, Duration timeout) {
+        this.deadlineNanos = deadlineNanos;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 現在のスレッドに処理期限を設定します。
+     *
+     * @param timeout 現時点からの制限時間
+     * @return 設定した処理期限
+     */
+    public static RequestDeadline start(Duration timeout) {
+        RequestDeadline deadline = new RequestDeadline(System.nanoTime() + timeout.toNanos(), timeout);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    /**
+     * 現在のスレッドに設定されている処理期限を返します。
+     *
+     * @return 処理期限（HTTPリクエスト外の処理など、設定されていない場合は空）
+     */
+    public static Optional<RequestDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * 別のスレッドで設定された処理期限を、現在のスレッドに設定します（非同期処理のスレッドへ期限を引き継ぐ場合に使用）。
+     * 処理を終えたら {@link #clear()} で破棄してください。
+     */
+    public void attach() {
+        CURRENT.set(this);
+    }
+
+    /**
+     * 現在のスレッドの処理期限を破棄します。
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 期限までの残り時間を返します。
+     *
+     * @return 残り時間（ナノ秒）。期限を過ぎている場合は0以下
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * 期限を過ぎているかを返します。
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * 設定時の制限時間を返します。
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,87 @@
+package raisetech.student.deadline;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import raisetech.student.exception.DeadlineExceededException;
+
+import java.time.Duration;
+
+/**
+ * リクエストごとに処理期限を設定するインターセプター。
+ * 制限時間は以下の優先順で決定し、上限値を超えないように切り詰めます。
+ * 1. リクエストヘッダ {@code X-Request-Timeout-Ms}（クライアントが待つ時間）
+ * 2. エンドポイントの {@link RequestTimeout} アノテーション
+ * 3. 参照系（GET/HEAD）・更新系それぞれの既定値
+ * 設定した期限はMyBatisのクエリタイムアウトに反映されます（{@link DeadlineQueryTimeoutInterceptor}）。
+ */
+@Slf4j
+public class RequestDeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    // クライアントが応答を待つ時間（ミリ秒）を指定するリクエストヘッダ
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private final Duration readTimeout;
+
+    private final Duration writeTimeout;
+
+    private final Duration maxTimeout;
+
+    public RequestDeadlineInterceptor(Duration readTimeout, Duration writeTimeout, Duration maxTimeout) {
+        this.readTimeout = readTimeout;
+        this.writeTimeout = writeTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            // 非同期処理の完了時の再ディスパッチではハンドラーを実行しないため、期限を設定しない
+            return true;
+        }
+        Duration timeout = resolveTimeout(request, handler);
+        if (timeout.compareTo(maxTimeout) > 0) {
+            timeout = maxTimeout;
+        }
+        if (timeout.isZero() || timeout.isNegative()) {
+            // クライアントがすでに待つのをやめているリクエストは処理しない
+            throw new DeadlineExceededException("リクエストの処理期限を過ぎています: timeout=" + timeout);
+        }
+        RequestDeadline.start(timeout);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 非同期処理を開始した場合は afterCompletion が呼ばれないため、ここでスレッドから期限を破棄する
+        RequestDeadline.clear();
+    }
+
+    private Duration resolveTimeout(HttpServletRequest request, Object handler) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null && !header.isBlank()) {
+            try {
+                return Duration.ofMillis(Long.parseLong(header.trim()));
+            } catch (NumberFormatException e) {
+                log.debug("{} ヘッダの値が数値ではないため既定値を使用します: {}", TIMEOUT_HEADER, header);
+            }
+        }
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestTimeout annotation = handlerMethod.getMethodAnnotation(RequestTimeout.class);
+            if (annotation != null) {
+                return Duration.parse(annotation.value());
+            }
+        }
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) ? readTimeout : writeTimeout;
+    }
+}
@@ -0,0 +1,23 @@
+package raisetech.student.deadline;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * エンドポイントごとの処理期限の既定値を指定するアノテーション。
+ * リクエストヘッダで制限時間が指定されていない場合に使用されます。
+ * 指定がないエンドポイントでは、参照系・更新系それぞれの既定値（設定ファイル）が使用されます。
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestTimeout {
+
+    /**
+     * 制限時間（ISO-8601形式、例: "PT10S"）。
+     */
+    String value();
+}
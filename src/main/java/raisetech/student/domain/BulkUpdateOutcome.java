@@ -0,0 +1,22 @@
+package raisetech.student.domain;
+
+/**
+ * 一括削除・一括復元における学生1件ごとの処理結果。
+ */
+public enum BulkUpdateOutcome {
+
+    /**
+     * 削除フラグを変更した。
+     */
+    UPDATED,
+
+    /**
+     * すでに目的の状態だったため変更しなかった（削除済みの学生の削除、削除されていない学生の復元）。
+     */
+    UNCHANGED,
+
+    /**
+     * 学生テーブルに存在しない（アーカイブ済みの学生を含む）。
+     */
+    NOT_FOUND
+}
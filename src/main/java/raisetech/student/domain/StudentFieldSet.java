@@ -0,0 +1,172 @@
+package raisetech.student.domain;
+
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.exception.InvalidFieldsException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 学生一覧取得時のフィールド指定（?fields=）を表すクラス。
+ * 例: {@code fields=id,name,studentCourses.courseName}
+ * - 学生のフィールド名をカンマ区切りで指定します。
+ * - {@code studentCourses} を指定するとコース情報の全項目、
+ * {@code studentCourses.courseName} のように指定するとコース情報の特定項目のみを返します。
+ * - コース情報を指定しない場合、コース情報の取得自体を行いません。
+ * 取得するカラム（SQL）と出力するJSONの両方をこの指定で絞り込みます。
+ */
+public final class StudentFieldSet {
+
+    // コース情報を表すフィールド名
+    public static final String COURSES = "studentCourses";
+
+    // 指定可能な学生のフィールド（出力順）
+    private static final List<String> STUDENT_FIELDS = List.of(
+            "id", "name", "kanaName", "nickname", "email", "area", "age", "sex", "remark", "deleted");
+
+    // 指定可能なコースのフィールド（出力順）
+    private static final List<String> COURSE_FIELDS = List.of(
+            "id", "studentId", "courseName", "courseStartAt", "courseEndAt");
+
+    private final Set<String> studentFields;
+
+    private final Set<String> courseFields;
+
+    private StudentFieldSet(Set<String> studentFields, Set<String> courseFields) {
+        this.studentFields = Collections.unmodifiableSet(studentFields);
+        this.courseFields = Collections.unmodifiableSet(courseFields);
+    }
+
+    /**
+     * カンマ区切りのフィールド指定を解析します。
+     *
+     * @param fields フィールド指定（例: "id,name,studentCourses.courseName"）
+     * @return 解析結果
+     * @throws InvalidFieldsException 未知のフィールドが含まれる場合、または指定が空の場合
+     */
+    public static StudentFieldSet parse(String fields) {
+        Set<String> requestedStudentFields = new LinkedHashSet<>();
+        Set<String> requestedCourseFields = new LinkedHashSet<>();
+        String coursePrefix = COURSES + ".";
+
+        for (String token : fields.split(",")) {
+            String field = token.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (field.equals(COURSES)) {
+                requestedCourseFields.addAll(COURSE_FIELDS);
+            } else if (field.startsWith(coursePrefix)) {
+                String courseField = field.substring(coursePrefix.length());
+                if (!COURSE_FIELDS.contains(courseField)) {
+                    throw new InvalidFieldsException("未知のコースフィールドです: " + field);
+                }
+                requestedCourseFields.add(courseField);
+            } else if (STUDENT_FIELDS.contains(field)) {
+                requestedStudentFields.add(field);
+            } else {
+                throw new InvalidFieldsException("未知のフィールドです: " + field);
+            }
+        }
+        if (requestedStudentFields.isEmpty() && requestedCourseFields.isEmpty()) {
+            throw new InvalidFieldsException("フィールドが指定されていません: " + fields);
+        }
+        return new StudentFieldSet(inOrder(STUDENT_FIELDS, requestedStudentFields),
+                inOrder(COURSE_FIELDS, requestedCourseFields));
+    }
+
+    /**
+     * 出力対象の学生フィールドを返します（SQLの取得カラムの判定にも使用）。
+     *
+     * @return 学生フィールド名の集合
+     */
+    public Set<String> studentFields() {
+        return studentFields;
+    }
+
+    /**
+     * コース情報の取得が必要かを返します。
+     *
+     * @return コースフィールドが1つ以上指定されている場合はtrue
+     */
+    public boolean includesCourses() {
+        return !courseFields.isEmpty();
+    }
+
+    /**
+     * 指定内容を正規化した文字列を返します（レスポンスキャッシュのキーに使用）。
+     *
+     * @return 正規化したフィールド指定
+     */
+    public String cacheKey() {
+        List<String> keys = new ArrayList<>(studentFields);
+        courseFields.forEach(field -> keys.add(COURSES + "." + field));
+        return String.join(",", keys);
+    }
+
+    /**
+     * 学生情報とコース情報から、指定されたフィールドのみを持つ出力用のマップを生成します。
+     * 出力形式は {"student": {...指定フィールド..., "studentCourses": [...]}} です。
+     *
+     * @param student 学生情報
+     * @param courses コース情報（コースを指定していない場合は参照されない）
+     * @return 出力用のマップ
+     */
+    public Map<String, Object> toView(Student student, List<StudentCourse> courses) {
+        Map<String, Object> studentView = new LinkedHashMap<>();
+        for (String field : studentFields) {
+            studentView.put(field, studentValue(student, field));
+        }
+        if (includesCourses()) {
+            List<Map<String, Object>> courseViews = new ArrayList<>(courses.size());
+            for (StudentCourse course : courses) {
+                Map<String, Object> courseView = new LinkedHashMap<>();
+                for (String field : courseFields) {
+                    courseView.put(field, courseValue(course, field));
+                }
+                courseViews.add(courseView);
+            }
+            studentView.put(COURSES, courseViews);
+        }
+        return Map.of("student", studentView);
+    }
+
+    private static Set<String> inOrder(List<String> order, Set<String> requested) {
+        Set<String> ordered = new LinkedHashSet<>();
+        order.stream().filter(requested::contains).forEach(ordered::add);
+        return ordered;
+    }
+
+    private static Object studentValue(Student student, String field) {
+        return switch (field) {
+            case "id" -> student.getId();
+            case "name" -> student.getName();
+            case "kanaName" -> student.getKanaName();
+            case "nickname" -> student.getNickname();
+            case "email" -> student.getEmail();
+            case "area" -> student.getArea();
+            case "age" -> student.getAge();
+            case "sex" -> student.getSex();
+            case "remark" -> student.getRemark();
+            case "deleted" -> student.getDeleted();
+            default -> throw new IllegalStateException("未対応のフィールドです: " + field);
+        };
+    }
+
+    private static Object courseValue(StudentCourse course, String field) {
+        return switch (field) {
+            case "id" -> course.getId();
+            case "studentId" -> course.getStudentId();
+            case "courseName" -> course.getCourseName();
+            case "courseStartAt" -> course.getCourseStartAt();
+            case "courseEndAt" -> course.getCourseEndAt();
+            default -> throw new IllegalStateException("未対応のフィールドです: " + field);
+        };
+    }
+}
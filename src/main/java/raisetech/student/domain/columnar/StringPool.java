@@ -0,0 +1,85 @@
+package raisetech.student.domain.columnar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 辞書符号化した文字列の表。
+ * 住所（エリア）・性別・コース名のように同じ値が繰り返し現れる列を、文字列への参照ではなく
+ * この表の番号（int）で保持するために使用します。番号 -1 はnullを表します。
+ * 生成後は変更できません（{@link Builder} で作成します）。
+ */
+public final class StringPool {
+
+    /**
+     * nullを表す番号。
+     */
+    public static final int NULL = -1;
+
+    private final String[] values;
+
+    private StringPool(String[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 番号に対応する文字列を返します。
+     *
+     * @param code 番号
+     * @return 文字列（番号が {@link #NULL} の場合はnull）
+     */
+    public String get(int code) {
+        return code == NULL ? null : values[code];
+    }
+
+    /**
+     * 登録されている文字列の種類の数を返します。
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * {@link StringPool} を作成するビルダー。スレッドセーフではありません。
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        private String[] values = new String[16];
+
+        private int size;
+
+        /**
+         * 文字列を登録し、その番号を返します（登録済みの場合は同じ番号を返します）。
+         *
+         * @param value 文字列
+         * @return 番号（nullの場合は {@link #NULL}）
+         */
+        public int encode(String value) {
+            if (value == null) {
+                return NULL;
+            }
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size] = value;
+            codes.put(value, size);
+            return size++;
+        }
+
+        /**
+         * 登録した文字列の表を作成します。
+         *
+         * @return 文字列の表
+         */
+        public StringPool build() {
+            return new StringPool(Arrays.copyOf(values, size));
+        }
+    }
+}
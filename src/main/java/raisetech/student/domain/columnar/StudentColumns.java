@@ -0,0 +1,344 @@
+package raisetech.student.domain.columnar;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 全学生一覧（学生情報とコース情報）を列指向で保持する読み取り専用の構造。
+ * 学生ごとに {@code StudentDetail}・{@code Student}・{@code List<StudentCourse>} のオブジェクトを生成する代わりに、
+ * 項目ごとの配列で保持します。
+ * - ID・年齢はプリミティブ型の配列、削除フラグはビット列、日付はエポック日（1970-01-01からの日数）で保持します。
+ * - 住所（エリア）・性別・コース名は {@link StringPool} の番号で保持します（同じ文字列を1つだけ保持）。
+ * - コース情報は全学生分を1つの配列にまとめ、学生ごとの開始位置（{@link #courseStart(int)}）で区切ります。
+ * JSONへの変換は {@link StudentColumnsSerializer} が行い、{@code StudentsResponse} と同じ形式で出力します。
+ */
+@JsonSerialize(using = StudentColumnsSerializer.class)
+public final class StudentColumns {
+
+    /**
+     * 年齢・日付が未設定であることを表す値。
+     */
+    public static final int NULL_INT = Integer.MIN_VALUE;
+
+    private final int size;
+    private final long[] ids;
+    private final String[] names;
+    private final String[] kanaNames;
+    private final String[] nicknames;
+    private final String[] emails;
+    private final int[] areas;
+    private final int[] ages;
+    private final int[] sexes;
+    private final String[] remarks;
+    private final BitSet deleted;
+
+    // 学生 i のコースは courseOffsets[i] から courseOffsets[i + 1] の手前まで
+    private final int[] courseOffsets;
+    private final long[] courseIds;
+    private final int[] courseNames;
+    private final int[] courseStartDays;
+    private final int[] courseEndDays;
+
+    private final StringPool pool;
+
+    private StudentColumns(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.names = Arrays.copyOf(builder.names, size);
+        this.kanaNames = Arrays.copyOf(builder.kanaNames, size);
+        this.nicknames = Arrays.copyOf(builder.nicknames, size);
+        this.emails = Arrays.copyOf(builder.emails, size);
+        this.areas = Arrays.copyOf(builder.areas, size);
+        this.ages = Arrays.copyOf(builder.ages, size);
+        this.sexes = Arrays.copyOf(builder.sexes, size);
+        this.remarks = Arrays.copyOf(builder.remarks, size);
+        this.deleted = (BitSet) builder.deleted.clone();
+        this.courseOffsets = Arrays.copyOf(builder.courseOffsets, size + 1);
+        this.courseOffsets[size] = builder.courseCount;
+        this.courseIds = Arrays.copyOf(builder.courseIds, builder.courseCount);
+        this.courseNames = Arrays.copyOf(builder.courseNames, builder.courseCount);
+        this.courseStartDays = Arrays.copyOf(builder.courseStartDays, builder.courseCount);
+        this.courseEndDays = Arrays.copyOf(builder.courseEndDays, builder.courseCount);
+        this.pool = builder.pool.build();
+    }
+
+    /**
+     * ビルダーを生成します。
+     *
+     * @return ビルダー
+     */
+    public static Builder builder() {
+        return builder(1024);
+    }
+
+    /**
+     * 初期容量（学生数・コース情報の件数）を指定してビルダーを生成します。
+     *
+     * @param initialCapacity 初期容量（1以上）
+     * @return ビルダー
+     */
+    public static Builder builder(int initialCapacity) {
+        return new Builder(Math.max(1, initialCapacity));
+    }
+
+    /**
+     * 学生の人数を返します。
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * コース情報の件数（全学生の合計）を返します。
+     */
+    public int courseCount() {
+        return courseOffsets[size];
+    }
+
+    public long id(int student) {
+        return ids[student];
+    }
+
+    public String name(int student) {
+        return names[student];
+    }
+
+    public String kanaName(int student) {
+        return kanaNames[student];
+    }
+
+    public String nickname(int student) {
+        return nicknames[student];
+    }
+
+    public String email(int student) {
+        return emails[student];
+    }
+
+    /**
+     * 住所（エリア）の {@link StringPool} の番号を返します。
+     */
+    public int areaCode(int student) {
+        return areas[student];
+    }
+
+    /**
+     * 年齢を返します。
+     *
+     * @return 年齢（未設定の場合は {@link #NULL_INT}）
+     */
+    public int age(int student) {
+        return ages[student];
+    }
+
+    /**
+     * 性別の {@link StringPool} の番号を返します。
+     */
+    public int sexCode(int student) {
+        return sexes[student];
+    }
+
+    public String remark(int student) {
+        return remarks[student];
+    }
+
+    public boolean deleted(int student) {
+        return deleted.get(student);
+    }
+
+    /**
+     * 学生のコース情報の開始位置（コース情報の番号）を返します。
+     */
+    public int courseStart(int student) {
+        return courseOffsets[student];
+    }
+
+    /**
+     * 学生のコース情報の終了位置（この番号を含まない）を返します。
+     */
+    public int courseEnd(int student) {
+        return courseOffsets[student + 1];
+    }
+
+    public long courseId(int course) {
+        return courseIds[course];
+    }
+
+    /**
+     * コース名の {@link StringPool} の番号を返します。
+     */
+    public int courseNameCode(int course) {
+        return courseNames[course];
+    }
+
+    /**
+     * 受講開始日をエポック日で返します。
+     *
+     * @return エポック日（未設定の場合は {@link #NULL_INT}）
+     */
+    public int courseStartDay(int course) {
+        return courseStartDays[course];
+    }
+
+    /**
+     * 受講終了日をエポック日で返します。
+     *
+     * @return エポック日（未設定の場合は {@link #NULL_INT}）
+     */
+    public int courseEndDay(int course) {
+        return courseEndDays[course];
+    }
+
+    /**
+     * 辞書符号化した文字列の表を返します。
+     */
+    public StringPool pool() {
+        return pool;
+    }
+
+    /**
+     * {@link StudentColumns} を1行ずつ組み立てるビルダー。スレッドセーフではありません。
+     * 行は学生ID・コースIDの順に渡す必要があります（同じ学生の行は連続していること）。
+     */
+    public static final class Builder {
+
+        private int size;
+        private long[] ids;
+        private String[] names;
+        private String[] kanaNames;
+        private String[] nicknames;
+        private String[] emails;
+        private int[] areas;
+        private int[] ages;
+        private int[] sexes;
+        private String[] remarks;
+        private final BitSet deleted = new BitSet();
+        private int[] courseOffsets;
+
+        private int courseCount;
+        private long[] courseIds;
+        private int[] courseNames;
+        private int[] courseStartDays;
+        private int[] courseEndDays;
+
+        private final StringPool.Builder pool = new StringPool.Builder();
+
+        private Builder(int initialCapacity) {
+            ids = new long[initialCapacity];
+            names = new String[initialCapacity];
+            kanaNames = new String[initialCapacity];
+            nicknames = new String[initialCapacity];
+            emails = new String[initialCapacity];
+            areas = new int[initialCapacity];
+            ages = new int[initialCapacity];
+            sexes = new int[initialCapacity];
+            remarks = new String[initialCapacity];
+            courseOffsets = new int[initialCapacity + 1];
+            courseIds = new long[initialCapacity];
+            courseNames = new int[initialCapacity];
+            courseStartDays = new int[initialCapacity];
+            courseEndDays = new int[initialCapacity];
+        }
+
+        /**
+         * 1行分（学生情報とコース情報1件）を追加します。
+         * 直前の行と同じ学生の場合は、コース情報のみを追加します。
+         *
+         * @param row 取得結果の1行
+         * @return このビルダー
+         */
+        public Builder add(StudentListRow row) {
+            if (startsNewStudent(row)) {
+                addStudent(row);
+            }
+            if (row.courseId() != null) {
+                addCourse(row.courseId(), row.courseName(), row.courseStartAt(), row.courseEndAt());
+            }
+            return this;
+        }
+
+        /**
+         * 追加済みの学生の人数を返します。
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 行が直前の行と別の学生のものか（追加すると学生が1人増えるか）を返します。
+         *
+         * @param row 取得結果の1行
+         * @return 別の学生の行の場合はtrue
+         */
+        public boolean startsNewStudent(StudentListRow row) {
+            return size == 0 || ids[size - 1] != row.id();
+        }
+
+        /**
+         * 列指向の構造を作成します。
+         *
+         * @return 学生一覧
+         */
+        public StudentColumns build() {
+            return new StudentColumns(this);
+        }
+
+        private void addStudent(StudentListRow row) {
+            if (size == ids.length) {
+                growStudents();
+            }
+            ids[size] = row.id();
+            names[size] = row.name();
+            kanaNames[size] = row.kanaName();
+            nicknames[size] = row.nickname();
+            emails[size] = row.email();
+            areas[size] = pool.encode(row.area());
+            ages[size] = row.age() != null ? row.age() : NULL_INT;
+            sexes[size] = pool.encode(row.sex());
+            remarks[size] = row.remark();
+            deleted.set(size, row.deleted());
+            courseOffsets[size] = courseCount;
+            size++;
+        }
+
+        private void addCourse(long courseId, String courseName, LocalDate startAt, LocalDate endAt) {
+            if (courseCount == courseIds.length) {
+                growCourses();
+            }
+            courseIds[courseCount] = courseId;
+            courseNames[courseCount] = pool.encode(courseName);
+            courseStartDays[courseCount] = toEpochDay(startAt);
+            courseEndDays[courseCount] = toEpochDay(endAt);
+            courseCount++;
+        }
+
+        private void growStudents() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            kanaNames = Arrays.copyOf(kanaNames, capacity);
+            nicknames = Arrays.copyOf(nicknames, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+            areas = Arrays.copyOf(areas, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            sexes = Arrays.copyOf(sexes, capacity);
+            remarks = Arrays.copyOf(remarks, capacity);
+            courseOffsets = Arrays.copyOf(courseOffsets, capacity + 1);
+        }
+
+        private void growCourses() {
+            int capacity = courseIds.length * 2;
+            courseIds = Arrays.copyOf(courseIds, capacity);
+            courseNames = Arrays.copyOf(courseNames, capacity);
+            courseStartDays = Arrays.copyOf(courseStartDays, capacity);
+            courseEndDays = Arrays.copyOf(courseEndDays, capacity);
+        }
+
+        private static int toEpochDay(LocalDate date) {
+            return date != null ? (int) date.toEpochDay() : NULL_INT;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package raisetech.student.domain.columnar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * {@link StudentColumns} を、学生詳細情報のリスト（{@code List<StudentDetail>}）と同じ形式のJSON配列として出力するシリアライザー。
+ * 学生ごとのオブジェクトを生成せず、配列から直接 {@link JsonGenerator} へ書き込みます。
+ * - 項目名、辞書符号化した文字列（住所（エリア）・性別・コース名）はエスケープ済みの値を使い回します。
+ * - 日付は {@code yyyy-MM-dd} 形式で出力します（Spring Bootの既定の {@code LocalDate} の出力と同じ）。
+ * 項目の並び順は {@code Student}・{@code StudentCourse} のフィールドの宣言順に合わせています。
+ */
+public class StudentColumnsSerializer extends StdSerializer<StudentColumns> {
+
+    private static final SerializedString STUDENT = new SerializedString("student");
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString KANA_NAME = new SerializedString("kanaName");
+    private static final SerializedString NICKNAME = new SerializedString("nickname");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString AREA = new SerializedString("area");
+    private static final SerializedString AGE = new SerializedString("age");
+    private static final SerializedString SEX = new SerializedString("sex");
+    private static final SerializedString REMARK = new SerializedString("remark");
+    private static final SerializedString DELETED = new SerializedString("deleted");
+    private static final SerializedString STUDENT_COURSES = new SerializedString("studentCourses");
+    private static final SerializedString STUDENT_ID = new SerializedString("studentId");
+    private static final SerializedString COURSE_NAME = new SerializedString("courseName");
+    private static final SerializedString COURSE_START_AT = new SerializedString("courseStartAt");
+    private static final SerializedString COURSE_END_AT = new SerializedString("courseEndAt");
+
+    public StudentColumnsSerializer() {
+        super(StudentColumns.class);
+    }
+
+    @Override
+    public void serialize(StudentColumns columns, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray(columns, columns.size());
+        writeElements(columns, gen);
+        gen.writeEndArray();
+    }
+
+    /**
+     * 学生ごとの要素（{@code {"student":{...}}}）を、配列の開始・終了を含めずに出力します。
+     * 一覧を分割して出力する場合（{@code StudentListStreamWriter}）に、開いている配列へ続けて書き込むために使用します。
+     *
+     * @param columns 出力する学生一覧
+     * @param gen     出力先
+     * @throws IOException 出力に失敗した場合
+     */
+    public static void writeElements(StudentColumns columns, JsonGenerator gen) throws IOException {
+        SerializedString[] pooled = serializePool(columns.pool());
+        char[] dateBuffer = new char[10];
+
+        for (int i = 0; i < columns.size(); i++) {
+            long studentId = columns.id(i);
+            gen.writeStartObject();
+            gen.writeFieldName(STUDENT);
+            gen.writeStartObject();
+            gen.writeFieldName(ID);
+            gen.writeNumber(studentId);
+            writeString(gen, NAME, columns.name(i));
+            writeString(gen, KANA_NAME, columns.kanaName(i));
+            writeString(gen, NICKNAME, columns.nickname(i));
+            writeString(gen, EMAIL, columns.email(i));
+            writePooled(gen, AREA, columns.areaCode(i), pooled);
+            gen.writeFieldName(AGE);
+            if (columns.age(i) == StudentColumns.NULL_INT) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(columns.age(i));
+            }
+            writePooled(gen, SEX, columns.sexCode(i), pooled);
+            writeString(gen, REMARK, columns.remark(i));
+            gen.writeFieldName(DELETED);
+            gen.writeBoolean(columns.deleted(i));
+
+            gen.writeFieldName(STUDENT_COURSES);
+            gen.writeStartArray();
+            for (int c = columns.courseStart(i); c < columns.courseEnd(i); c++) {
+                gen.writeStartObject();
+                gen.writeFieldName(ID);
+                gen.writeNumber(columns.courseId(c));
+                gen.writeFieldName(STUDENT_ID);
+                gen.writeNumber(studentId);
+                writePooled(gen, COURSE_NAME, columns.courseNameCode(c), pooled);
+                writeDate(gen, COURSE_START_AT, columns.courseStartDay(c), dateBuffer);
+                writeDate(gen, COURSE_END_AT, columns.courseEndDay(c), dateBuffer);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+
+            gen.writeEndObject();
+            gen.writeEndObject();
+        }
+    }
+
+    // 辞書の文字列をエスケープ済みの形式に変換（辞書の件数分のみ）
+    private static SerializedString[] serializePool(StringPool pool) {
+        SerializedString[] pooled = new SerializedString[pool.size()];
+        for (int code = 0; code < pooled.length; code++) {
+            pooled[code] = new SerializedString(pool.get(code));
+        }
+        return pooled;
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString field, String value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writePooled(JsonGenerator gen, SerializedString field, int code, SerializedString[] pooled)
+            throws IOException {
+        gen.writeFieldName(field);
+        if (code == StringPool.NULL) {
+            gen.writeNull();
+        } else {
+            gen.writeString(pooled[code]);
+        }
+    }
+
+    // エポック日を yyyy-MM-dd 形式で出力（4桁に収まらない年は LocalDate の形式に従う）
+    private static void writeDate(JsonGenerator gen, SerializedString field, int epochDay, char[] buffer)
+            throws IOException {
+        gen.writeFieldName(field);
+        if (epochDay == StudentColumns.NULL_INT) {
+            gen.writeNull();
+            return;
+        }
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(date.toString());
+            return;
+        }
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, date.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, date.getDayOfMonth(), 2);
+        gen.writeString(buffer, 0, buffer.length);
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package raisetech.student.domain.columnar;
+
+import java.time.LocalDate;
+
+/**
+ * 全学生一覧の取得結果の1行（学生情報と、その学生のコース情報1件を結合したもの）。
+ * コースが登録されていない学生の場合、コース情報の項目はnullです。
+ * {@link StudentColumns.Builder} に1行ずつ渡して列指向の構造に詰め替えるためのもので、保持はしません。
+ */
+public record StudentListRow(
+        long id,
+        String name,
+        String kanaName,
+        String nickname,
+        String email,
+        String area,
+        Integer age,
+        String sex,
+        String remark,
+        boolean deleted,
+        Long courseId,
+        String courseName,
+        LocalDate courseStartAt,
+        LocalDate courseEndAt
+) {
+}
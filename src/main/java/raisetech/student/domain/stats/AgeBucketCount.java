@@ -0,0 +1,14 @@
+package raisetech.student.domain.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 年齢の階級ごとの学生数（年齢ヒストグラムの1区間）。
+ */
+@Schema(description = "年齢の階級ごとの学生数")
+public record AgeBucketCount(
+        @Schema(description = "階級の下限（この年齢を含む）", example = "20") int ageFrom,
+        @Schema(description = "階級の上限（この年齢を含む）", example = "29") int ageTo,
+        @Schema(description = "学生数", example = "85") long count
+) {
+}
@@ -0,0 +1,13 @@
+package raisetech.student.domain.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 住所（エリア）ごとの学生数。
+ */
+@Schema(description = "住所（エリア）ごとの学生数")
+public record AreaCount(
+        @Schema(description = "住所（エリア）", example = "東京都") String area,
+        @Schema(description = "学生数", example = "120") long count
+) {
+}
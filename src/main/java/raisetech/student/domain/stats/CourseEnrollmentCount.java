@@ -0,0 +1,13 @@
+package raisetech.student.domain.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * コースごとの受講者数（コース情報の件数）。
+ */
+@Schema(description = "コースごとの受講者数")
+public record CourseEnrollmentCount(
+        @Schema(description = "コース名", example = "Javaコース") String courseName,
+        @Schema(description = "受講者数", example = "42") long count
+) {
+}
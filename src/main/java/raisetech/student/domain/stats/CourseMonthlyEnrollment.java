@@ -0,0 +1,15 @@
+package raisetech.student.domain.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * コース・開始月ごとの受講者数。
+ */
+@Schema(description = "コース・開始月ごとの受講者数")
+public record CourseMonthlyEnrollment(
+        @Schema(description = "コース名", example = "Javaコース") String courseName,
+        @Schema(description = "受講開始年", example = "2025") int year,
+        @Schema(description = "受講開始月", example = "4") int month,
+        @Schema(description = "受講者数", example = "32") long count
+) {
+}
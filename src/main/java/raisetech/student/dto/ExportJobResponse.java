@@ -0,0 +1,38 @@
+package raisetech.student.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import raisetech.student.export.ExportFormat;
+import raisetech.student.export.ExportJob;
+import raisetech.student.export.ExportJobStatus;
+
+import java.time.Instant;
+
+/**
+ * 非同期エクスポートのジョブの状態のレスポンスDTO
+ */
+@Schema(description = "非同期エクスポートのジョブの状態のレスポンスDTO")
+public record ExportJobResponse(
+        @Schema(description = "処理結果のメッセージ", example = "エクスポートジョブを受け付けました") String message,
+        @Schema(description = "ジョブID", example = "3f2a8c1e-5b7d-4e9a-9c2b-1d0e6f4a7b8c") String id,
+        @Schema(description = "出力形式", example = "CSV") ExportFormat format,
+        @Schema(description = "状態", example = "RUNNING") ExportJobStatus status,
+        @Schema(description = "出力対象の学生数（実行開始前はnull）", example = "120000") Long totalStudents,
+        @Schema(description = "出力済みの学生数", example = "45000") long processedStudents,
+        @Schema(description = "進捗率（0〜100）", example = "37") Integer progressPercent,
+        @Schema(description = "失敗時のエラーメッセージ") String errorMessage,
+        @Schema(description = "登録日時") Instant createdAt,
+        @Schema(description = "完了・失敗した日時") Instant completedAt
+) {
+
+    /**
+     * ジョブの状態からレスポンスを生成します。
+     *
+     * @param message メッセージ
+     * @param job     ジョブ
+     * @return レスポンス
+     */
+    public static ExportJobResponse of(String message, ExportJob job) {
+        return new ExportJobResponse(message, job.id(), job.format(), job.status(), job.totalStudents(),
+                job.processedStudents(), job.progressPercent(), job.errorMessage(), job.createdAt(), job.completedAt());
+    }
+}
@@ -0,0 +1,28 @@
+package raisetech.student.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 複数学生の一括取得用のリクエストDTO
+ */
+@Schema(description = "複数の学生IDを指定して一括取得する際のリクエストDTO")
+public record StudentBatchGetRequest(
+        @ArraySchema(
+                schema = @Schema(description = "学生ID", example = "1001"),
+                arraySchema = @Schema(description = "取得する学生IDの配列（最大" + StudentBatchGetRequest.MAX_IDS + "件）")
+        )
+        @NotEmpty(message = "学生IDを1件以上指定してください")
+        @Size(max = StudentBatchGetRequest.MAX_IDS, message = "一度に指定できる学生IDは" + StudentBatchGetRequest.MAX_IDS + "件までです")
+        List<@NotNull @Min(value = 1, message = "IDは1以上である必要があります") Long> ids
+) {
+
+    // 1リクエストで指定できる学生IDの最大件数
+    public static final int MAX_IDS = 500;
+}
@@ -0,0 +1,37 @@
+package raisetech.student.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import raisetech.student.domain.StudentDetail;
+
+import java.util.List;
+
+/**
+ * 複数学生の一括取得用のレスポンスDTO
+ */
+@Schema(description = "複数学生の一括取得用レスポンスDTO")
+public record StudentBatchGetResponse(
+        @Schema(description = "処理結果のメッセージ", example = "指定されたIDの学生を取得しました") String message,
+
+        @ArraySchema(
+                schema = @Schema(implementation = Item.class),
+                arraySchema = @Schema(description = "リクエストで指定された順序の取得結果")
+        )
+        List<Item> data
+) {
+
+    /**
+     * 学生ID1件分の取得結果。
+     *
+     * @param id    リクエストで指定された学生ID
+     * @param found 学生が存在した場合はtrue
+     * @param data  学生詳細情報（存在しない場合はnull）
+     */
+    @Schema(description = "学生ID1件分の取得結果")
+    public record Item(
+            @Schema(description = "学生ID", example = "1001") Long id,
+            @Schema(description = "学生が存在したかどうか", example = "true") boolean found,
+            @Schema(description = "学生詳細情報（存在しない場合はnull）") StudentDetail data
+    ) {
+    }
+}
@@ -0,0 +1,64 @@
+package raisetech.student.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 複数学生の一括削除・一括復元用のリクエストDTO
+ * 対象は学生IDのリスト（ids）か絞り込み条件（filter）のどちらか一方で指定します。
+ */
+@Schema(description = "複数学生の一括削除・一括復元用のリクエストDTO（ids か filter のどちらか一方を指定）")
+public record StudentBulkUpdateRequest(
+        @ArraySchema(
+                schema = @Schema(description = "学生ID", example = "1001"),
+                arraySchema = @Schema(description = "対象の学生IDの配列（最大" + StudentBulkUpdateRequest.MAX_TARGETS + "件）")
+        )
+        @Size(max = StudentBulkUpdateRequest.MAX_TARGETS,
+                message = "一度に指定できる学生IDは" + StudentBulkUpdateRequest.MAX_TARGETS + "件までです")
+        List<@NotNull @Min(value = 1, message = "IDは1以上である必要があります") Long> ids,
+
+        @Schema(description = "対象の学生の絞り込み条件")
+        @Valid
+        Filter filter
+) {
+
+    // 1リクエストで処理する学生の最大件数（絞り込み条件の場合、残りは hasMore=true として次のリクエストで処理する）
+    public static final int MAX_TARGETS = 5000;
+
+    @JsonIgnore
+    @AssertTrue(message = "学生ID（ids）または絞り込み条件（filter）のどちらか一方を指定してください")
+    public boolean isTargetSpecified() {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        return hasIds != (filter != null);
+    }
+
+    /**
+     * 一括削除・一括復元の対象の絞り込み条件（指定した条件はすべて満たす必要があります）。
+     *
+     * @param area              住所（エリア）
+     * @param courseName        受講しているコース名
+     * @param courseEndedBefore この日付より前に終了したコースを受講している（courseName と同時に指定した場合は同じコース）
+     */
+    @Schema(description = "一括削除・一括復元の対象の絞り込み条件（1つ以上指定）")
+    public record Filter(
+            @Schema(description = "住所（エリア）", example = "東京都") String area,
+            @Schema(description = "受講しているコース名", example = "Javaコース") String courseName,
+            @Schema(description = "この日付より前に終了したコースを受講している", example = "2025-04-01") LocalDate courseEndedBefore
+    ) {
+
+        @JsonIgnore
+        @AssertTrue(message = "絞り込み条件を1つ以上指定してください")
+        public boolean isCriteriaSpecified() {
+            return area != null || courseName != null || courseEndedBefore != null;
+        }
+    }
+}
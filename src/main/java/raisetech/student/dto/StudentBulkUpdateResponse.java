@@ -0,0 +1,65 @@
+package raisetech.student.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import raisetech.student.domain.BulkUpdateOutcome;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 複数学生の一括削除・一括復元用のレスポンスDTO
+ */
+@Schema(description = "複数学生の一括削除・一括復元用のレスポンスDTO")
+public record StudentBulkUpdateResponse(
+        @Schema(description = "処理結果のメッセージ", example = "学生を一括削除しました") String message,
+        @Schema(description = "削除フラグを変更した件数", example = "120") int updated,
+        @Schema(description = "すでに目的の状態だったため変更しなかった件数", example = "3") int unchanged,
+        @Schema(description = "存在しなかった件数", example = "1") int notFound,
+        @Schema(description = "絞り込み条件に一致する学生が残っている場合はtrue（同じリクエストを再送して続きを処理します）",
+                example = "false") boolean hasMore,
+
+        @ArraySchema(
+                schema = @Schema(implementation = Item.class),
+                arraySchema = @Schema(description = "学生ごとの処理結果（学生IDを指定した場合は指定された順序）")
+        )
+        List<Item> results
+) {
+
+    /**
+     * 学生ごとの処理結果からレスポンスを生成します。
+     *
+     * @param message  メッセージ
+     * @param outcomes 学生IDごとの処理結果（処理順）
+     * @param hasMore  処理していない対象が残っている場合はtrue
+     * @return レスポンス
+     */
+    public static StudentBulkUpdateResponse of(String message, Map<Long, BulkUpdateOutcome> outcomes, boolean hasMore) {
+        List<Item> results = outcomes.entrySet().stream()
+                .map(entry -> new Item(entry.getKey(), entry.getValue()))
+                .toList();
+        return new StudentBulkUpdateResponse(message,
+                count(results, BulkUpdateOutcome.UPDATED),
+                count(results, BulkUpdateOutcome.UNCHANGED),
+                count(results, BulkUpdateOutcome.NOT_FOUND),
+                hasMore, results);
+    }
+
+    private static int count(List<Item> results, BulkUpdateOutcome outcome) {
+        return (int) results.stream().filter(item -> item.outcome() == outcome).count();
+    }
+
+    /**
+     * 学生1件分の処理結果。
+     *
+     * @param id      学生ID
+     * @param outcome 処理結果
+     */
+    @Schema(description = "学生1件分の処理結果")
+    public record Item(
+            @Schema(description = "学生ID", example = "1001") Long id,
+            @Schema(description = "処理結果（UPDATED: 変更した, UNCHANGED: 変更なし, NOT_FOUND: 存在しない）",
+                    example = "UPDATED") BulkUpdateOutcome outcome
+    ) {
+    }
+}
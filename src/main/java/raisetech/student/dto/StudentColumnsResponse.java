@@ -0,0 +1,13 @@
+package raisetech.student.dto;
+
+import raisetech.student.domain.columnar.StudentColumns;
+
+/**
+ * すべての学生情報取得用のレスポンス（列指向の学生一覧を保持）。
+ * JSONの形式は {@link StudentsResponse} と同じです（APIドキュメントは {@link StudentsResponse} を参照）。
+ *
+ * @param message 処理結果のメッセージ
+ * @param data    学生一覧
+ */
+public record StudentColumnsResponse(String message, StudentColumns data) {
+}
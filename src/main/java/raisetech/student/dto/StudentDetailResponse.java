@@ -0,0 +1,14 @@
+package raisetech.student.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import raisetech.student.domain.StudentDetail;
+
+/**
+ * 特定の学生の詳細情報（学生情報＋コース情報）取得用のレスポンスDTO
+ */
+@Schema(description = "特定の学生の詳細情報取得用のレスポンスDTO")
+public record StudentDetailResponse(
+        @Schema(description = "処理結果のメッセージ", example = "指定されたIDの学生を取得しました") String message,
+        @Schema(description = "学生詳細情報（学生情報と登録されているコース情報）") StudentDetail data
+) {
+}
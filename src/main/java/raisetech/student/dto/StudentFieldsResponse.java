@@ -0,0 +1,22 @@
+package raisetech.student.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * フィールド指定（?fields=）付きの学生一覧取得用のレスポンスDTO
+ */
+@Schema(description = "フィールド指定付きの学生一覧取得用レスポンスDTO")
+public record StudentFieldsResponse(
+        @Schema(description = "処理結果のメッセージ", example = "学生一覧を取得しました") String message,
+
+        @ArraySchema(
+                schema = @Schema(description = "指定されたフィールドのみを含む学生情報"),
+                arraySchema = @Schema(description = "指定されたフィールドのみを含む学生情報の配列")
+        )
+        List<Map<String, Object>> data
+) {
+}
@@ -0,0 +1,17 @@
+package raisetech.student.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 学生の集計結果のレスポンスDTO
+ *
+ * @param <T> 集計結果の1行の型
+ */
+@Schema(description = "学生の集計結果のレスポンスDTO")
+public record StudentStatsResponse<T>(
+        @Schema(description = "処理結果のメッセージ", example = "住所（エリア）ごとの学生数を集計しました") String message,
+        @Schema(description = "集計結果") List<T> data
+) {
+}
@@ -0,0 +1,32 @@
+package raisetech.student.event;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * コース情報の登録・更新・削除により、コースごとの受講者数が増減したことを通知するイベント。
+ * 書き込みを行ったサービスが発行し、受講者数のカウンターがコミット後にこれを反映します。
+ *
+ * @param deltas コース名をキー、受講者数の増減を値とするマップ（増減が0のコースは含まれません）
+ */
+public record CourseEnrollmentChangedEvent(Map<String, Long> deltas) {
+
+    public CourseEnrollmentChangedEvent {
+        Map<String, Long> nonZero = new HashMap<>();
+        deltas.forEach((courseName, delta) -> {
+            if (courseName != null && delta != null && delta != 0) {
+                nonZero.put(courseName, delta);
+            }
+        });
+        deltas = Map.copyOf(nonZero);
+    }
+
+    /**
+     * 受講者数に増減がないかを返します。
+     *
+     * @return 増減がない場合はtrue
+     */
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+}
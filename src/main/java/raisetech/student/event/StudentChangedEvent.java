@@ -0,0 +1,41 @@
+package raisetech.student.event;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 学生データ（学生情報・コース情報）が更新されたことを通知するイベント。
+ * 書き込みを行ったサービスが発行し、キャッシュなどの派生データがこれを受けて無効化されます。
+ *
+ * @param studentIds 変更対象となった学生IDの集合
+ */
+public record StudentChangedEvent(Set<Long> studentIds) {
+
+    public StudentChangedEvent {
+        studentIds = Set.copyOf(studentIds);
+    }
+
+    /**
+     * 単一の学生に対する変更イベントを生成します。
+     *
+     * @param studentId 変更対象の学生ID
+     * @return 変更イベント
+     */
+    public static StudentChangedEvent of(Long studentId) {
+        return new StudentChangedEvent(Set.of(studentId));
+    }
+
+    /**
+     * 複数の学生に対する変更イベントを生成します（nullは除外）。
+     *
+     * @param studentIds 変更対象の学生IDのコレクション
+     * @return 変更イベント
+     */
+    public static StudentChangedEvent of(Collection<Long> studentIds) {
+        return new StudentChangedEvent(studentIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+    }
+}
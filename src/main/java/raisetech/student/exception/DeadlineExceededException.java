@@ -0,0 +1,15 @@
+package raisetech.student.exception;
+
+/**
+ * リクエストの処理期限を過ぎたため、処理を打ち切る場合にスローされる例外クラス。
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
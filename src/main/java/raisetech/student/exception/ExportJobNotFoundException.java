@@ -0,0 +1,11 @@
+package raisetech.student.exception;
+
+/**
+ * エクスポートのジョブが見つからない場合（存在しない、または保存期間を過ぎて削除された場合）にスローされる例外クラス。
+ */
+public class ExportJobNotFoundException extends RuntimeException {
+
+    public ExportJobNotFoundException(String message) {
+        super(message);
+    }
+}
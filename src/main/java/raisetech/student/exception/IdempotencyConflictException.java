@@ -0,0 +1,16 @@
+package raisetech.student.exception;
+
+/**
+ * 冪等キー（Idempotency-Key）が競合した場合にスローされる例外クラス。
+ * 同じキーで異なる内容のリクエストが送信された場合や、同じキーの処理が完了しない場合に使用します。
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+
+    public IdempotencyConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package raisetech.student.exception;
+
+/**
+ * フィールド指定（?fields=）が不正な場合にスローされる例外クラス。
+ */
+public class InvalidFieldsException extends RuntimeException {
+
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+
+    public InvalidFieldsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
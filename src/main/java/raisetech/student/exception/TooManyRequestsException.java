@@ -0,0 +1,19 @@
+package raisetech.student.exception;
+
+/**
+ * リクエストの流量制限・同時実行数制限により受け付けられない場合にスローされる例外クラス。
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    // 再試行までに待つべき秒数（Retry-Afterヘッダに使用）
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,124 @@
+package raisetech.student.export;
+
+import raisetech.student.domain.columnar.StudentListRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 学生一覧をCSV（RFC 4180形式）で書き込むライター。
+ * - Excelで文字化けしないように、UTF-8のBOMを先頭に出力します。改行はCRLFです。
+ * - カンマ・ダブルクォート・改行を含む値はダブルクォートで囲みます。
+ * - 表計算ソフトで数式として解釈される文字（= + - @ タブ 復帰）で始まる文字列は、先頭に ' を付けて文字列として扱わせます。
+ */
+public class CsvStudentExportWriter implements StudentExportWriter {
+
+    private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final Writer writer;
+
+    // 1行分の組み立て用（行ごとに使い回す）
+    private final StringBuilder line = new StringBuilder(256);
+
+    public CsvStudentExportWriter(OutputStream out) throws IOException {
+        out.write(BOM);
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writeHeader(HEADERS);
+    }
+
+    @Override
+    public void writeRow(StudentListRow row) throws IOException {
+        line.setLength(0);
+        line.append(row.id());
+        appendText(row.name());
+        appendText(row.kanaName());
+        appendText(row.nickname());
+        appendText(row.email());
+        appendText(row.area());
+        appendValue(row.age());
+        appendText(row.sex());
+        appendText(row.remark());
+        appendValue(row.courseId());
+        appendText(row.courseName());
+        appendDate(row.courseStartAt());
+        appendDate(row.courseEndAt());
+        line.append("\r\n");
+        writer.append(line);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() {
+        // 出力先はクローズしない（解放する資源なし）
+    }
+
+    private void writeHeader(List<String> headers) throws IOException {
+        line.setLength(0);
+        for (int i = 0; i < headers.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            appendEscaped(headers.get(i));
+        }
+        line.append("\r\n");
+        writer.append(line);
+    }
+
+    private void appendValue(Object value) {
+        line.append(',');
+        if (value != null) {
+            line.append(value);
+        }
+    }
+
+    private void appendDate(LocalDate date) {
+        line.append(',');
+        if (date != null) {
+            line.append(date);
+        }
+    }
+
+    private void appendText(String value) {
+        line.append(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            appendEscaped("'" + value);
+        } else {
+            appendEscaped(value);
+        }
+    }
+
+    private void appendEscaped(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
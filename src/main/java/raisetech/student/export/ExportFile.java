@@ -0,0 +1,13 @@
+package raisetech.student.export;
+
+import java.nio.file.Path;
+
+/**
+ * 出力済みのエクスポートファイル。
+ *
+ * @param path ファイルのパス
+ * @param etag ファイルのETag値（データバージョン・形式・起動ごとに異なる）
+ * @param size ファイルサイズ（バイト）
+ */
+public record ExportFile(Path path, String etag, long size) {
+}
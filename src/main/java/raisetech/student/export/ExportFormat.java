@@ -0,0 +1,57 @@
+package raisetech.student.export;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 学生一覧のエクスポート形式。
+ */
+public enum ExportFormat {
+
+    /**
+     * CSV（UTF-8・BOM付き、改行はCRLF）。
+     */
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+
+    /**
+     * Excel（xlsx）。
+     */
+    XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+
+    private final String extension;
+
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * ファイルの拡張子（ドットを含まない）を返します。
+     */
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * この形式で書き込むライターを生成します。
+     *
+     * @param out 出力先（ライターはクローズしません）
+     * @return ライター（見出し行は出力済み）
+     * @throws IOException 出力に失敗した場合
+     */
+    public StudentExportWriter newWriter(OutputStream out) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvStudentExportWriter(out);
+            case XLSX -> new XlsxStudentExportWriter(out);
+        };
+    }
+}
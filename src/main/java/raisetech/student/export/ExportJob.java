@@ -0,0 +1,63 @@
+package raisetech.student.export;
+
+import java.time.Instant;
+
+/**
+ * 非同期エクスポートのジョブ。
+ *
+ * @param id                ジョブID（UUID）
+ * @param format            出力形式
+ * @param status            状態
+ * @param totalStudents     出力対象の学生数（実行開始前はnull）
+ * @param processedStudents 出力済みの学生数
+ * @param fileName          出力ファイル名（出力ディレクトリからの相対パス。完了前はnull）
+ * @param fileSize          出力ファイルのサイズ（バイト。完了前はnull）
+ * @param errorMessage      失敗時のエラーメッセージ
+ * @param createdAt         登録日時
+ * @param updatedAt         更新日時（進捗の更新を含む）
+ * @param completedAt       完了・失敗した日時
+ */
+public record ExportJob(
+        String id,
+        ExportFormat format,
+        ExportJobStatus status,
+        Long totalStudents,
+        long processedStudents,
+        String fileName,
+        Long fileSize,
+        String errorMessage,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant completedAt
+) {
+
+    /**
+     * 実行待ちのジョブを生成します。
+     *
+     * @param id     ジョブID
+     * @param format 出力形式
+     * @param now    登録日時
+     * @return 実行待ちのジョブ
+     */
+    public static ExportJob queued(String id, ExportFormat format, Instant now) {
+        return new ExportJob(id, format, ExportJobStatus.QUEUED, null, 0, null, null, null, now, now, null);
+    }
+
+    /**
+     * 進捗率（0〜100）を返します。
+     *
+     * @return 進捗率（出力対象の学生数が未確定の場合はnull）
+     */
+    public Integer progressPercent() {
+        if (status == ExportJobStatus.COMPLETED) {
+            return 100;
+        }
+        if (totalStudents == null) {
+            return null;
+        }
+        if (totalStudents == 0) {
+            return 0;
+        }
+        return (int) Math.min(99, processedStudents * 100 / totalStudents);
+    }
+}
@@ -0,0 +1,28 @@
+package raisetech.student.export;
+
+/**
+ * 非同期エクスポートのジョブの状態。
+ * QUEUED → RUNNING → COMPLETED / FAILED の順に遷移します（再起動で中断したRUNNINGのジョブはQUEUEDに戻します）。
+ */
+public enum ExportJobStatus {
+
+    /**
+     * 実行待ち。
+     */
+    QUEUED,
+
+    /**
+     * 実行中。
+     */
+    RUNNING,
+
+    /**
+     * 完了（ファイルをダウンロード可能）。
+     */
+    COMPLETED,
+
+    /**
+     * 失敗。
+     */
+    FAILED
+}
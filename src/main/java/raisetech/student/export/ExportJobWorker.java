@@ -0,0 +1,323 @@
+package raisetech.student.export;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.domain.columnar.StudentListRow;
+import raisetech.student.repository.ExportJobRepository;
+import raisetech.student.repository.StudentCourseRepository;
+import raisetech.student.repository.StudentRepository;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 非同期エクスポートのジョブを実行するワーカー。
+ * - ジョブは上限付きのスレッドプール（{@code student.export-jobs.workers}）で実行し、待ち行列（{@code queue-capacity}）が
+ *   いっぱいの場合は受け付けません（{@link #trySubmit} がfalseを返します）。
+ * - 学生は学生IDのキーセット方式で {@code chunk-size} 件ずつ読み出し、コース情報はチャンクごとに一括取得します。
+ *   チャンクごとに別のクエリのため、出力中の更新はチャンク単位で反映されます（全体で1つのスナップショットにはなりません）。
+ * - 出力は一時ファイル（.part）に書き込み、完了後にリネームします。CSVはgzipで圧縮して保存します（xlsxは圧縮済みの形式のため、そのまま保存）。
+ * - ジョブの状態はDB（export_jobs）に保存します。停止で中断したジョブは、次回の起動時に最初から実行し直します。
+ * - 完了・失敗したジョブは {@code retention} を過ぎるとファイルと共に削除します。
+ * 出力ファイルはローカルディスクに保存するため、単一インスタンスでの運用を前提とします。
+ */
+@Slf4j
+@Component
+public class ExportJobWorker {
+
+    // export_jobs.error_message の列の長さ（V6__create_export_jobs.sql）
+    static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private final ExportJobRepository exportJobRepository;
+
+    private final StudentRepository studentRepository;
+
+    private final StudentCourseRepository studentCourseRepository;
+
+    private final Path directory;
+
+    private final int chunkSize;
+
+    private final Duration retention;
+
+    private final ThreadPoolExecutor executor;
+
+    // 実行待ち・実行中としてスレッドプールに渡したジョブID（同じジョブを二重に渡さないため）
+    private final Set<String> dispatched = ConcurrentHashMap.newKeySet();
+
+    public ExportJobWorker(ExportJobRepository exportJobRepository,
+                           StudentRepository studentRepository,
+                           StudentCourseRepository studentCourseRepository,
+                           @Value("${student.export-jobs.dir:export-jobs}") Path directory,
+                           @Value("${student.export-jobs.workers:2}") int workers,
+                           @Value("${student.export-jobs.queue-capacity:20}") int queueCapacity,
+                           @Value("${student.export-jobs.chunk-size:1000}") int chunkSize,
+                           @Value("${student.export-jobs.retention:PT24H}") Duration retention) {
+        this.exportJobRepository = exportJobRepository;
+        this.studentRepository = studentRepository;
+        this.studentCourseRepository = studentCourseRepository;
+        this.directory = directory;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "export-job-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * ジョブをスレッドプールに渡します。
+     *
+     * @param jobId ジョブID
+     * @return 受け付けた（またはすでに受け付け済みの）場合はtrue、待ち行列がいっぱいの場合はfalse
+     */
+    public boolean trySubmit(String jobId) {
+        if (!dispatched.add(jobId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    execute(jobId);
+                } finally {
+                    dispatched.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            dispatched.remove(jobId);
+            return false;
+        }
+    }
+
+    /**
+     * ジョブを実行します（実行待ちでない場合は何もしません）。
+     * 失敗した場合はジョブを失敗にします（エラーメッセージは列の長さに切り詰めます）。停止による中断の場合は実行中のまま残し、次回の起動時に実行し直します。
+     *
+     * @param jobId ジョブID
+     */
+    public void execute(String jobId) {
+        if (exportJobRepository.markRunning(jobId, Instant.now()) == 0) {
+            return;
+        }
+        ExportJob job = exportJobRepository.findById(jobId).orElseThrow();
+        log.info("エクスポートジョブを開始しました。id={}, format={}", jobId, job.format());
+        try {
+            ExportFile file = writeFile(job);
+            exportJobRepository.markCompleted(jobId, file.path().getFileName().toString(), file.size(), Instant.now());
+            log.info("エクスポートジョブが完了しました。id={}, size={}", jobId, file.size());
+        } catch (InterruptedIOException e) {
+            log.info("エクスポートジョブを中断しました。次回の起動時に再実行します。id={}", jobId);
+        } catch (IOException | RuntimeException e) {
+            // 停止（shutdownNow）による割り込みは、JDBCドライバーなどで別の例外に包まれて届く場合もあるため、
+            // 割り込み・停止中の失敗は中断として扱い、実行中のまま残す（次回の起動時に実行し直す）
+            if (Thread.currentThread().isInterrupted() || executor.isShutdown()) {
+                log.info("エクスポートジョブを中断しました。次回の起動時に再実行します。id={}", jobId, e);
+                return;
+            }
+            log.error("エクスポートジョブが失敗しました。id={}", jobId, e);
+            markFailed(jobId, e);
+        }
+    }
+
+    // 失敗の記録に失敗した場合も、ジョブが実行中のまま残らないよう例外の種類だけを記録し直す
+    private void markFailed(String jobId, Exception cause) {
+        try {
+            exportJobRepository.markFailed(jobId, truncate(String.valueOf(cause.getMessage())), Instant.now());
+        } catch (RuntimeException e) {
+            log.warn("エクスポートジョブの失敗の記録に失敗しました。例外の種類だけを記録し直します。id={}", jobId, e);
+            try {
+                exportJobRepository.markFailed(jobId, cause.getClass().getName(), Instant.now());
+            } catch (RuntimeException retry) {
+                log.error("エクスポートジョブの失敗を記録できませんでした。id={}", jobId, retry);
+            }
+        }
+    }
+
+    // エラーメッセージを列の長さに収める（サロゲートペアの途中では切らない）
+    static String truncate(String message) {
+        if (message.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return message;
+        }
+        int end = MAX_ERROR_MESSAGE_LENGTH;
+        if (Character.isHighSurrogate(message.charAt(end - 1))) {
+            end--;
+        }
+        return message.substring(0, end);
+    }
+
+    /**
+     * 完了したジョブの出力ファイルのパスを返します。
+     *
+     * @param job 完了したジョブ
+     * @return 出力ファイルのパス
+     */
+    public Path resolve(ExportJob job) {
+        return directory.resolve(job.fileName());
+    }
+
+    /**
+     * 起動時に、前回の停止で中断したジョブと実行待ちのジョブを再開します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeJobs() {
+        int requeued = exportJobRepository.requeueRunning(Instant.now());
+        if (requeued > 0) {
+            log.info("中断したエクスポートジョブを実行待ちに戻しました。件数={}", requeued);
+        }
+        dispatchQueued();
+    }
+
+    /**
+     * 実行待ちのジョブを登録順にスレッドプールへ渡します（待ち行列がいっぱいの場合、残りは次回に渡します）。
+     *
+     * @return 渡したジョブの数
+     */
+    @Scheduled(initialDelayString = "${student.export-jobs.dispatch-interval:PT30S}",
+            fixedDelayString = "${student.export-jobs.dispatch-interval:PT30S}")
+    public int dispatchQueued() {
+        int submitted = 0;
+        for (ExportJob job : exportJobRepository.findByStatus(ExportJobStatus.QUEUED)) {
+            if (!trySubmit(job.id())) {
+                break;
+            }
+            submitted++;
+        }
+        return submitted;
+    }
+
+    /**
+     * 保存期間を過ぎた完了・失敗したジョブを、出力ファイルと共に削除します。
+     *
+     * @return 削除したジョブの数
+     */
+    @Scheduled(initialDelayString = "${student.export-jobs.purge-interval:PT1H}",
+            fixedDelayString = "${student.export-jobs.purge-interval:PT1H}")
+    public int purgeExpired() {
+        int purged = 0;
+        for (ExportJob job : exportJobRepository.findFinishedBefore(Instant.now().minus(retention))) {
+            try {
+                if (job.fileName() != null) {
+                    Files.deleteIfExists(resolve(job));
+                }
+                purged += exportJobRepository.deleteById(job.id());
+            } catch (IOException e) {
+                log.warn("エクスポートファイルの削除に失敗しました。id={}", job.id(), e);
+            }
+        }
+        if (purged > 0) {
+            log.info("保存期間を過ぎたエクスポートジョブを削除しました。件数={}", purged);
+        }
+        return purged;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 実行中のジョブは中断し、次回の起動時に実行し直す
+        executor.shutdownNow();
+    }
+
+    /**
+     * CSVはgzipで圧縮して保存するかを返します。
+     *
+     * @param format 出力形式
+     * @return gzipで圧縮する場合はtrue
+     */
+    public static boolean isGzipped(ExportFormat format) {
+        return format == ExportFormat.CSV;
+    }
+
+    private ExportFile writeFile(ExportJob job) throws IOException {
+        Files.createDirectories(directory);
+        String fileName = job.id() + "." + job.format().extension() + (isGzipped(job.format()) ? ".gz" : "");
+        Path part = directory.resolve(job.id() + ".part");
+        try {
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(part), 64 * 1024);
+                 OutputStream out = isGzipped(job.format()) ? new GZIPOutputStream(file, 64 * 1024) : file;
+                 StudentExportWriter writer = job.format().newWriter(out)) {
+                writeRows(job.id(), writer);
+                writer.finish();
+            }
+            Path target = directory.resolve(fileName);
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return new ExportFile(target, "\"" + fileName + "\"", Files.size(target));
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    // 学生IDのキーセット方式でチャンクごとに読み出し、チャンクごとに進捗を更新する
+    private void writeRows(String jobId, StudentExportWriter writer) throws IOException {
+        long total = studentRepository.countActiveStudents();
+        exportJobRepository.updateProgress(jobId, total, 0, Instant.now());
+        long processed = 0;
+        long afterId = 0;
+        while (true) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("エクスポートジョブが中断されました");
+            }
+            List<Student> students = studentRepository.findActiveStudentsAfter(afterId, chunkSize);
+            if (students.isEmpty()) {
+                break;
+            }
+            Map<Long, List<StudentCourse>> courses = studentCourseRepository.findByStudentIds(
+                            students.stream().map(Student::getId).toList()).stream()
+                    .collect(Collectors.groupingBy(StudentCourse::getStudentId));
+            for (Student student : students) {
+                List<StudentCourse> studentCourses = courses.getOrDefault(student.getId(), List.of());
+                if (studentCourses.isEmpty()) {
+                    writer.writeRow(toRow(student, null));
+                }
+                for (StudentCourse course : studentCourses) {
+                    writer.writeRow(toRow(student, course));
+                }
+            }
+            processed += students.size();
+            // 件数の取得後に登録された学生も出力するため、出力済みの件数が上回った場合は合わせる
+            total = Math.max(total, processed);
+            exportJobRepository.updateProgress(jobId, total, processed, Instant.now());
+            afterId = students.get(students.size() - 1).getId();
+            if (students.size() < chunkSize) {
+                break;
+            }
+        }
+    }
+
+    private static StudentListRow toRow(Student student, StudentCourse course) {
+        return new StudentListRow(student.getId(), student.getName(), student.getKanaName(), student.getNickname(),
+                student.getEmail(), student.getArea(), student.getAge(), student.getSex(), student.getRemark(),
+                Boolean.TRUE.equals(student.getDeleted()),
+                course != null ? course.getId() : null,
+                course != null ? course.getCourseName() : null,
+                course != null ? course.getCourseStartAt() : null,
+                course != null ? course.getCourseEndAt() : null);
+    }
+}
@@ -0,0 +1,362 @@
+package raisetech.student.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import raisetech.student.deadline.RequestDeadline;
+import raisetech.student.event.StudentChangedEvent;
+import raisetech.student.exception.DeadlineExceededException;
+import raisetech.student.exception.TooManyRequestsException;
+import raisetech.student.service.StudentExportService;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 学生一覧のエクスポートファイルを、データバージョン・形式ごとにローカルディスクへ保存して再利用するストア。
+ * - 最初のダウンロードは、生成しながらクライアントへ送信し、同じ内容をファイルにも書き込みます（{@link #tryStream}）。
+ *   クライアントが途中で切断しても生成は最後まで続けるため、再開（Range）のリクエストには同じ内容のファイルで応答できます。
+ * - 同じデータバージョン・形式の生成は同時に1つだけ行い、他のリクエストは完了を待ってファイルを共有します
+ *   （xlsxは生成のたびにバイト列が変わり得るため、同じETagで異なる内容を返さないようにする）。
+ *   完了を待つのはリクエストの処理期限までです（期限を過ぎた場合は {@link DeadlineExceededException} をスローします）。
+ * - データバージョンは {@link StudentChangedEvent} を受けるたび（コミット後）に進み、古いファイルは次の生成時に削除します。
+ * - 生成の同時実行数は {@code student.export.max-concurrent} で制限し、超えた場合は {@link TooManyRequestsException} をスローします。
+ * ETagには起動ごとの識別子を含めるため、再起動後や別インスタンスのファイルとは一致しません（再開時は全体を返します）。
+ */
+@Slf4j
+@Component
+public class StudentExportFileStore {
+
+    private static final String FILE_PREFIX = "students-";
+
+    private final StudentExportService studentExportService;
+
+    private final Path directory;
+
+    private final Semaphore permits;
+
+    // 起動ごとの識別子
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final AtomicLong version = new AtomicLong();
+
+    // 生成中のファイル（キー: ファイル名）
+    private final ConcurrentHashMap<String, CompletableFuture<ExportFile>> generating = new ConcurrentHashMap<>();
+
+    public StudentExportFileStore(StudentExportService studentExportService,
+                                  @Value("${student.export.dir:${java.io.tmpdir}/student-exports}") Path directory,
+                                  @Value("${student.export.max-concurrent:2}") int maxConcurrent) {
+        this.studentExportService = studentExportService;
+        this.directory = directory;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 現在のデータバージョンの出力済みファイルを返します。
+     *
+     * @param format 出力形式
+     * @return 出力済みファイル（未生成・生成中の場合は空）
+     */
+    public Optional<ExportFile> current(ExportFormat format) {
+        return find(format, version.get());
+    }
+
+    /**
+     * 現在のデータバージョンのファイルを返します。存在しない場合は生成し（他のリクエストが生成中の場合はその完了を待ち）ます。
+     *
+     * @param format 出力形式
+     * @return 出力済みファイル
+     * @throws IOException 出力に失敗した場合
+     */
+    public ExportFile getOrGenerate(ExportFormat format) throws IOException {
+        long observedVersion = version.get();
+        String fileName = fileName(format, observedVersion);
+        while (true) {
+            Optional<ExportFile> existing = find(format, observedVersion);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+            CompletableFuture<ExportFile> running = generating.get(fileName);
+            if (running != null) {
+                ExportFile file = await(running);
+                if (file != null) {
+                    return file;
+                }
+                // 生成が取り消された（送信されないまま終了した）場合は、改めて生成する
+                continue;
+            }
+            CompletableFuture<ExportFile> mine = new CompletableFuture<>();
+            if (generating.putIfAbsent(fileName, mine) != null) {
+                continue;
+            }
+            try {
+                // 登録までの間に他のリクエストが生成を終えている場合はそれを使う
+                Optional<ExportFile> generated = find(format, observedVersion);
+                if (generated.isPresent()) {
+                    mine.complete(generated.get());
+                    return generated.get();
+                }
+                acquirePermit();
+                try {
+                    ExportFile file = writeFile(format, observedVersion, out -> studentExportService.export(format, out));
+                    mine.complete(file);
+                    return file;
+                } finally {
+                    permits.release();
+                }
+            } catch (IOException | RuntimeException e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                generating.remove(fileName, mine);
+            }
+        }
+    }
+
+    /**
+     * 現在のデータバージョンのファイルを生成しながら送信するレスポンスボディを返します。
+     * 送信した内容は同じ名前のファイルとして保存されます。
+     * 生成の枠（同時実行数・生成中の登録）はこの時点で確保し、レスポンスボディの実行の終了時に解放します。
+     * レスポンスボディが実行されないままリクエストが終了した場合は、呼び出し元が {@link ExportStream#abandon()} で解放してください
+     * （実行が始まった後の呼び出しは何もしません）。
+     *
+     * @param format 出力形式
+     * @return 送信用のレスポンスボディ（すでに生成済み・生成中の場合は空）
+     * @throws TooManyRequestsException 生成の同時実行数の上限に達している場合
+     */
+    public Optional<ExportStream> tryStream(ExportFormat format) {
+        long observedVersion = version.get();
+        String fileName = fileName(format, observedVersion);
+        CompletableFuture<ExportFile> mine = new CompletableFuture<>();
+        if (generating.putIfAbsent(fileName, mine) != null) {
+            return Optional.empty();
+        }
+        Optional<ExportFile> generated = find(format, observedVersion);
+        if (generated.isPresent()) {
+            mine.complete(generated.get());
+            generating.remove(fileName, mine);
+            return Optional.empty();
+        }
+        try {
+            acquirePermit();
+        } catch (TooManyRequestsException e) {
+            mine.completeExceptionally(e);
+            generating.remove(fileName, mine);
+            throw e;
+        }
+
+        AtomicBoolean claimed = new AtomicBoolean();
+        Runnable abandon = () -> {
+            if (claimed.compareAndSet(false, true)) {
+                permits.release();
+                generating.remove(fileName, mine);
+                mine.cancel(false);
+                log.info("エクスポートの送信が実行されないまま終了したため、生成を取り消しました。file={}", fileName);
+            }
+        };
+        StreamingResponseBody body = client -> {
+            if (!claimed.compareAndSet(false, true)) {
+                // すでに取り消されている（リクエストが終了している）
+                return;
+            }
+            try {
+                ExportFile file = writeFile(format, observedVersion, out -> {
+                    ClientOutputStream copying = new ClientOutputStream(out, client);
+                    studentExportService.export(format, copying);
+                });
+                mine.complete(file);
+            } catch (IOException | RuntimeException e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                permits.release();
+                generating.remove(fileName, mine);
+            }
+        };
+        return Optional.of(new ExportStream(etag(format, observedVersion), body, abandon));
+    }
+
+    /**
+     * 学生データ更新時（トランザクションのコミット後）にデータバージョンを進めます。
+     *
+     * @param event 学生データ変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private Optional<ExportFile> find(ExportFormat format, long dataVersion) {
+        Path path = directory.resolve(fileName(format, dataVersion));
+        try {
+            return Optional.of(new ExportFile(path, etag(format, dataVersion), Files.size(path)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private ExportFile writeFile(ExportFormat format, long dataVersion, ExportWriting writing) throws IOException {
+        Files.createDirectories(directory);
+        Path part = Files.createTempFile(directory, "export-", ".part");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), 64 * 1024)) {
+                writing.writeTo(out);
+            }
+            Path target = directory.resolve(fileName(format, dataVersion));
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            deleteStaleFiles(dataVersion);
+            log.info("エクスポートファイルを作成しました。file={}, size={}", target.getFileName(), Files.size(target));
+            return new ExportFile(target, etag(format, dataVersion), Files.size(target));
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    // 作成したファイル・現在のデータバージョン以外（前回の起動時のものを含む）のファイルを削除
+    private void deleteStaleFiles(long writtenVersion) {
+        String writtenPrefix = FILE_PREFIX + instanceId + "-" + writtenVersion + ".";
+        String currentPrefix = FILE_PREFIX + instanceId + "-" + version.get() + ".";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (!name.startsWith(writtenPrefix) && !name.startsWith(currentPrefix)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("古いエクスポートファイルの削除に失敗しました。dir={}", directory, e);
+        }
+    }
+
+    private void acquirePermit() {
+        if (!permits.tryAcquire()) {
+            throw new TooManyRequestsException("エクスポートの同時実行数の上限に達しました", 5);
+        }
+    }
+
+    // 他のリクエストによる生成の完了を、リクエストの処理期限まで待つ（生成が取り消された場合はnull）
+    private static ExportFile await(CompletableFuture<ExportFile> running) throws IOException {
+        try {
+            Optional<RequestDeadline> deadline = RequestDeadline.current();
+            if (deadline.isEmpty()) {
+                return running.get();
+            }
+            return running.get(Math.max(deadline.get().remainingNanos(), 0), TimeUnit.NANOSECONDS);
+        } catch (CancellationException e) {
+            return null;
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("エクスポートファイルの生成待ちが処理期限を過ぎました");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("エクスポートファイルの生成待ちが中断されました");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private String fileName(ExportFormat format, long dataVersion) {
+        return FILE_PREFIX + instanceId + "-" + dataVersion + "." + format.extension();
+    }
+
+    private String etag(ExportFormat format, long dataVersion) {
+        return "\"" + fileName(format, dataVersion) + "\"";
+    }
+
+    @FunctionalInterface
+    private interface ExportWriting {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * 生成しながら送信するエクスポート。
+     *
+     * @param etag    生成後のファイルと同じETag値
+     * @param body    送信用のレスポンスボディ
+     * @param abandon レスポンスボディが実行されなかった場合に、確保した生成の枠を解放する処理（何度呼び出してもよい）
+     */
+    public record ExportStream(String etag, StreamingResponseBody body, Runnable abandon) {
+    }
+
+    /**
+     * ファイルへの書き込みと同じ内容をクライアントへ送信する出力ストリーム。
+     * クライアントへの送信に失敗した（切断された）後は、ファイルへの書き込みのみを続けます。
+     */
+    private static final class ClientOutputStream extends FilterOutputStream {
+
+        private final OutputStream client;
+
+        private boolean disconnected;
+
+        private ClientOutputStream(OutputStream file, OutputStream client) {
+            super(file);
+            this.client = client;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (!disconnected) {
+                try {
+                    client.write(b);
+                } catch (IOException e) {
+                    disconnect(e);
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (!disconnected) {
+                try {
+                    client.write(b, off, len);
+                } catch (IOException e) {
+                    disconnect(e);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+            if (!disconnected) {
+                try {
+                    client.flush();
+                } catch (IOException e) {
+                    disconnect(e);
+                }
+            }
+        }
+
+        private void disconnect(IOException e) {
+            disconnected = true;
+            log.info("エクスポートの送信中にクライアントが切断されました。ファイルの生成は続けます: {}", e.getMessage());
+        }
+    }
+}
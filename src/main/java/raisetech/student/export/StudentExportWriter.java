@@ -0,0 +1,36 @@
+package raisetech.student.export;
+
+import raisetech.student.domain.columnar.StudentListRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 学生一覧（学生とコース情報を結合した1行ずつ）をファイル形式で書き込むライター。
+ * 1行ごとに書き込み、一覧全体を保持しません。スレッドセーフではありません。
+ * {@link #finish()} で残りの内容を出力し、{@link #close()} で一時的な資源を解放します（出力先はクローズしません）。
+ */
+public interface StudentExportWriter extends Closeable {
+
+    /**
+     * 見出し行。コース情報のない学生はコースの列を空欄とします。
+     */
+    List<String> HEADERS = List.of("学生ID", "氏名", "カナ名", "ニックネーム", "メールアドレス", "住所", "年齢", "性別", "備考",
+            "コースID", "コース名", "受講開始日", "受講終了日");
+
+    /**
+     * 1行分を書き込みます。
+     *
+     * @param row 学生とコース情報1件
+     * @throws IOException 出力に失敗した場合
+     */
+    void writeRow(StudentListRow row) throws IOException;
+
+    /**
+     * 未出力の内容を書き込み、出力先をフラッシュします。
+     *
+     * @throws IOException 出力に失敗した場合
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,122 @@
+package raisetech.student.export;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import raisetech.student.domain.columnar.StudentListRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * 学生一覧をExcel（xlsx）形式で書き込むライター。
+ * Apache POIのストリーミング形式（SXSSF）を使用し、メモリ上には直近 {@link #ROW_ACCESS_WINDOW} 行のみを保持します
+ * （それより前の行は一時ファイルへ書き出されます）。文字列は共有文字列表を使わずセルに直接保持します。
+ * 1シートの最大行数を超える場合は、次のシートへ続けて書き込みます。
+ * xlsxはZIP形式のため、内容は {@link #finish()} の時点でまとめて出力されます。
+ */
+public class XlsxStudentExportWriter implements StudentExportWriter {
+
+    /**
+     * メモリ上に保持する行数。
+     */
+    static final int ROW_ACCESS_WINDOW = 100;
+
+    private static final String SHEET_NAME = "学生一覧";
+
+    private final OutputStream out;
+
+    private final SXSSFWorkbook workbook;
+
+    private final CellStyle dateStyle;
+
+    // 1シートに書き込む最大行数（見出し行を含む）
+    private final int maxRowsPerSheet;
+
+    private SXSSFSheet sheet;
+
+    private int sheetCount;
+
+    private int rowIndex;
+
+    public XlsxStudentExportWriter(OutputStream out) {
+        this(out, SpreadsheetVersion.EXCEL2007.getMaxRows());
+    }
+
+    XlsxStudentExportWriter(OutputStream out, int maxRowsPerSheet) {
+        this.out = out;
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        // 一時ファイルを圧縮し、大量の行を書き込む場合のディスク使用量を抑える
+        workbook.setCompressTempFiles(true);
+        this.dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+        nextSheet();
+    }
+
+    @Override
+    public void writeRow(StudentListRow row) {
+        if (rowIndex >= maxRowsPerSheet) {
+            nextSheet();
+        }
+        Row r = sheet.createRow(rowIndex++);
+        r.createCell(0).setCellValue(row.id());
+        setText(r, 1, row.name());
+        setText(r, 2, row.kanaName());
+        setText(r, 3, row.nickname());
+        setText(r, 4, row.email());
+        setText(r, 5, row.area());
+        if (row.age() != null) {
+            r.createCell(6).setCellValue(row.age());
+        }
+        setText(r, 7, row.sex());
+        setText(r, 8, row.remark());
+        if (row.courseId() != null) {
+            r.createCell(9).setCellValue(row.courseId());
+        }
+        setText(r, 10, row.courseName());
+        setDate(r, 11, row.courseStartAt());
+        setDate(r, 12, row.courseEndAt());
+    }
+
+    @Override
+    public void finish() throws IOException {
+        workbook.write(out);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // 一時ファイルを削除する
+        workbook.dispose();
+        workbook.close();
+    }
+
+    private void nextSheet() {
+        sheetCount++;
+        sheet = workbook.createSheet(sheetCount == 1 ? SHEET_NAME : SHEET_NAME + " (" + sheetCount + ")");
+        rowIndex = 0;
+        Row header = sheet.createRow(rowIndex++);
+        for (int i = 0; i < HEADERS.size(); i++) {
+            header.createCell(i).setCellValue(HEADERS.get(i));
+        }
+    }
+
+    private static void setText(Row row, int column, String value) {
+        if (value != null) {
+            row.createCell(column).setCellValue(value);
+        }
+    }
+
+    private void setDate(Row row, int column, LocalDate value) {
+        if (value != null) {
+            Cell cell = row.createCell(column);
+            cell.setCellValue(value);
+            cell.setCellStyle(dateStyle);
+        }
+    }
+}
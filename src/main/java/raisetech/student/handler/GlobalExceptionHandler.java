@@ -3,6 +3,8 @@ package raisetech.student.handler;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -11,10 +13,16 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 import raisetech.student.dto.ErrorResponse;
+import raisetech.student.exception.DeadlineExceededException;
+import raisetech.student.exception.ExportJobNotFoundException;
+import raisetech.student.exception.IdempotencyConflictException;
+import raisetech.student.exception.InvalidFieldsException;
 import raisetech.student.exception.StudentNotFoundException;
+import raisetech.student.exception.TooManyRequestsException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -117,6 +125,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * パラメータの形式が正しくない場合（MethodArgumentTypeMismatchException）のハンドリング。
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        log.warn("【パラメータ形式エラー】: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "パラメータの形式が正しくありません。",
+                ex.getName() + ": " + ex.getValue()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     /**
      * 最大アップロードサイズ超過時のハンドリング（MaxUploadSizeExceededException）。
      */
@@ -164,6 +186,104 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    /**
+     * エクスポートのジョブが見つからない場合（ExportJobNotFoundException）のハンドリング。
+     *
+     * @param ex ExportJobNotFoundException
+     * @return HTTP 404 NOT_FOUND とエラーレスポンス
+     */
+    @ExceptionHandler(ExportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleExportJobNotFoundException(ExportJobNotFoundException ex) {
+        log.warn("【ExportJobNotFoundException】: {}", ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "エクスポートジョブが見つかりませんでした。",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    /**
+     * フィールド指定が不正な場合（InvalidFieldsException）のハンドリング。
+     *
+     * @param ex InvalidFieldsException
+     * @return HTTP 400 BAD_REQUEST とエラーレスポンス
+     */
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFieldsException(InvalidFieldsException ex) {
+        log.warn("【フィールド指定エラー】: {}", ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "フィールドの指定が正しくありません。",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * 流量制限・同時実行数制限によりリクエストを受け付けられない場合（TooManyRequestsException）のハンドリング。
+     *
+     * @param ex TooManyRequestsException
+     * @return HTTP 429 TOO_MANY_REQUESTS とエラーレスポンス（Retry-After ヘッダ付き）
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex) {
+        log.warn("【リクエスト制限】: {}", ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "リクエストが集中しています。しばらく待ってから再度お試しください。",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    /**
+     * リクエストの処理期限切れ（DeadlineExceededException）およびクエリタイムアウト（QueryTimeoutException）のハンドリング。
+     * クライアントが待つのをやめた処理や、DBの応答遅延で期限内に終わらなかった処理が該当します。
+     *
+     * @param ex DeadlineExceededException または QueryTimeoutException
+     * @return HTTP 503 SERVICE_UNAVAILABLE とエラーレスポンス
+     */
+    @ExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleDeadlineExceededException(RuntimeException ex) {
+        log.warn("【処理期限切れ】: {}", ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "処理が時間内に完了しませんでした。しばらく待ってから再度お試しください。",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    /**
+     * 冪等キーが競合した場合（IdempotencyConflictException）のハンドリング。
+     *
+     * @param ex IdempotencyConflictException
+     * @return HTTP 409 CONFLICT とエラーレスポンス
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyConflictException(IdempotencyConflictException ex) {
+        log.warn("【冪等キー競合】: {}", ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "同じ冪等キーのリクエストと内容が一致しないか、処理が完了していません。",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     /**
      * その他の予期しない例外のハンドリング。
      *
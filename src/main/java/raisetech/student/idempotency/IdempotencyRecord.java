@@ -0,0 +1,55 @@
+package raisetech.student.idempotency;
+
+import java.time.Instant;
+
+/**
+ * 冪等キーに対応する処理結果（保存済みのレスポンス）、または処理中であることを示す記録。
+ *
+ * @param idempotencyKey 操作名を含む冪等キー（例: "POST /api/students:3f2a..."）
+ * @param requestHash    リクエスト内容のハッシュ（同じキーで異なる内容が送られた場合の検出に使用）
+ * @param responseStatus HTTPステータスコード（処理中の場合は {@value #PENDING_STATUS}）
+ * @param responseBody   レスポンスボディ（JSON。処理中の場合は空）
+ * @param expiresAt      有効期限（処理中の場合は、処理したサーバーが停止した場合に他のサーバーで再実行できるようになる時刻）
+ */
+public record IdempotencyRecord(
+        String idempotencyKey,
+        String requestHash,
+        int responseStatus,
+        byte[] responseBody,
+        Instant expiresAt
+) {
+
+    // 処理中（結果が未保存）であることを示すステータス
+    public static final int PENDING_STATUS = 0;
+
+    /**
+     * 処理中であることを示す記録を生成します。
+     *
+     * @param idempotencyKey 冪等キー
+     * @param requestHash    リクエスト内容のハッシュ
+     * @param expiresAt      有効期限
+     * @return 処理中の記録
+     */
+    public static IdempotencyRecord pending(String idempotencyKey, String requestHash, Instant expiresAt) {
+        return new IdempotencyRecord(idempotencyKey, requestHash, PENDING_STATUS, new byte[0], expiresAt);
+    }
+
+    /**
+     * 処理中（結果が未保存）の記録かを返します。
+     *
+     * @return 処理中の場合はtrue
+     */
+    public boolean isPending() {
+        return responseStatus == PENDING_STATUS;
+    }
+
+    /**
+     * 有効期限を過ぎているかを返します。
+     *
+     * @param now 現在時刻
+     * @return 期限切れの場合はtrue
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
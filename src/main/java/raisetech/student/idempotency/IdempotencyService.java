@@ -0,0 +1,305 @@
+package raisetech.student.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.student.exception.IdempotencyConflictException;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 冪等キー（Idempotency-Key ヘッダ）による更新系リクエストの重複実行防止を行うサービス。
+ * - 同じキーの処理結果が保存されていれば、処理を実行せずに保存済みのレスポンスを返します。
+ * - 同じキーの処理が実行中であれば、その完了を待って同じレスポンスを返します（二重に実行しない）。
+ *   処理の開始前にストアへ処理中の記録を保存して冪等キーを確保するため、他のサーバーで実行中の場合も、
+ *   ストアに処理結果が保存されるまで待ちます（{@link JdbcIdempotencyStore} を使用する場合）。
+ * - 同じキーで異なる内容のリクエストが送信された場合は {@link IdempotencyConflictException} をスローします。
+ * 処理結果はトランザクションのコミット後に保存します。失敗・ロールバックした処理の結果は保存せず処理中の記録も削除するため、
+ * クライアントは同じキーで再試行できます。
+ * 待機中にDB接続を保持しないよう、トランザクションは呼び出し元ではなく処理（action）の中で開始してください。
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    // 冪等キーを指定するリクエストヘッダ
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    // 保存済みのレスポンスを返したことを示すレスポンスヘッダ
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore idempotencyStore;
+
+    private final ObjectMapper objectMapper;
+
+    // 他のサーバーで実行中の処理の結果をストアに問い合わせる間隔
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    // 処理結果の保存期間
+    private final Duration ttl;
+
+    // 同じキーの実行中の処理を待つ最大時間
+    private final Duration waitTimeout;
+
+    // 処理中の記録の有効期限（処理したサーバーが停止した場合に、同じキーで再実行できるようになるまでの時間）
+    private final Duration claimTtl;
+
+    // 実行中の処理（キーごと）
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyStore idempotencyStore,
+                              ObjectMapper objectMapper,
+                              @Value("${student.idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${student.idempotency.wait-timeout:PT30S}") Duration waitTimeout,
+                              @Value("${student.idempotency.claim-ttl:PT5M}") Duration claimTtl) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.claimTtl = claimTtl;
+    }
+
+    /**
+     * 冪等キーを考慮して処理を実行します。
+     *
+     * @param idempotencyKey リクエストヘッダの冪等キー（未指定の場合は通常どおり処理を実行）
+     * @param operation      操作名（例: "POST /api/students"）。キーは操作ごとに区別されます
+     * @param request        リクエスト内容（同じキーで内容が異なるかの判定に使用）
+     * @param responseType   レスポンスボディの型（保存済みレスポンスの復元に使用）
+     * @param action         実際の処理
+     * @param <T>            レスポンスボディの型
+     * @return 処理結果、または保存済み・実行中の処理のレスポンス
+     */
+    public <T> ResponseEntity<T> execute(String idempotencyKey, String operation, Object request,
+                                         Class<T> responseType, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        String key = operation + ":" + idempotencyKey.trim();
+        String requestHash = hash(request);
+
+        Optional<IdempotencyRecord> stored = idempotencyStore.find(key, Instant.now());
+        if (stored.isPresent() && !stored.get().isPending()) {
+            return replay(stored.get(), requestHash, responseType);
+        }
+
+        InFlight own = new InFlight(requestHash);
+        InFlight existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            return awaitInFlight(key, existing, requestHash);
+        }
+
+        // 冪等キーを確保できない場合は、他のサーバーで実行中か、直前に完了した処理の結果が保存されている
+        // （このサーバー内で同じキーを待つリクエストには、ストアから取得した結果を共有する）
+        IdempotencyRecord claim = IdempotencyRecord.pending(key, requestHash,
+                Instant.now().plus(claimTtl).truncatedTo(ChronoUnit.MILLIS));
+        if (!idempotencyStore.claim(claim)) {
+            ResponseEntity<T> response;
+            try {
+                response = awaitStored(key, requestHash, responseType);
+            } catch (RuntimeException e) {
+                finish(key, own, null, e);
+                throw e;
+            }
+            finish(key, own, response, null);
+            return response;
+        }
+        return lead(key, own, claim, action);
+    }
+
+    /**
+     * 期限切れの処理結果を定期的に削除します。
+     */
+    @Scheduled(fixedDelayString = "${student.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        int purged = idempotencyStore.purgeExpired(Instant.now());
+        if (purged > 0) {
+            log.debug("期限切れの冪等キーの処理結果を削除しました。件数={}", purged);
+        }
+    }
+
+    private <T> ResponseEntity<T> lead(String key, InFlight own, IdempotencyRecord claim,
+                                       Supplier<ResponseEntity<T>> action) {
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error e) {
+            release(claim);
+            finish(key, own, null, e);
+            throw e;
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            // 失敗したレスポンスは保存しない（同じキーでの再試行を許可する）
+            release(claim);
+            finish(key, own, response, null);
+            return response;
+        }
+
+        IdempotencyRecord record = new IdempotencyRecord(key, claim.requestHash(), response.getStatusCode().value(),
+                serialize(response.getBody()), Instant.now().plus(ttl));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // コミットされた結果のみを保存・共有する
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    idempotencyStore.save(record);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        finish(key, own, response, null);
+                    } else {
+                        release(claim);
+                        finish(key, own, null, new IdempotencyConflictException(
+                                "同じ冪等キーの処理がロールバックされました。再試行してください: " + key));
+                    }
+                }
+            });
+        } else {
+            idempotencyStore.save(record);
+            finish(key, own, response, null);
+        }
+        return response;
+    }
+
+    // 処理中の記録を削除する（削除できない場合も、有効期限が過ぎれば同じキーで再試行できるため元の処理結果を優先する）
+    private void release(IdempotencyRecord claim) {
+        try {
+            idempotencyStore.release(claim);
+        } catch (RuntimeException e) {
+            log.warn("冪等キーの処理中の記録を削除できませんでした。key={}", claim.idempotencyKey(), e);
+        }
+    }
+
+    private void finish(String key, InFlight own, ResponseEntity<?> response, Throwable failure) {
+        inFlight.remove(key, own);
+        if (failure != null) {
+            own.future.completeExceptionally(failure);
+        } else {
+            own.future.complete(response);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> awaitInFlight(String key, InFlight existing, String requestHash) {
+        if (!existing.requestHash.equals(requestHash)) {
+            throw new IdempotencyConflictException("同じ冪等キーで異なる内容のリクエストが処理中です: " + key);
+        }
+        try {
+            ResponseEntity<T> response = (ResponseEntity<T>) existing.future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            HttpHeaders headers = new HttpHeaders();
+            headers.addAll(response.getHeaders());
+            headers.set(REPLAYED_HEADER, "true");
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(headers)
+                    .body(response.getBody());
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("同じ冪等キーのリクエストが処理中です: " + key, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("同じ冪等キーの処理が失敗しました: " + key, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("同じ冪等キーの処理の待機中に割り込まれました: " + key, e);
+        }
+    }
+
+    // 他のサーバーで実行中の処理の結果がストアに保存されるまで、一定間隔で問い合わせて待つ
+    private <T> ResponseEntity<T> awaitStored(String key, String requestHash, Class<T> responseType) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            Optional<IdempotencyRecord> stored = idempotencyStore.find(key, Instant.now());
+            if (stored.isEmpty()) {
+                // 実行中の処理が失敗・ロールバックして処理中の記録が削除された
+                throw new IdempotencyConflictException("同じ冪等キーの処理が完了しませんでした。再試行してください: " + key);
+            }
+            IdempotencyRecord record = stored.get();
+            if (!record.isPending()) {
+                return replay(record, requestHash, responseType);
+            }
+            if (!record.requestHash().equals(requestHash)) {
+                throw new IdempotencyConflictException("同じ冪等キーで異なる内容のリクエストが処理中です: " + key);
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IdempotencyConflictException("同じ冪等キーのリクエストが処理中です: " + key);
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, POLL_INTERVAL.toNanos()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("同じ冪等キーの処理の待機中に割り込まれました: " + key, e);
+            }
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (!record.requestHash().equals(requestHash)) {
+            throw new IdempotencyConflictException(
+                    "同じ冪等キーで異なる内容のリクエストが送信されました: " + record.idempotencyKey());
+        }
+        try {
+            T body = objectMapper.readValue(record.responseBody(), responseType);
+            return ResponseEntity.status(record.responseStatus())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("保存済みのレスポンスを復元できません: " + record.idempotencyKey(), e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(serialize(request)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256が利用できません", e);
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSONへの変換に失敗しました", e);
+        }
+    }
+
+    /**
+     * 実行中の処理（リクエスト内容のハッシュと結果）。
+     */
+    private static final class InFlight {
+
+        private final String requestHash;
+
+        private final CompletableFuture<ResponseEntity<?>> future = new CompletableFuture<>();
+
+        private InFlight(String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
+}
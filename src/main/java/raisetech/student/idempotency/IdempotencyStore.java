@@ -0,0 +1,54 @@
+package raisetech.student.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 冪等キーごとの処理結果の保存先。
+ * 処理の開始前に処理中の記録を保存して冪等キーを確保し（{@link #claim}）、処理の完了後に処理結果で置き換えます（{@link #save}）。
+ * 既定はアプリケーション内のメモリ（{@link InMemoryIdempotencyStore}）で、
+ * {@code student.idempotency.store=jdbc} を指定するとDBのテーブル（{@link JdbcIdempotencyStore}）を使用します。
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 有効期限内の処理結果、または処理中の記録（{@link IdempotencyRecord#isPending()}）を取得します。
+     *
+     * @param idempotencyKey 冪等キー
+     * @param now            現在時刻
+     * @return 処理結果または処理中の記録（存在しない、または期限切れの場合は空）
+     */
+    Optional<IdempotencyRecord> find(String idempotencyKey, Instant now);
+
+    /**
+     * 同じキーの有効期限内の記録がない場合に、処理中の記録を保存して冪等キーを確保します。
+     *
+     * @param pending 処理中の記録（{@link IdempotencyRecord#pending}）
+     * @return 確保できた場合はtrue、処理結果または他の処理中の記録がすでに存在する場合はfalse
+     */
+    boolean claim(IdempotencyRecord pending);
+
+    /**
+     * 処理結果を保存します。同じキーの処理中の記録は処理結果で置き換え、
+     * 処理結果がすでに保存されている場合は先に保存された内容を優先します。
+     *
+     * @param record 処理結果
+     */
+    void save(IdempotencyRecord record);
+
+    /**
+     * 処理中の記録を削除します（処理が失敗・ロールバックした場合。同じキーで再試行できるようになります）。
+     * 処理結果で置き換え済みの場合や、リクエスト内容が異なる場合は何もしません。
+     *
+     * @param pending {@link #claim} で保存した処理中の記録
+     */
+    void release(IdempotencyRecord pending);
+
+    /**
+     * 有効期限を過ぎた処理結果を削除します。
+     *
+     * @param now 現在時刻
+     * @return 削除した件数
+     */
+    int purgeExpired(Instant now);
+}
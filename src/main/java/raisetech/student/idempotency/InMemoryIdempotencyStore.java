@@ -0,0 +1,89 @@
+package raisetech.student.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * アプリケーション内のメモリに処理結果を保存するストア（既定）。
+ * 最大件数を超えた場合は最も古く保存されたものから破棄し、期限切れのものは参照時に破棄します。
+ * 冪等キーの確保（処理中の記録）はこのアプリケーション内でのみ有効です。
+ * 複数台構成で冪等性を保証する必要がある場合は {@link JdbcIdempotencyStore} を使用してください。
+ */
+@Component
+@ConditionalOnProperty(name = "student.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    // 保存順のLinkedHashMap（有効期限は処理中・処理結果ごとに一律のため、保存順がおおよそ期限順になる）
+    private final LinkedHashMap<String, IdempotencyRecord> records;
+
+    public InMemoryIdempotencyStore(@Value("${student.idempotency.max-entries:10000}") int maxEntries) {
+        this.records = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String idempotencyKey, Instant now) {
+        synchronized (records) {
+            IdempotencyRecord record = records.get(idempotencyKey);
+            if (record != null && record.isExpired(now)) {
+                records.remove(idempotencyKey);
+                return Optional.empty();
+            }
+            return Optional.ofNullable(record);
+        }
+    }
+
+    @Override
+    public boolean claim(IdempotencyRecord pending) {
+        synchronized (records) {
+            IdempotencyRecord existing = records.get(pending.idempotencyKey());
+            if (existing != null && !existing.isExpired(Instant.now())) {
+                return false;
+            }
+            // 保存順を期限順に保つため、期限切れの記録は末尾に入れ直す
+            records.remove(pending.idempotencyKey());
+            records.put(pending.idempotencyKey(), pending);
+            return true;
+        }
+    }
+
+    @Override
+    public void save(IdempotencyRecord record) {
+        synchronized (records) {
+            IdempotencyRecord existing = records.get(record.idempotencyKey());
+            if (existing == null || existing.isPending() || existing.isExpired(Instant.now())) {
+                records.remove(record.idempotencyKey());
+                records.put(record.idempotencyKey(), record);
+            }
+        }
+    }
+
+    @Override
+    public void release(IdempotencyRecord pending) {
+        synchronized (records) {
+            IdempotencyRecord existing = records.get(pending.idempotencyKey());
+            if (existing != null && existing.isPending() && existing.requestHash().equals(pending.requestHash())) {
+                records.remove(pending.idempotencyKey());
+            }
+        }
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        synchronized (records) {
+            int before = records.size();
+            records.values().removeIf(record -> record.isExpired(now));
+            return before - records.size();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package raisetech.student.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import raisetech.student.repository.IdempotencyRecordRepository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * DBのテーブル（idempotency_records）に処理結果を保存するストア。
+ * 処理の開始前に処理中の記録を登録（主キーで一意）して冪等キーを確保するため、複数台構成でも、
+ * 同じ冪等キーのリクエストを二重に実行せず、他のサーバーに届いたリクエストはその記録を参照して結果を待ちます。
+ * 処理のコミット後、結果の保存前にサーバーが停止した場合は、処理中の記録の有効期限が過ぎると同じキーで再実行できるようになります。
+ * {@code student.idempotency.store=jdbc} を指定した場合に有効になります。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "student.idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    public JdbcIdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String idempotencyKey, Instant now) {
+        return idempotencyRecordRepository.findValid(idempotencyKey, now);
+    }
+
+    /**
+     * 処理中の記録を登録して冪等キーを確保します。
+     * 他のサーバーから参照できるよう、元の処理とは独立したトランザクションで登録してコミットします。
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean claim(IdempotencyRecord pending) {
+        idempotencyRecordRepository.deleteExpiredByKey(pending.idempotencyKey(), Instant.now());
+        try {
+            idempotencyRecordRepository.insert(pending);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 処理結果を保存します。
+     * 元の処理のトランザクションのコミット後に呼ばれるため、独立したトランザクションで保存します。
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(IdempotencyRecord record) {
+        idempotencyRecordRepository.deleteExpiredByKey(record.idempotencyKey(), Instant.now());
+        if (idempotencyRecordRepository.completePending(record) > 0) {
+            return;
+        }
+        try {
+            idempotencyRecordRepository.insert(record);
+        } catch (DuplicateKeyException e) {
+            // 他のサーバーで同じキーの結果が先に保存された場合は、先の結果を優先する
+            log.info("冪等キーの処理結果はすでに保存されています。key={}", record.idempotencyKey());
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(IdempotencyRecord pending) {
+        idempotencyRecordRepository.deletePending(pending.idempotencyKey(), pending.requestHash());
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(Instant now) {
+        return idempotencyRecordRepository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,172 @@
+package raisetech.student.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 学生情報・コース情報の検索用インデックスと外部キーを追加するマイグレーション（バージョン2）。
+ * 既存のデータベースはバージョン1として baseline され、このマイグレーションが適用されるため、以下を確認してから追加します。
+ * - 存在しない学生を参照するコース情報（孤立したコース情報）は外部キーの追加に失敗するため、
+ *   {@code student_courses_orphaned} テーブルへ退避してから削除します（件数はログに出力します）。
+ * - 手動で作成済みのインデックス・外部キー（名前が異なる場合を含む）は、同じカラムを対象とするものがあれば作成しません。
+ * MySQLは {@code CREATE INDEX IF NOT EXISTS} に対応していないため、存在の確認はJDBCのメタデータで行います（H2でも同様に動作します）。
+ * ネイティブイメージでもクラスパスの走査なしで適用されるよう、Beanとして登録しFlywayへ渡します。
+ */
+@Slf4j
+@Component
+public class AddStudentIndexesMigration implements JavaMigration {
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("2");
+    }
+
+    @Override
+    public String getDescription() {
+        return "add student indexes";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        quarantineOrphanedCourses(connection);
+
+        // コース情報の学生IDによる検索（findByStudentId、findByStudentIds、学生詳細のJOIN）用のインデックスと外部キー
+        createIndexIfAbsent(connection, "idx_student_courses_student_id", "student_courses", "student_id");
+        if (!hasForeignKey(connection, "student_courses", "student_id", "student")) {
+            execute(connection, """
+                    ALTER TABLE student_courses
+                        ADD CONSTRAINT fk_student_courses_student FOREIGN KEY (student_id) REFERENCES student (id)
+                    """);
+        }
+
+        // 論理削除済みの学生を除いた一覧取得（is_deleted = false）と、アーカイブ対象の抽出（is_deleted = true）の両方で使用するインデックス
+        // （MySQLは部分インデックスに対応していないため、削除フラグを先頭にした複合インデックスで代用）
+        createIndexIfAbsent(connection, "idx_student_is_deleted_id", "student", "is_deleted", "id");
+
+        // メールアドレスによる検索用のインデックス
+        createIndexIfAbsent(connection, "idx_student_email", "student", "email");
+    }
+
+    // 存在しない学生を参照するコース情報を退避用のテーブルへ移す
+    private static void quarantineOrphanedCourses(Connection connection) throws SQLException {
+        String orphaned = "FROM student_courses sc WHERE NOT EXISTS (SELECT 1 FROM student s WHERE s.id = sc.student_id)";
+        long count;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) " + orphaned)) {
+            rs.next();
+            count = rs.getLong(1);
+        }
+        if (count == 0) {
+            return;
+        }
+        execute(connection, """
+                CREATE TABLE IF NOT EXISTS student_courses_orphaned
+                (
+                    id              BIGINT       NOT NULL PRIMARY KEY,
+                    course_name     VARCHAR(255) NOT NULL,
+                    student_id      BIGINT       NOT NULL,
+                    course_start_at DATE,
+                    course_end_at   DATE
+                )
+                """);
+        // 途中で失敗して再実行した場合に、退避済みの行を重複して登録しない
+        execute(connection, "INSERT INTO student_courses_orphaned (id, course_name, student_id, course_start_at, course_end_at) "
+                + "SELECT sc.id, sc.course_name, sc.student_id, sc.course_start_at, sc.course_end_at " + orphaned
+                + " AND NOT EXISTS (SELECT 1 FROM student_courses_orphaned o WHERE o.id = sc.id)");
+        execute(connection, "DELETE FROM student_courses WHERE NOT EXISTS "
+                + "(SELECT 1 FROM student s WHERE s.id = student_courses.student_id)");
+        log.warn("存在しない学生を参照するコース情報を student_courses_orphaned へ退避しました。件数={}", count);
+    }
+
+    private static void createIndexIfAbsent(Connection connection, String indexName, String table, String... columns)
+            throws SQLException {
+        if (hasIndex(connection, table, columns)) {
+            log.info("{} と同じカラムのインデックスが作成済みのため、作成を省略しました。テーブル={}", indexName, table);
+            return;
+        }
+        execute(connection, "CREATE INDEX " + indexName + " ON " + table + " (" + String.join(", ", columns) + ")");
+    }
+
+    // 指定したカラムを先頭（同じ順序）に含むインデックスがあるかを判定する
+    private static boolean hasIndex(Connection connection, String table, String... columns) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        Map<String, List<String>> indexes = new HashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                List<String> indexColumns = indexes.computeIfAbsent(indexName, key -> new ArrayList<>());
+                int position = rs.getShort("ORDINAL_POSITION");
+                while (indexColumns.size() < position) {
+                    indexColumns.add(null);
+                }
+                indexColumns.set(position - 1, column);
+            }
+        }
+        for (List<String> indexColumns : indexes.values()) {
+            if (startsWith(indexColumns, columns)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(List<String> indexColumns, String[] columns) {
+        if (indexColumns.size() < columns.length) {
+            return false;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (!columns[i].equalsIgnoreCase(indexColumns.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasForeignKey(Connection connection, String table, String column, String referencedTable)
+            throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet rs = metaData.getImportedKeys(connection.getCatalog(), connection.getSchema(), table)) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("FKCOLUMN_NAME"))
+                        && referencedTable.equalsIgnoreCase(rs.getString("PKTABLE_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
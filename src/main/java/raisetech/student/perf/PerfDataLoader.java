@@ -0,0 +1,134 @@
+package raisetech.student.perf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 性能計測用プロファイル（perf）の起動時に、{@link SyntheticStudentFactory} で生成した学生データを投入するクラス。
+ * 学生テーブルにデータが存在する場合は何も行いません。
+ * 投入件数は {@code student.perf.students}（学生数）と {@code student.perf.courses-per-student}（1人あたりのコース数）で指定します。
+ */
+@Slf4j
+@Component
+@Profile("perf")
+public class PerfDataLoader implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_STUDENT = """
+            INSERT INTO student (name, kana_name, nickname, email, area, age, sex, remark, is_deleted)
+            VALUES (:name, :kanaName, :nickname, :email, :area, :age, :sex, :remark, :deleted)
+            """;
+
+    private static final String INSERT_COURSE_NAME = """
+            INSERT INTO course (name) VALUES (:courseName) ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private static final String INSERT_COURSE = """
+            INSERT INTO student_courses (course_id, student_id, course_start_at, course_end_at)
+            VALUES ((SELECT id FROM course WHERE name = :courseName), :studentId, :courseStartAt, :courseEndAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final int students;
+
+    private final int coursesPerStudent;
+
+    private final double deletedRatio;
+
+    private final long seed;
+
+    public PerfDataLoader(NamedParameterJdbcTemplate jdbcTemplate,
+                          @Value("${student.perf.students:10000}") int students,
+                          @Value("${student.perf.courses-per-student:3}") int coursesPerStudent,
+                          @Value("${student.perf.deleted-ratio:0.05}") double deletedRatio,
+                          @Value("${student.perf.seed:20250401}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.students = students;
+        this.coursesPerStudent = coursesPerStudent;
+        this.deletedRatio = deletedRatio;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM student", Integer.class);
+        if (existing != null && existing > 0) {
+            log.info("学生データが登録済みのため、性能計測用データの投入を省略しました。件数={}", existing);
+            return;
+        }
+
+        long start = System.nanoTime();
+        SyntheticStudentFactory factory = new SyntheticStudentFactory(seed);
+        List<Student> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < students; i++) {
+            batch.add(factory.nextStudent(coursesPerStudent, deletedRatio));
+            if (batch.size() == BATCH_SIZE) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        insert(batch);
+        log.info("性能計測用データを投入しました。学生={}件, コース={}件/人, 所要時間={}ms",
+                students, coursesPerStudent, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void insert(List<Student> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] studentParams = new SqlParameterSource[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            Student student = batch.get(i);
+            studentParams[i] = new MapSqlParameterSource()
+                    .addValue("name", student.getName())
+                    .addValue("kanaName", student.getKanaName())
+                    .addValue("nickname", student.getNickname())
+                    .addValue("email", student.getEmail())
+                    .addValue("area", student.getArea())
+                    .addValue("age", student.getAge())
+                    .addValue("sex", student.getSex())
+                    .addValue("remark", student.getRemark())
+                    .addValue("deleted", student.getDeleted());
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_STUDENT, studentParams, keyHolder, new String[]{"id"});
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<SqlParameterSource> courseParams = new ArrayList<>(batch.size() * coursesPerStudent);
+        Set<String> courseNames = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            long studentId = ((Number) keys.get(i).values().iterator().next()).longValue();
+            for (StudentCourse course : batch.get(i).getStudentCourses()) {
+                courseNames.add(course.getCourseName());
+                courseParams.add(new MapSqlParameterSource()
+                        .addValue("courseName", course.getCourseName())
+                        .addValue("studentId", studentId)
+                        .addValue("courseStartAt", course.getCourseStartAt())
+                        .addValue("courseEndAt", course.getCourseEndAt()));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_COURSE_NAME, courseNames.stream()
+                .map(name -> new MapSqlParameterSource("courseName", name))
+                .toArray(SqlParameterSource[]::new));
+        jdbcTemplate.batchUpdate(INSERT_COURSE, courseParams.toArray(SqlParameterSource[]::new));
+    }
+}
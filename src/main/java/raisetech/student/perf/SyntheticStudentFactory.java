@@ -0,0 +1,123 @@
+package raisetech.student.perf;
+
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 性能計測用の学生データ（学生情報・コース情報）を生成するクラス。
+ * 同じシード値からは常に同じ順序で同じデータを生成します（計測結果を比較できるようにするため）。
+ * 生成されるデータは {@link raisetech.student.validation.StudentValidator} の入力チェックを満たします。
+ * スレッドセーフではありません。
+ */
+public final class SyntheticStudentFactory {
+
+    // 姓（漢字、カナ、ローマ字）
+    private static final String[][] FAMILY_NAMES = {
+            {"佐藤", "サトウ", "sato"}, {"鈴木", "スズキ", "suzuki"}, {"高橋", "タカハシ", "takahashi"},
+            {"田中", "タナカ", "tanaka"}, {"伊藤", "イトウ", "ito"}, {"渡辺", "ワタナベ", "watanabe"},
+            {"山本", "ヤマモト", "yamamoto"}, {"中村", "ナカムラ", "nakamura"}, {"小林", "コバヤシ", "kobayashi"},
+            {"加藤", "カトウ", "kato"}, {"吉田", "ヨシダ", "yoshida"}, {"山田", "ヤマダ", "yamada"},
+            {"佐々木", "ササキ", "sasaki"}, {"山口", "ヤマグチ", "yamaguchi"}, {"松本", "マツモト", "matsumoto"},
+            {"井上", "イノウエ", "inoue"}, {"木村", "キムラ", "kimura"}, {"林", "ハヤシ", "hayashi"},
+            {"斎藤", "サイトウ", "saito"}, {"清水", "シミズ", "shimizu"}
+    };
+
+    // 名（漢字、カナ、ローマ字、性別）
+    private static final String[][] GIVEN_NAMES = {
+            {"太郎", "タロウ", "taro", "男性"}, {"翔太", "ショウタ", "shota", "男性"},
+            {"大輔", "ダイスケ", "daisuke", "男性"}, {"健太", "ケンタ", "kenta", "男性"},
+            {"拓也", "タクヤ", "takuya", "男性"}, {"蓮", "レン", "ren", "男性"},
+            {"悠真", "ユウマ", "yuma", "男性"}, {"陽翔", "ハルト", "haruto", "男性"},
+            {"花子", "ハナコ", "hanako", "女性"}, {"美咲", "ミサキ", "misaki", "女性"},
+            {"陽菜", "ヒナ", "hina", "女性"}, {"結衣", "ユイ", "yui", "女性"},
+            {"さくら", "サクラ", "sakura", "女性"}, {"愛", "アイ", "ai", "女性"},
+            {"葵", "アオイ", "aoi", "女性"}, {"彩", "アヤ", "aya", "女性"}
+    };
+
+    private static final String[] PREFECTURES = {
+            "北海道", "青森県", "岩手県", "宮城県", "秋田県", "山形県", "福島県",
+            "茨城県", "栃木県", "群馬県", "埼玉県", "千葉県", "東京都", "神奈川県",
+            "新潟県", "富山県", "石川県", "福井県", "山梨県", "長野県",
+            "岐阜県", "静岡県", "愛知県", "三重県",
+            "滋賀県", "京都府", "大阪府", "兵庫県", "奈良県", "和歌山県",
+            "鳥取県", "島根県", "岡山県", "広島県", "山口県",
+            "徳島県", "香川県", "愛媛県", "高知県",
+            "福岡県", "佐賀県", "長崎県", "熊本県", "大分県", "宮崎県", "鹿児島県", "沖縄県"
+    };
+
+    private static final String[] COURSE_NAMES = {
+            "Javaコース", "AWSコース", "デザインコース", "Webマーケティングコース", "映像制作コース",
+            "フロントエンドコース", "データサイエンスコース", "英会話コース", "Pythonコース", "Webライティングコース"
+    };
+
+    private static final String[] REMARKS = {"", "特記事項なし", "社会人受講生", "転職希望", "オンライン受講"};
+
+    private static final LocalDate FIRST_COURSE_START = LocalDate.of(2020, 4, 1);
+
+    private final SplittableRandom random;
+
+    private long sequence;
+
+    /**
+     * @param seed シード値
+     */
+    public SyntheticStudentFactory(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * 次の学生情報を生成します（IDは未設定）。
+     *
+     * @param courseCount  受講コース数（コース名の種類数が上限）
+     * @param deletedRatio 論理削除済みとする割合（0.0〜1.0）
+     * @return コース情報を含む学生情報
+     */
+    public Student nextStudent(int courseCount, double deletedRatio) {
+        long number = ++sequence;
+        String[] family = FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)];
+        String[] given = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+        String sex = random.nextInt(50) == 0 ? "その他" : given[3];
+
+        Student student = new Student();
+        student.setName(family[0] + given[0]);
+        student.setKanaName(family[1] + given[1]);
+        student.setNickname(given[2] + number);
+        student.setEmail(given[2] + "." + family[2] + number + "@example.com");
+        student.setArea(PREFECTURES[random.nextInt(PREFECTURES.length)]);
+        student.setAge(18 + random.nextInt(48));
+        student.setSex(sex);
+        student.setRemark(REMARKS[random.nextInt(REMARKS.length)]);
+        student.setDeleted(random.nextDouble() < deletedRatio);
+        student.setStudentCourses(nextCourses(courseCount));
+        return student;
+    }
+
+    /**
+     * 重複しないコース名で、コース情報を生成します（学生IDは未設定）。
+     *
+     * @param count コース数（コース名の種類数が上限）
+     * @return コース情報のリスト
+     */
+    public List<StudentCourse> nextCourses(int count) {
+        int size = Math.min(count, COURSE_NAMES.length);
+        String[] names = COURSE_NAMES.clone();
+        List<StudentCourse> courses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // 先頭から順に、残りのコース名から1つを選ぶ（部分シャッフル）
+            int pick = i + random.nextInt(names.length - i);
+            String name = names[pick];
+            names[pick] = names[i];
+            names[i] = name;
+
+            LocalDate startAt = FIRST_COURSE_START.plusDays(random.nextInt(365 * 5));
+            LocalDate endAt = startAt.plusMonths(3 + random.nextInt(10));
+            courses.add(new StudentCourse(null, null, name, startAt, endAt));
+        }
+        return courses;
+    }
+}
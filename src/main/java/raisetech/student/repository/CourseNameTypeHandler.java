@@ -0,0 +1,65 @@
+package raisetech.student.repository;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * コース名（course.name）を取得する際に、同じコース名には同じStringインスタンスを返すタイプハンドラー。
+ * JDBCドライバーは行ごとに新しいStringを生成するため、一覧取得では同じコース名の文字列が学生の数だけヒープに残ります。
+ * コース名の種類はマスタの件数に限られるため、一度取得したコース名を保持して共有します。
+ * 保持する件数が上限に達した後は、共有せずにそのまま返します。
+ */
+public class CourseNameTypeHandler extends BaseTypeHandler<String> {
+
+    // 共有するコース名の上限（マスタの件数を大きく上回る値）
+    static final int MAX_CANONICAL_NAMES = 10_000;
+
+    private static final ConcurrentHashMap<String, String> CANONICAL_NAMES = new ConcurrentHashMap<>();
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType) throws SQLException {
+        ps.setString(i, parameter);
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return canonicalize(rs.getString(columnName));
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return canonicalize(rs.getString(columnIndex));
+    }
+
+    @Override
+    public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return canonicalize(cs.getString(columnIndex));
+    }
+
+    /**
+     * コース名の共有インスタンスを返します。
+     *
+     * @param name コース名
+     * @return 同じ内容のコース名の共有インスタンス（nullの場合・上限に達した場合は引数をそのまま返す）
+     */
+    static String canonicalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String canonical = CANONICAL_NAMES.get(name);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (CANONICAL_NAMES.size() >= MAX_CANONICAL_NAMES) {
+            return name;
+        }
+        canonical = CANONICAL_NAMES.putIfAbsent(name, name);
+        return canonical != null ? canonical : name;
+    }
+}
@@ -0,0 +1,29 @@
+package raisetech.student.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * コース名のマスタ（course テーブル）を操作するリポジトリ。
+ * コース情報（student_courses）はコース名ではなくコースIDを保持するため、登録・更新の前にコース名をマスタへ登録します。
+ */
+@Mapper
+public interface CourseRepository {
+
+    /**
+     * コース名に対応する、マスタに登録されたコース名を取得。
+     * コース名の比較は列の照合順序に従うため、大文字・小文字のみ異なるコース名は同じコースとして扱われます。
+     *
+     * @param name コース名
+     * @return マスタに登録されたコース名（未登録の場合はnull）
+     */
+    String findNameByName(@Param("name") String name);
+
+    /**
+     * コース名をマスタへ登録（登録済みの場合は何もしない）。
+     *
+     * @param name コース名
+     * @return 登録した件数（登録済みの場合は0）
+     */
+    int insertIfAbsent(@Param("name") String name);
+}
@@ -0,0 +1,101 @@
+package raisetech.student.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import raisetech.student.export.ExportJob;
+import raisetech.student.export.ExportJobStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface ExportJobRepository {
+
+    /**
+     * ジョブIDでジョブを取得。
+     *
+     * @param id ジョブID
+     * @return ジョブ（存在しない場合は空）
+     */
+    Optional<ExportJob> findById(@Param("id") String id);
+
+    /**
+     * 指定された状態のジョブを登録順に取得。
+     *
+     * @param status 状態
+     * @return ジョブのリスト
+     */
+    List<ExportJob> findByStatus(@Param("status") ExportJobStatus status);
+
+    /**
+     * 指定日時より前に完了・失敗したジョブを取得。
+     *
+     * @param before 基準日時
+     * @return ジョブのリスト
+     */
+    List<ExportJob> findFinishedBefore(@Param("before") Instant before);
+
+    /**
+     * ジョブを登録。
+     *
+     * @param job ジョブ
+     */
+    void insert(ExportJob job);
+
+    /**
+     * 実行待ちのジョブを実行中にする（他のワーカーが実行を始めている場合は更新しない）。
+     *
+     * @param id  ジョブID
+     * @param now 現在時刻
+     * @return 更新した件数（0の場合は実行しない）
+     */
+    int markRunning(@Param("id") String id, @Param("now") Instant now);
+
+    /**
+     * 実行中のジョブの進捗を更新。
+     *
+     * @param id                ジョブID
+     * @param totalStudents     出力対象の学生数
+     * @param processedStudents 出力済みの学生数
+     * @param now               現在時刻
+     */
+    void updateProgress(@Param("id") String id, @Param("totalStudents") long totalStudents,
+                        @Param("processedStudents") long processedStudents, @Param("now") Instant now);
+
+    /**
+     * 実行中のジョブを完了にする。
+     *
+     * @param id       ジョブID
+     * @param fileName 出力ファイル名
+     * @param fileSize 出力ファイルのサイズ
+     * @param now      現在時刻
+     */
+    void markCompleted(@Param("id") String id, @Param("fileName") String fileName,
+                       @Param("fileSize") long fileSize, @Param("now") Instant now);
+
+    /**
+     * 実行中のジョブを失敗にする。
+     *
+     * @param id           ジョブID
+     * @param errorMessage エラーメッセージ
+     * @param now          現在時刻
+     */
+    void markFailed(@Param("id") String id, @Param("errorMessage") String errorMessage, @Param("now") Instant now);
+
+    /**
+     * 実行中のジョブをすべて実行待ちに戻す（起動時に、前回の停止で中断したジョブを再実行するため）。
+     *
+     * @param now 現在時刻
+     * @return 更新した件数
+     */
+    int requeueRunning(@Param("now") Instant now);
+
+    /**
+     * ジョブを削除。
+     *
+     * @param id ジョブID
+     * @return 削除した件数
+     */
+    int deleteById(@Param("id") String id);
+}
@@ -0,0 +1,60 @@
+package raisetech.student.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import raisetech.student.idempotency.IdempotencyRecord;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Mapper
+public interface IdempotencyRecordRepository {
+
+    /**
+     * 有効期限内の処理結果（処理中の記録を含む）を冪等キーで取得。
+     *
+     * @param idempotencyKey 冪等キー
+     * @param now            現在時刻
+     * @return 処理結果（存在しない、または期限切れの場合は空）
+     */
+    Optional<IdempotencyRecord> findValid(@Param("idempotencyKey") String idempotencyKey, @Param("now") Instant now);
+
+    /**
+     * 処理結果または処理中の記録を登録。
+     *
+     * @param record 処理結果または処理中の記録
+     */
+    void insert(IdempotencyRecord record);
+
+    /**
+     * 処理中の記録を処理結果で置き換え。
+     *
+     * @param record 処理結果（冪等キーとリクエスト内容のハッシュが一致する処理中の記録を置き換える）
+     * @return 置き換えた件数（処理中の記録がない場合は0）
+     */
+    int completePending(IdempotencyRecord record);
+
+    /**
+     * 処理中の記録を削除。
+     *
+     * @param idempotencyKey 冪等キー
+     * @param requestHash    リクエスト内容のハッシュ
+     */
+    void deletePending(@Param("idempotencyKey") String idempotencyKey, @Param("requestHash") String requestHash);
+
+    /**
+     * 指定されたキーの期限切れの処理結果を削除。
+     *
+     * @param idempotencyKey 冪等キー
+     * @param now            現在時刻
+     */
+    void deleteExpiredByKey(@Param("idempotencyKey") String idempotencyKey, @Param("now") Instant now);
+
+    /**
+     * 期限切れの処理結果をすべて削除。
+     *
+     * @param now 現在時刻
+     * @return 削除した件数
+     */
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,104 @@
+package raisetech.student.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import raisetech.student.domain.stats.CourseEnrollmentCount;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 論理削除された学生情報・コース情報をアーカイブテーブル（student_archive、student_courses_archive）へ移動・復元するリポジトリ。
+ */
+@Mapper
+public interface StudentArchiveRepository {
+
+    /**
+     * 論理削除された学生のIDをID順に取得し、行ロックを取得（SELECT ... FOR UPDATE）。
+     * アーカイブ中に同じ学生が復元されることを防ぎます。
+     *
+     * @param limit 取得する最大件数
+     * @return 学生IDのリスト
+     */
+    List<Long> lockDeletedStudentIds(@Param("limit") int limit);
+
+    /**
+     * 指定された論理削除済みの学生情報をアーカイブテーブルへコピー。
+     *
+     * @param ids        学生IDのリスト（1件以上）
+     * @param archivedAt アーカイブ日時
+     * @return コピーした件数
+     */
+    int copyStudentsToArchive(@Param("ids") List<Long> ids, @Param("archivedAt") Instant archivedAt);
+
+    /**
+     * 指定された学生のコース情報をアーカイブテーブルへコピー。
+     *
+     * @param ids        学生IDのリスト（1件以上）
+     * @param archivedAt アーカイブ日時
+     * @return コピーした件数
+     */
+    int copyStudentCoursesToArchive(@Param("ids") List<Long> ids, @Param("archivedAt") Instant archivedAt);
+
+    /**
+     * 指定された学生のコース情報の件数をコース名ごとに取得（アーカイブによる受講者数の減少分）。
+     *
+     * @param ids 学生IDのリスト（1件以上）
+     * @return コース名ごとの件数
+     */
+    List<CourseEnrollmentCount> countCoursesByStudentIds(@Param("ids") List<Long> ids);
+
+    /**
+     * アーカイブされたコース情報の件数をコース名ごとに取得（復元による受講者数の増加分）。
+     *
+     * @param id 学生ID
+     * @return コース名ごとの件数
+     */
+    List<CourseEnrollmentCount> countArchivedCoursesByStudentId(@Param("id") Long id);
+
+    /**
+     * 指定された学生のコース情報を削除（物理削除）。
+     *
+     * @param ids 学生IDのリスト（1件以上）
+     * @return 削除した件数
+     */
+    int deleteStudentCourses(@Param("ids") List<Long> ids);
+
+    /**
+     * 指定された論理削除済みの学生情報を削除（物理削除）。
+     *
+     * @param ids 学生IDのリスト（1件以上）
+     * @return 削除した件数
+     */
+    int deleteDeletedStudents(@Param("ids") List<Long> ids);
+
+    /**
+     * アーカイブされた学生情報を学生テーブルへ戻す（削除フラグは false に戻します）。
+     *
+     * @param id 学生ID
+     * @return 戻した件数（アーカイブされていない場合は0）
+     */
+    int restoreStudent(@Param("id") Long id);
+
+    /**
+     * アーカイブされたコース情報をコーステーブルへ戻す。
+     *
+     * @param id 学生ID
+     * @return 戻した件数
+     */
+    int restoreStudentCourses(@Param("id") Long id);
+
+    /**
+     * アーカイブテーブルから学生情報を削除。
+     *
+     * @param id 学生ID
+     */
+    void deleteArchivedStudent(@Param("id") Long id);
+
+    /**
+     * アーカイブテーブルからコース情報を削除。
+     *
+     * @param id 学生ID
+     */
+    void deleteArchivedStudentCourses(@Param("id") Long id);
+}
@@ -3,7 +3,9 @@ package raisetech.student.repository;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import raisetech.student.data.StudentCourse;
+import raisetech.student.domain.stats.CourseEnrollmentCount;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -19,6 +21,24 @@ public interface StudentCourseRepository {
      */
     List<StudentCourse> findByStudentId(@Param("studentId") Long studentId);
 
+    /**
+     * 複数の学生に紐づくコース情報を一括取得（WHERE student_id IN (...)）。
+     *
+     * @param studentIds 学生IDのコレクション（1件以上）
+     * @return 学生ID・コースIDの順に並んだコース情報のリスト
+     */
+    List<StudentCourse> findByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
+    // ---------------- コースごとの件数を集計 ----------------
+
+    /**
+     * コース名ごとのコース情報の件数を取得（コースIDで GROUP BY してからコースマスタと結合）。
+     * 受講者数カウンターの初期化・突き合わせに使用します。
+     *
+     * @return コース名ごとの件数（コース名の順）
+     */
+    List<CourseEnrollmentCount> countByCourseName();
+
     // ---------------- コース新規登録 ----------------
 
     /**
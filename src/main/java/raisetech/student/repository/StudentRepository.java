@@ -1,10 +1,17 @@
 package raisetech.student.repository;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 import raisetech.student.data.Student;
+import raisetech.student.domain.columnar.StudentListRow;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Mapper
 public interface StudentRepository {
@@ -17,6 +24,24 @@ public interface StudentRepository {
      */
     Optional<Student> findById(Long id);
 
+    /**
+     * IDで学生情報と関連するコース情報を1回のクエリ（JOIN）で取得。
+     * コース情報は {@link Student#getStudentCourses()} に格納されます。
+     *
+     * @param id 学生のID
+     * @return コース情報を含む学生情報（Optionalでラップ）
+     */
+    Optional<Student> findDetailById(Long id);
+
+    /**
+     * 複数のIDで学生情報を一括取得（WHERE id IN (...)）。
+     * 存在しないIDは結果に含まれず、結果の順序は保証されません。
+     *
+     * @param ids 学生IDのコレクション（1件以上）
+     * @return 学生情報のリスト
+     */
+    List<Student> findByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 全ての学生情報を取得。
      *
@@ -24,6 +49,83 @@ public interface StudentRepository {
      */
     List<Student> findAllStudents();
 
+    /**
+     * 全ての学生情報を、指定されたフィールドのカラムのみ取得。
+     * 指定されていないフィールドは null となります（id は常に取得）。
+     *
+     * @param fields 取得するフィールド名の集合
+     * @return 学生情報のリスト
+     */
+    List<Student> findAllStudentsWithFields(@Param("fields") Set<String> fields);
+
+    /**
+     * 論理削除されていない全学生とそのコース情報を結合し、学生ID・コースIDの順に1行ずつ {@code handler} へ渡す。
+     * 結果をリストとして保持しないため、列指向の一覧（{@link raisetech.student.domain.columnar.StudentColumns}）の組み立てに使用します。
+     *
+     * @param handler 1行ごとに呼び出される処理
+     */
+    void scanAllStudentsWithCourses(ResultHandler<StudentListRow> handler);
+
+    /**
+     * 論理削除されていない全学生とそのコース情報を結合し、学生ID・コースIDの順に1行ずつ読み出すカーソルを返す。
+     * カーソルはトランザクション内でのみ読み出せます（読み出し後はクローズすること）。
+     *
+     * @return 取得結果のカーソル
+     */
+    Cursor<StudentListRow> openAllStudentsWithCourses();
+
+    /**
+     * 論理削除されていない学生を、指定された学生IDより後ろから学生IDの順に指定件数まで取得（キーセット方式のページング）。
+     * 前回の取得結果の最後の学生IDを渡して続きを取得します（オフセットを使用しないため、後ろのページでも読み飛ばしが発生しません）。
+     *
+     * @param afterId 前回の取得結果の最後の学生ID（最初は0）
+     * @param limit   取得件数の上限
+     * @return 学生情報のリスト（コース情報は含まない）
+     */
+    List<Student> findActiveStudentsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 論理削除されていない学生の件数を取得。
+     *
+     * @return 学生の件数
+     */
+    long countActiveStudents();
+
+    /**
+     * 指定された学生の削除フラグを、行ロック（SELECT ... FOR UPDATE）を取得して一括取得（一括削除・一括復元用）。
+     * 取得から更新までの間に他のトランザクションが削除フラグを変更しないよう、トランザクション内で使用します。
+     *
+     * @param ids 学生IDのコレクション
+     * @return 学生情報のリスト（id と deleted のみ。存在しない学生は含まない）
+     */
+    List<Student> lockDeletedFlagsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 指定された学生の削除フラグを一括更新（すでに指定された状態の学生は更新しない）。
+     *
+     * @param ids     学生IDのコレクション
+     * @param deleted 更新後の削除フラグ
+     * @return 更新した件数
+     */
+    int updateDeletedByIds(@Param("ids") Collection<Long> ids, @Param("deleted") boolean deleted);
+
+    /**
+     * 絞り込み条件に一致し、削除フラグが指定された状態の学生IDを学生IDの順に取得（一括削除・一括復元の対象の検索用）。
+     * null の条件は絞り込みに使用しません。
+     *
+     * @param deleted           削除フラグ
+     * @param area              住所（エリア）
+     * @param courseName        受講しているコース名
+     * @param courseEndedBefore この日付より前に終了したコースを受講している
+     * @param limit             取得件数の上限
+     * @return 学生IDのリスト
+     */
+    List<Long> findIdsByCriteria(@Param("deleted") boolean deleted,
+                                 @Param("area") String area,
+                                 @Param("courseName") String courseName,
+                                 @Param("courseEndedBefore") LocalDate courseEndedBefore,
+                                 @Param("limit") int limit);
+
     /**
      * 学生情報の新規登録または更新。
      *
@@ -37,4 +139,13 @@ public interface StudentRepository {
      * @param id 削除する学生の ID
      */
     void deleteById(Long id);
+
+    /**
+     * 論理削除された学生情報を復元（削除フラグを false に戻す）。
+     * アーカイブテーブルへ移動済みの学生は対象外です。
+     *
+     * @param id 復元する学生の ID
+     * @return 復元した件数（論理削除されていない場合は0）
+     */
+    int restoreById(Long id);
 }
@@ -0,0 +1,43 @@
+package raisetech.student.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import raisetech.student.domain.stats.AgeBucketCount;
+import raisetech.student.domain.stats.AreaCount;
+import raisetech.student.domain.stats.CourseMonthlyEnrollment;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 学生情報・コース情報の集計（GROUP BY）を行うリポジトリ。
+ * いずれも論理削除された学生は集計対象外です。
+ */
+@Mapper
+public interface StudentStatsRepository {
+
+    /**
+     * 住所（エリア）ごとの学生数を、学生数の多い順に取得。
+     *
+     * @return 住所（エリア）ごとの学生数
+     */
+    List<AreaCount> countByArea();
+
+    /**
+     * 年齢を指定された幅で区切った階級ごとの学生数を、年齢の低い順に取得（年齢が未登録の学生は対象外）。
+     *
+     * @param bucketSize 階級の幅（歳）
+     * @return 階級ごとの学生数（学生がいない階級は含まれません）
+     */
+    List<AgeBucketCount> countByAgeBucket(@Param("bucketSize") int bucketSize);
+
+    /**
+     * コース・受講開始月ごとの受講者数を、開始月・コース名の順に取得。
+     *
+     * @param from 集計期間の開始日（この日を含む。nullの場合は制限なし）
+     * @param to   集計期間の終了日（この日を含まない。nullの場合は制限なし）
+     * @return コース・開始月ごとの受講者数
+     */
+    List<CourseMonthlyEnrollment> countEnrollmentsByCourseAndMonth(@Param("from") LocalDate from,
+                                                                   @Param("to") LocalDate to);
+}
@@ -0,0 +1,70 @@
+package raisetech.student.service;
+
+import org.springframework.stereotype.Service;
+import raisetech.student.exception.ExportJobNotFoundException;
+import raisetech.student.exception.TooManyRequestsException;
+import raisetech.student.export.ExportFormat;
+import raisetech.student.export.ExportJob;
+import raisetech.student.export.ExportJobWorker;
+import raisetech.student.repository.ExportJobRepository;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 非同期エクスポートのジョブの登録・参照を行うサービス。
+ * ジョブの実行は {@link ExportJobWorker} が行います。
+ */
+@Service
+public class ExportJobService {
+
+    private final ExportJobRepository exportJobRepository;
+
+    private final ExportJobWorker exportJobWorker;
+
+    public ExportJobService(ExportJobRepository exportJobRepository, ExportJobWorker exportJobWorker) {
+        this.exportJobRepository = exportJobRepository;
+        this.exportJobWorker = exportJobWorker;
+    }
+
+    /**
+     * エクスポートのジョブを登録し、ワーカーに渡します。
+     * ワーカーが別スレッドでジョブを読み出すため、登録はトランザクションを使わずに確定させてから渡します。
+     *
+     * @param format 出力形式
+     * @return 登録したジョブ
+     * @throws TooManyRequestsException ワーカーの待ち行列がいっぱいの場合
+     */
+    public ExportJob submit(ExportFormat format) {
+        ExportJob job = ExportJob.queued(UUID.randomUUID().toString(), format, Instant.now());
+        exportJobRepository.insert(job);
+        if (!exportJobWorker.trySubmit(job.id())) {
+            exportJobRepository.deleteById(job.id());
+            throw new TooManyRequestsException("エクスポートジョブの待ち行列がいっぱいです", 30);
+        }
+        return job;
+    }
+
+    /**
+     * ジョブIDでジョブを取得します。
+     *
+     * @param id ジョブID
+     * @return ジョブ
+     * @throws ExportJobNotFoundException ジョブが存在しない場合
+     */
+    public ExportJob find(String id) {
+        return exportJobRepository.findById(id)
+                .orElseThrow(() -> new ExportJobNotFoundException("エクスポートジョブが見つかりません: " + id));
+    }
+
+    /**
+     * 完了したジョブの出力ファイルのパスを返します。
+     *
+     * @param job 完了したジョブ
+     * @return 出力ファイルのパス
+     */
+    public Path resolveFile(ExportJob job) {
+        return exportJobWorker.resolve(job);
+    }
+}
@@ -0,0 +1,102 @@
+package raisetech.student.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import raisetech.student.domain.stats.CourseEnrollmentCount;
+import raisetech.student.event.CourseEnrollmentChangedEvent;
+import raisetech.student.event.StudentChangedEvent;
+import raisetech.student.exception.StudentNotFoundException;
+import raisetech.student.repository.StudentArchiveRepository;
+import raisetech.student.repository.StudentRepository;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 論理削除された学生情報のアーカイブ・復元を行うサービス。
+ * 論理削除された学生とそのコース情報をアーカイブテーブルへ移動することで、
+ * 学生テーブル・コーステーブルには有効なデータのみが残るようにします。
+ */
+@Slf4j
+@Service
+public class StudentArchiveService {
+
+    private final StudentRepository studentRepository;
+
+    private final StudentArchiveRepository studentArchiveRepository;
+
+    // 学生データ変更イベントの発行（キャッシュ無効化などに使用）
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StudentArchiveService(StudentRepository studentRepository,
+                                 StudentArchiveRepository studentArchiveRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.studentRepository = studentRepository;
+        this.studentArchiveRepository = studentArchiveRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 論理削除された学生を最大 batchSize 件、コース情報とあわせてアーカイブテーブルへ移動します。
+     * 1回の呼び出しが1つのトランザクションとなるため、ロックの保持時間はバッチの大きさに比例します。
+     *
+     * @param batchSize 1回で移動する最大件数
+     * @return 移動した学生の件数（batchSize 未満の場合は対象がなくなったことを表す）
+     */
+    @Transactional
+    public int archiveDeletedStudents(int batchSize) {
+        List<Long> ids = studentArchiveRepository.lockDeletedStudentIds(batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Instant archivedAt = Instant.now();
+        List<CourseEnrollmentCount> archivedCourses = studentArchiveRepository.countCoursesByStudentIds(ids);
+        studentArchiveRepository.copyStudentsToArchive(ids, archivedAt);
+        int courses = studentArchiveRepository.copyStudentCoursesToArchive(ids, archivedAt);
+        studentArchiveRepository.deleteStudentCourses(ids);
+        studentArchiveRepository.deleteDeletedStudents(ids);
+        eventPublisher.publishEvent(StudentChangedEvent.of(ids));
+        publishEnrollmentChanged(archivedCourses, -1);
+        log.debug("論理削除された学生をアーカイブしました。学生={}件, コース={}件", ids.size(), courses);
+        return ids.size();
+    }
+
+    /**
+     * 論理削除された学生情報を復元します。
+     * アーカイブ前の場合は削除フラグを戻し、アーカイブ済みの場合はコース情報とあわせて学生テーブルへ戻します。
+     * 削除されていない学生を指定した場合は何も行いません。
+     *
+     * @param studentId 学生ID
+     * @throws StudentNotFoundException 学生テーブル・アーカイブテーブルのどちらにも存在しない場合
+     */
+    @Transactional
+    public void restoreStudentById(Long studentId) {
+        if (studentRepository.restoreById(studentId) == 0) {
+            if (studentArchiveRepository.restoreStudent(studentId) == 0) {
+                studentRepository.findById(studentId)
+                        .orElseThrow(() -> new StudentNotFoundException("指定された学生が見つかりません: ID=" + studentId));
+                // 削除されていない学生のため、変更なし
+                return;
+            }
+            publishEnrollmentChanged(studentArchiveRepository.countArchivedCoursesByStudentId(studentId), 1);
+            studentArchiveRepository.restoreStudentCourses(studentId);
+            studentArchiveRepository.deleteArchivedStudentCourses(studentId);
+            studentArchiveRepository.deleteArchivedStudent(studentId);
+        }
+        eventPublisher.publishEvent(StudentChangedEvent.of(studentId));
+    }
+
+    // 移動したコース情報の件数を受講者数の増減として通知（sign: 復元は1、アーカイブは-1）
+    private void publishEnrollmentChanged(List<CourseEnrollmentCount> counts, int sign) {
+        Map<String, Long> deltas = new HashMap<>();
+        counts.forEach(count -> deltas.merge(count.courseName(), sign * count.count(), Long::sum));
+        CourseEnrollmentChangedEvent event = new CourseEnrollmentChangedEvent(deltas);
+        if (!event.isEmpty()) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package raisetech.student.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import raisetech.student.data.Student;
 import raisetech.student.data.StudentCourse;
+import raisetech.student.data.StudentCourseMerger;
+import raisetech.student.event.CourseEnrollmentChangedEvent;
+import raisetech.student.event.StudentChangedEvent;
+import raisetech.student.repository.CourseRepository;
 import raisetech.student.repository.StudentCourseRepository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -19,29 +27,47 @@ public class StudentCourseService {
 
     private final StudentCourseRepository studentCourseRepository;
 
-    public StudentCourseService(StudentCourseRepository studentCourseRepository) {
+    // コース名のマスタ（コース情報はコースIDでコース名を参照する）
+    private final CourseRepository courseRepository;
+
+    // 学生データ変更イベントの発行（キャッシュ無効化などに使用）
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StudentCourseService(StudentCourseRepository studentCourseRepository,
+                                CourseRepository courseRepository,
+                                ApplicationEventPublisher eventPublisher) {
         this.studentCourseRepository = studentCourseRepository;
+        this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * 特定の学生IDに関連付けられたコース情報のリストを取得します。
      *
      * @param studentId コース情報を取得する対象の学生の一意の識別子。
-     * @return 指定された学生IDに関連付けられたStudentCourseオブジェクトのリスト。
+     * @return 指定された学生IDに関連付けられたStudentCourseオブジェクトのリスト（コースがない場合は空のリスト）。
      * @throws IllegalArgumentException 指定されたstudentIdがnullの場合にスローされます。
      */
     public List<StudentCourse> findByStudentId(Long studentId) {
         if (studentId == null) {
             throw new IllegalArgumentException("学生IDが指定されていません");
         }
+        return studentCourseRepository.findByStudentId(studentId);
+    }
 
-        List<StudentCourse> studentCourses = studentCourseRepository.findByStudentId(studentId);
-
-        // 空リストの場合に例外をスロー
-        if (studentCourses.isEmpty()) {
-            throw new IllegalStateException("データが見つかりません: 学生ID=" + studentId);
+    /**
+     * 複数の学生IDに関連付けられたコース情報を1回のクエリで取得し、学生IDごとにまとめて返します。
+     * コースが存在しない学生IDはマップに含まれません。
+     *
+     * @param studentIds 学生IDのコレクション
+     * @return 学生IDをキー、コース情報のリストを値とするマップ
+     */
+    public Map<Long, List<StudentCourse>> findByStudentIds(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
         }
-        return studentCourses;
+        return studentCourseRepository.findByStudentIds(studentIds).stream()
+                .collect(Collectors.groupingBy(StudentCourse::getStudentId));
     }
 
     /**
@@ -57,6 +83,7 @@ public class StudentCourseService {
             throw new IllegalArgumentException("コースを入力してください。");
         }
         // courses をループで検査し、null のものがあれば例外をスローする
+        // （コース名の必須チェックはリクエスト受付時に StudentValidator で実施済み）
         for (StudentCourse course : courses) {
             if (course.getCourseStartAt() == null) {
                 throw new IllegalArgumentException("開始日が指定されていません");
@@ -64,9 +91,6 @@ public class StudentCourseService {
             if (course.getCourseStartAt().isBefore(LocalDate.now())) {
                 throw new IllegalArgumentException("開始日は未来の日付を指定してください");
             }
-            if (course.getCourseName() == null || course.getCourseName().isBlank()) {
-                throw new IllegalArgumentException("コース名が空です");
-            }
         }
         // 保存後の学生IDをコースに割り当て
         Long studentId = savedStudent.getId();
@@ -101,6 +125,19 @@ public class StudentCourseService {
                 .toList();
 
         toDeleteIds.forEach(studentCourseRepository::deleteCourse);
+        if (!toDeleteIds.isEmpty()) {
+            Map<String, Long> enrollmentDeltas = new HashMap<>();
+            existingCourses.stream()
+                    .filter(course -> !newCourseIds.contains(course.getId()))
+                    .forEach(course -> addEnrollmentDelta(enrollmentDeltas, course.getCourseName(), -1));
+            eventPublisher.publishEvent(StudentChangedEvent.of(existingCourses.stream()
+                    .map(StudentCourse::getStudentId)
+                    .toList()));
+            CourseEnrollmentChangedEvent enrollmentChanged = new CourseEnrollmentChangedEvent(enrollmentDeltas);
+            if (!enrollmentChanged.isEmpty()) {
+                eventPublisher.publishEvent(enrollmentChanged);
+            }
+        }
     }
 
     /**
@@ -118,41 +155,91 @@ public class StudentCourseService {
 
         // 学生に関連する既存のコース情報を取得
         List<StudentCourse> existingCourses = studentCourseRepository.findByStudentId(studentId);
+        boolean changed = false;
+        // コース名ごとの受講者数の増減（コミット後に受講者数カウンターへ反映）
+        // カウンターはマスタに登録されたコース名で集計するため、増減もマスタのコース名で記録する
+        Map<String, Long> enrollmentDeltas = new HashMap<>();
 
         // 更新または新規登録
-        courses.forEach(course -> {
+        for (StudentCourse course : courses) {
             if (course.getId() == null) {
                 // 新規登録
                 log.info("新規登録コース: {}", course);
                 course.setStudentId(studentId);
+                course.setCourseName(registerCourseName(course.getCourseName()));
                 studentCourseRepository.insertCourse(course);
+                addEnrollmentDelta(enrollmentDeltas, course.getCourseName(), 1);
+                changed = true;
             } else {
                 // 更新処理
                 log.info("更新対象コース: {}", course);
-                existingCourses.stream()
-                        .filter(existing -> existing.getId().equals(course.getId()))
+                StudentCourse existing = existingCourses.stream()
+                        .filter(e -> e.getId().equals(course.getId()))
                         .findFirst()
-                        .ifPresentOrElse(existing -> {
-                            // 更新フィールドのマージ
-                            existing.setCourseName(course.getCourseName());
-                            existing.setCourseStartAt(course.getCourseStartAt());
-                            existing.setCourseEndAt(course.getCourseEndAt());
-                            studentCourseRepository.updateCourse(existing);
-                        }, () -> {
-                            // 指定されたIDのコースが見つからなければエラー
-                            throw new IllegalArgumentException("該当するコースIDが見つかりません: ID=" + course.getId());
-                        });
+                        // 指定されたIDのコースが見つからなければエラー
+                        .orElseThrow(() -> new IllegalArgumentException("該当するコースIDが見つかりません: ID=" + course.getId()));
+                // 更新フィールドのマージ（nullの項目は既存の値を維持し、変更がなければ更新しない）
+                String previousCourseName = existing.getCourseName();
+                int changedFields = StudentCourseMerger.merge(course, existing);
+                if (changedFields != 0) {
+                    boolean courseNameChanged = (changedFields & StudentCourseMerger.COURSE_NAME) != 0;
+                    if (courseNameChanged) {
+                        existing.setCourseName(registerCourseName(existing.getCourseName()));
+                    }
+                    studentCourseRepository.updateCourse(existing);
+                    if (courseNameChanged) {
+                        addEnrollmentDelta(enrollmentDeltas, previousCourseName, -1);
+                        addEnrollmentDelta(enrollmentDeltas, existing.getCourseName(), 1);
+                    }
+                    changed = true;
+                }
             }
-        });
+        }
         // 入力リストに存在しない既存データを削除
         List<Long> targetIds = courses.stream()
                 .map(StudentCourse::getId)
                 .toList(); // 入力リストのIDリスト
-        existingCourses.stream()
-                .filter(existing -> !targetIds.contains(existing.getId()))
-                .forEach(courseToDelete -> {
-                    log.info("削除対象コース: {}", courseToDelete);
-                    studentCourseRepository.deleteCourse(courseToDelete.getId());
-                });
+        for (StudentCourse courseToDelete : existingCourses) {
+            if (!targetIds.contains(courseToDelete.getId())) {
+                log.info("削除対象コース: {}", courseToDelete);
+                studentCourseRepository.deleteCourse(courseToDelete.getId());
+                addEnrollmentDelta(enrollmentDeltas, courseToDelete.getCourseName(), -1);
+                changed = true;
+            }
+        }
+        if (changed) {
+            eventPublisher.publishEvent(StudentChangedEvent.of(studentId));
+        }
+        CourseEnrollmentChangedEvent enrollmentChanged = new CourseEnrollmentChangedEvent(enrollmentDeltas);
+        if (!enrollmentChanged.isEmpty()) {
+            eventPublisher.publishEvent(enrollmentChanged);
+        }
+    }
+
+    // 未登録のコース名をコースマスタへ登録し、マスタに登録されたコース名を返す（登録済みの場合は参照のみでロックを取得しない）
+    // コース名の比較は照合順序に従う（大文字・小文字のみ異なるコース名は同じコースとなる）ため、指定されたコース名とは異なる場合がある
+    // 列長を超えるコース名は登録できず、後続のコース情報の登録がコースIDの不一致で失敗するため、登録前に確認する
+    private String registerCourseName(String courseName) {
+        if (courseName != null && courseName.length() > StudentCourse.COURSE_NAME_MAX_LENGTH) {
+            throw new IllegalArgumentException("コース名は" + StudentCourse.COURSE_NAME_MAX_LENGTH + "文字以内で入力してください");
+        }
+        if (courseName == null) {
+            return null;
+        }
+        String registered = courseRepository.findNameByName(courseName);
+        if (registered != null) {
+            return registered;
+        }
+        courseRepository.insertIfAbsent(courseName);
+        // 同時に同じコースが別の表記で登録された場合は、そちらがマスタのコース名となる
+        registered = courseRepository.findNameByName(courseName);
+        return registered != null ? registered : courseName;
+    }
+
+    // コース名ごとの受講者数の増減を加算（コース名が未設定の場合は対象外）
+    private static void addEnrollmentDelta(Map<String, Long> deltas, String courseName, long delta) {
+        if (courseName != null) {
+            deltas.merge(courseName, delta, Long::sum);
+        }
     }
 }
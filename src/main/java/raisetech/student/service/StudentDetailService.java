@@ -1,27 +1,117 @@
 package raisetech.student.service;
 
 import org.springframework.stereotype.Service;
+import raisetech.student.cache.StudentDetailCache;
+import raisetech.student.concurrent.RequestCoalescer;
 import raisetech.student.data.Student;
 import raisetech.student.data.StudentCourse;
 import raisetech.student.domain.StudentDetail;
+import raisetech.student.domain.StudentFieldSet;
+import raisetech.student.domain.columnar.StudentColumns;
+import raisetech.student.domain.columnar.StudentListRow;
+import raisetech.student.exception.StudentNotFoundException;
 import raisetech.student.repository.StudentRepository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class StudentDetailService {
 
+    // フィールド指定の一覧で、コース情報を1回のクエリ（WHERE student_id IN (...)）で取得する学生の人数
+    private static final int COURSE_FETCH_CHUNK_SIZE = 1000;
+
     private final StudentRepository studentRepository;
     private final StudentCourseService studentCourseService;
+    private final StudentDetailCache studentDetailCache;
+    private final RequestCoalescer requestCoalescer;
 
     // コンストラクタによる依存性注入
     public StudentDetailService(
             StudentRepository studentRepository,
-            StudentCourseService studentCourseService
+            StudentCourseService studentCourseService,
+            StudentDetailCache studentDetailCache,
+            RequestCoalescer requestCoalescer
     ) {
         this.studentRepository = studentRepository;
         this.studentCourseService = studentCourseService;
+        this.studentDetailCache = studentDetailCache;
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    /**
+     * 指定されたIDの学生詳細情報（学生情報とコース情報）を取得するメソッド。
+     * 学生IDごとのキャッシュを優先し、存在しない場合は学生とコースを1回のクエリで取得してキャッシュします。
+     *
+     * @param id 学生ID
+     * @return 学生詳細情報
+     * @throws StudentNotFoundException 学生IDが存在しない場合
+     */
+    public StudentDetail findStudentDetailById(Long id) {
+        StudentDetail cached = studentDetailCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 同一IDへの同時のキャッシュミスは1回のクエリにまとめる
+        return requestCoalescer.execute("student-detail:" + id, () -> {
+            long generation = studentDetailCache.generation();
+            Student student = studentRepository.findDetailById(id)
+                    .orElseThrow(() -> new StudentNotFoundException("学生が見つかりません: ID = " + id));
+            StudentDetail studentDetail = buildStudentDetail(student, student.getStudentCourses());
+            studentDetailCache.put(id, studentDetail, generation);
+            return studentDetail;
+        });
+    }
+
+    /**
+     * 複数の学生IDに対する学生詳細情報を一括取得するメソッド。
+     * 学生IDごとのキャッシュに存在するものはキャッシュから返し、残りは学生・コースそれぞれ1回のクエリ
+     * （WHERE id IN (...)）で取得してキャッシュします。
+     *
+     * @param ids 学生IDのコレクション（重複可）
+     * @return 学生IDをキー、学生詳細情報を値とするマップ（存在しない学生IDは含まれない）
+     */
+    public Map<Long, StudentDetail> findStudentDetailsByIds(Collection<Long> ids) {
+        Map<Long, StudentDetail> details = new HashMap<>();
+        Set<Long> missingIds = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (details.containsKey(id) || missingIds.contains(id)) {
+                continue;
+            }
+            StudentDetail cached = studentDetailCache.get(id);
+            if (cached != null) {
+                details.put(id, cached);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return details;
+        }
+
+        long generation = studentDetailCache.generation();
+        List<Student> students = studentRepository.findByIds(missingIds);
+        if (students.isEmpty()) {
+            return details;
+        }
+        Map<Long, List<StudentCourse>> coursesByStudentId = studentCourseService.findByStudentIds(
+                students.stream().map(Student::getId).toList());
+        for (Student student : students) {
+            List<StudentCourse> courses = new ArrayList<>(coursesByStudentId.getOrDefault(student.getId(), List.of()));
+            student.setStudentCourses(courses);
+            StudentDetail studentDetail = buildStudentDetail(student, courses);
+            studentDetailCache.put(student.getId(), studentDetail, generation);
+            details.put(student.getId(), studentDetail);
+        }
+        return details;
     }
 
     /**
@@ -29,19 +119,95 @@ public class StudentDetailService {
      * 学生と紐付くコース情報を取得し、学生詳細情報 ({@link StudentDetail}) のリストを生成します。
      * 小規模プロジェクトを想定しており、メモリ不足エラーは考慮していませんが、
      * 学生数が増加した場合にはスケーラブルなデータ処理（例えばページング処理）への対応が必要です。
+     * 同時に実行された全件取得は1回の取得処理にまとめられ、結果が共有されます。
      *
      * @return 全学生の詳細情報（学生情報および紐付くコース情報）のリスト
      */
     public List<StudentDetail> findAllStudentDetails() {
-        return studentRepository.findAllStudents().stream()
+        return requestCoalescer.execute("students:all", () -> studentRepository.findAllStudents().stream()
                 .map(student -> {
                     // 学生ごとに関連するコースを取得
                     List<StudentCourse> courses = studentCourseService.findByStudentId(student.getId());
                     return buildStudentDetail(student, courses); // buildStudentDetail を呼び出す
                 })
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 全学生情報とそのコース情報を、列指向の構造（{@link StudentColumns}）で取得するメソッド。
+     * 学生・コースを1回のクエリ（JOIN）で取得し、1行ずつ配列に詰め替えるため、
+     * 学生ごとの {@link StudentDetail}・{@link Student}・コースのリストを生成しません（一覧のレスポンス用）。
+     * 同時に実行された全件取得は1回の取得処理にまとめられ、結果が共有されます。
+     *
+     * @return 全学生の情報（論理削除された学生を除く）
+     */
+    public StudentColumns findAllStudentColumns() {
+        return requestCoalescer.execute("students:columns", () -> {
+            StudentColumns.Builder builder = StudentColumns.builder();
+            studentRepository.scanAllStudentsWithCourses(context -> builder.add(context.getResultObject()));
+            return builder.build();
+        });
+    }
+
+    /**
+     * 全学生の情報を、一定人数ごとに区切った列指向の構造として順に {@code chunkHandler} へ渡すメソッド。
+     * 取得結果を1行ずつ読みながら組み立て、{@code chunkSize} 人分がそろうごとに渡すため、
+     * 保持するのは分割1つ分のみです（一覧全体を保持しません）。同じ学生のコース情報が分割をまたぐことはありません。
+     * 学生がいない場合は {@code chunkHandler} を呼び出しません。
+     *
+     * @param chunkSize    1つの分割に含める学生の人数
+     * @param chunkHandler 分割ごとに呼び出される処理
+     */
+    public void scanAllStudentColumns(int chunkSize, Consumer<StudentColumns> chunkHandler) {
+        StudentColumns.Builder[] chunk = {StudentColumns.builder(chunkSize)};
+        studentRepository.scanAllStudentsWithCourses(context -> {
+            StudentListRow row = context.getResultObject();
+            if (chunk[0].size() >= chunkSize && chunk[0].startsNewStudent(row)) {
+                chunkHandler.accept(chunk[0].build());
+                chunk[0] = StudentColumns.builder(chunkSize);
+            }
+            chunk[0].add(row);
+        });
+        if (chunk[0].size() > 0) {
+            chunkHandler.accept(chunk[0].build());
+        }
+    }
+
+    /**
+     * フィールド指定に従い、全学生の情報を指定フィールドのみ含む形式で取得するメソッド。
+     * 取得するカラムを指定フィールドに絞り込み、コース情報が指定されていない場合はコースの取得自体を省略します。
+     * コース情報は学生を {@value #COURSE_FETCH_CHUNK_SIZE} 人ずつに区切って取得し（IN句の要素数を学生数によらず一定以下に保つため）、
+     * コースのない学生は空のリストとします。
+     *
+     * @param fieldSet フィールド指定
+     * @return 指定フィールドのみを含む学生情報のリスト
+     */
+    public List<Map<String, Object>> findStudentViews(StudentFieldSet fieldSet) {
+        List<Student> students = studentRepository.findAllStudentsWithFields(fieldSet.studentFields());
+        Map<Long, List<StudentCourse>> coursesByStudentId = fieldSet.includesCourses()
+                ? findCoursesInChunks(students)
+                : Map.of();
+        return students.stream()
+                .map(student -> fieldSet.toView(student, coursesByStudentId.getOrDefault(student.getId(), List.of())))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 学生のコース情報を {@value #COURSE_FETCH_CHUNK_SIZE} 人ずつ取得し、学生IDごとにまとめて返します。
+     *
+     * @param students 学生のリスト
+     * @return 学生IDをキー、コース情報のリストを値とするマップ（コースのない学生は含まれない）
+     */
+    private Map<Long, List<StudentCourse>> findCoursesInChunks(List<Student> students) {
+        Map<Long, List<StudentCourse>> coursesByStudentId = new HashMap<>();
+        for (int from = 0; from < students.size(); from += COURSE_FETCH_CHUNK_SIZE) {
+            List<Long> studentIds = students.subList(from, Math.min(from + COURSE_FETCH_CHUNK_SIZE, students.size()))
+                    .stream().map(Student::getId).toList();
+            coursesByStudentId.putAll(studentCourseService.findByStudentIds(studentIds));
+        }
+        return coursesByStudentId;
+    }
+
     /**
      * 学生情報とコース情報を基に詳細情報を生成
      *
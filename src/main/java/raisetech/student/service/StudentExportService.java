@@ -0,0 +1,49 @@
+package raisetech.student.service;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import raisetech.student.domain.columnar.StudentListRow;
+import raisetech.student.export.ExportFormat;
+import raisetech.student.export.StudentExportWriter;
+import raisetech.student.repository.StudentRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 学生一覧（学生とコース情報）をCSV・Excel形式で出力するサービス。
+ * 取得結果はMyBatisのカーソルで1行ずつ読み出して書き込むため、件数によらず一定のメモリで出力します。
+ */
+@Service
+public class StudentExportService {
+
+    private final StudentRepository studentRepository;
+
+    public StudentExportService(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    /**
+     * 論理削除されていない全学生とコース情報を、指定された形式で書き込みます（学生1人・コース1件につき1行）。
+     * カーソルは読み取り専用トランザクションの中で読み出します（1つのクエリのため、出力中の更新は反映されません）。
+     *
+     * @param format 出力形式
+     * @param out    出力先（クローズしません）
+     * @return 書き込んだ行数（見出し行を除く）
+     * @throws IOException 出力に失敗した場合
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream out) throws IOException {
+        long rows = 0;
+        try (Cursor<StudentListRow> cursor = studentRepository.openAllStudentsWithCourses();
+             StudentExportWriter writer = format.newWriter(out)) {
+            for (StudentListRow row : cursor) {
+                writer.writeRow(row);
+                rows++;
+            }
+            writer.finish();
+        }
+        return rows;
+    }
+}
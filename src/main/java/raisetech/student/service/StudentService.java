@@ -1,30 +1,54 @@
 package raisetech.student.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import raisetech.student.concurrent.RequestCoalescer;
 import raisetech.student.data.Student;
+import raisetech.student.data.StudentMerger;
+import raisetech.student.domain.BulkUpdateOutcome;
+import raisetech.student.event.StudentChangedEvent;
 import raisetech.student.exception.StudentNotFoundException;
 import raisetech.student.repository.StudentRepository;
 
-import java.util.Optional;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class StudentService {
 
+    // 一括削除・一括復元で1回のSQLに指定する学生IDの最大件数
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private final StudentRepository studentRepository;
 
-    public StudentService(StudentRepository studentRepository) {
+    // 学生データ変更イベントの発行（キャッシュ無効化などに使用）
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 同一IDへの同時取得を1回のクエリにまとめる
+    private final RequestCoalescer requestCoalescer;
+
+    public StudentService(StudentRepository studentRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          RequestCoalescer requestCoalescer) {
         this.studentRepository = studentRepository;
+        this.eventPublisher = eventPublisher;
+        this.requestCoalescer = requestCoalescer;
     }
 
     /**
      * 学生情報をIDで取得するメソッド。
+     * 同一IDに対する同時の取得は1回のクエリにまとめられます。
      */
     public Student getStudentById(Long id) {
-        return studentRepository.findById(id)
+        return requestCoalescer.execute("student:" + id, () -> studentRepository.findById(id))
                 .orElseThrow(() -> new StudentNotFoundException("学生が見つかりません: ID = " + id));
     }
 
@@ -36,30 +60,95 @@ public class StudentService {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new StudentNotFoundException("指定された学生が見つかりません: ID=" + studentId));
         studentRepository.deleteById(studentId);
+        eventPublisher.publishEvent(StudentChangedEvent.of(studentId));
+    }
+
+    /**
+     * 指定された学生の削除フラグをまとめて変更します（一括削除・一括復元）。
+     * 学生IDを{@value #BULK_CHUNK_SIZE}件ずつに分け、チャンクごとに削除フラグの取得（行ロック）と一括UPDATEの2回のSQLで処理します。
+     * デッドロックを避けるため、行ロックは学生IDの昇順に取得します。
+     * 学生テーブルに存在しない学生（アーカイブ済みの学生を含む）は NOT_FOUND とし、他の学生の処理は続けます。
+     *
+     * @param ids     学生IDのリスト（重複は1件として扱います）
+     * @param deleted 変更後の削除フラグ（trueで削除、falseで復元）
+     * @return 学生IDごとの処理結果（指定された順序）
+     */
+    @Transactional
+    public Map<Long, BulkUpdateOutcome> updateDeletedByIds(List<Long> ids, boolean deleted) {
+        List<Long> sortedIds = ids.stream().distinct().sorted().toList();
+        Map<Long, BulkUpdateOutcome> outcomes = new HashMap<>();
+        List<Long> updatedIds = new ArrayList<>();
+        for (int from = 0; from < sortedIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = sortedIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, sortedIds.size()));
+            Map<Long, Boolean> currentFlags = studentRepository.lockDeletedFlagsByIds(chunk).stream()
+                    .collect(Collectors.toMap(Student::getId, Student::getDeleted));
+            int updated = studentRepository.updateDeletedByIds(chunk, deleted);
+            int expected = 0;
+            for (Long id : chunk) {
+                Boolean currentDeleted = currentFlags.get(id);
+                if (currentDeleted == null) {
+                    outcomes.put(id, BulkUpdateOutcome.NOT_FOUND);
+                } else if (currentDeleted == deleted) {
+                    outcomes.put(id, BulkUpdateOutcome.UNCHANGED);
+                } else {
+                    outcomes.put(id, BulkUpdateOutcome.UPDATED);
+                    updatedIds.add(id);
+                    expected++;
+                }
+            }
+            if (updated != expected) {
+                log.warn("一括更新の件数が行ロック取得時の状態と一致しません。更新件数={}, 想定={}", updated, expected);
+            }
+        }
+        if (!updatedIds.isEmpty()) {
+            eventPublisher.publishEvent(StudentChangedEvent.of(updatedIds));
+        }
+
+        Map<Long, BulkUpdateOutcome> ordered = new LinkedHashMap<>();
+        ids.forEach(id -> ordered.putIfAbsent(id, outcomes.get(id)));
+        return ordered;
+    }
+
+    /**
+     * 絞り込み条件に一致し、削除フラグが指定された状態の学生IDを学生IDの順に取得します（一括削除・一括復元の対象の検索）。
+     *
+     * @param deleted           削除フラグ（一括削除の場合はfalse、一括復元の場合はtrue）
+     * @param area              住所（エリア）。nullの場合は絞り込まない
+     * @param courseName        受講しているコース名。nullの場合は絞り込まない
+     * @param courseEndedBefore この日付より前に終了したコースを受講している。nullの場合は絞り込まない
+     * @param limit             取得件数の上限
+     * @return 学生IDのリスト
+     */
+    public List<Long> findStudentIdsByCriteria(boolean deleted, String area, String courseName,
+                                               LocalDate courseEndedBefore, int limit) {
+        return studentRepository.findIdsByCriteria(deleted, area, courseName, courseEndedBefore, limit);
     }
 
     /**
      * 新しい学生情報を登録＆既存学生の情報を更新します。
+     * 更新時はリクエストでnullの項目は既存の値を維持し、変更がない場合はDBへの書き込みを行いません。
      */
     public Student save(Long id, Student student) {
         // IDがnullの場合は新規保存、そうでない場合は更新
         if (student.getId() == null) {
-            return studentRepository.save(student);
+            Student savedStudent = studentRepository.save(student);
+            eventPublisher.publishEvent(StudentChangedEvent.of(savedStudent.getId()));
+            return savedStudent;
         } else {
             // 更新の場合
             Student existingStudent = studentRepository.findById(student.getId())
                     .orElseThrow(() -> new StudentNotFoundException("学生が見つかりません: ID=" + student.getId()));
 
-            // 既存データにリクエストのデータを反映
-            BeanUtils.copyProperties(student, existingStudent, "id"); // ID以外をコピー
-            return studentRepository.save(existingStudent);
+            // 既存データにリクエストのデータを反映（nullの項目は既存の値を維持）
+            int changedFields = StudentMerger.merge(student, existingStudent);
+            if (changedFields == 0) {
+                // 変更がない場合はDBへの書き込みとキャッシュの破棄を行わない
+                log.debug("学生情報に変更がないため更新を省略しました: ID={}", existingStudent.getId());
+                return existingStudent;
+            }
+            Student savedStudent = studentRepository.save(existingStudent);
+            eventPublisher.publishEvent(StudentChangedEvent.of(existingStudent.getId()));
+            return savedStudent;
         }
     }
-
-    /**
-     * 任意フィールドの更新処理をサポート
-     */
-    private <T> void applyIfPresent(T source, java.util.function.Consumer<T> consumer) {
-        Optional.ofNullable(source).ifPresent(consumer);
-    }
 }
@@ -0,0 +1,101 @@
+package raisetech.student.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import raisetech.student.concurrent.RequestCoalescer;
+import raisetech.student.domain.stats.AgeBucketCount;
+import raisetech.student.domain.stats.AreaCount;
+import raisetech.student.domain.stats.CourseMonthlyEnrollment;
+import raisetech.student.repository.StudentStatsRepository;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 学生情報の集計を行うサービス。
+ * 集計はDB側（GROUP BY）で行い、集計結果は短時間（student.stats.ttl）キャッシュします。
+ * 学生データの変更はキャッシュの有効期限が切れるまで集計結果に反映されません。
+ * 同じ集計の同時実行は {@link RequestCoalescer} で1回のクエリにまとめます。
+ */
+@Service
+public class StudentStatsService {
+
+    // キャッシュする集計結果の最大件数（集計期間の指定の組み合わせでキーが増え続けないようにする）
+    private static final int MAX_CACHED_RESULTS = 256;
+
+    private final StudentStatsRepository studentStatsRepository;
+
+    private final RequestCoalescer requestCoalescer;
+
+    // 集計結果のキャッシュの有効期間
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<String, CachedResult> cache = new ConcurrentHashMap<>();
+
+    public StudentStatsService(StudentStatsRepository studentStatsRepository,
+                               RequestCoalescer requestCoalescer,
+                               @Value("${student.stats.ttl:PT30S}") Duration ttl) {
+        this.studentStatsRepository = studentStatsRepository;
+        this.requestCoalescer = requestCoalescer;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 住所（エリア）ごとの学生数を取得します。
+     *
+     * @return 住所（エリア）ごとの学生数（学生数の多い順）
+     */
+    public List<AreaCount> countByArea() {
+        return cached("areas", studentStatsRepository::countByArea);
+    }
+
+    /**
+     * 年齢の階級ごとの学生数を取得します。
+     *
+     * @param bucketSize 階級の幅（歳）
+     * @return 階級ごとの学生数（年齢の低い順）
+     */
+    public List<AgeBucketCount> countByAgeBucket(int bucketSize) {
+        return cached("ages:" + bucketSize, () -> studentStatsRepository.countByAgeBucket(bucketSize));
+    }
+
+    /**
+     * コース・受講開始月ごとの受講者数を取得します。
+     *
+     * @param from 集計期間の開始月（この月を含む。nullの場合は制限なし）
+     * @param to   集計期間の終了月（この月を含む。nullの場合は制限なし）
+     * @return コース・開始月ごとの受講者数（開始月・コース名の順）
+     */
+    public List<CourseMonthlyEnrollment> countEnrollmentsByCourseAndMonth(YearMonth from, YearMonth to) {
+        return cached("course-enrollments:" + from + ":" + to, () -> studentStatsRepository.countEnrollmentsByCourseAndMonth(
+                from == null ? null : from.atDay(1),
+                to == null ? null : to.plusMonths(1).atDay(1)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> cached(String key, Supplier<List<T>> query) {
+        long now = System.nanoTime();
+        CachedResult cachedResult = cache.get(key);
+        if (cachedResult != null && now - cachedResult.expiresAt() < 0) {
+            return (List<T>) cachedResult.value();
+        }
+        return requestCoalescer.execute("stats:" + key, () -> {
+            List<T> result = List.copyOf(query.get());
+            long loadedAt = System.nanoTime();
+            if (cache.size() >= MAX_CACHED_RESULTS) {
+                cache.values().removeIf(entry -> loadedAt - entry.expiresAt() >= 0);
+                if (cache.size() >= MAX_CACHED_RESULTS) {
+                    cache.clear();
+                }
+            }
+            cache.put(key, new CachedResult(result, loadedAt + ttlNanos));
+            return result;
+        });
+    }
+
+    private record CachedResult(List<?> value, long expiresAt) {
+    }
+}
@@ -0,0 +1,273 @@
+package raisetech.student.streaming;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import raisetech.student.cache.StudentListResponseCache;
+import raisetech.student.cache.StudentListResponseCache.EncodedBody;
+import raisetech.student.deadline.RequestDeadline;
+import raisetech.student.domain.columnar.StudentColumns;
+import raisetech.student.domain.columnar.StudentColumnsSerializer;
+import raisetech.student.exception.DeadlineExceededException;
+import raisetech.student.service.StudentDetailService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 全学生一覧を、取得しながらレスポンスへ書き込むライター。
+ * 一覧全体を組み立ててからJSONへ変換する代わりに、以下の順に出力します。
+ * 1. {@code {"message":...,"data":[} を出力
+ * 2. 取得結果を読みながら {@code chunk-size} 人分ごとに {@link StudentColumns} を組み立て、配列の要素として出力してフラッシュ
+ * 3. {@code ]}} を出力
+ * 最初の学生が送信されるまでの時間と保持するメモリは分割1つ分で一定です（学生数に比例しません）。
+ * 出力内容は {@code StudentColumnsResponse} をJSONへ変換した場合と同じです。
+ * キャッシュの作成:
+ * - 同じデータバージョンの一覧を同時に送信する場合、DBから取得するのは最初に書き込みを始めたリクエスト（作成役）のみです。
+ *   作成役は送信した内容を {@link StudentListResponseCache} の上限サイズまで写しとして保持し、最後まで送信できた場合は
+ *   キャッシュに保存します（次のリクエストからはキャッシュからETag・gzip付きで応答します）。上限を超えた時点で写しは破棄します。
+ * - 他のリクエストは作成役の完了を待ち、保存されたキャッシュの内容を送信します（写しを保持するのは作成役のみです）。
+ *   作成役が失敗した場合・上限サイズを超えた場合・送信中に更新があった場合は、写しを保持せずに自ら取得して送信します。
+ *   作成役の送信はそのクライアントの受信速度にも左右されるため、待機はリクエストの処理期限までとします。
+ * 書き込みは非同期処理のスレッドで行われるため、生成時のリクエストの処理期限（{@link RequestDeadline}）を引き継ぎます
+ * （一覧取得のクエリタイムアウトにも反映されます）。
+ * 送信開始後にエラーが発生した場合はステータスを変更できないため、JSONを閉じずに接続を中断します
+ * （クライアントには構文として不完全なJSONが届き、正常な応答と区別できます）。
+ */
+@Component
+public class StudentListStreamWriter {
+
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+
+    private final ObjectMapper objectMapper;
+
+    private final StudentDetailService studentDetailService;
+
+    private final StudentListResponseCache studentListResponseCache;
+
+    // キャッシュがない場合に全件取得をストリーミングで返すか
+    private final boolean enabled;
+
+    // 1回の書き込み・フラッシュで出力する学生の人数
+    private final int chunkSize;
+
+    // キャッシュを作成中の送信（作成役）。同じデータバージョンの送信は1つの取得にまとめる
+    private final AtomicReference<Fill> inFlight = new AtomicReference<>();
+
+    public StudentListStreamWriter(ObjectMapper objectMapper,
+                                   StudentDetailService studentDetailService,
+                                   StudentListResponseCache studentListResponseCache,
+                                   @Value("${student.list-streaming.enabled:true}") boolean enabled,
+                                   @Value("${student.list-streaming.chunk-size:500}") int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.studentDetailService = studentDetailService;
+        this.studentListResponseCache = studentListResponseCache;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * ストリーミングでの応答が有効かを返します。
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 全学生一覧を書き込むレスポンスボディを生成します。
+     * 書き込みはSpring MVCの非同期処理のスレッドで行われます。
+     *
+     * @param observedVersion データ取得前に取得したデータバージョン（{@link StudentListResponseCache#currentVersion()}）。
+     *                        送信中に更新が入った場合は写しをキャッシュしない
+     * @param message         レスポンスのメッセージ
+     * @return レスポンスボディ
+     */
+    public StreamingResponseBody stream(long observedVersion, String message) {
+        // 非同期処理のスレッドではインターセプターが設定した処理期限が破棄されているため、ここで取得して引き継ぐ
+        RequestDeadline deadline = RequestDeadline.current().orElse(null);
+        return out -> {
+            if (deadline != null) {
+                deadline.attach();
+            }
+            try {
+                writeOrJoin(out, message, observedVersion, deadline);
+            } finally {
+                if (deadline != null) {
+                    RequestDeadline.clear();
+                }
+            }
+        };
+    }
+
+    // 作成役がいなければ自分が作成役として取得・送信し、いれば作成役の完了を待ってキャッシュの内容を送信する
+    private void writeOrJoin(OutputStream out, String message, long observedVersion, RequestDeadline deadline)
+            throws IOException {
+        Fill own = new Fill(observedVersion, new CompletableFuture<>());
+        Fill fill = claim(own);
+        if (fill == own) {
+            fillCache(out, message, own);
+            return;
+        }
+        EncodedBody filled = await(fill, deadline);
+        if (filled != null) {
+            out.write(filled.json());
+        } else {
+            write(out, message);
+        }
+    }
+
+    // 同じデータバージョンの作成役がいなければ自分が作成役となる（古いバージョンの作成役は置き換える）
+    private Fill claim(Fill fill) {
+        while (true) {
+            Fill current = inFlight.get();
+            if (current != null && current.version() == fill.version()) {
+                return current;
+            }
+            if (inFlight.compareAndSet(current, fill)) {
+                return fill;
+            }
+        }
+    }
+
+    private void fillCache(OutputStream out, String message, Fill fill) throws IOException {
+        EncodedBody filled = null;
+        try {
+            // 直前の作成役がキャッシュを保存してから作成役を解除するまでの間に確認をすり抜けた場合は、保存済みの内容を使う
+            EncodedBody cached = studentListResponseCache.getCached();
+            if (cached != null && cached.version() == fill.version()) {
+                filled = cached;
+                out.write(cached.json());
+                return;
+            }
+            CopyingOutputStream copying = new CopyingOutputStream(out, studentListResponseCache.maxBytes());
+            write(copying, message);
+            byte[] copied = copying.copied();
+            if (copied != null) {
+                filled = studentListResponseCache.store(fill.version(), copied);
+            }
+        } finally {
+            inFlight.compareAndSet(fill, null);
+            fill.result().complete(filled);
+        }
+    }
+
+    // 作成役の完了を処理期限まで待つ（キャッシュに保存されなかった場合はnull）
+    private static EncodedBody await(Fill fill, RequestDeadline deadline) {
+        try {
+            if (deadline == null) {
+                return fill.result().get();
+            }
+            return fill.result().get(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("学生一覧の取得中の他のリクエストの完了待ちが処理期限を過ぎました");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("学生一覧の取得中の他のリクエストの完了待ちで割り込まれました", e);
+        } catch (ExecutionException e) {
+            // 作成役は常に正常終了（complete）で完了を通知するため、発生しない
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 全学生一覧を {@code StudentColumnsResponse} と同じ形式のJSONとして書き込みます。
+     *
+     * @param out     出力先（クローズしません）
+     * @param message レスポンスのメッセージ
+     * @throws IOException 出力に失敗した場合
+     */
+    public void write(OutputStream out, String message) throws IOException {
+        JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        // 途中で失敗した場合に配列・オブジェクトを閉じて完全なJSONに見せかけない
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        gen.writeStartObject();
+        gen.writeFieldName(MESSAGE);
+        gen.writeString(message);
+        gen.writeFieldName(DATA);
+        gen.writeStartArray();
+        // 先頭部分を先に送信する（最初の学生の取得を待たない）
+        gen.flush();
+        try {
+            studentDetailService.scanAllStudentColumns(chunkSize, chunk -> {
+                try {
+                    StudentColumnsSerializer.writeElements(chunk, gen);
+                    gen.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+        gen.close();
+    }
+
+    /**
+     * キャッシュを作成中の送信。
+     *
+     * @param version 送信する一覧のデータバージョン
+     * @param result  保存したキャッシュ（保存しなかった場合はnull）で完了する
+     */
+    private record Fill(long version, CompletableFuture<EncodedBody> result) {
+    }
+
+    /**
+     * 書き込んだ内容を上限サイズまで写しとして保持する出力ストリーム。
+     */
+    private static final class CopyingOutputStream extends FilterOutputStream {
+
+        private final int limit;
+
+        // 上限を超えた場合はnull
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream(8192);
+
+        private CopyingOutputStream(OutputStream out, int limit) {
+            super(out);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (reserve(1)) {
+                copy.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (reserve(len)) {
+                copy.write(b, off, len);
+            }
+        }
+
+        private boolean reserve(int len) {
+            if (copy != null && copy.size() + len > limit) {
+                copy = null;
+            }
+            return copy != null;
+        }
+
+        private byte[] copied() {
+            return copy != null ? copy.toByteArray() : null;
+        }
+    }
+}
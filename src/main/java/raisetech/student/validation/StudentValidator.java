@@ -0,0 +1,208 @@
+package raisetech.student.validation;
+
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.domain.StudentDetail;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 学生登録・更新リクエスト（{@link Student}、{@link StudentDetail}）の入力チェックを行うバリデーター。
+ * {@link Student}・{@link StudentCourse} に付与されたBean Validationのアノテーションと同じ制約を、
+ * リフレクションを使用せずに直接チェックします（登録・更新のたびに実行されるため）。
+ * - カタカナ・都道府県・性別・ニックネームは正規表現を使用せず、文字の範囲・文字の比較でチェックします。
+ * - メールアドレスの形式チェックの正規表現は、クラスの読み込み時に一度だけコンパイルします。
+ * - エラーのフィールド名・エラーコード・メッセージはBean Validationと同じものを使用します。
+ * アノテーションの制約を変更した場合は、このクラスも合わせて変更してください（StudentValidatorTestで一致を確認しています）。
+ */
+@Component
+public class StudentValidator implements Validator {
+
+    // メールアドレスのローカル部・ドメイン部（Hibernate Validatorの @Email と同じ規則。IPv6リテラルは対象外）
+    private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\\u0080-\\uFFFF-]";
+    private static final String LOCAL_PART_INSIDE_QUOTES_ATOM =
+            "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\\u0080-\\uFFFF-]|\\\\\\\\|\\\\\")";
+    private static final String LOCAL_PART_WORD = "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")";
+    private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\\u0080-\\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+    private static final String DOMAIN_LABEL = "(?:" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
+    private static final Pattern EMAIL_LOCAL_PART = Pattern.compile(
+            LOCAL_PART_WORD + "(?:\\." + LOCAL_PART_WORD + ")*", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EMAIL_DOMAIN = Pattern.compile(
+            DOMAIN_LABEL + "+(?:\\." + DOMAIN_LABEL + "+)*|\\[[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}]",
+            Pattern.CASE_INSENSITIVE);
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return Student.class.isAssignableFrom(clazz) || StudentDetail.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (target instanceof StudentDetail studentDetail) {
+            if (studentDetail.getStudent() != null) {
+                errors.pushNestedPath("student");
+                validateStudent(studentDetail.getStudent(), errors);
+                errors.popNestedPath();
+            }
+            validateCourses("studentCourses", studentDetail.getStudentCourses(), errors);
+        } else if (target instanceof Student student) {
+            validateStudent(student, errors);
+        }
+    }
+
+    private void validateStudent(Student student, Errors errors) {
+        if (student.getId() != null && student.getId() < 1) {
+            errors.rejectValue("id", "Min", "IDは1以上である必要があります");
+        }
+        if (isBlank(student.getName())) {
+            errors.rejectValue("name", "NotBlank", "名前は必須です");
+        }
+
+        String kanaName = student.getKanaName();
+        if (isBlank(kanaName)) {
+            errors.rejectValue("kanaName", "NotBlank", "名前（カナ）は必須です");
+        }
+        if (kanaName != null && !isKatakana(kanaName)) {
+            errors.rejectValue("kanaName", "Pattern", "名前（カナ）は全角カタカナのみ使用できます");
+        }
+
+        if (student.getNickname() != null && !isAlphanumeric(student.getNickname())) {
+            errors.rejectValue("nickname", "Pattern", "ニックネームは半角英数字のみ使用できます");
+        }
+
+        String email = student.getEmail();
+        if (isBlank(email)) {
+            errors.rejectValue("email", "NotBlank", "メールアドレスは必須です");
+        }
+        if (email != null && !email.isEmpty() && !isEmail(email)) {
+            errors.rejectValue("email", "Email", "メールアドレスの形式が正しくありません");
+        }
+
+        String area = student.getArea();
+        if (area != null && !endsWithPrefectureSuffix(area)) {
+            errors.rejectValue("area", "Pattern", "住所エリアには「都」「道」「府」「県」を含めてください");
+        }
+        if (isBlank(area)) {
+            errors.rejectValue("area", "NotBlank", "住所（エリア）は必須です");
+        }
+
+        Integer age = student.getAge();
+        if (age != null && age < 0) {
+            errors.rejectValue("age", "Min", "年齢は0歳以上である必要があります");
+        }
+        if (age != null && age > 150) {
+            errors.rejectValue("age", "Max", "年齢は150歳以下である必要があります");
+        }
+
+        if (student.getSex() != null && !isSex(student.getSex())) {
+            errors.rejectValue("sex", "Pattern", "性別は「男性」「女性」「その他」のいずれかを指定してください");
+        }
+        if (student.getDeleted() == null) {
+            errors.rejectValue("deleted", "NotNull", "isDeletedフラグは必須です");
+        }
+
+        validateCourses("studentCourses", student.getStudentCourses(), errors);
+    }
+
+    private void validateCourses(String path, List<StudentCourse> courses, Errors errors) {
+        if (courses == null) {
+            return;
+        }
+        for (int i = 0; i < courses.size(); i++) {
+            StudentCourse course = courses.get(i);
+            if (course == null) {
+                continue;
+            }
+            if (isBlank(course.getCourseName())) {
+                errors.rejectValue(path + "[" + i + "].courseName", "NotBlank", "コース名は必須です");
+            }
+            if (course.getCourseName() != null && course.getCourseName().length() > StudentCourse.COURSE_NAME_MAX_LENGTH) {
+                errors.rejectValue(path + "[" + i + "].courseName", "Size", "コース名は255文字以内で入力してください");
+            }
+        }
+    }
+
+    // @NotBlank と同じ判定（前後の空白・制御文字を除いて空かどうか）
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ^[\u30A0-\u30FF]+$ と同じ判定（全角カタカナ）
+    static boolean isKatakana(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '\u30A0' || c > '\u30FF') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ^[a-zA-Z0-9]+$ と同じ判定
+    static boolean isAlphanumeric(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean alphanumeric = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            if (!alphanumeric) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ^(.*[都道府県])$ と同じ判定（「.」は改行文字に一致しない）
+    static boolean endsWithPrefectureSuffix(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char last = value.charAt(value.length() - 1);
+        if (last != '都' && last != '道' && last != '府' && last != '県') {
+            return false;
+        }
+        for (int i = 0; i < value.length() - 1; i++) {
+            char c = value.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ^(男性|女性|その他)?$ と同じ判定
+    static boolean isSex(String value) {
+        return value.isEmpty() || value.equals("男性") || value.equals("女性") || value.equals("その他");
+    }
+
+    // @Email と同じ判定（空文字は対象外。ドメインの長さ（IDN変換後）のチェックは行わない）
+    static boolean isEmail(String value) {
+        int at = value.lastIndexOf('@');
+        if (at < 0) {
+            return false;
+        }
+        String localPart = value.substring(0, at);
+        String domainPart = value.substring(at + 1);
+        return localPart.length() <= MAX_LOCAL_PART_LENGTH
+                && EMAIL_LOCAL_PART.matcher(localPart).matches()
+                && !domainPart.endsWith(".")
+                && EMAIL_DOMAIN.matcher(domainPart).matches();
+    }
+}
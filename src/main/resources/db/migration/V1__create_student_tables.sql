@@ -0,0 +1,24 @@
+-- 学生情報・コース情報のテーブル（MySQL・H2（MySQLモード）共通）
+-- 既存のデータベースでは baseline（バージョン1）として扱われ、このマイグレーションは実行されません
+CREATE TABLE IF NOT EXISTS student
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    kana_name  VARCHAR(100) NOT NULL,
+    nickname   VARCHAR(100),
+    email      VARCHAR(255) NOT NULL,
+    area       VARCHAR(100) NOT NULL,
+    age        INT,
+    sex        VARCHAR(10),
+    remark     VARCHAR(1000),
+    is_deleted BOOLEAN      NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE IF NOT EXISTS student_courses
+(
+    id              BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    course_name     VARCHAR(255) NOT NULL,
+    student_id      BIGINT       NOT NULL,
+    course_start_at DATE,
+    course_end_at   DATE
+);
@@ -0,0 +1,11 @@
+-- 冪等キーごとの処理結果（student.idempotency.store=jdbc の場合に使用）
+CREATE TABLE IF NOT EXISTS idempotency_records
+(
+    idempotency_key VARCHAR(320) NOT NULL PRIMARY KEY,
+    request_hash    CHAR(64)     NOT NULL,
+    response_status INT          NOT NULL,
+    response_body   LONGBLOB     NOT NULL,
+    expires_at      TIMESTAMP(3) NOT NULL
+);
+
+CREATE INDEX idx_idempotency_records_expires_at ON idempotency_records (expires_at);
@@ -0,0 +1,28 @@
+-- 論理削除された学生情報のアーカイブ（student.archive.enabled=true の場合に使用）
+CREATE TABLE IF NOT EXISTS student_archive
+(
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    kana_name   VARCHAR(100) NOT NULL,
+    nickname    VARCHAR(100),
+    email       VARCHAR(255) NOT NULL,
+    area        VARCHAR(100) NOT NULL,
+    age         INT,
+    sex         VARCHAR(10),
+    remark      VARCHAR(1000),
+    is_deleted  BOOLEAN      NOT NULL,
+    archived_at TIMESTAMP(3) NOT NULL
+);
+
+-- アーカイブされた学生のコース情報
+CREATE TABLE IF NOT EXISTS student_courses_archive
+(
+    id              BIGINT       NOT NULL PRIMARY KEY,
+    course_name     VARCHAR(255) NOT NULL,
+    student_id      BIGINT       NOT NULL,
+    course_start_at DATE,
+    course_end_at   DATE,
+    archived_at     TIMESTAMP(3) NOT NULL
+);
+
+CREATE INDEX idx_student_courses_archive_student_id ON student_courses_archive (student_id);
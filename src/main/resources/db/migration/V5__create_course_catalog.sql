@@ -0,0 +1,32 @@
+-- コース名のマスタ（コース情報はコース名の文字列ではなく、コースIDで参照する）
+CREATE TABLE IF NOT EXISTS course
+(
+    id   BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_course_name UNIQUE (name)
+);
+
+-- 既存のコース情報（アーカイブを含む）のコース名をマスタへ登録
+INSERT INTO course (name)
+SELECT course_name FROM student_courses
+UNION
+SELECT course_name FROM student_courses_archive;
+
+-- コース情報: コース名をコースIDに置き換え
+ALTER TABLE student_courses ADD COLUMN course_id BIGINT;
+UPDATE student_courses
+SET course_id = (SELECT c.id FROM course c WHERE c.name = student_courses.course_name);
+ALTER TABLE student_courses MODIFY COLUMN course_id BIGINT NOT NULL;
+ALTER TABLE student_courses DROP COLUMN course_name;
+
+-- コースによる絞り込み・コースごとの集計用のインデックスと外部キー
+CREATE INDEX idx_student_courses_course_id_student_id ON student_courses (course_id, student_id);
+ALTER TABLE student_courses
+    ADD CONSTRAINT fk_student_courses_course FOREIGN KEY (course_id) REFERENCES course (id);
+
+-- アーカイブされたコース情報: 同様にコースIDに置き換え
+ALTER TABLE student_courses_archive ADD COLUMN course_id BIGINT;
+UPDATE student_courses_archive
+SET course_id = (SELECT c.id FROM course c WHERE c.name = student_courses_archive.course_name);
+ALTER TABLE student_courses_archive MODIFY COLUMN course_id BIGINT NOT NULL;
+ALTER TABLE student_courses_archive DROP COLUMN course_name;
@@ -0,0 +1,18 @@
+-- 非同期エクスポートのジョブ（POST /api/exports で登録し、ワーカーが実行する。再起動後も実行中・待機中のジョブを再開する）
+CREATE TABLE IF NOT EXISTS export_jobs
+(
+    id                 VARCHAR(36)   NOT NULL PRIMARY KEY,
+    format             VARCHAR(10)   NOT NULL,
+    status             VARCHAR(10)   NOT NULL,
+    total_students     BIGINT,
+    processed_students BIGINT        NOT NULL DEFAULT 0,
+    file_name          VARCHAR(255),
+    file_size          BIGINT,
+    error_message      VARCHAR(1000),
+    created_at         TIMESTAMP(3)  NOT NULL,
+    updated_at         TIMESTAMP(3)  NOT NULL,
+    completed_at       TIMESTAMP(3)
+);
+
+-- 待機中のジョブの取得（登録順）・期限切れのジョブの削除用
+CREATE INDEX idx_export_jobs_status_created_at ON export_jobs (status, created_at);
@@ -0,0 +1,76 @@
+package raisetech.student;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.student.exception.ExportJobNotFoundException;
+import raisetech.student.exception.TooManyRequestsException;
+import raisetech.student.export.ExportFormat;
+import raisetech.student.export.ExportJob;
+import raisetech.student.export.ExportJobStatus;
+import raisetech.student.export.ExportJobWorker;
+import raisetech.student.repository.ExportJobRepository;
+import raisetech.student.service.ExportJobService;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ExportJobServiceの単体テストクラス。
+ */
+@ExtendWith(MockitoExtension.class)
+public class ExportJobServiceTest {
+
+    @Mock
+    private ExportJobRepository exportJobRepository;
+
+    @Mock
+    private ExportJobWorker exportJobWorker;
+
+    @InjectMocks
+    private ExportJobService sut;
+
+    @Test
+    void ジョブを実行待ちで登録してワーカーに渡す() {
+        when(exportJobWorker.trySubmit(anyString())).thenReturn(true);
+
+        ExportJob job = sut.submit(ExportFormat.CSV);
+
+        ArgumentCaptor<ExportJob> inserted = ArgumentCaptor.forClass(ExportJob.class);
+        verify(exportJobRepository).insert(inserted.capture());
+        assertThat(inserted.getValue()).isEqualTo(job);
+        assertThat(job.status()).isEqualTo(ExportJobStatus.QUEUED);
+        assertThat(job.format()).isEqualTo(ExportFormat.CSV);
+        verify(exportJobWorker).trySubmit(job.id());
+        verify(exportJobRepository, never()).deleteById(anyString());
+    }
+
+    @Test
+    void ワーカーの待ち行列がいっぱいの場合は登録を取り消して例外をスローする() {
+        when(exportJobWorker.trySubmit(anyString())).thenReturn(false);
+
+        assertThatThrownBy(() -> sut.submit(ExportFormat.XLSX))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        ArgumentCaptor<ExportJob> inserted = ArgumentCaptor.forClass(ExportJob.class);
+        verify(exportJobRepository).insert(inserted.capture());
+        verify(exportJobRepository).deleteById(inserted.getValue().id());
+    }
+
+    @Test
+    void 存在しないジョブの場合は例外をスローする() {
+        when(exportJobRepository.findById("unknown")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> sut.find("unknown"))
+                .isInstanceOf(ExportJobNotFoundException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package raisetech.student;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import raisetech.student.data.Student;
+import raisetech.student.event.StudentChangedEvent;
+import raisetech.student.exception.StudentNotFoundException;
+import raisetech.student.repository.StudentArchiveRepository;
+import raisetech.student.repository.StudentRepository;
+import raisetech.student.service.StudentArchiveService;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * StudentArchiveServiceの単体テストクラス。
+ */
+@ExtendWith(MockitoExtension.class)
+public class StudentArchiveServiceTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private StudentArchiveRepository studentArchiveRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private StudentArchiveService sut;
+
+    @Test
+    void 論理削除された学生とコース情報をアーカイブテーブルへ移動する() {
+        List<Long> ids = List.of(3L, 5L);
+        when(studentArchiveRepository.lockDeletedStudentIds(100)).thenReturn(ids);
+
+        int archived = sut.archiveDeletedStudents(100);
+
+        assertThat(archived).isEqualTo(2);
+        var order = inOrder(studentArchiveRepository);
+        order.verify(studentArchiveRepository).copyStudentsToArchive(eq(ids), any());
+        order.verify(studentArchiveRepository).copyStudentCoursesToArchive(eq(ids), any());
+        order.verify(studentArchiveRepository).deleteStudentCourses(ids);
+        order.verify(studentArchiveRepository).deleteDeletedStudents(ids);
+        verify(eventPublisher).publishEvent(new StudentChangedEvent(Set.of(3L, 5L)));
+    }
+
+    @Test
+    void アーカイブ対象がない場合は何も行わない() {
+        when(studentArchiveRepository.lockDeletedStudentIds(100)).thenReturn(List.of());
+
+        assertThat(sut.archiveDeletedStudents(100)).isZero();
+
+        verify(studentArchiveRepository, never()).copyStudentsToArchive(anyList(), any());
+        verify(eventPublisher, never()).publishEvent(any(StudentChangedEvent.class));
+    }
+
+    @Test
+    void アーカイブ前の学生は削除フラグを戻して復元する() {
+        when(studentRepository.restoreById(1L)).thenReturn(1);
+
+        sut.restoreStudentById(1L);
+
+        verify(studentArchiveRepository, never()).restoreStudent(any());
+        verify(eventPublisher).publishEvent(StudentChangedEvent.of(1L));
+    }
+
+    @Test
+    void アーカイブ済みの学生はコース情報とあわせて復元する() {
+        when(studentRepository.restoreById(1L)).thenReturn(0);
+        when(studentArchiveRepository.restoreStudent(1L)).thenReturn(1);
+
+        sut.restoreStudentById(1L);
+
+        var order = inOrder(studentArchiveRepository);
+        order.verify(studentArchiveRepository).restoreStudent(1L);
+        order.verify(studentArchiveRepository).restoreStudentCourses(1L);
+        order.verify(studentArchiveRepository).deleteArchivedStudentCourses(1L);
+        order.verify(studentArchiveRepository).deleteArchivedStudent(1L);
+        verify(eventPublisher).publishEvent(StudentChangedEvent.of(1L));
+    }
+
+    @Test
+    void 削除されていない学生の復元では何も変更しない() {
+        when(studentRepository.restoreById(1L)).thenReturn(0);
+        when(studentArchiveRepository.restoreStudent(1L)).thenReturn(0);
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(new Student()));
+
+        sut.restoreStudentById(1L);
+
+        verify(studentArchiveRepository, never()).restoreStudentCourses(any());
+        verify(eventPublisher, never()).publishEvent(any(StudentChangedEvent.class));
+    }
+
+    @Test
+    void 存在しない学生の復元ではStudentNotFoundExceptionをスローする() {
+        when(studentRepository.restoreById(999L)).thenReturn(0);
+        when(studentArchiveRepository.restoreStudent(999L)).thenReturn(0);
+        when(studentRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> sut.restoreStudentById(999L))
+                .isInstanceOf(StudentNotFoundException.class);
+    }
+}
@@ -5,9 +5,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 import raisetech.student.data.Student;
 import raisetech.student.data.StudentCourse;
+import raisetech.student.event.CourseEnrollmentChangedEvent;
+import raisetech.student.repository.CourseRepository;
 import raisetech.student.repository.StudentCourseRepository;
 import raisetech.student.service.StudentCourseService;
 
@@ -15,6 +18,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -38,6 +42,12 @@ public class StudentCourseServiceTest {
     @Mock
     private StudentCourseRepository studentCourseRepository; // リポジトリのモック
 
+    @Mock
+    private CourseRepository courseRepository; // コースマスタのリポジトリのモック
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher; // イベント発行のモック
+
     @InjectMocks
     private StudentCourseService sut; // テスト対象クラス
 
@@ -62,6 +72,16 @@ public class StudentCourseServiceTest {
         assertThat(result).containsExactlyElementsOf(expectedList);
     }
 
+    /**
+     * コースのない学生の場合は空のリストを返すテスト
+     */
+    @Test
+    public void コースのない学生は空のリストを返すテスト() {
+        when(studentCourseRepository.findByStudentId(101L)).thenReturn(List.of());
+
+        assertThat(sut.findByStudentId(101L)).isEmpty();
+    }
+
     /**
      * 学生IDがnullの場合にIllegalArgumentExceptionがスローされるテスト
      */
@@ -421,4 +441,81 @@ public class StudentCourseServiceTest {
         assertThatCode(() -> verifyNoMoreInteractions(studentCourseRepository))
                 .doesNotThrowAnyException();
     }
+
+    /**
+     * 登録・コース名の変更・削除によるコースごとの受講者数の増減が、1つのイベントで通知されることを確認するテスト。
+     */
+    @Test
+    public void コースの登録更新削除で受講者数の増減が通知される() {
+        List<StudentCourse> existingCourses = List.of(
+                new StudentCourse(1L, 101L, "Java", null, null),
+                new StudentCourse(2L, 101L, "AWS", null, null)
+        );
+        List<StudentCourse> newCourses = List.of(
+                new StudentCourse(1L, 101L, "Python", null, null), // コース名の変更
+                new StudentCourse(null, 101L, "Java", null, null) // 新規登録（AWSは削除）
+        );
+        when(studentCourseRepository.findByStudentId(101L)).thenReturn(existingCourses);
+
+        sut.courseList(newCourses, 101L);
+
+        verify(eventPublisher).publishEvent(new CourseEnrollmentChangedEvent(Map.of("Python", 1L, "AWS", -1L)));
+    }
+
+    /**
+     * 未登録のコース名のみコースマスタへ登録されることを確認するテスト。
+     */
+    @Test
+    public void 未登録のコース名のみマスタへ登録される() {
+        when(studentCourseRepository.findByStudentId(101L)).thenReturn(new ArrayList<>());
+        when(courseRepository.findNameByName("Java")).thenReturn("Java");
+        when(courseRepository.findNameByName("Go")).thenReturn(null);
+        List<StudentCourse> newCourses = List.of(
+                new StudentCourse(null, 101L, "Java", null, null),
+                new StudentCourse(null, 101L, "Go", null, null)
+        );
+
+        sut.courseList(newCourses, 101L);
+
+        verify(courseRepository).insertIfAbsent("Go");
+        verify(courseRepository, never()).insertIfAbsent("Java");
+        verify(studentCourseRepository, times(2)).insertCourse(any(StudentCourse.class));
+    }
+
+    /**
+     * 列長を超えるコース名はマスタへ登録せずにエラーとなることを確認するテスト。
+     */
+    @Test
+    public void 列長を超えるコース名はマスタへ登録しない() {
+        when(studentCourseRepository.findByStudentId(101L)).thenReturn(new ArrayList<>());
+        List<StudentCourse> newCourses = List.of(new StudentCourse(null, 101L,
+                "a".repeat(StudentCourse.COURSE_NAME_MAX_LENGTH + 1), null, null));
+
+        assertThatThrownBy(() -> sut.courseList(newCourses, 101L))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(courseRepository, never()).insertIfAbsent(any());
+        verify(studentCourseRepository, never()).insertCourse(any(StudentCourse.class));
+    }
+
+    /**
+     * 大文字・小文字のみ異なるコース名で登録・変更した場合、受講者数の増減がマスタのコース名で通知されることを確認するテスト。
+     */
+    @Test
+    public void 受講者数の増減はマスタに登録されたコース名で通知される() {
+        List<StudentCourse> existingCourses = List.of(new StudentCourse(1L, 101L, "AWS", null, null));
+        List<StudentCourse> newCourses = List.of(
+                new StudentCourse(1L, 101L, "aws", null, null), // 表記のみの変更
+                new StudentCourse(null, 101L, "java", null, null) // 登録済みの「Java」と同じコース
+        );
+        when(studentCourseRepository.findByStudentId(101L)).thenReturn(existingCourses);
+        when(courseRepository.findNameByName("aws")).thenReturn("AWS");
+        when(courseRepository.findNameByName("java")).thenReturn("Java");
+
+        sut.courseList(newCourses, 101L);
+
+        verify(courseRepository, never()).insertIfAbsent(any());
+        verify(eventPublisher).publishEvent(new CourseEnrollmentChangedEvent(Map.of("Java", 1L)));
+        assertThat(newCourses.get(1).getCourseName()).isEqualTo("Java");
+    }
 }
@@ -1,20 +1,34 @@
 package raisetech.student;
 
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.student.cache.StudentDetailCache;
+import raisetech.student.concurrent.RequestCoalescer;
 import raisetech.student.data.Student;
 import raisetech.student.data.StudentCourse;
 import raisetech.student.domain.StudentDetail;
+import raisetech.student.domain.StudentFieldSet;
+import raisetech.student.domain.columnar.StudentColumns;
+import raisetech.student.domain.columnar.StudentListRow;
+import raisetech.student.exception.StudentNotFoundException;
 import raisetech.student.repository.StudentRepository;
 import raisetech.student.service.StudentCourseService;
 import raisetech.student.service.StudentDetailService;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
 class StudentDetailServiceTest {
@@ -25,6 +39,12 @@ class StudentDetailServiceTest {
     @Mock
     private StudentCourseService studentCourseService;
 
+    @Mock
+    private StudentDetailCache studentDetailCache;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(Duration.ofSeconds(1));
+
     @InjectMocks
     private StudentDetailService sut;
 
@@ -129,4 +149,174 @@ class StudentDetailServiceTest {
         // リポジトリが呼ばれたことを確認
         Mockito.verify(studentRepository, Mockito.times(1)).findAllStudents();
     }
+
+    /**
+     * 正常系テスト：全学生の一覧を1回の走査で列指向の構造に詰め替える
+     */
+    @Test
+    void 正常系_全学生の一覧を列指向で取得する() {
+        Mockito.doAnswer(invocation -> {
+            ResultHandler<StudentListRow> handler = invocation.getArgument(0);
+            DefaultResultContext<StudentListRow> context = new DefaultResultContext<>();
+            for (StudentListRow row : List.of(
+                    new StudentListRow(1L, "田中太郎", "タナカ", null, "tanaka@example.com", "東京都", 25, "男性", null, false,
+                            1L, "Java", null, null),
+                    new StudentListRow(1L, "田中太郎", "タナカ", null, "tanaka@example.com", "東京都", 25, "男性", null, false,
+                            2L, "PHP", null, null),
+                    new StudentListRow(2L, "佐藤花子", "サトウ", null, "satou@example.com", "大阪府", 30, "女性", null, false,
+                            null, null, null, null))) {
+                context.nextResultObject(row);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(studentRepository).scanAllStudentsWithCourses(Mockito.any());
+
+        StudentColumns result = sut.findAllStudentColumns();
+
+        Assertions.assertThat(result.size()).isEqualTo(2);
+        Assertions.assertThat(result.courseCount()).isEqualTo(2);
+        Assertions.assertThat(result.name(1)).isEqualTo("佐藤花子");
+        Mockito.verifyNoInteractions(studentCourseService);
+    }
+
+    /**
+     * 正常系テスト：全学生の一覧を指定人数ごとに分割して渡し、同じ学生のコース情報は分割をまたがない
+     */
+    @Test
+    void 正常系_全学生の一覧を指定人数ごとに分割して渡す() {
+        Mockito.doAnswer(invocation -> {
+            ResultHandler<StudentListRow> handler = invocation.getArgument(0);
+            DefaultResultContext<StudentListRow> context = new DefaultResultContext<>();
+            long courseId = 1;
+            for (long id = 1; id <= 5; id++) {
+                // 2人目はコース情報が2件
+                for (int c = 0; c < (id == 2 ? 2 : 1); c++) {
+                    context.nextResultObject(new StudentListRow(id, "学生" + id, "ガクセイ", null, null, "東京都", 20, "男性",
+                            null, false, courseId++, "Java", null, null));
+                    handler.handleResult(context);
+                }
+            }
+            return null;
+        }).when(studentRepository).scanAllStudentsWithCourses(Mockito.any());
+
+        List<StudentColumns> chunks = new ArrayList<>();
+        sut.scanAllStudentColumns(2, chunks::add);
+
+        Assertions.assertThat(chunks).extracting(StudentColumns::size).containsExactly(2, 2, 1);
+        Assertions.assertThat(chunks.get(0).courseCount()).isEqualTo(3);
+        Assertions.assertThat(chunks.get(2).id(0)).isEqualTo(5L);
+    }
+
+    /**
+     * 正常系テスト：学生詳細を1回のクエリで取得しキャッシュに保存する
+     */
+    @Test
+    void 正常系_ID指定で学生詳細を取得しキャッシュに保存する() {
+        List<StudentCourse> courses = List.of(new StudentCourse(1L, 1L, "Java", null, null));
+        Student student = new Student(1L, "田中太郎", "タナカタロウ", null, "tanaka@example.com", "東京都", 25, "男性", null, false, courses);
+        Mockito.when(studentDetailCache.get(1L)).thenReturn(null);
+        Mockito.when(studentDetailCache.generation()).thenReturn(3L);
+        Mockito.when(studentRepository.findDetailById(1L)).thenReturn(Optional.of(student));
+
+        StudentDetail actual = sut.findStudentDetailById(1L);
+
+        Assertions.assertThat(actual.getStudent()).isSameAs(student);
+        Assertions.assertThat(actual.getStudentCourses()).containsExactlyElementsOf(courses);
+        Mockito.verify(studentDetailCache).put(1L, actual, 3L);
+        Mockito.verifyNoInteractions(studentCourseService); // コースを個別に取得しない
+    }
+
+    /**
+     * 正常系テスト：キャッシュに存在する場合はDBへ問い合わせない
+     */
+    @Test
+    void 正常系_キャッシュに存在する学生詳細はDBへ問い合わせずに返す() {
+        StudentDetail cached = new StudentDetail();
+        Mockito.when(studentDetailCache.get(1L)).thenReturn(cached);
+
+        Assertions.assertThat(sut.findStudentDetailById(1L)).isSameAs(cached);
+        Mockito.verifyNoInteractions(studentRepository);
+    }
+
+    /**
+     * 異常系テスト：存在しない学生IDの場合
+     */
+    @Test
+    void 異常系_存在しない学生IDの場合は例外をスローする() {
+        Mockito.when(studentRepository.findDetailById(99L)).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> sut.findStudentDetailById(99L))
+                .isInstanceOf(StudentNotFoundException.class)
+                .hasMessageContaining("学生が見つかりません");
+        Mockito.verify(studentDetailCache, Mockito.never()).put(Mockito.any(), Mockito.any(), Mockito.anyLong());
+    }
+
+    /**
+     * 正常系テスト：一括取得ではキャッシュ済みのIDを除いて学生・コースを1回ずつ取得する
+     */
+    @Test
+    void 正常系_複数IDの一括取得はキャッシュ未登録分のみ一括で問い合わせる() {
+        StudentDetail cached = new StudentDetail();
+        Student student = new Student(2L, "佐藤花子", "サトウハナコ", null, "satou@example.com", "大阪府", 30, "女性", null, false, null);
+        List<StudentCourse> courses = List.of(new StudentCourse(5L, 2L, "PHP", null, null));
+
+        Mockito.when(studentDetailCache.get(1L)).thenReturn(cached);
+        Mockito.when(studentDetailCache.get(2L)).thenReturn(null);
+        Mockito.when(studentDetailCache.get(3L)).thenReturn(null);
+        Mockito.when(studentRepository.findByIds(Set.of(2L, 3L))).thenReturn(List.of(student));
+        Mockito.when(studentCourseService.findByStudentIds(List.of(2L))).thenReturn(Map.of(2L, courses));
+
+        Map<Long, StudentDetail> actual = sut.findStudentDetailsByIds(List.of(1L, 2L, 3L, 2L));
+
+        Assertions.assertThat(actual).containsOnlyKeys(1L, 2L);
+        Assertions.assertThat(actual.get(1L)).isSameAs(cached);
+        Assertions.assertThat(actual.get(2L).getStudent().getStudentCourses()).containsExactlyElementsOf(courses);
+        Mockito.verify(studentRepository, Mockito.times(1)).findByIds(Mockito.anyCollection());
+    }
+
+    /**
+     * 正常系テスト：フィールド指定の一覧ではコース情報を一定人数ずつ区切って取得する
+     */
+    @Test
+    void 正常系_フィールド指定の一覧はコース情報を一括で取得しコースのない学生は空とする() {
+        StudentFieldSet fieldSet = StudentFieldSet.parse("id,studentCourses.courseName");
+        Student tanaka = new Student(1L, null, null, null, null, null, null, null, null, null, null);
+        Student satou = new Student(2L, null, null, null, null, null, null, null, null, null, null);
+        Mockito.when(studentRepository.findAllStudentsWithFields(fieldSet.studentFields()))
+                .thenReturn(List.of(tanaka, satou));
+        Mockito.when(studentCourseService.findByStudentIds(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, List.of(new StudentCourse(10L, 1L, "Java", null, null))));
+
+        List<Map<String, Object>> actual = sut.findStudentViews(fieldSet);
+
+        Assertions.assertThat(actual).containsExactly(
+                Map.of("student", Map.of("id", 1L, "studentCourses", List.of(Map.of("courseName", "Java")))),
+                Map.of("student", Map.of("id", 2L, "studentCourses", List.of())));
+        Mockito.verify(studentCourseService, Mockito.never()).findByStudentId(Mockito.any());
+    }
+
+    /**
+     * 正常系テスト：学生数が多い場合もコース情報の取得1回あたりの学生IDは1000件までとする
+     */
+    @Test
+    void 正常系_フィールド指定の一覧は学生IDを1000件ずつに区切ってコース情報を取得する() {
+        StudentFieldSet fieldSet = StudentFieldSet.parse("id,studentCourses.courseName");
+        List<Student> students = new ArrayList<>();
+        for (long id = 1; id <= 1001; id++) {
+            students.add(new Student(id, null, null, null, null, null, null, null, null, null, null));
+        }
+        Mockito.when(studentRepository.findAllStudentsWithFields(fieldSet.studentFields())).thenReturn(students);
+        Mockito.when(studentCourseService.findByStudentIds(Mockito.anyCollection())).thenReturn(Map.of());
+        Mockito.when(studentCourseService.findByStudentIds(List.of(1001L)))
+                .thenReturn(Map.of(1001L, List.of(new StudentCourse(10L, 1001L, "Java", null, null))));
+
+        List<Map<String, Object>> actual = sut.findStudentViews(fieldSet);
+
+        Assertions.assertThat(actual).hasSize(1001);
+        Assertions.assertThat(actual.get(1000)).isEqualTo(
+                Map.of("student", Map.of("id", 1001L, "studentCourses", List.of(Map.of("courseName", "Java")))));
+        Mockito.verify(studentCourseService, Mockito.times(2)).findByStudentIds(Mockito.anyCollection());
+        Mockito.verify(studentCourseService).findByStudentIds(
+                Mockito.argThat(ids -> ids.size() == 1000 && ids.contains(1L) && ids.contains(1000L)));
+    }
 }
@@ -0,0 +1,56 @@
+package raisetech.student;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.student.domain.columnar.StudentListRow;
+import raisetech.student.export.ExportFormat;
+import raisetech.student.repository.StudentRepository;
+import raisetech.student.service.StudentExportService;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * StudentExportServiceの単体テストクラス。
+ */
+@ExtendWith(MockitoExtension.class)
+public class StudentExportServiceTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private Cursor<StudentListRow> cursor;
+
+    @InjectMocks
+    private StudentExportService sut;
+
+    @Test
+    void カーソルから読み出した行を順に書き込みカーソルをクローズする() throws Exception {
+        List<StudentListRow> rows = List.of(
+                new StudentListRow(1L, "山田太郎", "ヤマダタロウ", null, "taro@example.com", "東京都", 20, "男性", null, false,
+                        10L, "Javaコース", null, null),
+                new StudentListRow(2L, "佐藤花子", "サトウハナコ", null, "hanako@example.com", "大阪府", 25, "女性", null, false,
+                        null, null, null, null));
+        when(studentRepository.openAllStudentsWithCourses()).thenReturn(cursor);
+        when(cursor.iterator()).thenReturn(rows.iterator());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = sut.export(ExportFormat.CSV, out);
+
+        assertThat(written).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .contains("1,山田太郎,ヤマダタロウ,,taro@example.com,東京都,20,男性,,10,Javaコース,,\r\n")
+                .endsWith("2,佐藤花子,サトウハナコ,,hanako@example.com,大阪府,25,女性,,,,,\r\n");
+        verify(cursor).close();
+    }
+}
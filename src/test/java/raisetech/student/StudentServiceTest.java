@@ -2,16 +2,27 @@ package raisetech.student;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import raisetech.student.concurrent.RequestCoalescer;
 import raisetech.student.data.Student;
+import raisetech.student.domain.BulkUpdateOutcome;
+import raisetech.student.event.StudentChangedEvent;
 import raisetech.student.exception.StudentNotFoundException;
 import raisetech.student.repository.StudentRepository;
 import raisetech.student.service.StudentService;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,6 +45,12 @@ public class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(Duration.ofSeconds(1));
+
     @InjectMocks
     private StudentService sut;
 
@@ -207,6 +224,23 @@ public class StudentServiceTest {
         assertThat(result.getRemark()).isEqualTo("更新された備考");
     }
 
+    @Test
+    void 更新内容に変更がない場合は書き込みを行わないかのテスト_正常系() {
+        Long id = 1L;
+        Student existingStudent = new Student(id, "山田太郎", "ヤマダタロウ", "taro123",
+                "taro@example.com", "東京都", 20, "男性", "備考", false, null);
+        // 名前のみ指定（同じ値）、その他は未指定
+        Student request = new Student(id, "山田太郎", null, null, null, null, null, null, null, null, null);
+        when(studentRepository.findById(id)).thenReturn(Optional.of(existingStudent));
+
+        Student result = sut.save(id, request);
+
+        assertThat(result).isSameAs(existingStudent);
+        assertThat(result.getEmail()).isEqualTo("taro@example.com");
+        verify(studentRepository, never()).save(any(Student.class));
+        verify(eventPublisher, never()).publishEvent(any(StudentChangedEvent.class));
+    }
+
     @Test
     void 更新対象の学生が存在しない場合例外がスローされるかのテスト_異常系() {
         // 更新対象の学生データを準備
@@ -236,4 +270,47 @@ public class StudentServiceTest {
         verify(studentRepository, times(1)).findById(id);
         verify(studentRepository, never()).save(any(Student.class));
     }
+
+    @Test
+    void 一括削除で学生ごとの処理結果をリクエスト順に返しチャンクごとに一括更新する_正常系() {
+        // 501件（2チャンク）: 1〜499 は削除されていない学生、500 は削除済み、1000 は存在しない
+        List<Long> ids = new ArrayList<>();
+        ids.add(1000L);
+        LongStream.rangeClosed(1, 500).forEach(ids::add);
+        ids.add(1L); // 重複
+        List<Long> firstChunk = LongStream.rangeClosed(1, 500).boxed().toList();
+        List<Student> firstChunkFlags = LongStream.rangeClosed(1, 500)
+                .mapToObj(id -> new Student(id, null, null, null, null, null, null, null, null, id == 500, null))
+                .toList();
+        when(studentRepository.lockDeletedFlagsByIds(firstChunk)).thenReturn(firstChunkFlags);
+        when(studentRepository.updateDeletedByIds(firstChunk, true)).thenReturn(499);
+        when(studentRepository.lockDeletedFlagsByIds(List.of(1000L))).thenReturn(List.of());
+        when(studentRepository.updateDeletedByIds(List.of(1000L), true)).thenReturn(0);
+
+        Map<Long, BulkUpdateOutcome> result = sut.updateDeletedByIds(ids, true);
+
+        assertThat(result).hasSize(501);
+        assertThat(new ArrayList<>(result.keySet()).subList(0, 3)).containsExactly(1000L, 1L, 2L);
+        assertThat(result.get(1000L)).isEqualTo(BulkUpdateOutcome.NOT_FOUND);
+        assertThat(result.get(1L)).isEqualTo(BulkUpdateOutcome.UPDATED);
+        assertThat(result.get(500L)).isEqualTo(BulkUpdateOutcome.UNCHANGED);
+        verify(studentRepository, never()).findById(anyLong());
+        ArgumentCaptor<StudentChangedEvent> event = ArgumentCaptor.forClass(StudentChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().studentIds()).hasSize(499).doesNotContain(500L, 1000L);
+    }
+
+    @Test
+    void 一括復元で変更がない場合はイベントを発行しない_正常系() {
+        when(studentRepository.lockDeletedFlagsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                new Student(1L, null, null, null, null, null, null, null, null, false, null)));
+        when(studentRepository.updateDeletedByIds(List.of(1L, 2L), false)).thenReturn(0);
+
+        Map<Long, BulkUpdateOutcome> result = sut.updateDeletedByIds(List.of(2L, 1L), false);
+
+        assertThat(result).containsExactly(
+                Map.entry(2L, BulkUpdateOutcome.NOT_FOUND),
+                Map.entry(1L, BulkUpdateOutcome.UNCHANGED));
+        verify(eventPublisher, never()).publishEvent(any(StudentChangedEvent.class));
+    }
 }
@@ -0,0 +1,89 @@
+package raisetech.student;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.student.concurrent.RequestCoalescer;
+import raisetech.student.domain.stats.AgeBucketCount;
+import raisetech.student.domain.stats.AreaCount;
+import raisetech.student.domain.stats.CourseMonthlyEnrollment;
+import raisetech.student.repository.StudentStatsRepository;
+import raisetech.student.service.StudentStatsService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * StudentStatsServiceの単体テストクラス。
+ */
+@ExtendWith(MockitoExtension.class)
+public class StudentStatsServiceTest {
+
+    @Mock
+    private StudentStatsRepository studentStatsRepository;
+
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(Duration.ofSeconds(1));
+
+    @Test
+    void 有効期間内は集計結果をキャッシュから返す() {
+        StudentStatsService sut = new StudentStatsService(studentStatsRepository, requestCoalescer, Duration.ofMinutes(1));
+        List<AreaCount> areas = List.of(new AreaCount("東京都", 3), new AreaCount("大阪府", 1));
+        when(studentStatsRepository.countByArea()).thenReturn(areas);
+
+        assertThat(sut.countByArea()).isEqualTo(areas);
+        assertThat(sut.countByArea()).isEqualTo(areas);
+
+        verify(studentStatsRepository, times(1)).countByArea();
+    }
+
+    @Test
+    void 有効期間が切れた集計結果は再度集計する() {
+        StudentStatsService sut = new StudentStatsService(studentStatsRepository, requestCoalescer, Duration.ZERO);
+        when(studentStatsRepository.countByArea()).thenReturn(List.of());
+
+        sut.countByArea();
+        sut.countByArea();
+
+        verify(studentStatsRepository, times(2)).countByArea();
+    }
+
+    @Test
+    void 年齢の階級の幅ごとに集計結果をキャッシュする() {
+        StudentStatsService sut = new StudentStatsService(studentStatsRepository, requestCoalescer, Duration.ofMinutes(1));
+        when(studentStatsRepository.countByAgeBucket(10)).thenReturn(List.of(new AgeBucketCount(20, 29, 5)));
+        when(studentStatsRepository.countByAgeBucket(5)).thenReturn(List.of(new AgeBucketCount(20, 24, 2)));
+
+        assertThat(sut.countByAgeBucket(10)).containsExactly(new AgeBucketCount(20, 29, 5));
+        assertThat(sut.countByAgeBucket(5)).containsExactly(new AgeBucketCount(20, 24, 2));
+        assertThat(sut.countByAgeBucket(10)).containsExactly(new AgeBucketCount(20, 29, 5));
+
+        verify(studentStatsRepository, times(1)).countByAgeBucket(10);
+    }
+
+    @Test
+    void 集計期間の月を開始日と翌月初日に変換して集計する() {
+        StudentStatsService sut = new StudentStatsService(studentStatsRepository, requestCoalescer, Duration.ofMinutes(1));
+        List<CourseMonthlyEnrollment> enrollments = List.of(new CourseMonthlyEnrollment("Javaコース", 2025, 4, 12));
+        when(studentStatsRepository.countEnrollmentsByCourseAndMonth(LocalDate.of(2025, 4, 1), LocalDate.of(2026, 4, 1)))
+                .thenReturn(enrollments);
+
+        assertThat(sut.countEnrollmentsByCourseAndMonth(YearMonth.of(2025, 4), YearMonth.of(2026, 3)))
+                .isEqualTo(enrollments);
+    }
+
+    @Test
+    void 集計期間を指定しない場合は制限なしで集計する() {
+        StudentStatsService sut = new StudentStatsService(studentStatsRepository, requestCoalescer, Duration.ofMinutes(1));
+        when(studentStatsRepository.countEnrollmentsByCourseAndMonth(null, null)).thenReturn(List.of());
+
+        assertThat(sut.countEnrollmentsByCourseAndMonth(null, null)).isEmpty();
+    }
+}
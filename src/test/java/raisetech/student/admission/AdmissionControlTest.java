@@ -0,0 +1,222 @@
+package raisetech.student.admission;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import raisetech.student.admission.AdmissionControlInterceptor.Limits;
+import raisetech.student.exception.TooManyRequestsException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlTest {
+
+    @Test
+    void トークンバケットはバースト数まで取得でき補充後に再取得できる() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        long wait = bucket.tryAcquire();
+        assertThat(wait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        now.addAndGet(wait);
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.isIdle()).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(bucket.isIdle()).isTrue();
+    }
+
+    @Test
+    void 同時実行数の上限は応答遅延で減少し正常応答で増加する() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 8, Duration.ofMillis(100));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isZero();
+        }
+        assertThat(limiter.tryAcquire()).isNegative();
+
+        // 遅い応答で上限が減る（4 * 0.9 = 3）
+        limiter.release(0, TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.currentLimit()).isEqualTo(3);
+
+        // 枠を使っている状態での速い応答で上限が増える
+        limiter.release(0, TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(limiter.currentLimit()).isEqualTo(4);
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void 分割したトークンバケットも全体でバースト数まで取得できる() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucket bucket = new TokenBucket(10, 5, 4, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire()).isZero();
+        }
+        assertThat(bucket.tryAcquire()).isPositive();
+
+        // 4セル合計で1秒あたり10個（各セル400ミリ秒に1個）補充される
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.tryAcquire()).isZero();
+        }
+        assertThat(bucket.tryAcquire()).isPositive();
+    }
+
+    @Test
+    void 分割した同時実行数の上限も全体で上限まで確保でき解放したシャードから再確保できる() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(5, 4, 8, Duration.ofSeconds(1), 4);
+
+        int[] permits = new int[5];
+        for (int i = 0; i < 5; i++) {
+            permits[i] = limiter.tryAcquire();
+            assertThat(permits[i]).isNotNegative();
+        }
+        assertThat(limiter.tryAcquire()).isNegative();
+        assertThat(limiter.inFlight()).isEqualTo(5);
+
+        limiter.releaseWithoutSample(permits[4]);
+        assertThat(limiter.currentLimit()).isEqualTo(5);
+        assertThat(limiter.tryAcquire()).isNotNegative();
+    }
+
+    @Test
+    void クライアントごとの制限を超えると429用の例外をスローする() {
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+                new Limits(1, 2), new Limits(1000, 1000), new Limits(1000, 1000), 100,
+                () -> new AdaptiveConcurrencyLimiter(10, 1, 10, Duration.ofSeconds(1)));
+
+        admit(interceptor, "client-a");
+        admit(interceptor, "client-a");
+        assertThatThrownBy(() -> interceptor.preHandle(request("client-a"), new MockHttpServletResponse(), null))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(ex -> assertThat(((TooManyRequestsException) ex).getRetryAfterSeconds()).isEqualTo(1));
+
+        // 別のクライアントは影響を受けない
+        admit(interceptor, "client-b");
+    }
+
+    @Test
+    void 制限を超えたクライアントのリクエストはエンドポイントのトークンを消費しない() {
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+                new Limits(1, 2), new Limits(1, 3), new Limits(1000, 1000), 100,
+                () -> new AdaptiveConcurrencyLimiter(10, 1, 10, Duration.ofSeconds(1)));
+
+        admit(interceptor, "client-a");
+        admit(interceptor, "client-a");
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> interceptor.preHandle(request("client-a"), new MockHttpServletResponse(), null))
+                    .isInstanceOf(TooManyRequestsException.class);
+        }
+
+        // 同じエンドポイントの別のクライアントは受け付けられる
+        admit(interceptor, "client-b");
+    }
+
+    @Test
+    void 同時実行数の上限で拒否した場合は取得したトークンを返却する() {
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+                new Limits(1, 1), new Limits(1, 2), new Limits(1000, 1000), 100,
+                () -> new AdaptiveConcurrencyLimiter(1, 1, 1, Duration.ofSeconds(1)));
+
+        MockHttpServletRequest first = admit(interceptor, "client-a");
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> interceptor.preHandle(request("client-b"), new MockHttpServletResponse(), null))
+                    .isInstanceOf(TooManyRequestsException.class)
+                    .hasMessageContaining("同時実行数");
+        }
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        admit(interceptor, "client-b");
+    }
+
+    @Test
+    void 返却したトークンは再取得できるがバースト数は超えない() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        bucket.refund();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isPositive();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        bucket.refund();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isPositive();
+    }
+
+    @Test
+    void 同時実行数の上限に達すると拒否し処理完了で枠が解放される() {
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+                new Limits(1000, 1000), new Limits(1000, 1000), new Limits(1000, 1000), 100,
+                () -> new AdaptiveConcurrencyLimiter(1, 1, 1, Duration.ofSeconds(1)));
+
+        MockHttpServletRequest first = admit(interceptor, "client-a");
+        assertThatThrownBy(() -> interceptor.preHandle(request("client-b"), new MockHttpServletResponse(), null))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // 同時実行数の上限はエンドポイントごとのため、別のエンドポイントは影響を受けない
+        MockHttpServletRequest other = request("client-b");
+        other.setRequestURI("/api/students");
+        assertThat(interceptor.preHandle(other, new MockHttpServletResponse(), null)).isTrue();
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        admit(interceptor, "client-b");
+    }
+
+    @Test
+    void クライアントはヘッダではなく接続元アドレスで識別する() {
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+                new Limits(1, 1), new Limits(1000, 1000), new Limits(1000, 1000), 100,
+                () -> new AdaptiveConcurrencyLimiter(10, 1, 10, Duration.ofSeconds(1)));
+
+        MockHttpServletRequest first = request("client-a");
+        first.addHeader("X-Client-Id", "spoofed-1");
+        assertThat(interceptor.preHandle(first, new MockHttpServletResponse(), null)).isTrue();
+
+        MockHttpServletRequest second = request("client-a");
+        second.addHeader("X-Client-Id", "spoofed-2");
+        assertThatThrownBy(() -> interceptor.preHandle(second, new MockHttpServletResponse(), null))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void 非同期処理の再ディスパッチでは枠を確保せず完了時に最初の枠を解放する() {
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+                new Limits(1000, 1000), new Limits(1000, 1000), new Limits(1000, 1000), 100,
+                () -> new AdaptiveConcurrencyLimiter(1, 1, 1, Duration.ofSeconds(1)));
+
+        MockHttpServletRequest streaming = admit(interceptor, "client-a");
+        streaming.setDispatcherType(DispatcherType.ASYNC);
+        assertThat(interceptor.preHandle(streaming, new MockHttpServletResponse(), null)).isTrue();
+        AdaptiveConcurrencyLimiter limiter = interceptor.concurrencyLimiter("GET /api/students/1");
+        assertThat(limiter.inFlight()).isEqualTo(1);
+
+        interceptor.afterCompletion(streaming, new MockHttpServletResponse(), null, null);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private static MockHttpServletRequest admit(AdmissionControlInterceptor interceptor, String clientId) {
+        MockHttpServletRequest request = request(clientId);
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), null)).isTrue();
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String clientAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students/1");
+        request.setRemoteAddr(clientAddress);
+        return request;
+    }
+}
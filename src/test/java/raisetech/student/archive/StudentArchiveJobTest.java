@@ -0,0 +1,38 @@
+package raisetech.student.archive;
+
+import org.junit.jupiter.api.Test;
+import raisetech.student.service.StudentArchiveService;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * StudentArchiveJobのバッチ分割のテスト。
+ */
+class StudentArchiveJobTest {
+
+    private final StudentArchiveService studentArchiveService = mock(StudentArchiveService.class);
+
+    @Test
+    void 対象がなくなるまでバッチ単位で移動する() {
+        when(studentArchiveService.archiveDeletedStudents(10)).thenReturn(10, 10, 3);
+        StudentArchiveJob sut = new StudentArchiveJob(studentArchiveService, 10, 100, Duration.ZERO);
+
+        assertThat(sut.archiveDeletedStudents()).isEqualTo(23);
+        verify(studentArchiveService, times(3)).archiveDeletedStudents(10);
+    }
+
+    @Test
+    void 一回の実行で移動するバッチ数には上限がある() {
+        when(studentArchiveService.archiveDeletedStudents(10)).thenReturn(10);
+        StudentArchiveJob sut = new StudentArchiveJob(studentArchiveService, 10, 2, Duration.ZERO);
+
+        assertThat(sut.archiveDeletedStudents()).isEqualTo(20);
+        verify(studentArchiveService, times(2)).archiveDeletedStudents(10);
+    }
+}
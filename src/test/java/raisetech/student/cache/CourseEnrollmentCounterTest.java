@@ -0,0 +1,137 @@
+package raisetech.student.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.student.domain.stats.CourseEnrollmentCount;
+import raisetech.student.event.CourseEnrollmentChangedEvent;
+import raisetech.student.repository.StudentCourseRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseEnrollmentCounterTest {
+
+    @Mock
+    private StudentCourseRepository studentCourseRepository;
+
+    @Test
+    void 初回参照時に集計クエリで初期化し以降は増減イベントを反映する() {
+        CourseEnrollmentCounter sut = new CourseEnrollmentCounter(studentCourseRepository);
+        when(studentCourseRepository.countByCourseName()).thenReturn(List.of(
+                new CourseEnrollmentCount("AWS", 2), new CourseEnrollmentCount("Java", 3)));
+
+        assertThat(sut.snapshot()).containsExactly(
+                new CourseEnrollmentCount("Java", 3), new CourseEnrollmentCount("AWS", 2));
+
+        sut.onCourseEnrollmentChanged(new CourseEnrollmentChangedEvent(Map.of("AWS", -2L, "Python", 1L)));
+
+        assertThat(sut.snapshot()).containsExactly(
+                new CourseEnrollmentCount("Java", 3), new CourseEnrollmentCount("Python", 1));
+        verify(studentCourseRepository, times(1)).countByCourseName();
+    }
+
+    @Test
+    void 初期化前の増減イベントは反映しない() {
+        CourseEnrollmentCounter sut = new CourseEnrollmentCounter(studentCourseRepository);
+        when(studentCourseRepository.countByCourseName()).thenReturn(List.of(new CourseEnrollmentCount("Java", 3)));
+
+        sut.onCourseEnrollmentChanged(new CourseEnrollmentChangedEvent(Map.of("Java", 1L)));
+
+        assertThat(sut.snapshot()).containsExactly(new CourseEnrollmentCount("Java", 3));
+    }
+
+    @Test
+    void 初期化の集計中に届いた増減イベントは初期化直後の突き合わせで補正する() {
+        CourseEnrollmentCounter sut = new CourseEnrollmentCounter(studentCourseRepository);
+        when(studentCourseRepository.countByCourseName())
+                .thenAnswer(invocation -> {
+                    // 集計後にコミットされた変更のイベントが、初期化の完了前に届く
+                    sut.onCourseEnrollmentChanged(new CourseEnrollmentChangedEvent(Map.of("Java", 1L)));
+                    return List.of(new CourseEnrollmentCount("Java", 3));
+                })
+                .thenReturn(List.of(new CourseEnrollmentCount("Java", 4)));
+
+        assertThat(sut.snapshot()).containsExactly(new CourseEnrollmentCount("Java", 4));
+        verify(studentCourseRepository, times(2)).countByCourseName();
+    }
+
+    @Test
+    void 突き合わせでDBとのずれを補正する() {
+        CourseEnrollmentCounter sut = new CourseEnrollmentCounter(studentCourseRepository);
+        when(studentCourseRepository.countByCourseName())
+                .thenReturn(List.of(new CourseEnrollmentCount("Java", 3), new CourseEnrollmentCount("AWS", 1)))
+                .thenReturn(List.of(new CourseEnrollmentCount("Java", 5), new CourseEnrollmentCount("Python", 2)));
+        sut.snapshot();
+
+        assertThat(sut.reconcile()).isEqualTo(3);
+        assertThat(sut.snapshot()).containsExactly(
+                new CourseEnrollmentCount("Java", 5), new CourseEnrollmentCount("Python", 2));
+    }
+
+    @Test
+    void ずれがない場合は補正しない() {
+        CourseEnrollmentCounter sut = new CourseEnrollmentCounter(studentCourseRepository);
+        when(studentCourseRepository.countByCourseName()).thenReturn(List.of(new CourseEnrollmentCount("Java", 3)));
+        sut.snapshot();
+
+        assertThat(sut.reconcile()).isZero();
+        assertThat(sut.snapshot()).containsExactly(new CourseEnrollmentCount("Java", 3));
+    }
+
+    @Test
+    void コミット済みでイベントの反映前に突き合わせた場合は補正せず二重に数えない() {
+        CourseEnrollmentCounter sut = new CourseEnrollmentCounter(studentCourseRepository);
+        when(studentCourseRepository.countByCourseName())
+                .thenReturn(List.of(new CourseEnrollmentCount("Java", 3)))
+                .thenReturn(List.of(new CourseEnrollmentCount("Java", 4)));
+        sut.snapshot();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.onCourseEnrollmentChanged(new CourseEnrollmentChangedEvent(Map.of("Java", 1L)));
+
+            // コミット後、イベントの反映前に突き合わせが実行される
+            assertThat(sut.reconcile()).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(sut.snapshot()).containsExactly(new CourseEnrollmentCount("Java", 4));
+        assertThat(sut.reconcile()).isZero();
+    }
+
+    @Test
+    void ロールバックされた増減イベントは反映せず突き合わせも再開する() {
+        CourseEnrollmentCounter sut = new CourseEnrollmentCounter(studentCourseRepository);
+        when(studentCourseRepository.countByCourseName())
+                .thenReturn(List.of(new CourseEnrollmentCount("Java", 3)))
+                .thenReturn(List.of(new CourseEnrollmentCount("Java", 2)));
+        sut.snapshot();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.onCourseEnrollmentChanged(new CourseEnrollmentChangedEvent(Map.of("Java", 1L)));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(sut.snapshot()).containsExactly(new CourseEnrollmentCount("Java", 3));
+        assertThat(sut.reconcile()).isEqualTo(1);
+        assertThat(sut.snapshot()).containsExactly(new CourseEnrollmentCount("Java", 2));
+    }
+}
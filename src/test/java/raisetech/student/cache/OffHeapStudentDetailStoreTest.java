@@ -0,0 +1,74 @@
+package raisetech.student.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapStudentDetailStoreTest {
+
+    // 1セグメント100バイト（ヘッダー12バイト＋本体38バイトのレコードが2件）
+    private final OffHeapStudentDetailStore sut = new OffHeapStudentDetailStore(300, 3);
+
+    @Test
+    void 保存したレコードを取得でき同じ学生IDは置き換える() {
+        sut.put(1L, record(1));
+        sut.put(1L, record(2));
+
+        assertThat(sut.get(1L)).isEqualTo(record(2));
+        assertThat(sut.get(2L)).isNull();
+        assertThat(sut.size()).isEqualTo(1);
+        assertThat(sut.usedBytes()).isEqualTo(100);
+        assertThat(sut.liveBytes()).isEqualTo(50);
+    }
+
+    @Test
+    void 容量を超えた場合は最も長く参照されていないセグメントをまとめて破棄する() {
+        for (long id = 1; id <= 6; id++) {
+            sut.put(id, record((int) id));
+        }
+        sut.get(1L); // 最初のセグメントを参照し、2番目のセグメントを最も古くする
+
+        sut.put(7L, record(7));
+
+        assertThat(sut.get(1L)).isEqualTo(record(1));
+        assertThat(sut.get(3L)).isNull();
+        assertThat(sut.get(4L)).isNull();
+        assertThat(sut.get(7L)).isEqualTo(record(7));
+        assertThat(sut.evictedSegmentCount()).isEqualTo(1);
+        assertThat(sut.evictedEntryCount()).isEqualTo(2);
+        assertThat(sut.allocatedBytes()).isEqualTo(300);
+    }
+
+    @Test
+    void 破棄したレコードは取得できずセグメントに収まらないレコードは保存しない() {
+        sut.put(1L, record(1));
+        sut.remove(1L);
+
+        assertThat(sut.get(1L)).isNull();
+        assertThat(sut.put(2L, new byte[100])).isFalse();
+        assertThat(sut.size()).isZero();
+        assertThat(sut.liveBytes()).isZero();
+    }
+
+    @Test
+    void 索引の拡張後も全件を取得できる() {
+        OffHeapStudentDetailStore store = new OffHeapStudentDetailStore(1024 * 1024, 2);
+        for (long id = 1; id <= 5000; id++) {
+            store.put(id, new byte[]{(byte) id});
+        }
+        for (long id = 1; id <= 5000; id += 2) {
+            store.remove(id);
+        }
+
+        assertThat(store.size()).isEqualTo(2500);
+        for (long id = 2; id <= 5000; id += 2) {
+            assertThat(store.get(id)).containsExactly((byte) id);
+        }
+    }
+
+    private static byte[] record(int value) {
+        byte[] record = new byte[38];
+        record[0] = (byte) value;
+        return record;
+    }
+}
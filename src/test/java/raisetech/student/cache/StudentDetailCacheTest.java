@@ -0,0 +1,81 @@
+package raisetech.student.cache;
+
+import org.junit.jupiter.api.Test;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.domain.StudentDetail;
+import raisetech.student.event.StudentChangedEvent;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentDetailCacheTest {
+
+    @Test
+    void ホット層から破棄されたエントリをヒープ外の層から復元する() {
+        StudentDetailCache sut = new StudentDetailCache(1, 1024 * 1024, 4);
+        StudentDetail taro = detail(1L, "山田太郎");
+        sut.put(1L, taro, sut.generation());
+        sut.put(2L, detail(2L, "佐藤花子"), sut.generation());
+
+        StudentDetail restored = sut.get(1L);
+
+        assertThat(restored).isNotSameAs(taro).usingRecursiveComparison().isEqualTo(taro);
+        assertThat(restored.getStudent().getStudentCourses()).isSameAs(restored.getStudentCourses());
+        assertThat(sut.get(1L)).isSameAs(restored); // ホット層に戻している
+        assertThat(sut.offHeapHitCount()).isEqualTo(1);
+        assertThat(sut.hitCount()).isEqualTo(2);
+        assertThat(sut.offHeapSize()).isEqualTo(2);
+    }
+
+    @Test
+    void 学生データ変更イベントで両方の層から破棄する() {
+        StudentDetailCache sut = new StudentDetailCache(1, 1024 * 1024, 4);
+        sut.put(1L, detail(1L, "山田太郎"), sut.generation());
+        sut.put(2L, detail(2L, "佐藤花子"), sut.generation());
+
+        sut.onStudentChanged(StudentChangedEvent.of(List.of(1L, 2L)));
+
+        assertThat(sut.get(1L)).isNull();
+        assertThat(sut.get(2L)).isNull();
+        assertThat(sut.offHeapSize()).isZero();
+        assertThat(sut.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 読み込み開始後に無効化された場合はどちらの層にも保存しない() {
+        StudentDetailCache sut = new StudentDetailCache(10, 1024 * 1024, 4);
+        long generation = sut.generation();
+        sut.onStudentChanged(StudentChangedEvent.of(1L));
+
+        sut.put(1L, detail(1L, "山田太郎"), generation);
+
+        assertThat(sut.size()).isZero();
+        assertThat(sut.offHeapSize()).isZero();
+    }
+
+    @Test
+    void ヒープ外の層を使用しない設定ではホット層のみで動作する() {
+        StudentDetailCache sut = new StudentDetailCache(1, 0, 16);
+        sut.put(1L, detail(1L, "山田太郎"), sut.generation());
+        sut.put(2L, detail(2L, "佐藤花子"), sut.generation());
+
+        assertThat(sut.get(1L)).isNull();
+        assertThat(sut.get(2L)).isNotNull();
+        assertThat(sut.offHeapSize()).isZero();
+    }
+
+    private static StudentDetail detail(Long id, String name) {
+        List<StudentCourse> courses = new ArrayList<>(List.of(
+                new StudentCourse(10L + id, id, "Javaコース", LocalDate.of(2025, 4, 1), null)));
+        Student student = new Student(id, name, "ヤマダタロウ", null, "mail" + id + "@example.com", "東京都", 20, "男性",
+                null, false, courses);
+        StudentDetail detail = new StudentDetail();
+        detail.setStudent(student);
+        detail.setStudentCourses(courses);
+        return detail;
+    }
+}
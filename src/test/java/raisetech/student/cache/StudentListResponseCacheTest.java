@@ -0,0 +1,66 @@
+package raisetech.student.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import raisetech.student.event.StudentChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentListResponseCacheTest {
+
+    private final StudentListResponseCache sut = new StudentListResponseCache(new ObjectMapper(), 64, 1024 * 1024, 4);
+
+    @Test
+    void 同一バージョンではレスポンスを再生成せずキャッシュを返す() {
+        AtomicInteger calls = new AtomicInteger();
+
+        StudentListResponseCache.EncodedBody first = sut.getOrEncode(() -> {
+            calls.incrementAndGet();
+            return Map.of("message", "学生一覧を取得しました");
+        });
+        StudentListResponseCache.EncodedBody second = sut.getOrEncode(() -> {
+            calls.incrementAndGet();
+            return Map.of("message", "別の内容");
+        });
+
+        assertThat(calls).hasValue(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void 学生データ変更イベントでキャッシュが破棄される() {
+        StudentListResponseCache.EncodedBody first = sut.getOrEncode(() -> Map.of("message", "変更前"));
+
+        sut.onStudentChanged(StudentChangedEvent.of(1L));
+        StudentListResponseCache.EncodedBody second = sut.getOrEncode(() -> Map.of("message", "変更後"));
+
+        assertThat(second.version()).isGreaterThan(first.version());
+        assertThat(new String(second.json(), StandardCharsets.UTF_8)).contains("変更後");
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+    }
+
+    @Test
+    void 最小サイズ以上の場合のみgzip圧縮版を保持する() {
+        StudentListResponseCache.EncodedBody small = sut.getOrEncode(() -> Map.of("m", "x"));
+        sut.invalidate();
+        StudentListResponseCache.EncodedBody large = sut.getOrEncode(() -> List.of("学生".repeat(100)));
+
+        assertThat(small.hasGzip()).isFalse();
+        assertThat(large.hasGzip()).isTrue();
+        assertThat(large.gzip().length).isLessThan(large.json().length);
+    }
+
+    @Test
+    void キーごとに別のレスポンスを保持する() {
+        StudentListResponseCache.EncodedBody full = sut.getOrEncode(() -> Map.of("message", "全件"));
+        StudentListResponseCache.EncodedBody sparse = sut.getOrEncode("id,name", () -> Map.of("message", "一部"));
+
+        assertThat(sut.getOrEncode(() -> Map.of("message", "再生成"))).isSameAs(full);
+        assertThat(sut.getOrEncode("id,name", () -> Map.of("message", "再生成"))).isSameAs(sparse);
+    }
+}
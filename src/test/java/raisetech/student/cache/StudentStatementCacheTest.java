@@ -0,0 +1,83 @@
+package raisetech.student.cache;
+
+import org.junit.jupiter.api.Test;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.event.StudentChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentStatementCacheTest {
+
+    private final StudentStatementCache sut = new StudentStatementCache(2, Duration.ofMinutes(10));
+
+    @Test
+    void キャッシュミス後に保存した結果をコピーして返す() {
+        assertThat(sut.getObject("findById:1")).isNull();
+        sut.putObject("findById:1", List.of(student(1L, "山田太郎")));
+
+        @SuppressWarnings("unchecked")
+        List<Student> cached = (List<Student>) sut.getObject("findById:1");
+        cached.get(0).setName("変更");
+
+        assertThat(((Student) ((List<?>) sut.getObject("findById:1")).get(0)).getName()).isEqualTo("山田太郎");
+        assertThat(sut.hitCount()).isEqualTo(2);
+        assertThat(sut.missCount()).isEqualTo(1);
+        assertThat(sut.hitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void 学生データ変更イベントで対象の学生IDのエントリのみを破棄する() {
+        sut.getObject("findById:1");
+        sut.putObject("findById:1", List.of(student(1L, "山田太郎")));
+        sut.getObject("findByStudentId:2");
+        sut.putObject("findByStudentId:2", List.of(new StudentCourse(10L, 2L, "Javaコース", LocalDate.of(2025, 4, 1), null)));
+
+        sut.onStudentChanged(StudentChangedEvent.of(2L));
+
+        assertThat(sut.getObject("findById:1")).isNotNull();
+        assertThat(sut.getObject("findByStudentId:2")).isNull();
+        assertThat(sut.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void キャッシュミス後に対象の学生IDが無効化された場合は保存しない() {
+        sut.getObject("findById:1");
+        sut.onStudentChanged(StudentChangedEvent.of(1L));
+        sut.putObject("findById:1", List.of(student(1L, "山田太郎")));
+
+        assertThat(sut.getObject("findById:1")).isNull();
+    }
+
+    @Test
+    void 空の結果とキャッシュミスの記録がない結果は保存しない() {
+        sut.getObject("findById:1");
+        sut.putObject("findById:1", List.of());
+        sut.putObject("findById:2", List.of(student(2L, "佐藤花子")));
+
+        assertThat(sut.getSize()).isZero();
+    }
+
+    @Test
+    void 最大件数を超えた場合は最も長く参照されていないエントリを破棄する() {
+        for (long id = 1; id <= 2; id++) {
+            sut.getObject("findById:" + id);
+            sut.putObject("findById:" + id, List.of(student(id, "学生" + id)));
+        }
+        sut.getObject("findById:1");
+        sut.getObject("findById:3");
+        sut.putObject("findById:3", List.of(student(3L, "学生3")));
+
+        assertThat(sut.getObject("findById:1")).isNotNull();
+        assertThat(sut.getObject("findById:2")).isNull();
+        assertThat(sut.getObject("findById:3")).isNotNull();
+    }
+
+    private static Student student(Long id, String name) {
+        return new Student(id, name, "ヤマダタロウ", null, "mail" + id + "@example.com", "東京都", 20, "男性", null, false, null);
+    }
+}
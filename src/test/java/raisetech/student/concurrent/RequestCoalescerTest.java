@@ -0,0 +1,167 @@
+package raisetech.student.concurrent;
+
+import org.junit.jupiter.api.Test;
+import raisetech.student.deadline.RequestDeadline;
+import raisetech.student.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    @Test
+    void 同一キーの同時実行は1回の処理にまとめられる() throws Exception {
+        RequestCoalescer sut = new RequestCoalescer(Duration.ofSeconds(5));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> leader = executor.submit(() -> sut.execute("student:1", () -> {
+                calls.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "山田太郎";
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> sut.execute("student:1", () -> {
+                    calls.incrementAndGet();
+                    return "別の結果";
+                })));
+            }
+            // 後続の呼び出しがリーダーの結果待ちになるまで待つ
+            while (sut.waitingCount() < 3) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("山田太郎");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("山田太郎");
+            }
+            assertThat(calls).hasValue(1);
+            assertThat(sut.executionCount()).isEqualTo(1);
+            assertThat(sut.coalescedCount()).isEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 処理完了後の呼び出しは改めて実行される() {
+        RequestCoalescer sut = new RequestCoalescer(Duration.ofSeconds(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        sut.execute("students:all", calls::incrementAndGet);
+        sut.execute("students:all", calls::incrementAndGet);
+
+        assertThat(calls).hasValue(2);
+        assertThat(sut.coalescedCount()).isZero();
+    }
+
+    @Test
+    void リーダーの例外は待機中の呼び出しにも伝播する() throws Exception {
+        RequestCoalescer sut = new RequestCoalescer(Duration.ofSeconds(5));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> sut.execute("student:9", () -> {
+                leaderStarted.countDown();
+                await(release);
+                throw new IllegalArgumentException("学生が見つかりません");
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> sut.execute("student:9", () -> "実行されない"));
+            while (sut.waitingCount() < 1) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            // 結果を受け取れなかった待機は、まとめられた回数に含めない
+            assertThat(sut.coalescedCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 待機上限を超えた場合は個別に実行する() throws Exception {
+        RequestCoalescer sut = new RequestCoalescer(Duration.ofMillis(50));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> sut.execute("student:1", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "リーダー";
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            String result = sut.execute("student:1", () -> "個別実行");
+
+            assertThat(result).isEqualTo("個別実行");
+            assertThat(sut.waitTimeoutCount()).isEqualTo(1);
+            assertThat(sut.coalescedCount()).isZero();
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("リーダー");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 処理期限が待機上限より先に来る場合は期限までで待機を打ち切る() throws Exception {
+        RequestCoalescer sut = new RequestCoalescer(Duration.ofSeconds(5));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> sut.execute("student:1", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "リーダー";
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            RequestDeadline.start(Duration.ofMillis(50));
+            long startedAt = System.nanoTime();
+            assertThatThrownBy(() -> sut.execute("student:1", () -> "実行されない"))
+                    .isInstanceOf(DeadlineExceededException.class);
+
+            assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.SECONDS.toNanos(2));
+            assertThat(sut.waitTimeoutCount()).isZero();
+            assertThat(sut.coalescedCount()).isZero();
+        } finally {
+            RequestDeadline.clear();
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package raisetech.student.config;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import raisetech.student.data.Student;
+import raisetech.student.dto.StudentsResponse;
+import raisetech.student.idempotency.IdempotencyRecord;
+import raisetech.student.repository.StudentCourseRepository;
+import raisetech.student.repository.StudentRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NativeImageRuntimeHintsのテストクラス。
+ */
+class NativeImageRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeImageRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void マッパーXMLとテンプレートのリソースが登録される() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("mappers/StudentRepository.xml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("mappers/StudentCourseRepository.xml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("org/apache/ibatis/builder/xml/mybatis-3-mapper.dtd")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("templates/studentList.html")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__create_student_tables.sql")).accepts(hints);
+    }
+
+    @Test
+    void マッパーのプロキシとプラグインのプロキシが登録される() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(StudentRepository.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(StudentCourseRepository.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(StatementHandler.class)).accepts(hints);
+    }
+
+    @Test
+    void 結果マッピングとJSONの型のリフレクションが登録される() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Student.class.getMethod("setKanaName", String.class)))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(IdempotencyRecord.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(StudentsResponse.class.getMethod("data")))
+                .accepts(hints);
+    }
+}
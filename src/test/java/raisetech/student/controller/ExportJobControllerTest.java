@@ -0,0 +1,156 @@
+package raisetech.student.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import raisetech.student.exception.ExportJobNotFoundException;
+import raisetech.student.exception.TooManyRequestsException;
+import raisetech.student.export.ExportFormat;
+import raisetech.student.export.ExportJob;
+import raisetech.student.export.ExportJobStatus;
+import raisetech.student.handler.GlobalExceptionHandler;
+import raisetech.student.service.ExportJobService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ExportJobController.class)
+@Import(GlobalExceptionHandler.class)
+public class ExportJobControllerTest {
+
+    private static final String JOB_ID = "3f2a8c1e-5b7d-4e9a-9c2b-1d0e6f4a7b8c";
+
+    private static final String CSV = "学生ID,氏名\r\n1,山田太郎\r\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportJobService exportJobService;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 正常系_ジョブを登録すると202とジョブのURLを返却する() throws Exception {
+        when(exportJobService.submit(ExportFormat.XLSX))
+                .thenReturn(ExportJob.queued(JOB_ID, ExportFormat.XLSX, Instant.now()));
+
+        mockMvc.perform(post("/api/exports").param("format", "XLSX"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/exports/" + JOB_ID))
+                .andExpect(jsonPath("$.id").value(JOB_ID))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void 異常系_待ち行列がいっぱいの場合は429を返却する() throws Exception {
+        when(exportJobService.submit(ExportFormat.CSV))
+                .thenThrow(new TooManyRequestsException("エクスポートジョブの待ち行列がいっぱいです", 30));
+
+        mockMvc.perform(post("/api/exports"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+    }
+
+    @Test
+    void 正常系_実行中のジョブは進捗を返却する() throws Exception {
+        when(exportJobService.find(JOB_ID)).thenReturn(job(ExportJobStatus.RUNNING, null));
+
+        mockMvc.perform(get("/api/exports/" + JOB_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.totalStudents").value(200))
+                .andExpect(jsonPath("$.processedStudents").value(50))
+                .andExpect(jsonPath("$.progressPercent").value(25));
+    }
+
+    @Test
+    void 正常系_完了したCSVはgzipに対応したクライアントへ圧縮したまま返却する() throws Exception {
+        ExportJob job = job(ExportJobStatus.COMPLETED, JOB_ID + ".csv.gz");
+        Path file = gzipFile(job.fileName());
+        when(exportJobService.find(JOB_ID)).thenReturn(job);
+        when(exportJobService.resolveFile(job)).thenReturn(file);
+
+        mockMvc.perform(get("/api/exports/" + JOB_ID).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + job.fileName() + "-gzip\""))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"students.csv\""))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().bytes(Files.readAllBytes(file)));
+    }
+
+    @Test
+    void 正常系_完了したCSVはgzipに対応していないクライアントへ展開して返却する() throws Exception {
+        ExportJob job = job(ExportJobStatus.COMPLETED, JOB_ID + ".csv.gz");
+        when(exportJobService.find(JOB_ID)).thenReturn(job);
+        when(exportJobService.resolveFile(job)).thenReturn(gzipFile(job.fileName()));
+
+        mockMvc.perform(get("/api/exports/" + JOB_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + job.fileName() + "\""))
+                .andExpect(content().bytes(CSV.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void 正常系_ETagが一致する場合は表現ごとに304を返却する() throws Exception {
+        ExportJob job = job(ExportJobStatus.COMPLETED, JOB_ID + ".csv.gz");
+        when(exportJobService.find(JOB_ID)).thenReturn(job);
+        when(exportJobService.resolveFile(job)).thenReturn(gzipFile(job.fileName()));
+
+        mockMvc.perform(get("/api/exports/" + JOB_ID)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + job.fileName() + "-gzip\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+        // 圧縮したままの表現のETagでは、展開した表現は304にならない
+        mockMvc.perform(get("/api/exports/" + JOB_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + job.fileName() + "-gzip\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CSV.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void 異常系_存在しないジョブの場合は404を返却する() throws Exception {
+        when(exportJobService.find(JOB_ID)).thenThrow(new ExportJobNotFoundException("エクスポートジョブが見つかりません: " + JOB_ID));
+
+        mockMvc.perform(get("/api/exports/" + JOB_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("エクスポートジョブが見つかりませんでした。"));
+    }
+
+    private static ExportJob job(ExportJobStatus status, String fileName) {
+        Instant now = Instant.now();
+        return new ExportJob(JOB_ID, ExportFormat.CSV, status, 200L, 50, fileName, null, null, now, now,
+                status == ExportJobStatus.COMPLETED ? now : null);
+    }
+
+    private Path gzipFile(String fileName) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(CSV.getBytes(StandardCharsets.UTF_8));
+        }
+        return Files.write(directory.resolve(fileName), bytes.toByteArray());
+    }
+}
@@ -2,46 +2,73 @@ package raisetech.student.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import raisetech.student.cache.StudentListResponseCache;
 import raisetech.student.data.Student;
 import raisetech.student.data.StudentCourse;
+import raisetech.student.domain.BulkUpdateOutcome;
 import raisetech.student.domain.StudentDetail;
-import raisetech.student.dto.StudentResponse;
+import raisetech.student.domain.columnar.StudentColumns;
+import raisetech.student.domain.columnar.StudentListRow;
+import raisetech.student.domain.StudentFieldSet;
+import raisetech.student.dto.StudentBulkUpdateRequest;
 import raisetech.student.exception.StudentNotFoundException;
 import raisetech.student.handler.GlobalExceptionHandler;
+import raisetech.student.idempotency.IdempotencyService;
+import raisetech.student.idempotency.InMemoryIdempotencyStore;
+import raisetech.student.service.StudentArchiveService;
 import raisetech.student.service.StudentCourseService;
 import raisetech.student.service.StudentDetailService;
 import raisetech.student.service.StudentService;
+import raisetech.student.streaming.StudentListStreamWriter;
+import raisetech.student.validation.StudentValidator;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(StudentController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, StudentListResponseCache.class, IdempotencyService.class, InMemoryIdempotencyStore.class,
+        StudentValidator.class})
 public class StudentControllerTest {
 
     @Autowired
@@ -56,22 +83,150 @@ public class StudentControllerTest {
     @MockBean
     private StudentCourseService studentCourseService;
 
+    @MockBean
+    private StudentArchiveService studentArchiveService;
+
+    @MockBean
+    private StudentListStreamWriter studentListStreamWriter;
+
+    @MockBean
+    private TransactionOperations transactionOperations;
+
+    @Autowired
+    private StudentListResponseCache studentListResponseCache;
+
     private StudentCourse studentCourse;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    @BeforeEach
+    void setUp() {
+        // テスト間で一覧キャッシュを共有しないように破棄
+        studentListResponseCache.invalidate();
+        // トランザクション内の処理をそのまま実行する
+        when(transactionOperations.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
 
     @Test
     public void 正常系_全学生情報を取得し200を返却する() throws Exception {
-        List<StudentDetail> mockStudents = Collections.singletonList(new StudentDetail());
-        when(studentDetailService.findAllStudentDetails()).thenReturn(mockStudents);
+        StudentColumns mockStudents = StudentColumns.builder()
+                .add(new StudentListRow(1L, "山田太郎", "ヤマダタロウ", "taro", "taro@example.com", "東京都", 20, "男性",
+                        null, false, 10L, "Javaコース", LocalDate.of(2025, 4, 1), null))
+                .build();
+        when(studentDetailService.findAllStudentColumns()).thenReturn(mockStudents);
 
         mockMvc.perform(get("/api/students")
                         .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncNotStarted())
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("学生一覧を取得しました"))
+                .andExpect(jsonPath("$.data[0].student.id").value(1))
+                .andExpect(jsonPath("$.data[0].student.remark").isEmpty())
+                .andExpect(jsonPath("$.data[0].student.studentCourses[0].courseName").value("Javaコース"))
+                .andExpect(jsonPath("$.data[0].student.studentCourses[0].courseStartAt").value("2025-04-01"));
+
+        verify(studentDetailService, times(1)).findAllStudentColumns();
+    }
+
+    @Test
+    void 正常系_キャッシュがない場合は全学生情報をストリーミングで返却する() throws Exception {
+        when(studentListStreamWriter.isEnabled()).thenReturn(true);
+        when(studentListStreamWriter.stream(anyLong(), eq("学生一覧を取得しました"))).thenReturn(out ->
+                out.write("{\"message\":\"学生一覧を取得しました\",\"data\":[]}".getBytes(StandardCharsets.UTF_8)));
+
+        MvcResult started = mockMvc.perform(get("/api/students"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("学生一覧を取得しました"))
+                .andExpect(jsonPath("$.data").isEmpty())
+                .andReturn();
+
+        // 送信した応答にも（弱い）ETagを付与し、同じデータバージョンの再取得は304を返す
+        List<String> etags = result.getResponse().getHeaders(HttpHeaders.ETAG);
+        assertThat(etags).hasSize(1);
+        assertThat(etags.get(0)).startsWith("W/\"");
+        mockMvc.perform(get("/api/students").header(HttpHeaders.IF_NONE_MATCH, etags.get(0)))
+                .andExpect(status().isNotModified());
+        verify(studentListStreamWriter, times(1)).stream(anyLong(), any());
+        verify(studentDetailService, never()).findAllStudentColumns();
+    }
+
+    @Test
+    void 正常系_キャッシュがある場合はストリーミングせずキャッシュから返却する() throws Exception {
+        when(studentListStreamWriter.isEnabled()).thenReturn(true);
+        studentListResponseCache.store(studentListResponseCache.currentVersion(),
+                "{\"message\":\"学生一覧を取得しました\",\"data\":[]}".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/students"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
                 .andExpect(jsonPath("$.message").value("学生一覧を取得しました"));
 
-        verify(studentDetailService, times(1)).findAllStudentDetails();
+        verify(studentListStreamWriter, never()).stream(anyLong(), any());
+        verify(studentDetailService, never()).findAllStudentColumns();
+    }
+
+    @Test
+    public void 正常系_全学生情報をgzip圧縮で返却しETag一致時は304を返却する() throws Exception {
+        // 圧縮対象となるサイズの一覧を用意
+        StudentColumns.Builder builder = StudentColumns.builder();
+        for (long i = 1; i <= 50; i++) {
+            builder.add(new StudentListRow(i, "山田太郎", "ヤマダタロウ", "taro" + i,
+                    "taro" + i + "@example.com", "東京都", 20, "男性", "備考", false, null, null, null, null));
+        }
+        when(studentDetailService.findAllStudentColumns()).thenReturn(builder.build());
+
+        MvcResult result = mockMvc.perform(get("/api/students")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        // 展開した内容が一覧のJSONであること
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(json).contains("学生一覧を取得しました").contains("taro50@example.com");
+        }
+
+        // 同じETagでの再取得は304（一覧の再取得も行われない）
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/students").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+        // 複数のETagの指定・弱いETagでも一致とみなす
+        mockMvc.perform(get("/api/students").header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/students").header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isNotModified());
+        verify(studentDetailService, times(1)).findAllStudentColumns();
+    }
+
+    @Test
+    public void 正常系_フィールド指定で全学生情報を取得し200を返却する() throws Exception {
+        when(studentDetailService.findStudentViews(any(StudentFieldSet.class)))
+                .thenReturn(List.of(Map.of("student", Map.of("id", 1, "name", "山田太郎"))));
+
+        mockMvc.perform(get("/api/students").param("fields", "id,name"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].student.name").value("山田太郎"))
+                .andExpect(jsonPath("$.data[0].student.email").doesNotExist());
+
+        verify(studentDetailService, never()).findAllStudentColumns();
+    }
+
+    @Test
+    void 異常系_未知のフィールドを指定した場合400を返却する() throws Exception {
+        mockMvc.perform(get("/api/students").param("fields", "id,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("フィールドの指定が正しくありません。"));
     }
 
     @Test
@@ -109,6 +264,49 @@ public class StudentControllerTest {
                 .andExpect(jsonPath("$.student.studentCourses[0].courseEndAt").value("2023-07-15"));
     }
 
+    @Test
+    void 正常系_同じ冪等キーでの再送信は登録せず最初のレスポンスを返却する() throws Exception {
+        objectMapper.registerModule(new JavaTimeModule());
+        Student student = new Student(null, "山田太郎", "ヤマダタロウ", "taro123",
+                "taro@example.com", "東京都", 20, "男性", "備考", false,
+                List.of(new StudentCourse(null, null, "Java", LocalDate.of(2023, 4, 1), LocalDate.of(2023, 7, 15))));
+        String body = objectMapper.writeValueAsString(student);
+        when(studentService.save(isNull(), any(Student.class))).thenAnswer(invocation -> {
+            Student capturedStudent = invocation.getArgument(1);
+            capturedStudent.setId(1L);
+            return capturedStudent;
+        });
+
+        mockMvc.perform(post("/api/students")
+                        .header(IdempotencyService.IDEMPOTENCY_KEY_HEADER, "create-taro-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyService.REPLAYED_HEADER));
+
+        // 再送信では登録処理を行わず、保存済みのレスポンスを返す
+        mockMvc.perform(post("/api/students")
+                        .header(IdempotencyService.IDEMPOTENCY_KEY_HEADER, "create-taro-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyService.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.student.id").value(1))
+                .andExpect(jsonPath("$.student.studentCourses[0].courseStartAt").value("2023-04-01"));
+
+        verify(studentService, times(1)).save(isNull(), any(Student.class));
+        verify(studentCourseService, times(1)).saveCourses(any(Student.class), any());
+
+        // 同じキーで内容が異なる場合は409
+        student.setName("山田次郎");
+        mockMvc.perform(post("/api/students")
+                        .header(IdempotencyService.IDEMPOTENCY_KEY_HEADER, "create-taro-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(student)))
+                .andExpect(status().isConflict());
+        verify(studentService, times(1)).save(isNull(), any(Student.class));
+    }
+
     @Test
     public void 正常系_学生情報をID指定で取得し200を返却するテスト() throws Exception {
         Long studentId = 1L;
@@ -125,28 +323,56 @@ public class StudentControllerTest {
                 "男性",
                 "備考",
                 false,
-                null
-        );
-        StudentResponse expectedResponse = new StudentResponse(
-                "指定されたIDの学生を取得しました",
-                expectedStudent.getId()
+                List.of(new StudentCourse(10L, studentId, "Java", LocalDate.of(2025, 4, 1), LocalDate.of(2025, 9, 30)))
         );
+        StudentDetail expectedDetail = new StudentDetail();
+        expectedDetail.setStudent(expectedStudent);
+        expectedDetail.setStudentCourses(expectedStudent.getStudentCourses());
+
         // サービス層のモック設定
-        when(studentService.getStudentById(eq(studentId))).thenReturn(expectedStudent);
+        when(studentDetailService.findStudentDetailById(eq(studentId))).thenReturn(expectedDetail);
 
-        // API呼び出し
-        String jsonResponse = mockMvc.perform(get("/api/students/{id}", studentId)
+        // API呼び出しと学生情報・コース情報の検証
+        mockMvc.perform(get("/api/students/{id}", studentId)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andReturn()
-                .getResponse()
-                .getContentAsString(StandardCharsets.UTF_8);
+                .andExpect(jsonPath("$.message").value("指定されたIDの学生を取得しました"))
+                .andExpect(jsonPath("$.data.student.id").value(1))
+                .andExpect(jsonPath("$.data.student.name").value("山田太郎"))
+                .andExpect(jsonPath("$.data.student.studentCourses[0].courseName").value("Java"))
+                .andExpect(jsonPath("$.data.student.studentCourses[0].courseStartAt").value("2025-04-01"));
+
+        // 学生IDのみを取得する従来の経路は使用しない
+        verify(studentService, never()).getStudentById(any());
+    }
+
+    @Test
+    public void 正常系_複数の学生IDを一括取得しリクエスト順に結果を返却する() throws Exception {
+        StudentDetail detail = new StudentDetail();
+        detail.setStudent(new Student(2L, "佐藤花子", "サトウハナコ", null, "satou@example.com", "大阪府", 30, "女性", null, false, List.of()));
+        when(studentDetailService.findStudentDetailsByIds(List.of(2L, 99L, 2L))).thenReturn(Map.of(2L, detail));
+
+        mockMvc.perform(post("/api/students/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [2, 99, 2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].id").value(2))
+                .andExpect(jsonPath("$.data[0].found").value(true))
+                .andExpect(jsonPath("$.data[0].data.student.name").value("佐藤花子"))
+                .andExpect(jsonPath("$.data[1].id").value(99))
+                .andExpect(jsonPath("$.data[1].found").value(false))
+                .andExpect(jsonPath("$.data[2].id").value(2));
+    }
 
-        // JSONレスポンスをオブジェクトに変換
-        StudentResponse actualResponse = objectMapper.readValue(jsonResponse, StudentResponse.class);
+    @Test
+    void 異常系_一括取得で学生IDが空の場合400を返却する() throws Exception {
+        mockMvc.perform(post("/api/students/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
 
-        // オブジェクト全体を比較
-        assertThat(actualResponse).usingRecursiveComparison().isEqualTo(expectedResponse);
+        verify(studentDetailService, never()).findStudentDetailsByIds(any());
     }
 
     @Test
@@ -163,6 +389,98 @@ public class StudentControllerTest {
         verify(studentService, times(1)).deleteStudentById(studentId);
     }
 
+    @Test
+    void 正常系_削除された学生情報を復元し200を返却する() throws Exception {
+        Long studentId = 1L;
+
+        mockMvc.perform(post("/api/students/{id}/restore", studentId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("学生情報を復元しました"))
+                .andExpect(jsonPath("$.student").value(studentId));
+
+        verify(studentArchiveService, times(1)).restoreStudentById(studentId);
+    }
+
+    @Test
+    void 正常系_学生IDを指定して一括削除し学生ごとの処理結果を返却する() throws Exception {
+        Map<Long, BulkUpdateOutcome> outcomes = new LinkedHashMap<>();
+        outcomes.put(3L, BulkUpdateOutcome.UPDATED);
+        outcomes.put(99L, BulkUpdateOutcome.NOT_FOUND);
+        outcomes.put(1L, BulkUpdateOutcome.UNCHANGED);
+        when(studentService.updateDeletedByIds(List.of(3L, 99L, 1L), true)).thenReturn(outcomes);
+
+        mockMvc.perform(post("/api/students/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [3, 99, 1]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.unchanged").value(1))
+                .andExpect(jsonPath("$.notFound").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.results[0].id").value(3))
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+    }
+
+    @Test
+    void 正常系_同じ冪等キーでの一括削除の再送信は処理せず最初のレスポンスを返却する() throws Exception {
+        Map<Long, BulkUpdateOutcome> outcomes = new LinkedHashMap<>();
+        outcomes.put(3L, BulkUpdateOutcome.UPDATED);
+        when(studentService.updateDeletedByIds(List.of(3L), true)).thenReturn(outcomes);
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/students/bulk-delete")
+                            .header(IdempotencyService.IDEMPOTENCY_KEY_HEADER, "bulk-delete-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": [3]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.updated").value(1))
+                    .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"));
+        }
+
+        verify(studentService, times(1)).updateDeletedByIds(List.of(3L), true);
+    }
+
+    @Test
+    void 正常系_絞り込み条件で一括復元し上限を超える場合はhasMoreを返却する() throws Exception {
+        int limit = StudentBulkUpdateRequest.MAX_TARGETS;
+        List<Long> matched = LongStream.rangeClosed(1, limit + 1).boxed().toList();
+        when(studentService.findStudentIdsByCriteria(true, "東京都", "Javaコース", null, limit + 1)).thenReturn(matched);
+        Map<Long, BulkUpdateOutcome> outcomes = new LinkedHashMap<>();
+        matched.subList(0, limit).forEach(id -> outcomes.put(id, BulkUpdateOutcome.UPDATED));
+        when(studentService.updateDeletedByIds(matched.subList(0, limit), false)).thenReturn(outcomes);
+
+        mockMvc.perform(post("/api/students/bulk-restore")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {\"area\": \"東京都\", \"courseName\": \"Javaコース\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(limit))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void 異常系_一括削除で学生IDと絞り込み条件の両方を指定した場合400を返却する() throws Exception {
+        mockMvc.perform(post("/api/students/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1], \"filter\": {\"area\": \"東京都\"}}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/students/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {}}"))
+                .andExpect(status().isBadRequest());
+
+        verify(studentService, never()).updateDeletedByIds(any(), anyBoolean());
+    }
+
+    @Test
+    void 異常系_復元対象の学生が存在しない場合は404を返却する() throws Exception {
+        doThrow(new StudentNotFoundException("指定された学生が見つかりません: ID=999"))
+                .when(studentArchiveService).restoreStudentById(999L);
+
+        mockMvc.perform(post("/api/students/{id}/restore", 999L))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void 正常系_学生情報更新が正常に完了し200を返却することを検証するテスト() throws Exception {
         Long studentId = 1L;
@@ -193,7 +511,7 @@ public class StudentControllerTest {
     @Test
     void 異常系_存在しない学生IDを指定した場合にStudentNotFoundExceptionとして404を返却する() throws Exception {
         Long invalidStudentId = 99999L; // バリデーションを満たす無効なID
-        when(studentService.getStudentById(eq(invalidStudentId)))
+        when(studentDetailService.findStudentDetailById(eq(invalidStudentId)))
                 .thenThrow(new StudentNotFoundException("学生が存在しません: ID = " + invalidStudentId));
 
         mockMvc.perform(get("/api/students/{id}", invalidStudentId)
@@ -0,0 +1,135 @@
+package raisetech.student.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import raisetech.student.exception.TooManyRequestsException;
+import raisetech.student.export.ExportFile;
+import raisetech.student.export.ExportFormat;
+import raisetech.student.export.StudentExportFileStore;
+import raisetech.student.export.StudentExportFileStore.ExportStream;
+import raisetech.student.handler.GlobalExceptionHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StudentExportController.class)
+@Import(GlobalExceptionHandler.class)
+public class StudentExportControllerTest {
+
+    private static final String CSV = "学生ID,氏名\r\n1,山田太郎\r\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StudentExportFileStore studentExportFileStore;
+
+    @TempDir
+    Path directory;
+
+    private ExportFile file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path path = directory.resolve("students.csv");
+        Files.writeString(path, CSV);
+        file = new ExportFile(path, "\"students-1\"", Files.size(path));
+    }
+
+    @Test
+    void 正常系_未生成の場合は生成しながらCSVを返却する() throws Exception {
+        when(studentExportFileStore.current(ExportFormat.CSV)).thenReturn(Optional.empty());
+        when(studentExportFileStore.tryStream(ExportFormat.CSV)).thenReturn(Optional.of(
+                new ExportStream("\"students-1\"", out -> out.write(CSV.getBytes(StandardCharsets.UTF_8)), () -> { })));
+
+        MvcResult started = mockMvc.perform(get("/api/students/export.csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"students-1\""))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"students.csv\""))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().bytes(CSV.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void 正常系_範囲指定の場合は保存済みのファイルから206で返却する() throws Exception {
+        when(studentExportFileStore.getOrGenerate(ExportFormat.CSV)).thenReturn(file);
+
+        mockMvc.perform(get("/api/students/export.csv")
+                        .header(HttpHeaders.RANGE, "bytes=0-8")
+                        .header(HttpHeaders.IF_RANGE, "\"students-1\""))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-8/" + file.size()))
+                .andExpect(content().bytes(Arrays.copyOf(CSV.getBytes(StandardCharsets.UTF_8), 9)));
+    }
+
+    @Test
+    void 正常系_IfRangeが一致しない場合は範囲指定を無視して全体を返却する() throws Exception {
+        when(studentExportFileStore.getOrGenerate(ExportFormat.CSV)).thenReturn(file);
+
+        mockMvc.perform(get("/api/students/export.csv")
+                        .header(HttpHeaders.RANGE, "bytes=0-8")
+                        .header(HttpHeaders.IF_RANGE, "\"students-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"students-1\""))
+                .andExpect(content().bytes(CSV.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void 正常系_生成済みの場合はファイルを返却しストリーミングしない() throws Exception {
+        when(studentExportFileStore.current(ExportFormat.XLSX)).thenReturn(Optional.of(file));
+
+        MvcResult started = mockMvc.perform(get("/api/students/export.xlsx"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, file.size()))
+                .andExpect(content().bytes(CSV.getBytes(StandardCharsets.UTF_8)));
+
+        verify(studentExportFileStore, never()).tryStream(ExportFormat.XLSX);
+    }
+
+    @Test
+    void 正常系_生成済みのファイルとETagが一致する場合は304を返却する() throws Exception {
+        when(studentExportFileStore.current(ExportFormat.CSV)).thenReturn(Optional.of(file));
+
+        mockMvc.perform(get("/api/students/export.csv").header(HttpHeaders.IF_NONE_MATCH, "W/\"students-1\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void 異常系_同時実行数の上限に達した場合は429を返却する() throws Exception {
+        when(studentExportFileStore.current(ExportFormat.CSV)).thenReturn(Optional.empty());
+        when(studentExportFileStore.tryStream(ExportFormat.CSV))
+                .thenThrow(new TooManyRequestsException("エクスポートの同時実行数の上限に達しました", 5));
+
+        mockMvc.perform(get("/api/students/export.csv"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+    }
+}
@@ -0,0 +1,99 @@
+package raisetech.student.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import raisetech.student.cache.CourseEnrollmentCounter;
+import raisetech.student.domain.stats.AgeBucketCount;
+import raisetech.student.domain.stats.AreaCount;
+import raisetech.student.domain.stats.CourseEnrollmentCount;
+import raisetech.student.domain.stats.CourseMonthlyEnrollment;
+import raisetech.student.handler.GlobalExceptionHandler;
+import raisetech.student.service.StudentStatsService;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StudentStatsController.class)
+@Import(GlobalExceptionHandler.class)
+public class StudentStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StudentStatsService studentStatsService;
+
+    @MockBean
+    private CourseEnrollmentCounter courseEnrollmentCounter;
+
+    @Test
+    void 正常系_住所ごとの学生数を返却する() throws Exception {
+        when(studentStatsService.countByArea()).thenReturn(List.of(new AreaCount("東京都", 3)));
+
+        mockMvc.perform(get("/api/students/stats/areas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].area").value("東京都"))
+                .andExpect(jsonPath("$.data[0].count").value(3));
+    }
+
+    @Test
+    void 正常系_階級の幅を省略した場合は10歳ごとに集計する() throws Exception {
+        when(studentStatsService.countByAgeBucket(10)).thenReturn(List.of(new AgeBucketCount(20, 29, 5)));
+
+        mockMvc.perform(get("/api/students/stats/ages"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].ageFrom").value(20))
+                .andExpect(jsonPath("$.data[0].ageTo").value(29));
+    }
+
+    @Test
+    void 異常系_階級の幅が範囲外の場合は400を返却する() throws Exception {
+        mockMvc.perform(get("/api/students/stats/ages").param("bucketSize", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(studentStatsService, never()).countByAgeBucket(anyInt());
+    }
+
+    @Test
+    void 正常系_集計期間を指定してコース別の受講者数を返却する() throws Exception {
+        when(studentStatsService.countEnrollmentsByCourseAndMonth(YearMonth.of(2025, 4), YearMonth.of(2026, 3)))
+                .thenReturn(List.of(new CourseMonthlyEnrollment("Javaコース", 2025, 4, 12)));
+
+        mockMvc.perform(get("/api/students/stats/course-enrollments")
+                        .param("from", "2025-04")
+                        .param("to", "2026-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].courseName").value("Javaコース"))
+                .andExpect(jsonPath("$.data[0].count").value(12));
+    }
+
+    @Test
+    void 異常系_集計期間の形式が正しくない場合は400を返却する() throws Exception {
+        mockMvc.perform(get("/api/students/stats/course-enrollments").param("from", "2025/04"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 正常系_コースごとの受講者数をカウンターから返却する() throws Exception {
+        when(courseEnrollmentCounter.snapshot()).thenReturn(List.of(
+                new CourseEnrollmentCount("Javaコース", 12), new CourseEnrollmentCount("AWSコース", 4)));
+
+        mockMvc.perform(get("/api/students/stats/course-counts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].courseName").value("Javaコース"))
+                .andExpect(jsonPath("$.data[0].count").value(12))
+                .andExpect(jsonPath("$.data[1].courseName").value("AWSコース"));
+    }
+}
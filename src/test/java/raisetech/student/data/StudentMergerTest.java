@@ -0,0 +1,52 @@
+package raisetech.student.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentMergerTest {
+
+    @Test
+    void nullでない変更項目のみを反映し変更ビットを返す() {
+        Student existing = new Student(1L, "山田太郎", "ヤマダタロウ", "taro123",
+                "taro@example.com", "東京都", 20, "男性", "備考", false, null);
+        Student update = new Student(99L, "山田次郎", null, "taro123",
+                "jiro@example.com", null, null, null, null, null, null);
+
+        int changed = StudentMerger.merge(update, existing);
+
+        assertThat(changed).isEqualTo(StudentMerger.NAME | StudentMerger.EMAIL);
+        assertThat(existing.getId()).isEqualTo(1L);
+        assertThat(existing.getName()).isEqualTo("山田次郎");
+        assertThat(existing.getKanaName()).isEqualTo("ヤマダタロウ");
+        assertThat(existing.getEmail()).isEqualTo("jiro@example.com");
+        assertThat(existing.getAge()).isEqualTo(20);
+        assertThat(existing.getDeleted()).isFalse();
+    }
+
+    @Test
+    void 変更がない場合は0を返す() {
+        Student existing = new Student(1L, "山田太郎", "ヤマダタロウ", "taro123",
+                "taro@example.com", "東京都", 20, "男性", "備考", false, null);
+        Student same = new Student(1L, "山田太郎", "ヤマダタロウ", "taro123",
+                "taro@example.com", "東京都", 20, "男性", "備考", false, null);
+
+        assertThat(StudentMerger.merge(same, existing)).isZero();
+    }
+
+    @Test
+    void コース情報はnullでない変更項目のみを反映する() {
+        StudentCourse existing = new StudentCourse(1L, 101L, "Java",
+                LocalDate.of(2025, 4, 1), LocalDate.of(2025, 9, 30));
+        StudentCourse update = new StudentCourse(1L, 999L, "Java", null, LocalDate.of(2025, 12, 31));
+
+        int changed = StudentCourseMerger.merge(update, existing);
+
+        assertThat(changed).isEqualTo(StudentCourseMerger.COURSE_END_AT);
+        assertThat(existing.getStudentId()).isEqualTo(101L);
+        assertThat(existing.getCourseStartAt()).isEqualTo(LocalDate.of(2025, 4, 1));
+        assertThat(existing.getCourseEndAt()).isEqualTo(LocalDate.of(2025, 12, 31));
+    }
+}
@@ -0,0 +1,113 @@
+package raisetech.student.deadline;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Invocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import raisetech.student.exception.DeadlineExceededException;
+
+import java.sql.Connection;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RequestDeadlineTest {
+
+    private final RequestDeadlineInterceptor interceptor =
+            new RequestDeadlineInterceptor(Duration.ofSeconds(3), Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+    private final DeadlineQueryTimeoutInterceptor queryTimeoutInterceptor = new DeadlineQueryTimeoutInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void ヘッダの制限時間が処理期限として設定され完了時に破棄される() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students/1");
+        request.addHeader(RequestDeadlineInterceptor.TIMEOUT_HEADER, "1500");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        assertThat(RequestDeadline.current()).get()
+                .extracting(RequestDeadline::timeout).isEqualTo(Duration.ofMillis(1500));
+
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        assertThat(RequestDeadline.current()).isEmpty();
+    }
+
+    @Test
+    void ヘッダがない場合は参照系と更新系の既定値を使用し上限で切り詰める() {
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/api/students"), new MockHttpServletResponse(), null);
+        assertThat(RequestDeadline.current().get().timeout()).isEqualTo(Duration.ofSeconds(10));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students");
+        request.addHeader(RequestDeadlineInterceptor.TIMEOUT_HEADER, "600000");
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        assertThat(RequestDeadline.current().get().timeout()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void 制限時間が0以下のリクエストは処理せずに打ち切る() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students/1");
+        request.addHeader(RequestDeadlineInterceptor.TIMEOUT_HEADER, "0");
+
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), null))
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(RequestDeadline.current()).isEmpty();
+    }
+
+    @Test
+    void 残り時間がクエリタイムアウトとして設定される() throws Throwable {
+        Statement statement = mock(Statement.class);
+        when(statement.getQueryTimeout()).thenReturn(0);
+        StatementHandler handler = mock(StatementHandler.class);
+        when(handler.prepare(any(), any())).thenReturn(statement);
+        RequestDeadline.start(Duration.ofMillis(2500));
+
+        Object result = queryTimeoutInterceptor.intercept(prepareInvocation(handler));
+
+        assertThat(result).isSameAs(statement);
+        verify(statement).setQueryTimeout(3);
+    }
+
+    @Test
+    void 期限切れの場合はクエリを実行しない() throws Throwable {
+        StatementHandler handler = mock(StatementHandler.class);
+        RequestDeadline.start(Duration.ofNanos(1));
+        Thread.sleep(1);
+
+        assertThatThrownBy(() -> queryTimeoutInterceptor.intercept(prepareInvocation(handler)))
+                .isInstanceOf(SQLTimeoutException.class);
+        verify(handler, never()).prepare(any(), any());
+    }
+
+    @Test
+    void 処理期限がない場合はタイムアウトを変更しない() throws Throwable {
+        Statement statement = mock(Statement.class);
+        StatementHandler handler = mock(StatementHandler.class);
+        when(handler.prepare(any(), any())).thenReturn(statement);
+
+        queryTimeoutInterceptor.intercept(prepareInvocation(handler));
+
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    private static Invocation prepareInvocation(StatementHandler handler) throws NoSuchMethodException {
+        return new Invocation(handler,
+                StatementHandler.class.getMethod("prepare", Connection.class, Integer.class),
+                new Object[]{mock(Connection.class), null});
+    }
+}
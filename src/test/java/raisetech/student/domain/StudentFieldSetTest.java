@@ -0,0 +1,62 @@
+package raisetech.student.domain;
+
+import org.junit.jupiter.api.Test;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.exception.InvalidFieldsException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StudentFieldSetTest {
+
+    private final Student student = new Student(1L, "山田太郎", "ヤマダタロウ", "taro123",
+            "taro@example.com", "東京都", 20, "男性", "備考", false, null);
+
+    private final List<StudentCourse> courses = List.of(
+            new StudentCourse(10L, 1L, "Java", LocalDate.of(2025, 4, 1), LocalDate.of(2025, 9, 30)));
+
+    @Test
+    void 指定したフィールドのみを出力しコースは指定項目のみ含める() {
+        StudentFieldSet sut = StudentFieldSet.parse("name, id ,studentCourses.courseName");
+
+        Map<String, Object> view = sut.toView(student, courses);
+
+        assertThat(sut.studentFields()).containsExactly("id", "name");
+        assertThat(sut.includesCourses()).isTrue();
+        assertThat(view).isEqualTo(Map.of("student", Map.of(
+                "id", 1L,
+                "name", "山田太郎",
+                "studentCourses", List.of(Map.of("courseName", "Java")))));
+    }
+
+    @Test
+    void コースを指定しない場合はコース情報を含めない() {
+        StudentFieldSet sut = StudentFieldSet.parse("id,email");
+
+        assertThat(sut.includesCourses()).isFalse();
+        assertThat(sut.toView(student, List.of()))
+                .isEqualTo(Map.of("student", Map.of("id", 1L, "email", "taro@example.com")));
+    }
+
+    @Test
+    void 指定順に関わらずキャッシュキーが正規化される() {
+        assertThat(StudentFieldSet.parse("name,id").cacheKey())
+                .isEqualTo(StudentFieldSet.parse("id,name").cacheKey());
+    }
+
+    @Test
+    void 未知のフィールドや空の指定は例外をスローする() {
+        assertThatThrownBy(() -> StudentFieldSet.parse("id,password"))
+                .isInstanceOf(InvalidFieldsException.class)
+                .hasMessageContaining("password");
+        assertThatThrownBy(() -> StudentFieldSet.parse("studentCourses.teacher"))
+                .isInstanceOf(InvalidFieldsException.class);
+        assertThatThrownBy(() -> StudentFieldSet.parse(" , "))
+                .isInstanceOf(InvalidFieldsException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package raisetech.student.domain.columnar;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.domain.StudentDetail;
+import raisetech.student.dto.StudentColumnsResponse;
+import raisetech.student.dto.StudentsResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentColumnsTest {
+
+    // Spring Bootと同じ設定（LocalDateは yyyy-MM-dd 形式）
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void 同じ学生の行はコース情報としてまとめられる() {
+        StudentColumns sut = StudentColumns.builder()
+                .add(row(1L, "東京都", 10L, "Javaコース"))
+                .add(row(1L, "東京都", 11L, "AWSコース"))
+                .add(row(2L, "大阪府", null, null))
+                .add(row(3L, "東京都", 12L, "Javaコース"))
+                .build();
+
+        assertThat(sut.size()).isEqualTo(3);
+        assertThat(sut.courseCount()).isEqualTo(3);
+        assertThat(sut.courseEnd(0) - sut.courseStart(0)).isEqualTo(2);
+        assertThat(sut.courseEnd(1) - sut.courseStart(1)).isZero();
+        // 住所（エリア）・コース名は辞書で共有される
+        assertThat(sut.pool().size()).isEqualTo(5);
+        assertThat(sut.areaCode(0)).isEqualTo(sut.areaCode(2));
+        assertThat(sut.courseNameCode(0)).isEqualTo(sut.courseNameCode(2));
+    }
+
+    @Test
+    void 学生詳細情報のリストと同じJSONを出力する() throws Exception {
+        StudentColumns columns = StudentColumns.builder()
+                .add(new StudentListRow(1L, "山田太郎", "ヤマダタロウ", "taro", "taro@example.com", "東京都", 20, "男性",
+                        "改行\nと\"引用符\"", false, 10L, "Javaコース", LocalDate.of(2025, 4, 1), LocalDate.of(2025, 9, 30)))
+                .add(new StudentListRow(1L, "山田太郎", "ヤマダタロウ", "taro", "taro@example.com", "東京都", 20, "男性",
+                        "改行\nと\"引用符\"", false, 11L, "AWSコース", LocalDate.of(999, 1, 2), null))
+                .add(new StudentListRow(2L, "佐藤花子", "サトウハナコ", null, "hanako@example.com", "大阪府", null, null,
+                        null, true, null, null, null, null))
+                .build();
+
+        Student taro = new Student(1L, "山田太郎", "ヤマダタロウ", "taro", "taro@example.com", "東京都", 20, "男性",
+                "改行\nと\"引用符\"", false, List.of(
+                new StudentCourse(10L, 1L, "Javaコース", LocalDate.of(2025, 4, 1), LocalDate.of(2025, 9, 30)),
+                new StudentCourse(11L, 1L, "AWSコース", LocalDate.of(999, 1, 2), null)));
+        Student hanako = new Student(2L, "佐藤花子", "サトウハナコ", null, "hanako@example.com", "大阪府", null, null,
+                null, true, List.of());
+
+        String actual = objectMapper.writeValueAsString(new StudentColumnsResponse("学生一覧を取得しました", columns));
+        String expected = objectMapper.writeValueAsString(
+                new StudentsResponse("学生一覧を取得しました", List.of(detail(taro), detail(hanako))));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void 学生がいない場合は空の配列を出力する() throws Exception {
+        String json = objectMapper.writeValueAsString(StudentColumns.builder().build());
+
+        assertThat(json).isEqualTo("[]");
+    }
+
+    private static StudentListRow row(long id, String area, Long courseId, String courseName) {
+        return new StudentListRow(id, "名前" + id, "ナマエ", null, id + "@example.com", area, 20, "女性", null, false,
+                courseId, courseName, null, null);
+    }
+
+    private static StudentDetail detail(Student student) {
+        StudentDetail detail = new StudentDetail();
+        detail.setStudent(student);
+        detail.setStudentCourses(student.getStudentCourses());
+        return detail;
+    }
+}
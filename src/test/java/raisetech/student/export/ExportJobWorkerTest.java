@@ -0,0 +1,236 @@
+package raisetech.student.export;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.repository.ExportJobRepository;
+import raisetech.student.repository.StudentCourseRepository;
+import raisetech.student.repository.StudentRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportJobWorkerTest {
+
+    private static final String JOB_ID = "3f2a8c1e-5b7d-4e9a-9c2b-1d0e6f4a7b8c";
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private ExportJobRepository exportJobRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private StudentCourseRepository studentCourseRepository;
+
+    private ExportJobWorker sut;
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) {
+            sut.shutdown();
+        }
+    }
+
+    @Test
+    void 学生をチャンクごとに読み出してgzip圧縮したCSVを保存し進捗を更新する() throws Exception {
+        sut = worker(1, 1, 2);
+        givenJob(ExportFormat.CSV);
+        when(studentRepository.countActiveStudents()).thenReturn(3L);
+        when(studentRepository.findActiveStudentsAfter(0L, 2)).thenReturn(List.of(student(1L, "山田太郎"), student(2L, "佐藤花子")));
+        when(studentRepository.findActiveStudentsAfter(2L, 2)).thenReturn(List.of(student(5L, "鈴木一郎")));
+        when(studentCourseRepository.findByStudentIds(List.of(1L, 2L))).thenReturn(List.of(
+                new StudentCourse(10L, 1L, "Javaコース", LocalDate.of(2025, 4, 1), null),
+                new StudentCourse(11L, 1L, "AWSコース", null, null)));
+        when(studentCourseRepository.findByStudentIds(List.of(5L))).thenReturn(List.of());
+
+        sut.execute(JOB_ID);
+
+        Path file = directory.resolve(JOB_ID + ".csv.gz");
+        String csv = gunzip(file);
+        assertThat(csv.split("\r\n")).hasSize(5);
+        assertThat(csv).contains("1,山田太郎,ヤマダタロウ,,mail1@example.com,東京都,20,男性,,10,Javaコース,2025-04-01,\r\n"
+                        + "1,山田太郎,ヤマダタロウ,,mail1@example.com,東京都,20,男性,,11,AWSコース,,\r\n")
+                .endsWith("5,鈴木一郎,ヤマダタロウ,,mail5@example.com,東京都,20,男性,,,,,\r\n");
+        verify(exportJobRepository).updateProgress(eq(JOB_ID), eq(3L), eq(2L), any());
+        verify(exportJobRepository).updateProgress(eq(JOB_ID), eq(3L), eq(3L), any());
+        verify(exportJobRepository).markCompleted(eq(JOB_ID), eq(JOB_ID + ".csv.gz"), eq(Files.size(file)), any());
+        assertThat(directory.resolve(JOB_ID + ".part")).doesNotExist();
+    }
+
+    @Test
+    void 他のワーカーが実行を始めているジョブは実行しない() {
+        sut = worker(1, 1, 2);
+        when(exportJobRepository.markRunning(eq(JOB_ID), any())).thenReturn(0);
+
+        sut.execute(JOB_ID);
+
+        verifyNoInteractions(studentRepository);
+        verify(exportJobRepository, never()).markCompleted(anyString(), anyString(), anyLong(), any());
+    }
+
+    @Test
+    void 出力に失敗した場合はジョブを失敗にして一時ファイルを残さない() throws IOException {
+        sut = worker(1, 1, 2);
+        givenJob(ExportFormat.XLSX);
+        when(studentRepository.countActiveStudents()).thenReturn(1L);
+        when(studentRepository.findActiveStudentsAfter(0L, 2)).thenThrow(new IllegalStateException("DB接続エラー"));
+
+        sut.execute(JOB_ID);
+
+        verify(exportJobRepository).markFailed(eq(JOB_ID), eq("DB接続エラー"), any());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void 長いエラーメッセージは列の長さに切り詰めて記録する() {
+        sut = worker(1, 1, 2);
+        givenJob(ExportFormat.CSV);
+        when(studentRepository.countActiveStudents()).thenReturn(1L);
+        String message = "### Error querying database. SQL: SELECT ...".repeat(100);
+        when(studentRepository.findActiveStudentsAfter(0L, 2)).thenThrow(new IllegalStateException(message));
+
+        sut.execute(JOB_ID);
+
+        verify(exportJobRepository).markFailed(eq(JOB_ID),
+                eq(message.substring(0, ExportJobWorker.MAX_ERROR_MESSAGE_LENGTH)), any());
+    }
+
+    @Test
+    void 失敗の記録に失敗した場合は例外の種類だけを記録し直す() {
+        sut = worker(1, 1, 2);
+        givenJob(ExportFormat.CSV);
+        when(studentRepository.countActiveStudents()).thenReturn(1L);
+        when(studentRepository.findActiveStudentsAfter(0L, 2)).thenThrow(new IllegalStateException("DB接続エラー"));
+        doThrow(new IllegalStateException("Data too long for column 'error_message'"))
+                .when(exportJobRepository).markFailed(eq(JOB_ID), eq("DB接続エラー"), any());
+
+        sut.execute(JOB_ID);
+
+        verify(exportJobRepository).markFailed(eq(JOB_ID), eq(IllegalStateException.class.getName()), any());
+    }
+
+    @Test
+    void 停止による割り込みが別の例外で届いた場合はジョブを失敗にせず実行中のまま残す() {
+        sut = worker(1, 1, 2);
+        givenJob(ExportFormat.CSV);
+        when(studentRepository.countActiveStudents()).thenReturn(1L);
+        when(studentRepository.findActiveStudentsAfter(0L, 2)).thenAnswer(invocation -> {
+            // JDBCドライバーが割り込みを実行時例外に包んで返す場合
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("クエリが中断されました");
+        });
+
+        try {
+            sut.execute(JOB_ID);
+        } finally {
+            Thread.interrupted();
+        }
+
+        verify(exportJobRepository, never()).markFailed(anyString(), anyString(), any());
+        verify(exportJobRepository, never()).markCompleted(anyString(), anyString(), anyLong(), any());
+    }
+
+    @Test
+    void 待ち行列がいっぱいの場合はジョブを受け付けない() throws Exception {
+        sut = worker(1, 1, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(exportJobRepository.markRunning(anyString(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0;
+        });
+
+        assertThat(sut.trySubmit("job-1")).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sut.trySubmit("job-2")).isTrue();
+        assertThat(sut.trySubmit("job-2")).isTrue(); // 受け付け済みのジョブは二重に渡さない
+        assertThat(sut.trySubmit("job-3")).isFalse();
+        release.countDown();
+    }
+
+    @Test
+    void 起動時に中断したジョブを実行待ちに戻して再開する() throws Exception {
+        sut = worker(1, 1, 2);
+        CountDownLatch executed = new CountDownLatch(1);
+        when(exportJobRepository.requeueRunning(any())).thenReturn(1);
+        when(exportJobRepository.findByStatus(ExportJobStatus.QUEUED))
+                .thenReturn(List.of(ExportJob.queued(JOB_ID, ExportFormat.CSV, Instant.now())));
+        when(exportJobRepository.markRunning(eq(JOB_ID), any())).thenAnswer(invocation -> {
+            executed.countDown();
+            return 0;
+        });
+
+        sut.resumeJobs();
+
+        assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 保存期間を過ぎたジョブをファイルと共に削除する() throws Exception {
+        sut = worker(1, 1, 2);
+        Path file = Files.writeString(directory.resolve(JOB_ID + ".csv.gz"), "dummy");
+        ExportJob expired = new ExportJob(JOB_ID, ExportFormat.CSV, ExportJobStatus.COMPLETED, 1L, 1,
+                JOB_ID + ".csv.gz", 5L, null, Instant.now(), Instant.now(), Instant.now().minus(Duration.ofDays(2)));
+        when(exportJobRepository.findFinishedBefore(any())).thenReturn(List.of(expired));
+        when(exportJobRepository.deleteById(JOB_ID)).thenReturn(1);
+
+        assertThat(sut.purgeExpired()).isEqualTo(1);
+        assertThat(file).doesNotExist();
+    }
+
+    private ExportJobWorker worker(int workers, int queueCapacity, int chunkSize) {
+        return new ExportJobWorker(exportJobRepository, studentRepository, studentCourseRepository,
+                directory, workers, queueCapacity, chunkSize, Duration.ofHours(24));
+    }
+
+    private void givenJob(ExportFormat format) {
+        when(exportJobRepository.markRunning(eq(JOB_ID), any())).thenReturn(1);
+        when(exportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(ExportJob.queued(JOB_ID, format, Instant.now())));
+    }
+
+    private static Student student(Long id, String name) {
+        return new Student(id, name, "ヤマダタロウ", null, "mail" + id + "@example.com", "東京都", 20, "男性", null, false, null);
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
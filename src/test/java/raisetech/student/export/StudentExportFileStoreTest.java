@@ -0,0 +1,121 @@
+package raisetech.student.export;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.student.event.StudentChangedEvent;
+import raisetech.student.exception.TooManyRequestsException;
+import raisetech.student.service.StudentExportService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+class StudentExportFileStoreTest {
+
+    private static final String CONTENT = "学生ID,氏名\r\n1,山田太郎\r\n";
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private StudentExportService studentExportService;
+
+    @Test
+    void 生成しながら送信した内容をファイルに保存し次回はファイルを返す() throws Exception {
+        AtomicInteger exports = givenExport();
+        StudentExportFileStore sut = new StudentExportFileStore(studentExportService, directory, 2);
+
+        StudentExportFileStore.ExportStream stream = sut.tryStream(ExportFormat.CSV).orElseThrow();
+        ByteArrayOutputStream client = new ByteArrayOutputStream();
+        stream.body().writeTo(client);
+
+        assertThat(client.toString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        ExportFile file = sut.current(ExportFormat.CSV).orElseThrow();
+        assertThat(Files.readString(file.path())).isEqualTo(CONTENT);
+        assertThat(file.etag()).isEqualTo(stream.etag());
+        assertThat(sut.getOrGenerate(ExportFormat.CSV)).isEqualTo(file);
+        assertThat(sut.tryStream(ExportFormat.CSV)).isEmpty();
+        assertThat(exports).hasValue(1);
+    }
+
+    @Test
+    void クライアントが切断しても最後まで生成してファイルを保存する() throws Exception {
+        givenExport();
+        StudentExportFileStore sut = new StudentExportFileStore(studentExportService, directory, 2);
+
+        sut.tryStream(ExportFormat.CSV).orElseThrow().body().writeTo(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        });
+
+        assertThat(Files.readString(sut.current(ExportFormat.CSV).orElseThrow().path())).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void 学生データが変更されると古いファイルを使わず再生成時に削除する() throws Exception {
+        AtomicInteger exports = givenExport();
+        StudentExportFileStore sut = new StudentExportFileStore(studentExportService, directory, 2);
+        ExportFile before = sut.getOrGenerate(ExportFormat.CSV);
+
+        sut.onStudentChanged(StudentChangedEvent.of(1L));
+        assertThat(sut.current(ExportFormat.CSV)).isEmpty();
+        ExportFile after = sut.getOrGenerate(ExportFormat.CSV);
+
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(before.path()).doesNotExist();
+        assertThat(exports).hasValue(2);
+    }
+
+    @Test
+    void 同時実行数の上限に達している場合は429用の例外をスローする() {
+        StudentExportFileStore sut = new StudentExportFileStore(studentExportService, directory, 1);
+
+        assertThat(sut.tryStream(ExportFormat.CSV)).isPresent();
+        assertThatThrownBy(() -> sut.tryStream(ExportFormat.XLSX))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void 送信されないまま取り消された場合は生成の枠を解放し待っていたリクエストが生成する() throws Exception {
+        AtomicInteger exports = givenExport();
+        StudentExportFileStore sut = new StudentExportFileStore(studentExportService, directory, 1);
+        StudentExportFileStore.ExportStream stream = sut.tryStream(ExportFormat.CSV).orElseThrow();
+
+        stream.abandon().run();
+        stream.abandon().run(); // 2回目以降は何もしない
+
+        ByteArrayOutputStream client = new ByteArrayOutputStream();
+        stream.body().writeTo(client);
+        assertThat(client.size()).isZero();
+        assertThat(Files.readString(sut.getOrGenerate(ExportFormat.CSV).path())).isEqualTo(CONTENT);
+        assertThat(exports).hasValue(1);
+    }
+
+    private AtomicInteger givenExport() throws IOException {
+        AtomicInteger exports = new AtomicInteger();
+        Mockito.when(studentExportService.export(eq(ExportFormat.CSV), any())).thenAnswer(invocation -> {
+            exports.incrementAndGet();
+            OutputStream out = invocation.getArgument(1);
+            out.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            return 1L;
+        });
+        return exports;
+    }
+}
@@ -0,0 +1,64 @@
+package raisetech.student.export;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import raisetech.student.domain.columnar.StudentListRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentExportWriterTest {
+
+    @Test
+    void CSVはBOM付きで出力し特殊文字を含む値をエスケープする() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StudentExportWriter writer = ExportFormat.CSV.newWriter(out)) {
+            writer.writeRow(new StudentListRow(1L, "山田, 太郎", "ヤマダタロウ", "\"taro\"", "taro@example.com", "東京都",
+                    null, "男性", "=HYPERLINK(\"x\")", false, 10L, "Javaコース", LocalDate.of(2025, 4, 1), null));
+            writer.writeRow(new StudentListRow(2L, "佐藤花子", "サトウハナコ", null, "hanako@example.com", "大阪府",
+                    25, "女性", "1行目\n2行目", false, null, null, null, null));
+            writer.finish();
+        }
+        byte[] bytes = out.toByteArray();
+
+        assertThat(Arrays.copyOf(bytes, 3)).containsExactly(0xEF, 0xBB, 0xBF);
+        String[] lines = new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8).split("\r\n", -1);
+        assertThat(lines[0]).isEqualTo("学生ID,氏名,カナ名,ニックネーム,メールアドレス,住所,年齢,性別,備考,コースID,コース名,受講開始日,受講終了日");
+        assertThat(lines[1]).isEqualTo("1,\"山田, 太郎\",ヤマダタロウ,\"\"\"taro\"\"\",taro@example.com,東京都,,男性,"
+                + "\"'=HYPERLINK(\"\"x\"\")\",10,Javaコース,2025-04-01,");
+        assertThat(lines[2]).isEqualTo("2,佐藤花子,サトウハナコ,,hanako@example.com,大阪府,25,女性,\"1行目\n2行目\",,,,");
+        assertThat(lines[3]).isEmpty();
+    }
+
+    @Test
+    void Excelは最大行数を超えると次のシートへ続けて出力する() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StudentExportWriter writer = new XlsxStudentExportWriter(out, 3)) {
+            for (long id = 1; id <= 3; id++) {
+                writer.writeRow(new StudentListRow(id, "学生" + id, "ガクセイ", null, null, "東京都", 20, "男性", null, false,
+                        id * 10, "Javaコース", LocalDate.of(2025, 4, 1), null));
+            }
+            writer.finish();
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(workbook.getNumberOfSheets()).isEqualTo(2);
+            Sheet first = workbook.getSheetAt(0);
+            assertThat(first.getSheetName()).isEqualTo("学生一覧");
+            assertThat(first.getRow(0).getCell(0).getStringCellValue()).isEqualTo("学生ID");
+            assertThat(first.getRow(1).getCell(1).getStringCellValue()).isEqualTo("学生1");
+            assertThat(first.getRow(1).getCell(11).getLocalDateTimeCellValue().toLocalDate())
+                    .isEqualTo(LocalDate.of(2025, 4, 1));
+            assertThat(first.getRow(1).getCell(12)).isNull();
+            Sheet second = workbook.getSheetAt(1);
+            assertThat(second.getSheetName()).isEqualTo("学生一覧 (2)");
+            assertThat(second.getRow(1).getCell(0).getNumericCellValue()).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package raisetech.student.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import raisetech.student.exception.IdempotencyConflictException;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceTest {
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100);
+
+    private final IdempotencyService sut =
+            new IdempotencyService(store, new ObjectMapper(), Duration.ofHours(1), Duration.ofSeconds(5), Duration.ofMinutes(5));
+
+    @Test
+    void 同じキーの同時リクエストは最初の処理の完了を待って同じ結果を返す() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<Created>> leader = executor.submit(() -> sut.execute("key-1", "POST /api/students",
+                    Map.of("name", "山田太郎"), Created.class, () -> {
+                        executions.incrementAndGet();
+                        leaderStarted.countDown();
+                        await(release);
+                        return ResponseEntity.status(HttpStatus.CREATED).body(new Created(1));
+                    }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<ResponseEntity<Created>> duplicate = executor.submit(() -> sut.execute("key-1", "POST /api/students",
+                    Map.of("name", "山田太郎"), Created.class, () -> {
+                        executions.incrementAndGet();
+                        return ResponseEntity.status(HttpStatus.CREATED).body(new Created(2));
+                    }));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS).getBody()).isEqualTo(new Created(1));
+            ResponseEntity<Created> duplicated = duplicate.get(5, TimeUnit.SECONDS);
+            assertThat(duplicated.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(duplicated.getBody()).isEqualTo(new Created(1));
+            assertThat(duplicated.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 失敗した処理の結果は保存せず同じキーで再試行できる() {
+        assertThatThrownBy(() -> sut.execute("key-2", "POST /api/students", Map.of("name", "山田太郎"), Created.class,
+                () -> {
+                    throw new IllegalStateException("DB障害");
+                })).isInstanceOf(IllegalStateException.class);
+
+        ResponseEntity<Created> retried = sut.execute("key-2", "POST /api/students", Map.of("name", "山田太郎"), Created.class,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(new Created(3)));
+
+        assertThat(retried.getBody()).isEqualTo(new Created(3));
+        assertThat(store.find("POST /api/students:key-2", Instant.now()))
+                .hasValueSatisfying(record -> assertThat(record.isPending()).isFalse());
+    }
+
+    @Test
+    void 他のサーバーで処理中のキーは結果が保存されるまで待って同じ結果を返す() throws Exception {
+        String key = "POST /api/students:key-3";
+        ObjectMapper objectMapper = new ObjectMapper();
+        String requestHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(objectMapper.writeValueAsBytes(Map.of("name", "山田太郎"))));
+        assertThat(store.claim(IdempotencyRecord.pending(key, requestHash, Instant.now().plusSeconds(60)))).isTrue();
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ResponseEntity<Created>> duplicate = executor.submit(() -> sut.execute("key-3", "POST /api/students",
+                    Map.of("name", "山田太郎"), Created.class, () -> {
+                        executions.incrementAndGet();
+                        return ResponseEntity.status(HttpStatus.CREATED).body(new Created(2));
+                    }));
+            Thread.sleep(200);
+            store.save(new IdempotencyRecord(key, requestHash, 201,
+                    objectMapper.writeValueAsBytes(new Created(1)), Instant.now().plusSeconds(60)));
+
+            ResponseEntity<Created> replayed = duplicate.get(5, TimeUnit.SECONDS);
+            assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(replayed.getBody()).isEqualTo(new Created(1));
+            assertThat(replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(executions).hasValue(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 他のサーバーの処理中の記録が削除された場合は409とし再試行できる() {
+        String key = "POST /api/students:key-4";
+        store.claim(IdempotencyRecord.pending(key, "other", Instant.now().plusSeconds(60)));
+
+        // 内容が異なる場合は待たずに409
+        assertThatThrownBy(() -> sut.execute("key-4", "POST /api/students", Map.of("name", "山田太郎"), Created.class,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(new Created(4))))
+                .isInstanceOf(IdempotencyConflictException.class);
+
+        store.release(IdempotencyRecord.pending(key, "other", Instant.now()));
+        ResponseEntity<Created> retried = sut.execute("key-4", "POST /api/students", Map.of("name", "山田太郎"), Created.class,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(new Created(4)));
+
+        assertThat(retried.getBody()).isEqualTo(new Created(4));
+        assertThat(store.find(key, Instant.now())).hasValueSatisfying(record -> assertThat(record.isPending()).isFalse());
+    }
+
+    @Test
+    void 期限切れの結果は削除される() {
+        store.save(new IdempotencyRecord("POST /api/students:old", "hash", 201, new byte[0],
+                Instant.now().minusSeconds(1)));
+
+        sut.purgeExpired();
+
+        assertThat(store.find("POST /api/students:old", Instant.now().minusSeconds(10))).isEmpty();
+    }
+
+    // 登録系のエンドポイントの応答を模したレスポンス
+    record Created(int id) {
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package raisetech.student.nativeimage;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ネイティブイメージの実行ファイルをH2（MySQLモード）で起動し、StudentControllerの各エンドポイントが応答することを確認するテスト。
+ * 通常のテストでは実行されません（./gradlew nativeSmokeTest で実行。実行ファイルのパスはGradleのタスクから渡されます）。
+ */
+@Tag("native")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NativeImageSmokeTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Pattern STUDENT_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private static final String STUDENT_JSON = """
+            {
+              "name": "山田太郎",
+              "kanaName": "ヤマダタロウ",
+              "nickname": "taro",
+              "email": "taro@example.com",
+              "area": "東京都",
+              "age": 20,
+              "sex": "男性",
+              "remark": "",
+              "deleted": false,
+              "studentCourses": [
+                {"courseName": "Javaコース", "courseStartAt": "2025-04-01", "courseEndAt": "2025-09-30"}
+              ]
+            }
+            """;
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private static Process process;
+
+    private static String baseUrl;
+
+    private static long studentId;
+
+    @BeforeAll
+    static void startNativeImage() throws Exception {
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        process = new ProcessBuilder(List.of(
+                System.getProperty("native.executable"),
+                "--server.port=" + port,
+                "--logging.file.name=" + File.createTempFile("native", ".log").getAbsolutePath(),
+                "--spring.datasource.url=jdbc:h2:mem:native;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password="))
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertThat(process.isAlive()).as("ネイティブイメージが起動中に終了しました").isTrue();
+            try {
+                httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (ConnectException e) {
+                Thread.sleep(10);
+            }
+        }
+        throw new AssertionError("ネイティブイメージの起動がタイムアウトしました");
+    }
+
+    @AfterAll
+    static void stopNativeImage() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    @Test
+    @Order(1)
+    void 学生を登録できる() throws Exception {
+        HttpResponse<String> response = send("POST", "/api/students", STUDENT_JSON);
+
+        assertThat(response.statusCode()).isEqualTo(201);
+        Matcher matcher = STUDENT_ID.matcher(response.body());
+        assertThat(matcher.find()).isTrue();
+        studentId = Long.parseLong(matcher.group(1));
+    }
+
+    @Test
+    @Order(2)
+    void 学生を取得できる() throws Exception {
+        HttpResponse<String> response = send("GET", "/api/students/" + studentId, null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("ヤマダタロウ", "Javaコース");
+    }
+
+    @Test
+    @Order(3)
+    void 学生一覧を取得できる() throws Exception {
+        assertThat(send("GET", "/api/students", null).body()).contains("山田太郎");
+        assertThat(send("GET", "/api/students?fields=id,name", null).body()).contains("山田太郎");
+    }
+
+    @Test
+    @Order(4)
+    void 複数の学生を一括取得できる() throws Exception {
+        HttpResponse<String> response = send("POST", "/api/students/batch-get",
+                "{\"ids\": [" + studentId + ", 999999]}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"found\":false");
+    }
+
+    @Test
+    @Order(5)
+    void 学生を更新できる() throws Exception {
+        String body = "{\"student\": " + STUDENT_JSON.replace("\"remark\": \"\"", "\"id\": " + studentId + ", \"remark\": \"更新\"")
+                + ", \"studentCourses\": []}";
+        HttpResponse<String> response = send("PUT", "/api/students/" + studentId, body);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(send("GET", "/api/students/" + studentId, null).body()).contains("更新");
+    }
+
+    @Test
+    @Order(6)
+    void 学生を削除して復元できる() throws Exception {
+        assertThat(send("DELETE", "/api/students/" + studentId, null).statusCode()).isEqualTo(200);
+        assertThat(send("POST", "/api/students/" + studentId + "/restore", null).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @Order(7)
+    void 学生を一括削除して一括復元できる() throws Exception {
+        HttpResponse<String> deleted = send("POST", "/api/students/bulk-delete", "{\"filter\": {\"area\": \"東京都\"}}");
+        assertThat(deleted.statusCode()).isEqualTo(200);
+        assertThat(deleted.body()).contains("\"outcome\":\"UPDATED\"");
+
+        HttpResponse<String> restored = send("POST", "/api/students/bulk-restore", "{\"ids\": [" + studentId + ", 999999]}");
+        assertThat(restored.statusCode()).isEqualTo(200);
+        assertThat(restored.body()).contains("\"outcome\":\"UPDATED\"", "\"outcome\":\"NOT_FOUND\"");
+    }
+
+    @Test
+    @Order(8)
+    void 入力チェックのエラーと存在しない学生のエラーを返す() throws Exception {
+        assertThat(send("POST", "/api/students", "{\"name\": \"\"}").statusCode()).isEqualTo(400);
+        assertThat(send("GET", "/api/students/999999", null).statusCode()).isEqualTo(404);
+    }
+
+    private static HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package raisetech.student.perf;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * HTTPリクエストを指定した並列数で送信し、スループットとレイテンシのパーセンタイルを集計するクラス。
+ */
+class LoadScenarioRunner {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final int concurrency;
+
+    LoadScenarioRunner(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * シナリオを実行します。ウォームアップのリクエストは集計に含めません。
+     *
+     * @param name     シナリオ名
+     * @param warmup   ウォームアップのリクエスト数
+     * @param requests 計測するリクエスト数
+     * @param request  リクエストの通し番号（0始まり。ウォームアップ分を含む）からリクエストを生成する関数
+     * @return 計測結果
+     */
+    Result run(String name, int warmup, int requests, IntFunction<HttpRequest> request) throws Exception {
+        execute(0, warmup, request, new long[warmup]);
+        long[] latencies = new long[requests];
+        long start = System.nanoTime();
+        int errors = execute(warmup, requests, request, latencies);
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(name, requests, errors, elapsed, latencies);
+    }
+
+    private int execute(int offset, int count, IntFunction<HttpRequest> request, long[] latencies) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    for (int index = next.getAndIncrement(); index < count; index = next.getAndIncrement()) {
+                        HttpRequest httpRequest = request.apply(offset + index);
+                        long begin = System.nanoTime();
+                        HttpResponse<byte[]> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+                        latencies[index] = System.nanoTime() - begin;
+                        if (response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return errors.get();
+    }
+
+    /**
+     * シナリオの計測結果。
+     *
+     * @param name      シナリオ名
+     * @param requests  リクエスト数
+     * @param errors    エラー（ステータス400以上）の件数
+     * @param elapsed   経過時間（ナノ秒）
+     * @param latencies 昇順に並べたレイテンシ（ナノ秒）
+     */
+    record Result(String name, int requests, int errors, long elapsed, long[] latencies) {
+
+        double throughput() {
+            return requests * 1_000_000_000.0 / elapsed;
+        }
+
+        /**
+         * パーセンタイル値（ミリ秒）を返します（nearest-rank法）。
+         *
+         * @param percentile パーセンタイル（0より大きく100以下）
+         * @return レイテンシ（ミリ秒）
+         */
+        double percentileMillis(double percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * latencies.length);
+            return latencies[Math.max(rank, 1) - 1] / 1_000_000.0;
+        }
+
+        static String header() {
+            return String.format("%-28s %8s %6s %10s %9s %9s %9s %9s",
+                    "scenario", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %8d %6d %10.1f %9.2f %9.2f %9.2f %9.2f",
+                    name, requests, errors, throughput(),
+                    percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(100));
+        }
+    }
+}
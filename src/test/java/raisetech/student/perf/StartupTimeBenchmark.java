@@ -0,0 +1,116 @@
+package raisetech.student.perf;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 起動モードごとに、アプリケーションのプロセスを起動してから最初のリクエスト（GET /api/students）に応答するまでの時間を計測するテスト。
+ * DBはH2（MySQLモード）を使用します。
+ * 通常のテストでは実行されません（./gradlew startupBenchmark で実行。クラスパスなどはGradleのタスクから渡されます）。
+ */
+@Tag("startup")
+class StartupTimeBenchmark {
+
+    private static final int RUNS = 3;
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private static final List<String> DATABASE_ARGS = List.of(
+            "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void 起動から最初のリクエストに応答するまでの時間を計測する() throws Exception {
+        String cdsArchive = System.getProperty("startup.cds-archive");
+        List<Mode> modes = new ArrayList<>(List.of(
+                new Mode("標準", List.of(), List.of()),
+                new Mode("faststart", List.of(), List.of("--spring.profiles.active=faststart")),
+                new Mode("faststart + AOT", List.of("-Dspring.aot.enabled=true"),
+                        List.of("--spring.profiles.active=faststart"))));
+        if (cdsArchive != null && Files.exists(Path.of(cdsArchive))) {
+            modes.add(new Mode("faststart + AOT + CDS",
+                    List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + cdsArchive, "-Xlog:cds=off"),
+                    List.of("--spring.profiles.active=faststart")));
+        }
+
+        System.out.printf("%-24s %s%n", "mode", "time-to-first-request(ms) 中央値 [各回]");
+        for (Mode mode : modes) {
+            long[] millis = new long[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                millis[i] = timeToFirstRequest(mode);
+            }
+            long[] sorted = millis.clone();
+            Arrays.sort(sorted);
+            System.out.printf("%-24s %,d %s%n", mode.name(), sorted[RUNS / 2], Arrays.toString(millis));
+        }
+    }
+
+    private long timeToFirstRequest(Mode mode) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(mode.jvmArgs());
+        command.add("-cp");
+        command.add(System.getProperty("startup.classpath"));
+        command.add(System.getProperty("startup.main-class", "raisetech.student.Application"));
+        command.add("--server.port=" + port);
+        command.add("--logging.file.name=" + File.createTempFile("startup", ".log").getAbsolutePath());
+        command.addAll(mode.args());
+        command.addAll(DATABASE_ARGS);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/students")).GET().build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                assertThat(process.isAlive()).as("アプリケーションが起動中に終了しました").isTrue();
+                try {
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    assertThat(response.statusCode()).isEqualTo(200);
+                    return (System.nanoTime() - start) / 1_000_000;
+                } catch (ConnectException e) {
+                    Thread.sleep(10);
+                }
+            }
+            throw new AssertionError("起動がタイムアウトしました: " + mode.name());
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Mode(String name, List<String> jvmArgs, List<String> args) {
+    }
+}
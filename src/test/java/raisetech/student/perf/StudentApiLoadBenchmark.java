@@ -0,0 +1,146 @@
+package raisetech.student.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import raisetech.student.data.Student;
+import raisetech.student.domain.StudentDetail;
+import raisetech.student.dto.StudentBatchGetRequest;
+import raisetech.student.dto.StudentBulkUpdateRequest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * perfプロファイル（H2・合成データ）でアプリケーションを起動し、StudentControllerの各エンドポイントに負荷をかけて
+ * スループットとレイテンシのパーセンタイルを出力する計測用テスト。
+ * 通常のテストでは実行されません（./gradlew benchmark で実行）。
+ */
+@Tag("benchmark")
+@ActiveProfiles("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"student.perf.students=" + StudentApiLoadBenchmark.STUDENTS})
+class StudentApiLoadBenchmark {
+
+    static final int STUDENTS = 2000;
+
+    private static final int CONCURRENCY = 16;
+
+    private static final int WARMUP = 200;
+
+    private static final int REQUESTS = 2000;
+
+    // 一括削除・一括復元の1リクエストで指定する学生IDの件数
+    private static final int BULK_SIZE = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void 各エンドポイントのスループットとレイテンシを計測する() throws Exception {
+        LoadScenarioRunner runner = new LoadScenarioRunner(CONCURRENCY);
+        List<LoadScenarioRunner.Result> results = new ArrayList<>();
+
+        results.add(runner.run("GET /api/students/{id}", WARMUP, REQUESTS,
+                i -> get("/api/students/" + studentId(i))));
+        results.add(runner.run("GET /api/students", 10, 100,
+                i -> get("/api/students")));
+        results.add(runner.run("GET /api/students?fields", 10, 100,
+                i -> get("/api/students?fields=id,name,studentCourses.courseName")));
+        results.add(runner.run("POST /api/students/batch-get", WARMUP, REQUESTS,
+                i -> post("/api/students/batch-get", batchGetRequest(i))));
+        results.add(runner.run("POST /api/students", WARMUP, REQUESTS,
+                i -> post("/api/students", new SyntheticStudentFactory(i).nextStudent(2, 0.0))));
+        results.add(runner.run("PUT /api/students/{id}", WARMUP, REQUESTS,
+                i -> put("/api/students/" + studentId(i), updateRequest(studentId(i), i))));
+        // 削除・復元は同じIDの範囲に対して順に実行する
+        results.add(runner.run("DELETE /api/students/{id}", 0, STUDENTS,
+                i -> delete("/api/students/" + (i + 1))));
+        results.add(runner.run("POST /api/students/{id}/restore", 0, STUDENTS,
+                i -> post("/api/students/" + (i + 1) + "/restore", null)));
+        // 一括削除・一括復元は、同時に実行するリクエスト同士で学生IDが重ならないように区切って実行する
+        results.add(runner.run("POST /api/students/bulk-delete", 0, STUDENTS / BULK_SIZE,
+                i -> post("/api/students/bulk-delete", bulkUpdateRequest(i))));
+        results.add(runner.run("POST /api/students/bulk-restore", 0, STUDENTS / BULK_SIZE,
+                i -> post("/api/students/bulk-restore", bulkUpdateRequest(i))));
+
+        System.out.println(LoadScenarioRunner.Result.header());
+        results.forEach(System.out::println);
+
+        assertThat(results).allSatisfy(result -> assertThat(result.errors()).as(result.name()).isZero());
+    }
+
+    // リクエストの通し番号から、登録済みの学生IDを決める（同じ番号からは同じID）
+    private static long studentId(int index) {
+        return new SplittableRandom(index).nextLong(1, STUDENTS + 1);
+    }
+
+    private static StudentBatchGetRequest batchGetRequest(int index) {
+        long first = studentId(index);
+        return new StudentBatchGetRequest(LongStream.range(0, 50)
+                .map(offset -> (first + offset - 1) % STUDENTS + 1)
+                .boxed()
+                .toList());
+    }
+
+    private static StudentBulkUpdateRequest bulkUpdateRequest(int index) {
+        long first = (long) index * BULK_SIZE + 1;
+        return new StudentBulkUpdateRequest(LongStream.range(first, first + BULK_SIZE).boxed().toList(), null);
+    }
+
+    // リクエストは複数スレッドから生成されるため、通し番号ごとにシード値を変えて生成する
+    private static StudentDetail updateRequest(long id, int index) {
+        Student student = new SyntheticStudentFactory(index).nextStudent(0, 0.0);
+        student.setId(id);
+        student.setRemark("更新" + index);
+        StudentDetail studentDetail = new StudentDetail();
+        studentDetail.setStudent(student);
+        studentDetail.setStudentCourses(List.of());
+        return studentDetail;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest delete(String path) {
+        return request(path).DELETE().build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        return request(path).POST(bodyOf(body)).build();
+    }
+
+    private HttpRequest put(String path, Object body) {
+        return request(path).PUT(bodyOf(body)).build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher bodyOf(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
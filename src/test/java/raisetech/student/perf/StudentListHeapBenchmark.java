@@ -0,0 +1,150 @@
+package raisetech.student.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.domain.StudentDetail;
+import raisetech.student.domain.columnar.StudentColumns;
+import raisetech.student.domain.columnar.StudentListRow;
+import raisetech.student.dto.StudentColumnsResponse;
+import raisetech.student.dto.StudentsResponse;
+
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 全学生一覧（10万人）を、学生ごとのオブジェクト（StudentDetail・Student・List&lt;StudentCourse&gt;）で保持する場合と、
+ * 列指向の構造（{@link StudentColumns}）で保持する場合の、保持するヒープの大きさ、
+ * 1リクエスト分（組み立て＋JSON変換）の割り当て量とGCの回数・停止時間を比較する計測用テスト。
+ * 通常のテストでは実行されません（./gradlew benchmark で実行）。
+ */
+@Tag("benchmark")
+class StudentListHeapBenchmark {
+
+    private static final int STUDENTS = 100_000;
+
+    private static final int COURSES_PER_STUDENT = 3;
+
+    private static final int REQUESTS = 10;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void 全学生一覧の保持サイズとGCへの影響を比較する() throws Exception {
+        List<StudentListRow> rows = generateRows();
+
+        long objectRetained = retainedBytes(() -> toStudentDetails(rows));
+        long columnarRetained = retainedBytes(() -> toColumns(rows));
+
+        Measurement objectRequests = measure(() -> new StudentsResponse("学生一覧を取得しました", toStudentDetails(rows)));
+        Measurement columnarRequests = measure(() -> new StudentColumnsResponse("学生一覧を取得しました", toColumns(rows)));
+
+        System.out.printf("学生数: %,d人（コース %,d件）%n", STUDENTS, rows.size());
+        System.out.printf("保持サイズ     オブジェクト: %,6.1f MB / 列指向: %,6.1f MB%n",
+                megabytes(objectRetained), megabytes(columnarRetained));
+        System.out.printf("GC（%d回分）  オブジェクト: %s / 列指向: %s%n", REQUESTS, objectRequests, columnarRequests);
+
+        assertThat(columnarRetained).isLessThan(objectRetained);
+    }
+
+    private List<StudentListRow> generateRows() {
+        SyntheticStudentFactory factory = new SyntheticStudentFactory(20250401L);
+        List<StudentListRow> rows = new ArrayList<>(STUDENTS * COURSES_PER_STUDENT);
+        long courseId = 1;
+        for (long id = 1; id <= STUDENTS; id++) {
+            Student s = factory.nextStudent(COURSES_PER_STUDENT, 0);
+            for (StudentCourse c : s.getStudentCourses()) {
+                rows.add(new StudentListRow(id, s.getName(), s.getKanaName(), s.getNickname(), s.getEmail(), s.getArea(),
+                        s.getAge(), s.getSex(), s.getRemark(), false, courseId++, c.getCourseName(),
+                        c.getCourseStartAt(), c.getCourseEndAt()));
+            }
+        }
+        return rows;
+    }
+
+    // 従来の組み立て方（学生ごとに StudentDetail・Student・コースのリストを生成）
+    private static List<StudentDetail> toStudentDetails(List<StudentListRow> rows) {
+        List<StudentDetail> details = new ArrayList<>();
+        Student current = null;
+        for (StudentListRow row : rows) {
+            if (current == null || current.getId() != row.id()) {
+                current = new Student(row.id(), row.name(), row.kanaName(), row.nickname(), row.email(), row.area(),
+                        row.age(), row.sex(), row.remark(), row.deleted(), new ArrayList<>());
+                StudentDetail detail = new StudentDetail();
+                detail.setStudent(current);
+                detail.setStudentCourses(current.getStudentCourses());
+                details.add(detail);
+            }
+            current.getStudentCourses().add(new StudentCourse(row.courseId(), row.id(), row.courseName(),
+                    row.courseStartAt(), row.courseEndAt()));
+        }
+        return details;
+    }
+
+    private static StudentColumns toColumns(List<StudentListRow> rows) {
+        StudentColumns.Builder builder = StudentColumns.builder();
+        rows.forEach(builder::add);
+        return builder.build();
+    }
+
+    private static long retainedBytes(Supplier<Object> factory) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        Object retained = factory.get();
+        System.gc();
+        long after = memory.getHeapMemoryUsage().getUsed();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    private Measurement measure(Supplier<Object> request) throws Exception {
+        // ウォームアップ
+        objectMapper.writeValue(OutputStream.nullOutputStream(), request.get());
+        System.gc();
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount -= collector.getCollectionCount();
+            gcMillis -= collector.getCollectionTime();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            objectMapper.writeValue(OutputStream.nullOutputStream(), request.get());
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += collector.getCollectionCount();
+            gcMillis += collector.getCollectionTime();
+        }
+        return new Measurement(elapsedMillis, gcCount, gcMillis);
+    }
+
+    private static double megabytes(long bytes) {
+        return bytes / 1024.0 / 1024.0;
+    }
+
+    private record Measurement(long elapsedMillis, long gcCount, long gcMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("処理時間 %,d ms, GC %d回, GC停止 %,d ms", elapsedMillis, gcCount, gcMillis);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package raisetech.student.perf;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.validation.StudentValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SyntheticStudentFactoryのテストクラス。
+ */
+class SyntheticStudentFactoryTest {
+
+    @Test
+    void 同じシード値からは同じデータを生成する() {
+        assertThat(generate(42L, 100)).isEqualTo(generate(42L, 100));
+        assertThat(generate(42L, 100)).isNotEqualTo(generate(43L, 100));
+    }
+
+    @Test
+    void 生成したデータは入力チェックを満たす() {
+        SyntheticStudentFactory sut = new SyntheticStudentFactory(1L);
+        StudentValidator validator = new StudentValidator();
+
+        for (int i = 0; i < 1000; i++) {
+            Student student = sut.nextStudent(3, 0.05);
+            Errors errors = new BeanPropertyBindingResult(student, "student");
+            validator.validate(student, errors);
+
+            assertThat(errors.getAllErrors()).as(student.toString()).isEmpty();
+        }
+    }
+
+    @Test
+    void コース名は学生ごとに重複せず終了日は開始日より後になる() {
+        SyntheticStudentFactory sut = new SyntheticStudentFactory(1L);
+
+        for (int i = 0; i < 1000; i++) {
+            List<StudentCourse> courses = sut.nextStudent(5, 0.0).getStudentCourses();
+
+            assertThat(courses).hasSize(5);
+            assertThat(courses).extracting(StudentCourse::getCourseName).doesNotHaveDuplicates();
+            assertThat(courses).allSatisfy(course -> assertThat(course.getCourseEndAt()).isAfter(course.getCourseStartAt()));
+        }
+    }
+
+    private static List<String> generate(long seed, int count) {
+        SyntheticStudentFactory factory = new SyntheticStudentFactory(seed);
+        List<String> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(factory.nextStudent(3, 0.05).toString());
+        }
+        return students;
+    }
+}
@@ -0,0 +1,21 @@
+package raisetech.student.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseNameTypeHandlerTest {
+
+    @Test
+    void 同じコース名には同じインスタンスを返す() {
+        String first = CourseNameTypeHandler.canonicalize(new String("Javaコース"));
+        String second = CourseNameTypeHandler.canonicalize(new String("Javaコース"));
+
+        assertThat(second).isSameAs(first).isEqualTo("Javaコース");
+    }
+
+    @Test
+    void nullはそのまま返す() {
+        assertThat(CourseNameTypeHandler.canonicalize(null)).isNull();
+    }
+}
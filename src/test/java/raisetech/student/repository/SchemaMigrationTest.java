@@ -0,0 +1,173 @@
+package raisetech.student.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+import raisetech.student.migration.AddStudentIndexesMigration;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flywayのマイグレーション（db/migration）をH2（MySQLモード）に適用し、テーブル・インデックス・外部キーが作成されることを確認するテスト。
+ */
+@JdbcTest
+@Import(AddStudentIndexesMigration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+class SchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void すべてのマイグレーションが適用される() {
+        Integer failed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE success = FALSE", Integer.class);
+        Integer applied = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE version IS NOT NULL", Integer.class);
+
+        assertThat(failed).isZero();
+        assertThat(applied).isEqualTo(6);
+    }
+
+    @Test
+    void 検索条件に使用するカラムにインデックスが作成される() throws SQLException {
+        assertThat(indexedColumns("student_courses")).contains("student_id", "course_id");
+        assertThat(indexedColumns("course")).contains("name");
+        assertThat(indexedColumns("student")).contains("is_deleted", "email");
+        assertThat(indexedColumns("idempotency_records")).contains("expires_at");
+        assertThat(indexedColumns("student_courses_archive")).contains("student_id");
+        assertThat(indexedColumns("export_jobs")).contains("status", "created_at");
+    }
+
+    @Test
+    void 存在しない学生のコース情報は登録できない() {
+        Long courseId = insertCourse("Javaコース");
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO student_courses (course_id, student_id) VALUES (?, 999999)", courseId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void 存在しないコースのコース情報は登録できない() {
+        Long studentId = insertStudent("hanako@example.com");
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO student_courses (course_id, student_id) VALUES (999999, ?)", studentId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void 同じコース名はマスタに重複して登録されない() {
+        insertCourse("AWSコース");
+        jdbcTemplate.update("INSERT INTO course (name) VALUES (?) ON DUPLICATE KEY UPDATE id = id", "AWSコース");
+
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM course WHERE name = ?", Integer.class, "AWSコース");
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    void 学生とコース情報を登録できる() {
+        Long studentId = insertStudent("taro@example.com");
+        Long courseId = insertCourse("Pythonコース");
+        jdbcTemplate.update("INSERT INTO student_courses (course_id, student_id) VALUES (?, ?)", courseId, studentId);
+
+        String courseName = jdbcTemplate.queryForObject(
+                "SELECT co.name FROM student_courses sc INNER JOIN course co ON co.id = sc.course_id WHERE sc.student_id = ?",
+                String.class, studentId);
+        Boolean deleted = jdbcTemplate.queryForObject(
+                "SELECT is_deleted FROM student WHERE id = ?", Boolean.class, studentId);
+
+        assertThat(courseName).isEqualTo("Pythonコース");
+        assertThat(deleted).isFalse();
+    }
+
+    @Test
+    void 既存のスキーマでは孤立したコース情報を退避し作成済みのインデックスは作成しない() throws SQLException, IOException {
+        DriverManagerDataSource existing = new DriverManagerDataSource(
+                "jdbc:h2:mem:existing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate existingJdbc = new JdbcTemplate(existing);
+        // バージョン1のテーブルに、存在しない学生を参照するコース情報と、手動で作成したインデックスがある状態
+        existingJdbc.execute(new String(getClass().getResourceAsStream("/db/migration/V1__create_student_tables.sql")
+                .readAllBytes(), StandardCharsets.UTF_8));
+        existingJdbc.update("INSERT INTO student (id, name, kana_name, email, area) VALUES (1, '山田太郎', 'ヤマダタロウ', 'taro@example.com', '東京都')");
+        existingJdbc.update("INSERT INTO student_courses (id, course_name, student_id) VALUES (1, 'Javaコース', 1), (2, 'AWSコース', 999)");
+        existingJdbc.execute("CREATE INDEX manual_student_email ON student (email)");
+
+        Flyway.configure()
+                .dataSource(existing)
+                .locations("classpath:db/migration")
+                .javaMigrations(new AddStudentIndexesMigration())
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(existingJdbc.queryForList("SELECT id FROM student_courses_orphaned", Long.class)).containsExactly(2L);
+        assertThat(existingJdbc.queryForObject("SELECT COUNT(*) FROM student_courses", Integer.class)).isEqualTo(1);
+        try (Connection connection = existing.getConnection();
+             ResultSet rs = connection.getMetaData().getIndexInfo(null, null, "student", false, false)) {
+            Set<String> emailIndexes = new HashSet<>();
+            while (rs.next()) {
+                if ("email".equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                    emailIndexes.add(rs.getString("INDEX_NAME").toLowerCase());
+                }
+            }
+            assertThat(emailIndexes).containsExactly("manual_student_email");
+        }
+    }
+
+    private Long insertStudent(String email) {
+        jdbcTemplate.update("INSERT INTO student (name, kana_name, email, area) VALUES (?, ?, ?, ?)",
+                "山田太郎", "ヤマダタロウ", email, "東京都");
+        return jdbcTemplate.queryForObject("SELECT id FROM student WHERE email = ?", Long.class, email);
+    }
+
+    private Long insertCourse(String name) {
+        jdbcTemplate.update("INSERT INTO course (name) VALUES (?)", name);
+        return jdbcTemplate.queryForObject("SELECT id FROM course WHERE name = ?", Long.class, name);
+    }
+
+    private Set<String> indexedColumns(String table) throws SQLException {
+        Set<String> columns = new HashSet<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = metaData.getIndexInfo(null, null, table, false, false)) {
+                while (rs.next()) {
+                    String column = rs.getString("COLUMN_NAME");
+                    if (column != null) {
+                        columns.add(column.toLowerCase());
+                    }
+                }
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,252 @@
+package raisetech.student.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import raisetech.student.cache.StudentListResponseCache;
+import raisetech.student.deadline.RequestDeadline;
+import raisetech.student.domain.columnar.StudentColumns;
+import raisetech.student.domain.columnar.StudentListRow;
+import raisetech.student.dto.StudentColumnsResponse;
+import raisetech.student.exception.DeadlineExceededException;
+import raisetech.student.service.StudentDetailService;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StudentListStreamWriterTest {
+
+    private static final String MESSAGE = "学生一覧を取得しました";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Mock
+    private StudentDetailService studentDetailService;
+
+    @Test
+    void 分割して出力した内容は一覧全体をJSONへ変換した結果と一致しキャッシュに保存される() throws Exception {
+        StudentListResponseCache cache = new StudentListResponseCache(objectMapper, 2048, 1 << 20, 32);
+        List<StudentColumns> chunks = List.of(
+                columns(row(1L, 10L, "Javaコース"), row(1L, 11L, "AWSコース"), row(2L, null, null)),
+                columns(row(3L, 12L, "Javaコース")));
+        givenChunks(chunks);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        newWriter(cache).stream(cache.currentVersion(), MESSAGE).writeTo(out);
+
+        String expected = objectMapper.writeValueAsString(new StudentColumnsResponse(MESSAGE,
+                columns(row(1L, 10L, "Javaコース"), row(1L, 11L, "AWSコース"), row(2L, null, null), row(3L, 12L, "Javaコース"))));
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(cache.getCached()).isNotNull();
+        assertThat(new String(cache.getCached().json(), StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    void 分割ごとにフラッシュし一覧の取得完了を待たずに送信する() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Mockito.doAnswer(invocation -> {
+            Consumer<StudentColumns> handler = invocation.getArgument(1);
+            // 取得開始前に先頭部分が送信されている
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"message\":\"" + MESSAGE + "\",\"data\":[");
+            handler.accept(columns(row(1L, 10L, "Javaコース")));
+            // 2人目の取得前に1人目が送信されている
+            assertThat(out.toString(StandardCharsets.UTF_8)).contains("\"courseName\":\"Javaコース\"");
+            handler.accept(columns(row(2L, null, null)));
+            return null;
+        }).when(studentDetailService).scanAllStudentColumns(anyInt(), any());
+
+        newWriter(new StudentListResponseCache(objectMapper, 2048, 1 << 20, 32)).write(out, MESSAGE);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("]}");
+    }
+
+    @Test
+    void 学生がいない場合は空の配列を出力する() throws Exception {
+        givenChunks(List.of());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        newWriter(new StudentListResponseCache(objectMapper, 2048, 1 << 20, 32)).write(out, MESSAGE);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"message\":\"" + MESSAGE + "\",\"data\":[]}");
+    }
+
+    @Test
+    void 送信中に失敗した場合はJSONを閉じずキャッシュにも保存しない() {
+        StudentListResponseCache cache = new StudentListResponseCache(objectMapper, 2048, 1 << 20, 32);
+        Mockito.doAnswer(invocation -> {
+            Consumer<StudentColumns> handler = invocation.getArgument(1);
+            handler.accept(columns(row(1L, 10L, "Javaコース")));
+            throw new IllegalStateException("接続が切断されました");
+        }).when(studentDetailService).scanAllStudentColumns(anyInt(), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> newWriter(cache).stream(cache.currentVersion(), MESSAGE).writeTo(out))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).doesNotEndWith("]}");
+        assertThat(cache.getCached()).isNull();
+    }
+
+    @Test
+    void キャッシュの上限サイズを超える場合と送信中に更新があった場合はキャッシュに保存しない() throws Exception {
+        givenChunks(List.of(columns(row(1L, 10L, "Javaコース"))));
+
+        StudentListResponseCache small = new StudentListResponseCache(objectMapper, 2048, 16, 32);
+        newWriter(small).stream(small.currentVersion(), MESSAGE).writeTo(new ByteArrayOutputStream());
+        assertThat(small.getCached()).isNull();
+
+        StudentListResponseCache updated = new StudentListResponseCache(objectMapper, 2048, 1 << 20, 32);
+        var body = newWriter(updated).stream(updated.currentVersion(), MESSAGE);
+        updated.invalidate();
+        body.writeTo(new ByteArrayOutputStream());
+        assertThat(updated.getCached()).isNull();
+    }
+
+    @Test
+    void 同時に送信する場合は1回の取得にまとめ作成役が保存したキャッシュを送信する() throws Exception {
+        StudentListResponseCache cache = new StudentListResponseCache(objectMapper, 2048, 1 << 20, 32);
+        CountDownLatch scanStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            scanStarted.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            Consumer<StudentColumns> handler = invocation.getArgument(1);
+            handler.accept(columns(row(1L, 10L, "Javaコース")));
+            return null;
+        }).when(studentDetailService).scanAllStudentColumns(anyInt(), any());
+        StudentListStreamWriter sut = newWriter(cache);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ByteArrayOutputStream leaderOut = new ByteArrayOutputStream();
+            ByteArrayOutputStream followerOut = new ByteArrayOutputStream();
+            var leaderBody = sut.stream(cache.currentVersion(), MESSAGE);
+            var followerBody = sut.stream(cache.currentVersion(), MESSAGE);
+            Future<?> leader = executor.submit(() -> {
+                leaderBody.writeTo(leaderOut);
+                return null;
+            });
+            assertThat(scanStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<?> follower = executor.submit(() -> {
+                followerBody.writeTo(followerOut);
+                return null;
+            });
+            release.countDown();
+            leader.get(5, TimeUnit.SECONDS);
+            follower.get(5, TimeUnit.SECONDS);
+
+            assertThat(followerOut.toByteArray()).isEqualTo(leaderOut.toByteArray()).isEqualTo(cache.getCached().json());
+            verify(studentDetailService, times(1)).scanAllStudentColumns(anyInt(), any());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 作成役の完了待ちは処理期限までとする() throws Exception {
+        StudentListResponseCache cache = new StudentListResponseCache(objectMapper, 2048, 1 << 20, 32);
+        CountDownLatch scanStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            scanStarted.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(studentDetailService).scanAllStudentColumns(anyInt(), any());
+        StudentListStreamWriter sut = newWriter(cache);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            var leaderBody = sut.stream(cache.currentVersion(), MESSAGE);
+            executor.submit(() -> {
+                leaderBody.writeTo(new ByteArrayOutputStream());
+                return null;
+            });
+            assertThat(scanStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            RequestDeadline.start(Duration.ofMillis(50));
+            var followerBody = sut.stream(cache.currentVersion(), MESSAGE);
+            RequestDeadline.clear();
+
+            assertThatThrownBy(() -> followerBody.writeTo(new ByteArrayOutputStream()))
+                    .isInstanceOf(DeadlineExceededException.class);
+            assertThat(RequestDeadline.current()).isEmpty();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 生成時の処理期限を書き込むスレッドに引き継ぐ() throws Exception {
+        AtomicReference<RequestDeadline> observed = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            observed.set(RequestDeadline.current().orElse(null));
+            return null;
+        }).when(studentDetailService).scanAllStudentColumns(anyInt(), any());
+        RequestDeadline deadline = RequestDeadline.start(Duration.ofSeconds(10));
+        var body = newWriter(new StudentListResponseCache(objectMapper, 2048, 1 << 20, 32)).stream(0, MESSAGE);
+        RequestDeadline.clear();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                body.writeTo(new ByteArrayOutputStream());
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+            // 書き込み後はスレッドから破棄している
+            assertThat(executor.submit(() -> RequestDeadline.current().isPresent()).get(5, TimeUnit.SECONDS)).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(observed.get()).isSameAs(deadline);
+    }
+
+    private StudentListStreamWriter newWriter(StudentListResponseCache cache) {
+        return new StudentListStreamWriter(objectMapper, studentDetailService, cache, true, 2);
+    }
+
+    private void givenChunks(List<StudentColumns> chunks) {
+        Mockito.doAnswer(invocation -> {
+            Consumer<StudentColumns> handler = invocation.getArgument(1);
+            chunks.forEach(handler);
+            return null;
+        }).when(studentDetailService).scanAllStudentColumns(anyInt(), any());
+    }
+
+    private static StudentColumns columns(StudentListRow... rows) {
+        StudentColumns.Builder builder = StudentColumns.builder();
+        for (StudentListRow row : rows) {
+            builder.add(row);
+        }
+        return builder.build();
+    }
+
+    private static StudentListRow row(long id, Long courseId, String courseName) {
+        return new StudentListRow(id, "学生" + id, "ガクセイ", null, "student" + id + "@example.com", "東京都", 20, "男性",
+                null, false, courseId, courseName, courseId != null ? LocalDate.of(2025, 4, 1) : null, null);
+    }
+}
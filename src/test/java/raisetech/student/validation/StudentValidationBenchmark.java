@@ -0,0 +1,68 @@
+package raisetech.student.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 学生登録リクエスト1件あたりの入力チェックの処理時間を、
+ * Bean Validation（Hibernate Validator）と {@link StudentValidator} で比較する計測用テスト。
+ * 通常のテストでは実行されません（./gradlew benchmark で実行）。
+ */
+@Tag("benchmark")
+class StudentValidationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+
+    private static final int MEASURE_ITERATIONS = 200_000;
+
+    @Test
+    void 入力チェック1件あたりの処理時間を比較する() {
+        Student student = new Student(null, "山田太郎", "ヤマダタロウ", "taro123", "taro.yamada@example.com",
+                "東京都", 20, "男性", "備考", false,
+                List.of(new StudentCourse(null, null, "Javaコース", LocalDate.of(2025, 4, 1), LocalDate.of(2025, 9, 30))));
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            double beanValidationNanos = measure(new SpringValidatorAdapter(factory.getValidator()), student);
+            double studentValidatorNanos = measure(new StudentValidator(), student);
+
+            System.out.printf("Bean Validation : %,.0f ns/件%n", beanValidationNanos);
+            System.out.printf("StudentValidator: %,.0f ns/件%n", studentValidatorNanos);
+            System.out.printf("改善率          : %.1f 倍%n", beanValidationNanos / studentValidatorNanos);
+
+            assertThat(studentValidatorNanos).isLessThan(beanValidationNanos);
+        }
+    }
+
+    private static double measure(Validator validator, Student student) {
+        int errorCount = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            errorCount += validate(validator, student);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            errorCount += validate(validator, student);
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(errorCount).isZero();
+        return (double) elapsed / MEASURE_ITERATIONS;
+    }
+
+    private static int validate(Validator validator, Student student) {
+        Errors errors = new BeanPropertyBindingResult(student, "student");
+        validator.validate(student, errors);
+        return errors.getErrorCount();
+    }
+}
@@ -0,0 +1,151 @@
+package raisetech.student.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import raisetech.student.data.Student;
+import raisetech.student.data.StudentCourse;
+import raisetech.student.domain.StudentDetail;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StudentValidator がBean Validation（アノテーション）と同じ結果を返すことを確認するテスト。
+ */
+class StudentValidatorTest {
+
+    private static ValidatorFactory validatorFactory;
+
+    private static SpringValidatorAdapter beanValidator;
+
+    private final StudentValidator sut = new StudentValidator();
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = new SpringValidatorAdapter(validatorFactory.getValidator());
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    static Stream<Consumer<Student>> studentVariations() {
+        return Stream.of(
+                student -> {
+                },
+                student -> student.setName(""),
+                student -> student.setName("  "),
+                student -> student.setName(null),
+                student -> student.setKanaName(""),
+                student -> student.setKanaName("やまだ"),
+                student -> student.setKanaName("ヤマダ タロウ"),
+                student -> student.setKanaName("ヤマダ・タロウー"),
+                student -> student.setKanaName(null),
+                student -> student.setNickname(""),
+                student -> student.setNickname("taro_123"),
+                student -> student.setNickname(null),
+                student -> student.setEmail(""),
+                student -> student.setEmail("不正なメール形式"),
+                student -> student.setEmail("taro@"),
+                student -> student.setEmail("@example.com"),
+                student -> student.setEmail("taro..yamada@example.com"),
+                student -> student.setEmail("taro.yamada+tag@sub.example.co.jp"),
+                student -> student.setEmail("taro@-example.com"),
+                student -> student.setEmail("taro@[192.168.0.1]"),
+                student -> student.setEmail(null),
+                student -> student.setArea(""),
+                student -> student.setArea("大阪府"),
+                student -> student.setArea("北海道"),
+                student -> student.setArea("東京"),
+                student -> student.setArea("東\n京都"),
+                student -> student.setArea(null),
+                student -> student.setAge(-1),
+                student -> student.setAge(0),
+                student -> student.setAge(150),
+                student -> student.setAge(151),
+                student -> student.setSex(""),
+                student -> student.setSex("女性"),
+                student -> student.setSex("その他"),
+                student -> student.setSex("男"),
+                student -> student.setDeleted(null),
+                student -> student.setId(0L)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("studentVariations")
+    void 学生情報の検証結果がBeanValidationと一致する(Consumer<Student> variation) {
+        Student student = validStudent();
+        variation.accept(student);
+
+        assertThat(errorsOf(sut, student)).isEqualTo(errorsOf(beanValidator, student));
+    }
+
+    @Test
+    void 学生詳細情報では入れ子のフィールド名でエラーを返す() {
+        Student student = validStudent();
+        student.setName("");
+        StudentDetail studentDetail = new StudentDetail();
+        studentDetail.setStudent(student);
+        studentDetail.setStudentCourses(List.of(
+                new StudentCourse(null, null, " ", LocalDate.of(2025, 4, 1), null)));
+
+        assertThat(errorsOf(sut, studentDetail)).isEqualTo(errorsOf(beanValidator, studentDetail))
+                .containsExactlyInAnyOrder("student.name:NotBlank", "studentCourses[0].courseName:NotBlank");
+    }
+
+    @Test
+    void コース名の文字数の上限はBeanValidationと一致する() {
+        StudentDetail studentDetail = new StudentDetail();
+        studentDetail.setStudent(validStudent());
+        studentDetail.setStudentCourses(List.of(
+                new StudentCourse(null, null, "あ".repeat(StudentCourse.COURSE_NAME_MAX_LENGTH), null, null),
+                new StudentCourse(null, null, "あ".repeat(StudentCourse.COURSE_NAME_MAX_LENGTH + 1), null, null)));
+
+        assertThat(errorsOf(sut, studentDetail)).isEqualTo(errorsOf(beanValidator, studentDetail))
+                .containsExactly("studentCourses[1].courseName:Size");
+    }
+
+    @Test
+    void 登録時のコース名も検証する() {
+        Student student = validStudent();
+        student.setStudentCourses(List.of(new StudentCourse(null, null, "", LocalDate.of(2025, 4, 1), null)));
+
+        Errors errors = new BeanPropertyBindingResult(student, "student");
+        sut.validate(student, errors);
+
+        assertThat(errors.getFieldError("studentCourses[0].courseName"))
+                .extracting(FieldError::getDefaultMessage)
+                .isEqualTo("コース名は必須です");
+    }
+
+    static Student validStudent() {
+        return new Student(null, "山田太郎", "ヤマダタロウ", "taro123", "taro@example.com",
+                "東京都", 20, "男性", "備考", false, null);
+    }
+
+    private static Set<String> errorsOf(org.springframework.validation.Validator validator, Object target) {
+        Errors errors = new BeanPropertyBindingResult(target, "target");
+        validator.validate(target, errors);
+        return errors.getFieldErrors().stream()
+                .map(error -> error.getField() + ":" + error.getCode())
+                .collect(Collectors.toSet());
+    }
+}